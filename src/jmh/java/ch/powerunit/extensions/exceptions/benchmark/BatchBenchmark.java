@@ -0,0 +1,107 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ch.powerunit.extensions.exceptions.ConsumerWithException;
+import ch.powerunit.extensions.exceptions.FunctionWithException;
+
+/**
+ * Benchmarks of the execution of an operation over a list, using
+ * {@code forEach} with an unchecked adapter or the batch methods.
+ * <p>
+ * The {@code size} parameter is the number of elements of the list.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchBenchmark {
+
+	@Param({ "1000", "100000" })
+	private int size;
+
+	private List<Integer> elements;
+
+	private long sum;
+
+	private final ConsumerWithException<Integer, Exception> consumer = x -> sum += x;
+
+	private final FunctionWithException<Integer, Integer, Exception> function = x -> x + 1;
+
+	private Consumer<Integer> uncheckedConsumer;
+
+	private Function<Integer, Integer> uncheckedFunction;
+
+	@Setup
+	public void setup() {
+		elements = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			elements.add(i);
+		}
+		uncheckedConsumer = consumer.uncheck();
+		uncheckedFunction = function.uncheck();
+	}
+
+	@Benchmark
+	public void forEachUnchecked(Blackhole bh) {
+		elements.forEach(uncheckedConsumer);
+		bh.consume(sum);
+	}
+
+	@Benchmark
+	public void acceptAll(Blackhole bh) {
+		bh.consume(consumer.acceptAll(elements));
+		bh.consume(sum);
+	}
+
+	@Benchmark
+	public void mapUnchecked(Blackhole bh) {
+		List<Integer> result = new ArrayList<>(size);
+		elements.forEach(x -> result.add(uncheckedFunction.apply(x)));
+		bh.consume(result);
+	}
+
+	@Benchmark
+	public void applyAll(Blackhole bh) {
+		bh.consume(function.applyAll(elements));
+	}
+
+}
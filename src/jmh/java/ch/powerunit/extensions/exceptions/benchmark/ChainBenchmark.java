@@ -0,0 +1,95 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ch.powerunit.extensions.exceptions.FunctionChain;
+import ch.powerunit.extensions.exceptions.FunctionWithException;
+
+/**
+ * Benchmarks of a composition of functions, using nested {@code andThen} or a
+ * {@code FunctionChain}.
+ * <p>
+ * The {@code steps} parameter is the number of composed functions. Each step
+ * is a different lambda, so that the call sites see several types.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChainBenchmark {
+
+	@SuppressWarnings("unchecked")
+	private static final FunctionWithException<Integer, Integer, Exception>[] STEPS = new FunctionWithException[] {
+			(FunctionWithException<Integer, Integer, Exception>) x -> x + 1,
+			(FunctionWithException<Integer, Integer, Exception>) x -> x * 2,
+			(FunctionWithException<Integer, Integer, Exception>) x -> x - 1,
+			(FunctionWithException<Integer, Integer, Exception>) x -> x ^ 3,
+			(FunctionWithException<Integer, Integer, Exception>) x -> x + 5 };
+
+	@Param({ "2", "10" })
+	private int steps;
+
+	private Integer value = 1;
+
+	private Function<Integer, Integer> nestedUncheck;
+
+	private Function<Integer, Integer> chainUncheck;
+
+	@Setup
+	public void setup() {
+		FunctionWithException<Integer, Integer, Exception> nested = STEPS[0];
+		FunctionChain<Integer, Integer, Exception> chain = FunctionChain.of(STEPS[0]);
+		for (int i = 1; i < steps; i++) {
+			nested = nested.andThen(STEPS[i % STEPS.length]);
+			chain = chain.then(STEPS[i % STEPS.length]);
+		}
+		nestedUncheck = nested.uncheck();
+		chainUncheck = chain.uncheck();
+	}
+
+	@Benchmark
+	public void nestedAndThen(Blackhole bh) {
+		bh.consume(nestedUncheck.apply(value));
+	}
+
+	@Benchmark
+	public void functionChain(Blackhole bh) {
+		bh.consume(chainUncheck.apply(value));
+	}
+
+}
@@ -0,0 +1,425 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions.benchmark;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ch.powerunit.extensions.exceptions.BiConsumerWithException;
+import ch.powerunit.extensions.exceptions.ConsumerWithException;
+import ch.powerunit.extensions.exceptions.DoubleConsumerWithException;
+import ch.powerunit.extensions.exceptions.IntConsumerWithException;
+import ch.powerunit.extensions.exceptions.LongConsumerWithException;
+import ch.powerunit.extensions.exceptions.ObjDoubleConsumerWithException;
+import ch.powerunit.extensions.exceptions.ObjIntConsumerWithException;
+import ch.powerunit.extensions.exceptions.ObjLongConsumerWithException;
+import ch.powerunit.extensions.exceptions.RunnableWithException;
+import ch.powerunit.extensions.exceptions.WrappedException;
+
+/**
+ * Benchmarks of the adapters of the functional interfaces without return value.
+ * <p>
+ * Each interface is measured with a hand-written {@code try/catch} (the
+ * {@code Baseline} benchmarks) and with each of its adapters. The
+ * {@code failing} parameter selects the success path or the failure path.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NoReturnBenchmark {
+
+	private static final Exception EXCEPTION = new Exception("benchmark");
+
+	@Param({ "false", "true" })
+	private boolean failing;
+
+	private String text = "x";
+	private int intValue = 1;
+	private long longValue = 1L;
+	private double doubleValue = 1.0;
+
+	private RunnableWithException<Exception> runnable;
+	private Runnable runnableUncheck;
+	private Runnable runnableIgnore;
+	private Supplier<CompletionStage<Void>> runnableStage;
+	private ConsumerWithException<String, Exception> consumer;
+	private Consumer<String> consumerUncheck;
+	private Consumer<String> consumerIgnore;
+	private Function<String, CompletionStage<Void>> consumerStage;
+	private BiConsumerWithException<String, String, Exception> biConsumer;
+	private BiConsumer<String, String> biConsumerUncheck;
+	private BiConsumer<String, String> biConsumerIgnore;
+	private BiFunction<String, String, CompletionStage<Void>> biConsumerStage;
+	private IntConsumerWithException<Exception> intConsumer;
+	private IntConsumer intConsumerUncheck;
+	private IntConsumer intConsumerIgnore;
+	private IntFunction<CompletionStage<Void>> intConsumerStage;
+	private LongConsumerWithException<Exception> longConsumer;
+	private LongConsumer longConsumerUncheck;
+	private LongConsumer longConsumerIgnore;
+	private LongFunction<CompletionStage<Void>> longConsumerStage;
+	private DoubleConsumerWithException<Exception> doubleConsumer;
+	private DoubleConsumer doubleConsumerUncheck;
+	private DoubleConsumer doubleConsumerIgnore;
+	private DoubleFunction<CompletionStage<Void>> doubleConsumerStage;
+	private ObjIntConsumerWithException<String, Exception> objIntConsumer;
+	private ObjIntConsumer<String> objIntConsumerUncheck;
+	private ObjIntConsumer<String> objIntConsumerIgnore;
+	private BiFunction<String, Integer, CompletionStage<Void>> objIntConsumerStage;
+	private ObjLongConsumerWithException<String, Exception> objLongConsumer;
+	private ObjLongConsumer<String> objLongConsumerUncheck;
+	private ObjLongConsumer<String> objLongConsumerIgnore;
+	private BiFunction<String, Long, CompletionStage<Void>> objLongConsumerStage;
+	private ObjDoubleConsumerWithException<String, Exception> objDoubleConsumer;
+	private ObjDoubleConsumer<String> objDoubleConsumerUncheck;
+	private ObjDoubleConsumer<String> objDoubleConsumerIgnore;
+	private BiFunction<String, Double, CompletionStage<Void>> objDoubleConsumerStage;
+
+	@Setup
+	public void setup() {
+		runnable = failing ? RunnableWithException.failing(() -> EXCEPTION) : () -> {
+		};
+		runnableUncheck = runnable.uncheck();
+		runnableIgnore = runnable.ignore();
+		runnableStage = runnable.stage();
+		consumer = failing ? ConsumerWithException.failing(() -> EXCEPTION) : a -> {
+		};
+		consumerUncheck = consumer.uncheck();
+		consumerIgnore = consumer.ignore();
+		consumerStage = consumer.stage();
+		biConsumer = failing ? BiConsumerWithException.failing(() -> EXCEPTION) : (a, b) -> {
+		};
+		biConsumerUncheck = biConsumer.uncheck();
+		biConsumerIgnore = biConsumer.ignore();
+		biConsumerStage = biConsumer.stage();
+		intConsumer = failing ? IntConsumerWithException.failing(() -> EXCEPTION) : a -> {
+		};
+		intConsumerUncheck = intConsumer.uncheck();
+		intConsumerIgnore = intConsumer.ignore();
+		intConsumerStage = intConsumer.stage();
+		longConsumer = failing ? LongConsumerWithException.failing(() -> EXCEPTION) : a -> {
+		};
+		longConsumerUncheck = longConsumer.uncheck();
+		longConsumerIgnore = longConsumer.ignore();
+		longConsumerStage = longConsumer.stage();
+		doubleConsumer = failing ? DoubleConsumerWithException.failing(() -> EXCEPTION) : a -> {
+		};
+		doubleConsumerUncheck = doubleConsumer.uncheck();
+		doubleConsumerIgnore = doubleConsumer.ignore();
+		doubleConsumerStage = doubleConsumer.stage();
+		objIntConsumer = failing ? ObjIntConsumerWithException.failing(() -> EXCEPTION) : (a, b) -> {
+		};
+		objIntConsumerUncheck = objIntConsumer.uncheck();
+		objIntConsumerIgnore = objIntConsumer.ignore();
+		objIntConsumerStage = objIntConsumer.stage();
+		objLongConsumer = failing ? ObjLongConsumerWithException.failing(() -> EXCEPTION) : (a, b) -> {
+		};
+		objLongConsumerUncheck = objLongConsumer.uncheck();
+		objLongConsumerIgnore = objLongConsumer.ignore();
+		objLongConsumerStage = objLongConsumer.stage();
+		objDoubleConsumer = failing ? ObjDoubleConsumerWithException.failing(() -> EXCEPTION) : (a, b) -> {
+		};
+		objDoubleConsumerUncheck = objDoubleConsumer.uncheck();
+		objDoubleConsumerIgnore = objDoubleConsumer.ignore();
+		objDoubleConsumerStage = objDoubleConsumer.stage();
+	}
+
+	@Benchmark
+	public void runnableBaseline(Blackhole bh) {
+		try {
+			runnable.run();
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void runnableUncheck(Blackhole bh) {
+		try {
+			runnableUncheck.run();
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void runnableIgnore(Blackhole bh) {
+		runnableIgnore.run();
+	}
+
+	@Benchmark
+	public void runnableStage(Blackhole bh) {
+		bh.consume(runnableStage.get());
+	}
+
+	@Benchmark
+	public void consumerBaseline(Blackhole bh) {
+		try {
+			consumer.accept(text);
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void consumerUncheck(Blackhole bh) {
+		try {
+			consumerUncheck.accept(text);
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void consumerIgnore(Blackhole bh) {
+		consumerIgnore.accept(text);
+	}
+
+	@Benchmark
+	public void consumerStage(Blackhole bh) {
+		bh.consume(consumerStage.apply(text));
+	}
+
+	@Benchmark
+	public void biConsumerBaseline(Blackhole bh) {
+		try {
+			biConsumer.accept(text, text);
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void biConsumerUncheck(Blackhole bh) {
+		try {
+			biConsumerUncheck.accept(text, text);
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void biConsumerIgnore(Blackhole bh) {
+		biConsumerIgnore.accept(text, text);
+	}
+
+	@Benchmark
+	public void biConsumerStage(Blackhole bh) {
+		bh.consume(biConsumerStage.apply(text, text));
+	}
+
+	@Benchmark
+	public void intConsumerBaseline(Blackhole bh) {
+		try {
+			intConsumer.accept(intValue);
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void intConsumerUncheck(Blackhole bh) {
+		try {
+			intConsumerUncheck.accept(intValue);
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void intConsumerIgnore(Blackhole bh) {
+		intConsumerIgnore.accept(intValue);
+	}
+
+	@Benchmark
+	public void intConsumerStage(Blackhole bh) {
+		bh.consume(intConsumerStage.apply(intValue));
+	}
+
+	@Benchmark
+	public void longConsumerBaseline(Blackhole bh) {
+		try {
+			longConsumer.accept(longValue);
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void longConsumerUncheck(Blackhole bh) {
+		try {
+			longConsumerUncheck.accept(longValue);
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void longConsumerIgnore(Blackhole bh) {
+		longConsumerIgnore.accept(longValue);
+	}
+
+	@Benchmark
+	public void longConsumerStage(Blackhole bh) {
+		bh.consume(longConsumerStage.apply(longValue));
+	}
+
+	@Benchmark
+	public void doubleConsumerBaseline(Blackhole bh) {
+		try {
+			doubleConsumer.accept(doubleValue);
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void doubleConsumerUncheck(Blackhole bh) {
+		try {
+			doubleConsumerUncheck.accept(doubleValue);
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void doubleConsumerIgnore(Blackhole bh) {
+		doubleConsumerIgnore.accept(doubleValue);
+	}
+
+	@Benchmark
+	public void doubleConsumerStage(Blackhole bh) {
+		bh.consume(doubleConsumerStage.apply(doubleValue));
+	}
+
+	@Benchmark
+	public void objIntConsumerBaseline(Blackhole bh) {
+		try {
+			objIntConsumer.accept(text, intValue);
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void objIntConsumerUncheck(Blackhole bh) {
+		try {
+			objIntConsumerUncheck.accept(text, intValue);
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void objIntConsumerIgnore(Blackhole bh) {
+		objIntConsumerIgnore.accept(text, intValue);
+	}
+
+	@Benchmark
+	public void objIntConsumerStage(Blackhole bh) {
+		bh.consume(objIntConsumerStage.apply(text, intValue));
+	}
+
+	@Benchmark
+	public void objLongConsumerBaseline(Blackhole bh) {
+		try {
+			objLongConsumer.accept(text, longValue);
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void objLongConsumerUncheck(Blackhole bh) {
+		try {
+			objLongConsumerUncheck.accept(text, longValue);
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void objLongConsumerIgnore(Blackhole bh) {
+		objLongConsumerIgnore.accept(text, longValue);
+	}
+
+	@Benchmark
+	public void objLongConsumerStage(Blackhole bh) {
+		bh.consume(objLongConsumerStage.apply(text, longValue));
+	}
+
+	@Benchmark
+	public void objDoubleConsumerBaseline(Blackhole bh) {
+		try {
+			objDoubleConsumer.accept(text, doubleValue);
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void objDoubleConsumerUncheck(Blackhole bh) {
+		try {
+			objDoubleConsumerUncheck.accept(text, doubleValue);
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void objDoubleConsumerIgnore(Blackhole bh) {
+		objDoubleConsumerIgnore.accept(text, doubleValue);
+	}
+
+	@Benchmark
+	public void objDoubleConsumerStage(Blackhole bh) {
+		bh.consume(objDoubleConsumerStage.apply(text, doubleValue));
+	}
+}
@@ -0,0 +1,478 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions.benchmark;
+
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputFilter.FilterInfo;
+import java.io.ObjectInputFilter.Status;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ch.powerunit.extensions.exceptions.BiFunctionWithException;
+import ch.powerunit.extensions.exceptions.BinaryOperatorWithException;
+import ch.powerunit.extensions.exceptions.DoubleFunctionWithException;
+import ch.powerunit.extensions.exceptions.FunctionWithException;
+import ch.powerunit.extensions.exceptions.IntFunctionWithException;
+import ch.powerunit.extensions.exceptions.LongFunctionWithException;
+import ch.powerunit.extensions.exceptions.ObjectInputFilterWithException;
+import ch.powerunit.extensions.exceptions.SupplierWithException;
+import ch.powerunit.extensions.exceptions.UnaryOperatorWithException;
+import ch.powerunit.extensions.exceptions.WrappedException;
+
+/**
+ * Benchmarks of the adapters of the functional interfaces returning an object.
+ * <p>
+ * Each interface is measured with a hand-written {@code try/catch} (the
+ * {@code Baseline} benchmarks) and with each of its adapters. The
+ * {@code failing} parameter selects the success path or the failure path.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ObjectReturnBenchmark {
+
+	private static final Exception EXCEPTION = new Exception("benchmark");
+
+	@Param({ "false", "true" })
+	private boolean failing;
+
+	private String text = "x";
+	private int intValue = 1;
+	private long longValue = 1L;
+	private double doubleValue = 1.0;
+	private FilterInfo filterInfo = null;
+
+	private FunctionWithException<String, String, Exception> function;
+	private Function<String, String> functionUncheck;
+	private Function<String, Optional<String>> functionLift;
+	private Function<String, String> functionIgnore;
+	private Function<String, CompletionStage<String>> functionStage;
+	private BiFunctionWithException<String, String, String, Exception> biFunction;
+	private BiFunction<String, String, String> biFunctionUncheck;
+	private BiFunction<String, String, Optional<String>> biFunctionLift;
+	private BiFunction<String, String, String> biFunctionIgnore;
+	private BiFunction<String, String, CompletionStage<String>> biFunctionStage;
+	private UnaryOperatorWithException<String, Exception> unaryOperator;
+	private UnaryOperator<String> unaryOperatorUncheck;
+	private Function<String, Optional<String>> unaryOperatorLift;
+	private UnaryOperator<String> unaryOperatorIgnore;
+	private Function<String, CompletionStage<String>> unaryOperatorStage;
+	private BinaryOperatorWithException<String, Exception> binaryOperator;
+	private BinaryOperator<String> binaryOperatorUncheck;
+	private BiFunction<String, String, Optional<String>> binaryOperatorLift;
+	private BinaryOperator<String> binaryOperatorIgnore;
+	private BiFunction<String, String, CompletionStage<String>> binaryOperatorStage;
+	private SupplierWithException<String, Exception> supplier;
+	private Supplier<String> supplierUncheck;
+	private Supplier<Optional<String>> supplierLift;
+	private Supplier<String> supplierIgnore;
+	private Supplier<CompletionStage<String>> supplierStage;
+	private IntFunctionWithException<String, Exception> intFunction;
+	private IntFunction<String> intFunctionUncheck;
+	private IntFunction<Optional<String>> intFunctionLift;
+	private IntFunction<String> intFunctionIgnore;
+	private IntFunction<CompletionStage<String>> intFunctionStage;
+	private LongFunctionWithException<String, Exception> longFunction;
+	private LongFunction<String> longFunctionUncheck;
+	private LongFunction<Optional<String>> longFunctionLift;
+	private LongFunction<String> longFunctionIgnore;
+	private LongFunction<CompletionStage<String>> longFunctionStage;
+	private DoubleFunctionWithException<String, Exception> doubleFunction;
+	private DoubleFunction<String> doubleFunctionUncheck;
+	private DoubleFunction<Optional<String>> doubleFunctionLift;
+	private DoubleFunction<String> doubleFunctionIgnore;
+	private DoubleFunction<CompletionStage<String>> doubleFunctionStage;
+	private ObjectInputFilterWithException<Exception> objectInputFilter;
+	private ObjectInputFilter objectInputFilterUncheck;
+	private Function<FilterInfo, Optional<Status>> objectInputFilterLift;
+	private ObjectInputFilter objectInputFilterIgnore;
+	private Function<FilterInfo, CompletionStage<Status>> objectInputFilterStage;
+
+	@Setup
+	public void setup() {
+		function = failing ? FunctionWithException.failing(() -> EXCEPTION) : a -> "x";
+		functionUncheck = function.uncheck();
+		functionLift = function.lift();
+		functionIgnore = function.ignore();
+		functionStage = function.stage();
+		biFunction = failing ? BiFunctionWithException.failing(() -> EXCEPTION) : (a, b) -> "x";
+		biFunctionUncheck = biFunction.uncheck();
+		biFunctionLift = biFunction.lift();
+		biFunctionIgnore = biFunction.ignore();
+		biFunctionStage = biFunction.stage();
+		unaryOperator = failing ? UnaryOperatorWithException.failing(() -> EXCEPTION) : a -> "x";
+		unaryOperatorUncheck = unaryOperator.uncheck();
+		unaryOperatorLift = unaryOperator.lift();
+		unaryOperatorIgnore = unaryOperator.ignore();
+		unaryOperatorStage = unaryOperator.stage();
+		binaryOperator = failing ? BinaryOperatorWithException.failing(() -> EXCEPTION) : (a, b) -> "x";
+		binaryOperatorUncheck = binaryOperator.uncheck();
+		binaryOperatorLift = binaryOperator.lift();
+		binaryOperatorIgnore = binaryOperator.ignore();
+		binaryOperatorStage = binaryOperator.stage();
+		supplier = failing ? SupplierWithException.failing(() -> EXCEPTION) : () -> "x";
+		supplierUncheck = supplier.uncheck();
+		supplierLift = supplier.lift();
+		supplierIgnore = supplier.ignore();
+		supplierStage = supplier.stage();
+		intFunction = failing ? IntFunctionWithException.failing(() -> EXCEPTION) : a -> "x";
+		intFunctionUncheck = intFunction.uncheck();
+		intFunctionLift = intFunction.lift();
+		intFunctionIgnore = intFunction.ignore();
+		intFunctionStage = intFunction.stage();
+		longFunction = failing ? LongFunctionWithException.failing(() -> EXCEPTION) : a -> "x";
+		longFunctionUncheck = longFunction.uncheck();
+		longFunctionLift = longFunction.lift();
+		longFunctionIgnore = longFunction.ignore();
+		longFunctionStage = longFunction.stage();
+		doubleFunction = failing ? DoubleFunctionWithException.failing(() -> EXCEPTION) : a -> "x";
+		doubleFunctionUncheck = doubleFunction.uncheck();
+		doubleFunctionLift = doubleFunction.lift();
+		doubleFunctionIgnore = doubleFunction.ignore();
+		doubleFunctionStage = doubleFunction.stage();
+		objectInputFilter = failing ? ObjectInputFilterWithException.failing(() -> EXCEPTION) : a -> Status.ALLOWED;
+		objectInputFilterUncheck = objectInputFilter.uncheck();
+		objectInputFilterLift = objectInputFilter.lift();
+		objectInputFilterIgnore = objectInputFilter.ignore();
+		objectInputFilterStage = objectInputFilter.stage();
+	}
+
+	@Benchmark
+	public void functionBaseline(Blackhole bh) {
+		try {
+			bh.consume(function.apply(text));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void functionUncheck(Blackhole bh) {
+		try {
+			bh.consume(functionUncheck.apply(text));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void functionLift(Blackhole bh) {
+		bh.consume(functionLift.apply(text));
+	}
+
+	@Benchmark
+	public void functionIgnore(Blackhole bh) {
+		bh.consume(functionIgnore.apply(text));
+	}
+
+	@Benchmark
+	public void functionStage(Blackhole bh) {
+		bh.consume(functionStage.apply(text));
+	}
+
+	@Benchmark
+	public void biFunctionBaseline(Blackhole bh) {
+		try {
+			bh.consume(biFunction.apply(text, text));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void biFunctionUncheck(Blackhole bh) {
+		try {
+			bh.consume(biFunctionUncheck.apply(text, text));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void biFunctionLift(Blackhole bh) {
+		bh.consume(biFunctionLift.apply(text, text));
+	}
+
+	@Benchmark
+	public void biFunctionIgnore(Blackhole bh) {
+		bh.consume(biFunctionIgnore.apply(text, text));
+	}
+
+	@Benchmark
+	public void biFunctionStage(Blackhole bh) {
+		bh.consume(biFunctionStage.apply(text, text));
+	}
+
+	@Benchmark
+	public void unaryOperatorBaseline(Blackhole bh) {
+		try {
+			bh.consume(unaryOperator.apply(text));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void unaryOperatorUncheck(Blackhole bh) {
+		try {
+			bh.consume(unaryOperatorUncheck.apply(text));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void unaryOperatorLift(Blackhole bh) {
+		bh.consume(unaryOperatorLift.apply(text));
+	}
+
+	@Benchmark
+	public void unaryOperatorIgnore(Blackhole bh) {
+		bh.consume(unaryOperatorIgnore.apply(text));
+	}
+
+	@Benchmark
+	public void unaryOperatorStage(Blackhole bh) {
+		bh.consume(unaryOperatorStage.apply(text));
+	}
+
+	@Benchmark
+	public void binaryOperatorBaseline(Blackhole bh) {
+		try {
+			bh.consume(binaryOperator.apply(text, text));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void binaryOperatorUncheck(Blackhole bh) {
+		try {
+			bh.consume(binaryOperatorUncheck.apply(text, text));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void binaryOperatorLift(Blackhole bh) {
+		bh.consume(binaryOperatorLift.apply(text, text));
+	}
+
+	@Benchmark
+	public void binaryOperatorIgnore(Blackhole bh) {
+		bh.consume(binaryOperatorIgnore.apply(text, text));
+	}
+
+	@Benchmark
+	public void binaryOperatorStage(Blackhole bh) {
+		bh.consume(binaryOperatorStage.apply(text, text));
+	}
+
+	@Benchmark
+	public void supplierBaseline(Blackhole bh) {
+		try {
+			bh.consume(supplier.get());
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void supplierUncheck(Blackhole bh) {
+		try {
+			bh.consume(supplierUncheck.get());
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void supplierLift(Blackhole bh) {
+		bh.consume(supplierLift.get());
+	}
+
+	@Benchmark
+	public void supplierIgnore(Blackhole bh) {
+		bh.consume(supplierIgnore.get());
+	}
+
+	@Benchmark
+	public void supplierStage(Blackhole bh) {
+		bh.consume(supplierStage.get());
+	}
+
+	@Benchmark
+	public void intFunctionBaseline(Blackhole bh) {
+		try {
+			bh.consume(intFunction.apply(intValue));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void intFunctionUncheck(Blackhole bh) {
+		try {
+			bh.consume(intFunctionUncheck.apply(intValue));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void intFunctionLift(Blackhole bh) {
+		bh.consume(intFunctionLift.apply(intValue));
+	}
+
+	@Benchmark
+	public void intFunctionIgnore(Blackhole bh) {
+		bh.consume(intFunctionIgnore.apply(intValue));
+	}
+
+	@Benchmark
+	public void intFunctionStage(Blackhole bh) {
+		bh.consume(intFunctionStage.apply(intValue));
+	}
+
+	@Benchmark
+	public void longFunctionBaseline(Blackhole bh) {
+		try {
+			bh.consume(longFunction.apply(longValue));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void longFunctionUncheck(Blackhole bh) {
+		try {
+			bh.consume(longFunctionUncheck.apply(longValue));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void longFunctionLift(Blackhole bh) {
+		bh.consume(longFunctionLift.apply(longValue));
+	}
+
+	@Benchmark
+	public void longFunctionIgnore(Blackhole bh) {
+		bh.consume(longFunctionIgnore.apply(longValue));
+	}
+
+	@Benchmark
+	public void longFunctionStage(Blackhole bh) {
+		bh.consume(longFunctionStage.apply(longValue));
+	}
+
+	@Benchmark
+	public void doubleFunctionBaseline(Blackhole bh) {
+		try {
+			bh.consume(doubleFunction.apply(doubleValue));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void doubleFunctionUncheck(Blackhole bh) {
+		try {
+			bh.consume(doubleFunctionUncheck.apply(doubleValue));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void doubleFunctionLift(Blackhole bh) {
+		bh.consume(doubleFunctionLift.apply(doubleValue));
+	}
+
+	@Benchmark
+	public void doubleFunctionIgnore(Blackhole bh) {
+		bh.consume(doubleFunctionIgnore.apply(doubleValue));
+	}
+
+	@Benchmark
+	public void doubleFunctionStage(Blackhole bh) {
+		bh.consume(doubleFunctionStage.apply(doubleValue));
+	}
+
+	@Benchmark
+	public void objectInputFilterBaseline(Blackhole bh) {
+		try {
+			bh.consume(objectInputFilter.checkInput(filterInfo));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void objectInputFilterUncheck(Blackhole bh) {
+		try {
+			bh.consume(objectInputFilterUncheck.checkInput(filterInfo));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void objectInputFilterLift(Blackhole bh) {
+		bh.consume(objectInputFilterLift.apply(filterInfo));
+	}
+
+	@Benchmark
+	public void objectInputFilterIgnore(Blackhole bh) {
+		bh.consume(objectInputFilterIgnore.checkInput(filterInfo));
+	}
+
+	@Benchmark
+	public void objectInputFilterStage(Blackhole bh) {
+		bh.consume(objectInputFilterStage.apply(filterInfo));
+	}
+}
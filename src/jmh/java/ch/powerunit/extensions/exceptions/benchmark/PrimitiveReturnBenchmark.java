@@ -0,0 +1,1002 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions.benchmark;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.FilenameFilter;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleBiFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntBiFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongBiFunction;
+import java.util.function.ToLongFunction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ch.powerunit.extensions.exceptions.BiPredicateWithException;
+import ch.powerunit.extensions.exceptions.BooleanSupplierWithException;
+import ch.powerunit.extensions.exceptions.DoubleBinaryOperatorWithException;
+import ch.powerunit.extensions.exceptions.DoublePredicateWithException;
+import ch.powerunit.extensions.exceptions.DoubleSupplierWithException;
+import ch.powerunit.extensions.exceptions.DoubleToIntFunctionWithException;
+import ch.powerunit.extensions.exceptions.DoubleToLongFunctionWithException;
+import ch.powerunit.extensions.exceptions.DoubleUnaryOperatorWithException;
+import ch.powerunit.extensions.exceptions.FileFilterWithException;
+import ch.powerunit.extensions.exceptions.FilenameFilterWithException;
+import ch.powerunit.extensions.exceptions.IntBinaryOperatorWithException;
+import ch.powerunit.extensions.exceptions.IntPredicateWithException;
+import ch.powerunit.extensions.exceptions.IntSupplierWithException;
+import ch.powerunit.extensions.exceptions.IntToDoubleFunctionWithException;
+import ch.powerunit.extensions.exceptions.IntToLongFunctionWithException;
+import ch.powerunit.extensions.exceptions.IntUnaryOperatorWithException;
+import ch.powerunit.extensions.exceptions.LongBinaryOperatorWithException;
+import ch.powerunit.extensions.exceptions.LongPredicateWithException;
+import ch.powerunit.extensions.exceptions.LongSupplierWithException;
+import ch.powerunit.extensions.exceptions.LongToDoubleFunctionWithException;
+import ch.powerunit.extensions.exceptions.LongToIntFunctionWithException;
+import ch.powerunit.extensions.exceptions.LongUnaryOperatorWithException;
+import ch.powerunit.extensions.exceptions.PathMatcherWithException;
+import ch.powerunit.extensions.exceptions.PredicateWithException;
+import ch.powerunit.extensions.exceptions.ToDoubleBiFunctionWithException;
+import ch.powerunit.extensions.exceptions.ToDoubleFunctionWithException;
+import ch.powerunit.extensions.exceptions.ToIntBiFunctionWithException;
+import ch.powerunit.extensions.exceptions.ToIntFunctionWithException;
+import ch.powerunit.extensions.exceptions.ToLongBiFunctionWithException;
+import ch.powerunit.extensions.exceptions.ToLongFunctionWithException;
+import ch.powerunit.extensions.exceptions.WrappedException;
+
+/**
+ * Benchmarks of the adapters of the functional interfaces returning a primitive value.
+ * <p>
+ * Each interface is measured with a hand-written {@code try/catch} (the
+ * {@code Baseline} benchmarks) and with each of its adapters. The
+ * {@code failing} parameter selects the success path or the failure path.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveReturnBenchmark {
+
+	private static final Exception EXCEPTION = new Exception("benchmark");
+
+	@Param({ "false", "true" })
+	private boolean failing;
+
+	private String text = "x";
+	private int intValue = 1;
+	private long longValue = 1L;
+	private double doubleValue = 1.0;
+	private File file = new File(".");
+	private Path path = Path.of(".");
+
+	private BiPredicateWithException<String, String, Exception> biPredicate;
+	private BiPredicate<String, String> biPredicateUncheck;
+	private BiPredicate<String, String> biPredicateIgnore;
+	private BooleanSupplierWithException<Exception> booleanSupplier;
+	private BooleanSupplier booleanSupplierUncheck;
+	private BooleanSupplier booleanSupplierIgnore;
+	private DoubleBinaryOperatorWithException<Exception> doubleBinaryOperator;
+	private DoubleBinaryOperator doubleBinaryOperatorUncheck;
+	private DoubleBinaryOperator doubleBinaryOperatorIgnore;
+	private DoublePredicateWithException<Exception> doublePredicate;
+	private DoublePredicate doublePredicateUncheck;
+	private DoublePredicate doublePredicateIgnore;
+	private DoubleSupplierWithException<Exception> doubleSupplier;
+	private DoubleSupplier doubleSupplierUncheck;
+	private DoubleSupplier doubleSupplierIgnore;
+	private DoubleToIntFunctionWithException<Exception> doubleToIntFunction;
+	private DoubleToIntFunction doubleToIntFunctionUncheck;
+	private DoubleToIntFunction doubleToIntFunctionIgnore;
+	private DoubleToLongFunctionWithException<Exception> doubleToLongFunction;
+	private DoubleToLongFunction doubleToLongFunctionUncheck;
+	private DoubleToLongFunction doubleToLongFunctionIgnore;
+	private DoubleUnaryOperatorWithException<Exception> doubleUnaryOperator;
+	private DoubleUnaryOperator doubleUnaryOperatorUncheck;
+	private DoubleUnaryOperator doubleUnaryOperatorIgnore;
+	private FileFilterWithException<Exception> fileFilter;
+	private FileFilter fileFilterUncheck;
+	private FileFilter fileFilterIgnore;
+	private FilenameFilterWithException<Exception> filenameFilter;
+	private FilenameFilter filenameFilterUncheck;
+	private FilenameFilter filenameFilterIgnore;
+	private IntBinaryOperatorWithException<Exception> intBinaryOperator;
+	private IntBinaryOperator intBinaryOperatorUncheck;
+	private IntBinaryOperator intBinaryOperatorIgnore;
+	private IntPredicateWithException<Exception> intPredicate;
+	private IntPredicate intPredicateUncheck;
+	private IntPredicate intPredicateIgnore;
+	private IntSupplierWithException<Exception> intSupplier;
+	private IntSupplier intSupplierUncheck;
+	private IntSupplier intSupplierIgnore;
+	private IntToDoubleFunctionWithException<Exception> intToDoubleFunction;
+	private IntToDoubleFunction intToDoubleFunctionUncheck;
+	private IntToDoubleFunction intToDoubleFunctionIgnore;
+	private IntToLongFunctionWithException<Exception> intToLongFunction;
+	private IntToLongFunction intToLongFunctionUncheck;
+	private IntToLongFunction intToLongFunctionIgnore;
+	private IntUnaryOperatorWithException<Exception> intUnaryOperator;
+	private IntUnaryOperator intUnaryOperatorUncheck;
+	private IntUnaryOperator intUnaryOperatorIgnore;
+	private LongBinaryOperatorWithException<Exception> longBinaryOperator;
+	private LongBinaryOperator longBinaryOperatorUncheck;
+	private LongBinaryOperator longBinaryOperatorIgnore;
+	private LongPredicateWithException<Exception> longPredicate;
+	private LongPredicate longPredicateUncheck;
+	private LongPredicate longPredicateIgnore;
+	private LongSupplierWithException<Exception> longSupplier;
+	private LongSupplier longSupplierUncheck;
+	private LongSupplier longSupplierIgnore;
+	private LongToDoubleFunctionWithException<Exception> longToDoubleFunction;
+	private LongToDoubleFunction longToDoubleFunctionUncheck;
+	private LongToDoubleFunction longToDoubleFunctionIgnore;
+	private LongToIntFunctionWithException<Exception> longToIntFunction;
+	private LongToIntFunction longToIntFunctionUncheck;
+	private LongToIntFunction longToIntFunctionIgnore;
+	private LongUnaryOperatorWithException<Exception> longUnaryOperator;
+	private LongUnaryOperator longUnaryOperatorUncheck;
+	private LongUnaryOperator longUnaryOperatorIgnore;
+	private PathMatcherWithException<Exception> pathMatcher;
+	private PathMatcher pathMatcherUncheck;
+	private PathMatcher pathMatcherIgnore;
+	private PredicateWithException<String, Exception> predicate;
+	private Predicate<String> predicateUncheck;
+	private Predicate<String> predicateIgnore;
+	private ToDoubleBiFunctionWithException<String, String, Exception> toDoubleBiFunction;
+	private ToDoubleBiFunction<String, String> toDoubleBiFunctionUncheck;
+	private ToDoubleBiFunction<String, String> toDoubleBiFunctionIgnore;
+	private ToDoubleFunctionWithException<String, Exception> toDoubleFunction;
+	private ToDoubleFunction<String> toDoubleFunctionUncheck;
+	private ToDoubleFunction<String> toDoubleFunctionIgnore;
+	private ToIntBiFunctionWithException<String, String, Exception> toIntBiFunction;
+	private ToIntBiFunction<String, String> toIntBiFunctionUncheck;
+	private ToIntBiFunction<String, String> toIntBiFunctionIgnore;
+	private ToIntFunctionWithException<String, Exception> toIntFunction;
+	private ToIntFunction<String> toIntFunctionUncheck;
+	private ToIntFunction<String> toIntFunctionIgnore;
+	private ToLongBiFunctionWithException<String, String, Exception> toLongBiFunction;
+	private ToLongBiFunction<String, String> toLongBiFunctionUncheck;
+	private ToLongBiFunction<String, String> toLongBiFunctionIgnore;
+	private ToLongFunctionWithException<String, Exception> toLongFunction;
+	private ToLongFunction<String> toLongFunctionUncheck;
+	private ToLongFunction<String> toLongFunctionIgnore;
+
+	@Setup
+	public void setup() {
+		biPredicate = failing ? BiPredicateWithException.failing(() -> EXCEPTION) : (a, b) -> true;
+		biPredicateUncheck = biPredicate.uncheck();
+		biPredicateIgnore = biPredicate.ignore();
+		booleanSupplier = failing ? BooleanSupplierWithException.failing(() -> EXCEPTION) : () -> true;
+		booleanSupplierUncheck = booleanSupplier.uncheck();
+		booleanSupplierIgnore = booleanSupplier.ignore();
+		doubleBinaryOperator = failing ? DoubleBinaryOperatorWithException.failing(() -> EXCEPTION) : (a, b) -> 1.0;
+		doubleBinaryOperatorUncheck = doubleBinaryOperator.uncheck();
+		doubleBinaryOperatorIgnore = doubleBinaryOperator.ignore();
+		doublePredicate = failing ? DoublePredicateWithException.failing(() -> EXCEPTION) : a -> true;
+		doublePredicateUncheck = doublePredicate.uncheck();
+		doublePredicateIgnore = doublePredicate.ignore();
+		doubleSupplier = failing ? DoubleSupplierWithException.failing(() -> EXCEPTION) : () -> 1.0;
+		doubleSupplierUncheck = doubleSupplier.uncheck();
+		doubleSupplierIgnore = doubleSupplier.ignore();
+		doubleToIntFunction = failing ? DoubleToIntFunctionWithException.failing(() -> EXCEPTION) : a -> 1;
+		doubleToIntFunctionUncheck = doubleToIntFunction.uncheck();
+		doubleToIntFunctionIgnore = doubleToIntFunction.ignore();
+		doubleToLongFunction = failing ? DoubleToLongFunctionWithException.failing(() -> EXCEPTION) : a -> 1L;
+		doubleToLongFunctionUncheck = doubleToLongFunction.uncheck();
+		doubleToLongFunctionIgnore = doubleToLongFunction.ignore();
+		doubleUnaryOperator = failing ? DoubleUnaryOperatorWithException.failing(() -> EXCEPTION) : a -> 1.0;
+		doubleUnaryOperatorUncheck = doubleUnaryOperator.uncheck();
+		doubleUnaryOperatorIgnore = doubleUnaryOperator.ignore();
+		fileFilter = failing ? FileFilterWithException.failing(() -> EXCEPTION) : a -> true;
+		fileFilterUncheck = fileFilter.uncheck();
+		fileFilterIgnore = fileFilter.ignore();
+		filenameFilter = failing ? FilenameFilterWithException.failing(() -> EXCEPTION) : (a, b) -> true;
+		filenameFilterUncheck = filenameFilter.uncheck();
+		filenameFilterIgnore = filenameFilter.ignore();
+		intBinaryOperator = failing ? IntBinaryOperatorWithException.failing(() -> EXCEPTION) : (a, b) -> 1;
+		intBinaryOperatorUncheck = intBinaryOperator.uncheck();
+		intBinaryOperatorIgnore = intBinaryOperator.ignore();
+		intPredicate = failing ? IntPredicateWithException.failing(() -> EXCEPTION) : a -> true;
+		intPredicateUncheck = intPredicate.uncheck();
+		intPredicateIgnore = intPredicate.ignore();
+		intSupplier = failing ? IntSupplierWithException.failing(() -> EXCEPTION) : () -> 1;
+		intSupplierUncheck = intSupplier.uncheck();
+		intSupplierIgnore = intSupplier.ignore();
+		intToDoubleFunction = failing ? IntToDoubleFunctionWithException.failing(() -> EXCEPTION) : a -> 1.0;
+		intToDoubleFunctionUncheck = intToDoubleFunction.uncheck();
+		intToDoubleFunctionIgnore = intToDoubleFunction.ignore();
+		intToLongFunction = failing ? IntToLongFunctionWithException.failing(() -> EXCEPTION) : a -> 1L;
+		intToLongFunctionUncheck = intToLongFunction.uncheck();
+		intToLongFunctionIgnore = intToLongFunction.ignore();
+		intUnaryOperator = failing ? IntUnaryOperatorWithException.failing(() -> EXCEPTION) : a -> 1;
+		intUnaryOperatorUncheck = intUnaryOperator.uncheck();
+		intUnaryOperatorIgnore = intUnaryOperator.ignore();
+		longBinaryOperator = failing ? LongBinaryOperatorWithException.failing(() -> EXCEPTION) : (a, b) -> 1L;
+		longBinaryOperatorUncheck = longBinaryOperator.uncheck();
+		longBinaryOperatorIgnore = longBinaryOperator.ignore();
+		longPredicate = failing ? LongPredicateWithException.failing(() -> EXCEPTION) : a -> true;
+		longPredicateUncheck = longPredicate.uncheck();
+		longPredicateIgnore = longPredicate.ignore();
+		longSupplier = failing ? LongSupplierWithException.failing(() -> EXCEPTION) : () -> 1L;
+		longSupplierUncheck = longSupplier.uncheck();
+		longSupplierIgnore = longSupplier.ignore();
+		longToDoubleFunction = failing ? LongToDoubleFunctionWithException.failing(() -> EXCEPTION) : a -> 1.0;
+		longToDoubleFunctionUncheck = longToDoubleFunction.uncheck();
+		longToDoubleFunctionIgnore = longToDoubleFunction.ignore();
+		longToIntFunction = failing ? LongToIntFunctionWithException.failing(() -> EXCEPTION) : a -> 1;
+		longToIntFunctionUncheck = longToIntFunction.uncheck();
+		longToIntFunctionIgnore = longToIntFunction.ignore();
+		longUnaryOperator = failing ? LongUnaryOperatorWithException.failing(() -> EXCEPTION) : a -> 1L;
+		longUnaryOperatorUncheck = longUnaryOperator.uncheck();
+		longUnaryOperatorIgnore = longUnaryOperator.ignore();
+		pathMatcher = failing ? PathMatcherWithException.failing(() -> EXCEPTION) : a -> true;
+		pathMatcherUncheck = pathMatcher.uncheck();
+		pathMatcherIgnore = pathMatcher.ignore();
+		predicate = failing ? PredicateWithException.failing(() -> EXCEPTION) : a -> true;
+		predicateUncheck = predicate.uncheck();
+		predicateIgnore = predicate.ignore();
+		toDoubleBiFunction = failing ? ToDoubleBiFunctionWithException.failing(() -> EXCEPTION) : (a, b) -> 1.0;
+		toDoubleBiFunctionUncheck = toDoubleBiFunction.uncheck();
+		toDoubleBiFunctionIgnore = toDoubleBiFunction.ignore();
+		toDoubleFunction = failing ? ToDoubleFunctionWithException.failing(() -> EXCEPTION) : a -> 1.0;
+		toDoubleFunctionUncheck = toDoubleFunction.uncheck();
+		toDoubleFunctionIgnore = toDoubleFunction.ignore();
+		toIntBiFunction = failing ? ToIntBiFunctionWithException.failing(() -> EXCEPTION) : (a, b) -> 1;
+		toIntBiFunctionUncheck = toIntBiFunction.uncheck();
+		toIntBiFunctionIgnore = toIntBiFunction.ignore();
+		toIntFunction = failing ? ToIntFunctionWithException.failing(() -> EXCEPTION) : a -> 1;
+		toIntFunctionUncheck = toIntFunction.uncheck();
+		toIntFunctionIgnore = toIntFunction.ignore();
+		toLongBiFunction = failing ? ToLongBiFunctionWithException.failing(() -> EXCEPTION) : (a, b) -> 1L;
+		toLongBiFunctionUncheck = toLongBiFunction.uncheck();
+		toLongBiFunctionIgnore = toLongBiFunction.ignore();
+		toLongFunction = failing ? ToLongFunctionWithException.failing(() -> EXCEPTION) : a -> 1L;
+		toLongFunctionUncheck = toLongFunction.uncheck();
+		toLongFunctionIgnore = toLongFunction.ignore();
+	}
+
+	@Benchmark
+	public void biPredicateBaseline(Blackhole bh) {
+		try {
+			bh.consume(biPredicate.test(text, text));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void biPredicateUncheck(Blackhole bh) {
+		try {
+			bh.consume(biPredicateUncheck.test(text, text));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void biPredicateIgnore(Blackhole bh) {
+		bh.consume(biPredicateIgnore.test(text, text));
+	}
+
+	@Benchmark
+	public void booleanSupplierBaseline(Blackhole bh) {
+		try {
+			bh.consume(booleanSupplier.getAsBoolean());
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void booleanSupplierUncheck(Blackhole bh) {
+		try {
+			bh.consume(booleanSupplierUncheck.getAsBoolean());
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void booleanSupplierIgnore(Blackhole bh) {
+		bh.consume(booleanSupplierIgnore.getAsBoolean());
+	}
+
+	@Benchmark
+	public void doubleBinaryOperatorBaseline(Blackhole bh) {
+		try {
+			bh.consume(doubleBinaryOperator.applyAsDouble(doubleValue, doubleValue));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void doubleBinaryOperatorUncheck(Blackhole bh) {
+		try {
+			bh.consume(doubleBinaryOperatorUncheck.applyAsDouble(doubleValue, doubleValue));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void doubleBinaryOperatorIgnore(Blackhole bh) {
+		bh.consume(doubleBinaryOperatorIgnore.applyAsDouble(doubleValue, doubleValue));
+	}
+
+	@Benchmark
+	public void doublePredicateBaseline(Blackhole bh) {
+		try {
+			bh.consume(doublePredicate.test(doubleValue));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void doublePredicateUncheck(Blackhole bh) {
+		try {
+			bh.consume(doublePredicateUncheck.test(doubleValue));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void doublePredicateIgnore(Blackhole bh) {
+		bh.consume(doublePredicateIgnore.test(doubleValue));
+	}
+
+	@Benchmark
+	public void doubleSupplierBaseline(Blackhole bh) {
+		try {
+			bh.consume(doubleSupplier.getAsDouble());
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void doubleSupplierUncheck(Blackhole bh) {
+		try {
+			bh.consume(doubleSupplierUncheck.getAsDouble());
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void doubleSupplierIgnore(Blackhole bh) {
+		bh.consume(doubleSupplierIgnore.getAsDouble());
+	}
+
+	@Benchmark
+	public void doubleToIntFunctionBaseline(Blackhole bh) {
+		try {
+			bh.consume(doubleToIntFunction.applyAsInt(doubleValue));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void doubleToIntFunctionUncheck(Blackhole bh) {
+		try {
+			bh.consume(doubleToIntFunctionUncheck.applyAsInt(doubleValue));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void doubleToIntFunctionIgnore(Blackhole bh) {
+		bh.consume(doubleToIntFunctionIgnore.applyAsInt(doubleValue));
+	}
+
+	@Benchmark
+	public void doubleToLongFunctionBaseline(Blackhole bh) {
+		try {
+			bh.consume(doubleToLongFunction.applyAsLong(doubleValue));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void doubleToLongFunctionUncheck(Blackhole bh) {
+		try {
+			bh.consume(doubleToLongFunctionUncheck.applyAsLong(doubleValue));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void doubleToLongFunctionIgnore(Blackhole bh) {
+		bh.consume(doubleToLongFunctionIgnore.applyAsLong(doubleValue));
+	}
+
+	@Benchmark
+	public void doubleUnaryOperatorBaseline(Blackhole bh) {
+		try {
+			bh.consume(doubleUnaryOperator.applyAsDouble(doubleValue));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void doubleUnaryOperatorUncheck(Blackhole bh) {
+		try {
+			bh.consume(doubleUnaryOperatorUncheck.applyAsDouble(doubleValue));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void doubleUnaryOperatorIgnore(Blackhole bh) {
+		bh.consume(doubleUnaryOperatorIgnore.applyAsDouble(doubleValue));
+	}
+
+	@Benchmark
+	public void fileFilterBaseline(Blackhole bh) {
+		try {
+			bh.consume(fileFilter.accept(file));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void fileFilterUncheck(Blackhole bh) {
+		try {
+			bh.consume(fileFilterUncheck.accept(file));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void fileFilterIgnore(Blackhole bh) {
+		bh.consume(fileFilterIgnore.accept(file));
+	}
+
+	@Benchmark
+	public void filenameFilterBaseline(Blackhole bh) {
+		try {
+			bh.consume(filenameFilter.accept(file, text));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void filenameFilterUncheck(Blackhole bh) {
+		try {
+			bh.consume(filenameFilterUncheck.accept(file, text));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void filenameFilterIgnore(Blackhole bh) {
+		bh.consume(filenameFilterIgnore.accept(file, text));
+	}
+
+	@Benchmark
+	public void intBinaryOperatorBaseline(Blackhole bh) {
+		try {
+			bh.consume(intBinaryOperator.applyAsInt(intValue, intValue));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void intBinaryOperatorUncheck(Blackhole bh) {
+		try {
+			bh.consume(intBinaryOperatorUncheck.applyAsInt(intValue, intValue));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void intBinaryOperatorIgnore(Blackhole bh) {
+		bh.consume(intBinaryOperatorIgnore.applyAsInt(intValue, intValue));
+	}
+
+	@Benchmark
+	public void intPredicateBaseline(Blackhole bh) {
+		try {
+			bh.consume(intPredicate.test(intValue));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void intPredicateUncheck(Blackhole bh) {
+		try {
+			bh.consume(intPredicateUncheck.test(intValue));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void intPredicateIgnore(Blackhole bh) {
+		bh.consume(intPredicateIgnore.test(intValue));
+	}
+
+	@Benchmark
+	public void intSupplierBaseline(Blackhole bh) {
+		try {
+			bh.consume(intSupplier.getAsInt());
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void intSupplierUncheck(Blackhole bh) {
+		try {
+			bh.consume(intSupplierUncheck.getAsInt());
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void intSupplierIgnore(Blackhole bh) {
+		bh.consume(intSupplierIgnore.getAsInt());
+	}
+
+	@Benchmark
+	public void intToDoubleFunctionBaseline(Blackhole bh) {
+		try {
+			bh.consume(intToDoubleFunction.applyAsDouble(intValue));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void intToDoubleFunctionUncheck(Blackhole bh) {
+		try {
+			bh.consume(intToDoubleFunctionUncheck.applyAsDouble(intValue));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void intToDoubleFunctionIgnore(Blackhole bh) {
+		bh.consume(intToDoubleFunctionIgnore.applyAsDouble(intValue));
+	}
+
+	@Benchmark
+	public void intToLongFunctionBaseline(Blackhole bh) {
+		try {
+			bh.consume(intToLongFunction.applyAsLong(intValue));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void intToLongFunctionUncheck(Blackhole bh) {
+		try {
+			bh.consume(intToLongFunctionUncheck.applyAsLong(intValue));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void intToLongFunctionIgnore(Blackhole bh) {
+		bh.consume(intToLongFunctionIgnore.applyAsLong(intValue));
+	}
+
+	@Benchmark
+	public void intUnaryOperatorBaseline(Blackhole bh) {
+		try {
+			bh.consume(intUnaryOperator.applyAsInt(intValue));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void intUnaryOperatorUncheck(Blackhole bh) {
+		try {
+			bh.consume(intUnaryOperatorUncheck.applyAsInt(intValue));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void intUnaryOperatorIgnore(Blackhole bh) {
+		bh.consume(intUnaryOperatorIgnore.applyAsInt(intValue));
+	}
+
+	@Benchmark
+	public void longBinaryOperatorBaseline(Blackhole bh) {
+		try {
+			bh.consume(longBinaryOperator.applyAsLong(longValue, longValue));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void longBinaryOperatorUncheck(Blackhole bh) {
+		try {
+			bh.consume(longBinaryOperatorUncheck.applyAsLong(longValue, longValue));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void longBinaryOperatorIgnore(Blackhole bh) {
+		bh.consume(longBinaryOperatorIgnore.applyAsLong(longValue, longValue));
+	}
+
+	@Benchmark
+	public void longPredicateBaseline(Blackhole bh) {
+		try {
+			bh.consume(longPredicate.test(longValue));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void longPredicateUncheck(Blackhole bh) {
+		try {
+			bh.consume(longPredicateUncheck.test(longValue));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void longPredicateIgnore(Blackhole bh) {
+		bh.consume(longPredicateIgnore.test(longValue));
+	}
+
+	@Benchmark
+	public void longSupplierBaseline(Blackhole bh) {
+		try {
+			bh.consume(longSupplier.getAsLong());
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void longSupplierUncheck(Blackhole bh) {
+		try {
+			bh.consume(longSupplierUncheck.getAsLong());
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void longSupplierIgnore(Blackhole bh) {
+		bh.consume(longSupplierIgnore.getAsLong());
+	}
+
+	@Benchmark
+	public void longToDoubleFunctionBaseline(Blackhole bh) {
+		try {
+			bh.consume(longToDoubleFunction.applyAsDouble(longValue));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void longToDoubleFunctionUncheck(Blackhole bh) {
+		try {
+			bh.consume(longToDoubleFunctionUncheck.applyAsDouble(longValue));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void longToDoubleFunctionIgnore(Blackhole bh) {
+		bh.consume(longToDoubleFunctionIgnore.applyAsDouble(longValue));
+	}
+
+	@Benchmark
+	public void longToIntFunctionBaseline(Blackhole bh) {
+		try {
+			bh.consume(longToIntFunction.applyAsInt(longValue));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void longToIntFunctionUncheck(Blackhole bh) {
+		try {
+			bh.consume(longToIntFunctionUncheck.applyAsInt(longValue));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void longToIntFunctionIgnore(Blackhole bh) {
+		bh.consume(longToIntFunctionIgnore.applyAsInt(longValue));
+	}
+
+	@Benchmark
+	public void longUnaryOperatorBaseline(Blackhole bh) {
+		try {
+			bh.consume(longUnaryOperator.applyAsLong(longValue));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void longUnaryOperatorUncheck(Blackhole bh) {
+		try {
+			bh.consume(longUnaryOperatorUncheck.applyAsLong(longValue));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void longUnaryOperatorIgnore(Blackhole bh) {
+		bh.consume(longUnaryOperatorIgnore.applyAsLong(longValue));
+	}
+
+	@Benchmark
+	public void pathMatcherBaseline(Blackhole bh) {
+		try {
+			bh.consume(pathMatcher.matches(path));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void pathMatcherUncheck(Blackhole bh) {
+		try {
+			bh.consume(pathMatcherUncheck.matches(path));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void pathMatcherIgnore(Blackhole bh) {
+		bh.consume(pathMatcherIgnore.matches(path));
+	}
+
+	@Benchmark
+	public void predicateBaseline(Blackhole bh) {
+		try {
+			bh.consume(predicate.test(text));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void predicateUncheck(Blackhole bh) {
+		try {
+			bh.consume(predicateUncheck.test(text));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void predicateIgnore(Blackhole bh) {
+		bh.consume(predicateIgnore.test(text));
+	}
+
+	@Benchmark
+	public void toDoubleBiFunctionBaseline(Blackhole bh) {
+		try {
+			bh.consume(toDoubleBiFunction.applyAsDouble(text, text));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void toDoubleBiFunctionUncheck(Blackhole bh) {
+		try {
+			bh.consume(toDoubleBiFunctionUncheck.applyAsDouble(text, text));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void toDoubleBiFunctionIgnore(Blackhole bh) {
+		bh.consume(toDoubleBiFunctionIgnore.applyAsDouble(text, text));
+	}
+
+	@Benchmark
+	public void toDoubleFunctionBaseline(Blackhole bh) {
+		try {
+			bh.consume(toDoubleFunction.applyAsDouble(text));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void toDoubleFunctionUncheck(Blackhole bh) {
+		try {
+			bh.consume(toDoubleFunctionUncheck.applyAsDouble(text));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void toDoubleFunctionIgnore(Blackhole bh) {
+		bh.consume(toDoubleFunctionIgnore.applyAsDouble(text));
+	}
+
+	@Benchmark
+	public void toIntBiFunctionBaseline(Blackhole bh) {
+		try {
+			bh.consume(toIntBiFunction.applyAsInt(text, text));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void toIntBiFunctionUncheck(Blackhole bh) {
+		try {
+			bh.consume(toIntBiFunctionUncheck.applyAsInt(text, text));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void toIntBiFunctionIgnore(Blackhole bh) {
+		bh.consume(toIntBiFunctionIgnore.applyAsInt(text, text));
+	}
+
+	@Benchmark
+	public void toIntFunctionBaseline(Blackhole bh) {
+		try {
+			bh.consume(toIntFunction.applyAsInt(text));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void toIntFunctionUncheck(Blackhole bh) {
+		try {
+			bh.consume(toIntFunctionUncheck.applyAsInt(text));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void toIntFunctionIgnore(Blackhole bh) {
+		bh.consume(toIntFunctionIgnore.applyAsInt(text));
+	}
+
+	@Benchmark
+	public void toLongBiFunctionBaseline(Blackhole bh) {
+		try {
+			bh.consume(toLongBiFunction.applyAsLong(text, text));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void toLongBiFunctionUncheck(Blackhole bh) {
+		try {
+			bh.consume(toLongBiFunctionUncheck.applyAsLong(text, text));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void toLongBiFunctionIgnore(Blackhole bh) {
+		bh.consume(toLongBiFunctionIgnore.applyAsLong(text, text));
+	}
+
+	@Benchmark
+	public void toLongFunctionBaseline(Blackhole bh) {
+		try {
+			bh.consume(toLongFunction.applyAsLong(text));
+		} catch (Exception e) {
+			bh.consume(new WrappedException(e));
+		}
+	}
+
+	@Benchmark
+	public void toLongFunctionUncheck(Blackhole bh) {
+		try {
+			bh.consume(toLongFunctionUncheck.applyAsLong(text));
+		} catch (RuntimeException e) {
+			bh.consume(e);
+		}
+	}
+
+	@Benchmark
+	public void toLongFunctionIgnore(Blackhole bh) {
+		bh.consume(toLongFunctionIgnore.applyAsLong(text));
+	}
+}
@@ -0,0 +1,215 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Result of a batch execution, holding the value produced for each element and
+ * the exceptions that were thrown.
+ * <p>
+ * The values are stored in one array, filled in place, the failed elements
+ * receiving the {@code defaultValue()} of the operation. The indices of the
+ * failed elements are kept in a bitmap, which is only allocated on the first
+ * failure.
+ *
+ * @param <R>
+ *            the type of the values
+ * @see FunctionWithException#applyAll(List)
+ * @see ConsumerWithException#acceptAll(List)
+ * @since 3.1.0
+ */
+public final class BatchResult<R> {
+
+	private final int size;
+
+	private final Object[] values;
+
+	private BitSet failed;
+
+	private List<Exception> failures;
+
+	private BatchResult(int size, Object[] values) {
+		this.size = size;
+		this.values = values;
+	}
+
+	static <T, R, E extends Exception> BatchResult<R> applyAll(FunctionWithException<T, R, E> function,
+			List<? extends T> elements) {
+		List<? extends T> input = elements instanceof RandomAccess ? elements : new ArrayList<>(elements);
+		int size = input.size();
+		Object[] values = new Object[size];
+		BatchResult<R> result = new BatchResult<>(size, values);
+		int index = 0;
+		while (index < size) {
+			// one exception handling frame per sequence of successful elements
+			try {
+				for (; index < size; index++) {
+					values[index] = function.apply(input.get(index));
+				}
+			} catch (Exception e) {
+				result.fail(index, e);
+				values[index] = function.defaultValue();
+				index++;
+			}
+		}
+		return result;
+	}
+
+	static <T, E extends Exception> BatchResult<Void> acceptAll(ConsumerWithException<T, E> consumer,
+			List<? extends T> elements) {
+		List<? extends T> input = elements instanceof RandomAccess ? elements : new ArrayList<>(elements);
+		int size = input.size();
+		BatchResult<Void> result = new BatchResult<>(size, null);
+		int index = 0;
+		while (index < size) {
+			// one exception handling frame per sequence of successful elements
+			try {
+				for (; index < size; index++) {
+					consumer.accept(input.get(index));
+				}
+			} catch (Exception e) {
+				result.fail(index, e);
+				index++;
+			}
+		}
+		return result;
+	}
+
+	private void fail(int index, Exception e) {
+		if (failed == null) {
+			failed = new BitSet(size);
+			failures = new ArrayList<>();
+		}
+		failed.set(index);
+		failures.add(e);
+	}
+
+	/**
+	 * Returns the number of elements of the batch.
+	 *
+	 * @return the number of elements
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the value produced for one element.
+	 *
+	 * @param index
+	 *            the index of the element
+	 * @return the value, the {@code defaultValue()} of the operation if this
+	 *         element failed, or null for a consumer.
+	 * @throws IndexOutOfBoundsException
+	 *             if index is out of the batch
+	 */
+	@SuppressWarnings("unchecked")
+	public R get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(String.format("Index %s out of batch of size %s", index, size));
+		}
+		return values == null ? null : (R) values[index];
+	}
+
+	/**
+	 * Returns the produced values, in the order of the elements.
+	 *
+	 * @return the unmodifiable list of values, backed by this result
+	 */
+	public List<R> getValues() {
+		return new Values();
+	}
+
+	/**
+	 * Checks if one element failed.
+	 *
+	 * @param index
+	 *            the index of the element
+	 * @return true if the operation has thrown an exception for this element
+	 */
+	public boolean isFailed(int index) {
+		return failed != null && failed.get(index);
+	}
+
+	/**
+	 * Returns the indices of the failed elements.
+	 *
+	 * @return a copy of the bitmap of the failed indices
+	 */
+	public BitSet getFailedIndices() {
+		return failed == null ? new BitSet() : (BitSet) failed.clone();
+	}
+
+	/**
+	 * Returns the thrown exceptions, in the order of the failed elements.
+	 * <p>
+	 * The n-th exception corresponds to the n-th set bit of
+	 * {@link #getFailedIndices()}.
+	 *
+	 * @return the unmodifiable list of exceptions
+	 */
+	public List<Exception> getFailures() {
+		return failures == null ? Collections.emptyList() : Collections.unmodifiableList(failures);
+	}
+
+	/**
+	 * Returns the number of failed elements.
+	 *
+	 * @return the number of failures
+	 */
+	public int getFailureCount() {
+		return failures == null ? 0 : failures.size();
+	}
+
+	/**
+	 * Checks if at least one element failed.
+	 *
+	 * @return true if there is at least one failure
+	 */
+	public boolean hasFailures() {
+		return failures != null;
+	}
+
+	@Override
+	public String toString() {
+		return "BatchResult[size=" + size + ", failures=" + getFailureCount() + "]";
+	}
+
+	private final class Values extends AbstractList<R> implements RandomAccess {
+
+		@Override
+		public R get(int index) {
+			return BatchResult.this.get(index);
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+	}
+
+}
@@ -21,9 +21,11 @@ package ch.powerunit.extensions.exceptions;
 
 import static ch.powerunit.extensions.exceptions.Constants.verifyConsumer;
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
+import static ch.powerunit.extensions.exceptions.Constants.verifyExecutor;
 import static java.util.Objects.requireNonNull;
 
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -107,6 +109,25 @@ public interface BiConsumerWithException<T, U, E extends Exception> extends
 		return (t, u) -> NoReturnExceptionHandlerSupport.staged(() -> accept(t, u));
 	}
 
+	/**
+	 * Converts this {@code BiConsumerWithException} to a <i>staged</i>
+	 * {@code BiFunction} that return a {@code CompletionStage}, the operation
+	 * being executed asynchronously by the provided executor.
+	 *
+	 * @param executor
+	 *            the executor to be used to run the operation.
+	 * @return the staged operation.
+	 * @throws NullPointerException
+	 *             if executor is null
+	 * @since 3.1.0
+	 * @see #stage()
+	 */
+	@Override
+	default BiFunction<T, U, CompletionStage<Void>> stageAsync(Executor executor) {
+		verifyExecutor(executor);
+		return (t, u) -> NoReturnExceptionHandlerSupport.stagedAsync(() -> accept(t, u), executor);
+	}
+
 	/**
 	 * Returns a composed {@code BiConsumerWithException} that performs, in
 	 * sequence, this operation followed by the {@code after} operation. If
@@ -335,6 +356,56 @@ public interface BiConsumerWithException<T, U, E extends Exception> extends
 		return verifyConsumer(consumer).stage();
 	}
 
+	/**
+	 * Converts a {@code BiConsumerWithException} to a staged
+	 * {@code BiFunction}, the operation being executed asynchronously by the
+	 * provided executor.
+	 *
+	 * @param consumer
+	 *            to be staged
+	 * @param executor
+	 *            the executor to be used to run the operation
+	 * @param <T>
+	 *            the type of the first argument to the operation
+	 * @param <U>
+	 *            the type of the second argument to the operation
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the staged operation
+	 * @throws NullPointerException
+	 *             if consumer or executor is null
+	 * @since 3.1.0
+	 * @see #stageAsync(Executor)
+	 */
+	static <T, U, E extends Exception> BiFunction<T, U, CompletionStage<Void>> stagedAsync(
+			BiConsumerWithException<T, U, E> consumer, Executor executor) {
+		return verifyConsumer(consumer).stageAsync(executor);
+	}
+
+	/**
+	 * Converts a {@code BiConsumerWithException} to a staged
+	 * {@code BiFunction}, the operation being executed asynchronously by the
+	 * default executor.
+	 *
+	 * @param consumer
+	 *            to be staged
+	 * @param <T>
+	 *            the type of the first argument to the operation
+	 * @param <U>
+	 *            the type of the second argument to the operation
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the staged operation
+	 * @throws NullPointerException
+	 *             if consumer is null
+	 * @since 3.1.0
+	 * @see #stageAsync()
+	 */
+	static <T, U, E extends Exception> BiFunction<T, U, CompletionStage<Void>> stagedAsync(
+			BiConsumerWithException<T, U, E> consumer) {
+		return verifyConsumer(consumer).stageAsync();
+	}
+
 	/**
 	 * Converts a {@code BiConsumerWithException} to a
 	 * {@code BiFunctionWithException} returning {@code null}.
@@ -20,11 +20,16 @@
 package ch.powerunit.extensions.exceptions;
 
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
+import static ch.powerunit.extensions.exceptions.Constants.verifyExecutor;
 import static ch.powerunit.extensions.exceptions.Constants.verifyFunction;
 import static java.util.Objects.requireNonNull;
 
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -83,8 +88,14 @@ public interface BiFunctionWithException<T, U, R, E extends Exception> extends
 	 */
 	@Override
 	default BiFunction<T, U, R> uncheck() {
-		return (t, u) -> ObjectReturnExceptionHandlerSupport.unchecked(() -> apply(t, u), throwingHandler());
-
+		Function<Exception, RuntimeException> exceptionMapper = exceptionMapper();
+		return (t, u) -> {
+			try {
+				return apply(t, u);
+			} catch (Exception e) {
+				throw ExceptionEvents.wrapped(this, exceptionMapper, e);
+			}
+		};
 	}
 
 	/**
@@ -101,6 +112,29 @@ public interface BiFunctionWithException<T, U, R, E extends Exception> extends
 				notThrowingHandler());
 	}
 
+	/**
+	 * Converts this {@code BiFunctionWithException} to a {@code BiFunction}
+	 * returning a {@code Result}, holding either the value or the exception.
+	 * <p>
+	 * Unlike {@link #lift()}, the exception is kept ; unlike {@link #stage()}, no
+	 * {@code CompletionStage} is created : the success path only allocates the
+	 * {@code Result}.
+	 *
+	 * @return the function returning a result
+	 * @see #attempted(BiFunctionWithException)
+	 * @see Result
+	 * @since 3.1.0
+	 */
+	default BiFunction<T, U, Result<R>> attempt() {
+		return (t, u) -> {
+			try {
+				return Result.success(apply(t, u));
+			} catch (Exception e) {
+				return Result.failure(e);
+			}
+		};
+	}
+
 	/**
 	 * Converts this {@code BiFunctionWithException} to a lifted {@code BiFunction}
 	 * returning {@code null} (or the value redefined by the method
@@ -112,7 +146,15 @@ public interface BiFunctionWithException<T, U, R, E extends Exception> extends
 	 */
 	@Override
 	default BiFunction<T, U, R> ignore() {
-		return lift().andThen(o -> o.orElse(defaultValue()));
+		return (t, u) -> {
+			try {
+				R result = apply(t, u);
+				return result == null ? defaultValue() : result;
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return defaultValue();
+			}
+		};
 	}
 
 	/**
@@ -129,6 +171,95 @@ public interface BiFunctionWithException<T, U, R, E extends Exception> extends
 		return (t, u) -> ObjectReturnExceptionHandlerSupport.staged(() -> apply(t, u));
 	}
 
+	/**
+	 * Converts this {@code BiFunctionWithException} to a <i>staged</i>
+	 * {@code BiFunction} that return a {@code CompletionStage}, the operation
+	 * being executed asynchronously by the provided executor.
+	 *
+	 * @param executor
+	 *            the executor to be used to run the operation.
+	 * @return the staged operation.
+	 * @throws NullPointerException
+	 *             if executor is null
+	 * @since 3.1.0
+	 * @see #stage()
+	 */
+	@Override
+	default BiFunction<T, U, CompletionStage<R>> stageAsync(Executor executor) {
+		verifyExecutor(executor);
+		return (t, u) -> ObjectReturnExceptionHandlerSupport.stagedAsync(() -> apply(t, u), executor);
+	}
+
+	/**
+	 * Returns a {@code BiFunctionWithException} that caches the results of this
+	 * function.
+	 * <p>
+	 * At most {@code maximumSize} results are kept. When this size is exceeded,
+	 * the least recently used results are evicted. Concurrent calls with the same
+	 * arguments compute the result only once. Results don't expire and
+	 * exceptions are not cached.
+	 *
+	 * @param maximumSize
+	 *            the maximum number of cached results.
+	 * @return the memoizing function
+	 * @throws IllegalArgumentException
+	 *             if maximumSize is not positive
+	 * @since 3.1.0
+	 * @see #memoize(int, Duration, boolean)
+	 */
+	default BiFunctionWithException<T, U, R, E> memoize(int maximumSize) {
+		return memoize(maximumSize, ChronoUnit.FOREVER.getDuration(), false);
+	}
+
+	/**
+	 * Returns a {@code BiFunctionWithException} that caches the results of this
+	 * function.
+	 * <p>
+	 * At most {@code maximumSize} results are kept. When this size is exceeded,
+	 * the least recently used results are evicted. Concurrent calls with the same
+	 * arguments compute the result only once. Cached results expire after the
+	 * received duration.
+	 * <p>
+	 * When {@code cacheException} is true, an exception thrown by this function
+	 * is cached like a result : the following calls with the same arguments
+	 * throw the same exception, until it expires.
+	 *
+	 * @param maximumSize
+	 *            the maximum number of cached results.
+	 * @param expireAfterWrite
+	 *            the duration after which a cached result is computed again.
+	 * @param cacheException
+	 *            true if exceptions must be cached.
+	 * @return the memoizing function
+	 * @throws IllegalArgumentException
+	 *             if maximumSize or expireAfterWrite is not positive
+	 * @throws NullPointerException
+	 *             if expireAfterWrite is null
+	 * @since 3.1.0
+	 */
+	default BiFunctionWithException<T, U, R, E> memoize(int maximumSize, Duration expireAfterWrite,
+			boolean cacheException) {
+		Memoizer<R> memoizer = new Memoizer<>(maximumSize, expireAfterWrite, cacheException);
+		return new BiFunctionWithException<T, U, R, E>() {
+
+			@Override
+			public R apply(T t, U u) throws E {
+				return memoizer.get(Arrays.asList(t, u), () -> BiFunctionWithException.this.apply(t, u));
+			}
+
+			@Override
+			public Function<Exception, RuntimeException> exceptionMapper() {
+				return BiFunctionWithException.this.exceptionMapper();
+			}
+
+			@Override
+			public R defaultValue() {
+				return BiFunctionWithException.this.defaultValue();
+			}
+
+		};
+	}
+
 	/**
 	 * Returns a composed {@code FunctionWithException} that first applies this
 	 * {@code FunctionWithException} to its input, and then applies the
@@ -287,6 +418,31 @@ public interface BiFunctionWithException<T, U, R, E extends Exception> extends
 		return verifyFunction(function).lift();
 	}
 
+	/**
+	 * Converts a {@code BiFunctionWithException} to a {@code BiFunction} returning
+	 * a {@code Result}, holding either the value or the exception.
+	 *
+	 * @param function
+	 *            to be converted
+	 * @param <T>
+	 *            the type of the first argument to the function
+	 * @param <U>
+	 *            the type of the second argument to the function
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the function returning a result
+	 * @see #attempt()
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @since 3.1.0
+	 */
+	static <T, U, R, E extends Exception> BiFunction<T, U, Result<R>> attempted(
+			BiFunctionWithException<T, U, R, E> function) {
+		return verifyFunction(function).attempt();
+	}
+
 	/**
 	 * Converts a {@code BiFunctionWithException} to a lifted {@code BiFunction}
 	 * returning {@code null} in case of exception.
@@ -376,6 +532,121 @@ public interface BiFunctionWithException<T, U, R, E extends Exception> extends
 		return verifyFunction(function).stage();
 	}
 
+	/**
+	 * Converts a {@code BiFunctionWithException} to a staged
+	 * {@code BiFunction}, the operation being executed asynchronously by the
+	 * provided executor.
+	 *
+	 * @param function
+	 *            to be staged
+	 * @param executor
+	 *            the executor to be used to run the operation
+	 * @param <T>
+	 *            the type of the first argument to the function
+	 * @param <U>
+	 *            the type of the second argument to the function
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the staged operation
+	 * @throws NullPointerException
+	 *             if function or executor is null
+	 * @since 3.1.0
+	 * @see #stageAsync(Executor)
+	 */
+	static <T, U, R, E extends Exception> BiFunction<T, U, CompletionStage<R>> stagedAsync(
+			BiFunctionWithException<T, U, R, E> function, Executor executor) {
+		return verifyFunction(function).stageAsync(executor);
+	}
+
+	/**
+	 * Converts a {@code BiFunctionWithException} to a staged
+	 * {@code BiFunction}, the operation being executed asynchronously by the
+	 * default executor.
+	 *
+	 * @param function
+	 *            to be staged
+	 * @param <T>
+	 *            the type of the first argument to the function
+	 * @param <U>
+	 *            the type of the second argument to the function
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the staged operation
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @since 3.1.0
+	 * @see #stageAsync()
+	 */
+	static <T, U, R, E extends Exception> BiFunction<T, U, CompletionStage<R>> stagedAsync(
+			BiFunctionWithException<T, U, R, E> function) {
+		return verifyFunction(function).stageAsync();
+	}
+
+	/**
+	 * Converts a {@code BiFunctionWithException} to a memoizing one.
+	 *
+	 * @param function
+	 *            to be memoized
+	 * @param maximumSize
+	 *            the maximum number of cached results.
+	 * @param <T>
+	 *            the type of the first argument to the function
+	 * @param <U>
+	 *            the type of the second argument to the function
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the memoizing function
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @throws IllegalArgumentException
+	 *             if maximumSize is not positive
+	 * @since 3.1.0
+	 * @see #memoize(int)
+	 */
+	static <T, U, R, E extends Exception> BiFunctionWithException<T, U, R, E> memoized(
+			BiFunctionWithException<T, U, R, E> function, int maximumSize) {
+		return verifyFunction(function).memoize(maximumSize);
+	}
+
+	/**
+	 * Converts a {@code BiFunctionWithException} to a memoizing one.
+	 *
+	 * @param function
+	 *            to be memoized
+	 * @param maximumSize
+	 *            the maximum number of cached results.
+	 * @param expireAfterWrite
+	 *            the duration after which a cached result is computed again.
+	 * @param cacheException
+	 *            true if exceptions must be cached.
+	 * @param <T>
+	 *            the type of the first argument to the function
+	 * @param <U>
+	 *            the type of the second argument to the function
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the memoizing function
+	 * @throws NullPointerException
+	 *             if function or expireAfterWrite is null
+	 * @throws IllegalArgumentException
+	 *             if maximumSize or expireAfterWrite is not positive
+	 * @since 3.1.0
+	 * @see #memoize(int, Duration, boolean)
+	 */
+	static <T, U, R, E extends Exception> BiFunctionWithException<T, U, R, E> memoized(
+			BiFunctionWithException<T, U, R, E> function, int maximumSize, Duration expireAfterWrite,
+			boolean cacheException) {
+		return verifyFunction(function).memoize(maximumSize, expireAfterWrite, cacheException);
+	}
+
 	/**
 	 * Converts a {@code BiFunctionWithException} to a
 	 * {@code BiConsumerWithException}.
@@ -19,10 +19,13 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import static ch.powerunit.extensions.exceptions.Constants.optionalOf;
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
 import static ch.powerunit.extensions.exceptions.Constants.verifyPredicate;
 import static java.util.Objects.requireNonNull;
 
+import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -75,12 +78,36 @@ public interface BiPredicateWithException<T, U, E extends Exception>
 			try {
 				return test(t, u);
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
 	}
 
+	/**
+	 * Converts this {@code BiPredicateWithException} to a <i>lifted</i>
+	 * {@code BiFunction} returning an {@code Optional<Boolean>}, empty in case
+	 * of error.
+	 * <p>
+	 * Unlike {@link #lift()}, a failure can be distinguished from a result
+	 * equal to the default value. The non-empty results are shared instances,
+	 * so that no allocation is done.
+	 *
+	 * @return the lifted predicate
+	 * @see #liftedOptional(BiPredicateWithException)
+	 * @since 3.1.0
+	 */
+	default BiFunction<T, U, Optional<Boolean>> liftOptional() {
+		return (t, u) -> {
+			try {
+				return optionalOf(test(t, u));
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return Optional.empty();
+			}
+		};
+	}
+
 	/**
 	 * Returns a composed predicate that represents a short-circuiting logical AND
 	 * of this predicate and another. When evaluating the composed predicate, if
@@ -261,6 +288,30 @@ public interface BiPredicateWithException<T, U, E extends Exception>
 		return verifyPredicate(predicate).lift();
 	}
 
+	/**
+	 * Converts a {@code BiPredicateWithException} to a lifted
+	 * {@code BiFunction} returning an {@code Optional<Boolean>}, empty in case
+	 * of error.
+	 *
+	 * @param predicate
+	 *            to be lifted
+	 * @param <T>
+	 *            the type of the first argument to the predicate
+	 * @param <U>
+	 *            the type of the second argument the predicate
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the lifted predicate
+	 * @throws NullPointerException
+	 *             if predicate is null
+	 * @see #liftOptional()
+	 * @since 3.1.0
+	 */
+	static <T, U, E extends Exception> BiFunction<T, U, Optional<Boolean>> liftedOptional(
+			BiPredicateWithException<T, U, E> predicate) {
+		return verifyPredicate(predicate).liftOptional();
+	}
+
 	/**
 	 * Converts a {@code BiPredicateWithException} to a lifted {@code BiPredicate}
 	 * returning {@code false} in case of exception.
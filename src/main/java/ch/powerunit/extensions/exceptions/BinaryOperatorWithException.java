@@ -66,19 +66,34 @@ public interface BinaryOperatorWithException<T, E extends Exception> extends BiF
 	 */
 	@Override
 	default BinaryOperator<T> uncheck() {
-		return (t, u) -> ObjectReturnExceptionHandlerSupport.unchecked(() -> apply(t, u), throwingHandler());
+		Function<Exception, RuntimeException> exceptionMapper = exceptionMapper();
+		return (t, u) -> {
+			try {
+				return apply(t, u);
+			} catch (Exception e) {
+				throw ExceptionEvents.wrapped(this, exceptionMapper, e);
+			}
+		};
 	}
 
 	/**
 	 * Converts this {@code BinaryOperatorWithException} to a lifted
-	 * {@code BinaryOperator} returning {@code null} in case of exception.
+	 * {@code BinaryOperator} returning {@code null} (or the value redefined by the
+	 * method {@link #defaultValue()}) in case of exception.
 	 *
 	 * @return the function that ignore error
 	 * @see #ignored(BinaryOperatorWithException)
 	 */
 	@Override
 	default BinaryOperator<T> ignore() {
-		return (t, u) -> ObjectReturnExceptionHandlerSupport.unchecked(() -> apply(t, u), e -> null);
+		return (t, u) -> {
+			try {
+				return apply(t, u);
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return defaultValue();
+			}
+		};
 	}
 
 	@Override
@@ -19,9 +19,11 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import static ch.powerunit.extensions.exceptions.Constants.optionalOf;
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
 import static ch.powerunit.extensions.exceptions.Constants.verifySupplier;
 
+import java.util.Optional;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -63,12 +65,36 @@ public interface BooleanSupplierWithException<E extends Exception> extends
 			try {
 				return getAsBoolean();
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
 	}
 
+	/**
+	 * Converts this {@code BooleanSupplierWithException} to a <i>lifted</i>
+	 * {@code Supplier} returning an {@code Optional<Boolean>}, empty in case of
+	 * error.
+	 * <p>
+	 * Unlike {@link #lift()}, a failure can be distinguished from a result
+	 * equal to the default value. The non-empty results are shared instances,
+	 * so that no allocation is done.
+	 *
+	 * @return the lifted predicate
+	 * @see #liftedOptional(BooleanSupplierWithException)
+	 * @since 3.1.0
+	 */
+	default Supplier<Optional<Boolean>> liftOptional() {
+		return () -> {
+			try {
+				return optionalOf(getAsBoolean());
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return Optional.empty();
+			}
+		};
+	}
+
 	/**
 	 * Returns a supplier that always throw exception.
 	 *
@@ -155,6 +181,25 @@ public interface BooleanSupplierWithException<E extends Exception> extends
 		return verifySupplier(supplier).lift();
 	}
 
+	/**
+	 * Converts a {@code BooleanSupplierWithException} to a lifted
+	 * {@code Supplier} returning an {@code Optional<Boolean>}, empty in case of
+	 * error.
+	 *
+	 * @param supplier
+	 *            to be lifted
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the lifted supplier
+	 * @throws NullPointerException
+	 *             if supplier is null
+	 * @see #liftOptional()
+	 * @since 3.1.0
+	 */
+	static <E extends Exception> Supplier<Optional<Boolean>> liftedOptional(BooleanSupplierWithException<E> supplier) {
+		return verifySupplier(supplier).liftOptional();
+	}
+
 	/**
 	 * Converts a {@code BooleanSupplierWithException} to a lifted
 	 * {@code BooleanSupplier} returning {@code null} in case of exception.
@@ -0,0 +1,261 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import static ch.powerunit.extensions.exceptions.Constants.toNanos;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bulkhead, to limit the number of concurrent calls of an operation.
+ * <p>
+ * A call first tries to take a permit without blocking. When no permit is
+ * available, the call waits at most the maximal wait for a permit, if less
+ * than the maximal number of calls are already waiting ; otherwise the call
+ * is rejected with a preallocated {@link RejectedException}. This exception
+ * goes through the exception mapper of the operation, and {@code ignore()}
+ * returns the default value in this case.
+ * <p>
+ * The limits can be changed at runtime, without creating new adapters. The
+ * bulkhead can be shared by several operations. It is used with
+ * {@link FunctionWithException#bulkhead(Bulkhead)} and
+ * {@link SupplierWithException#bulkhead(Bulkhead)}.
+ *
+ * @since 3.1.0
+ */
+public final class Bulkhead {
+
+	/**
+	 * Exception thrown when a call is rejected by a bulkhead.
+	 * <p>
+	 * This exception is preallocated and has no stack trace.
+	 */
+	public static final class RejectedException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		private RejectedException() {
+			super("Bulkhead is full", null, false, false);
+		}
+	}
+
+	private static final class Permits extends Semaphore {
+
+		private static final long serialVersionUID = 1L;
+
+		Permits(int permits) {
+			super(permits);
+		}
+
+		void reduce(int reduction) {
+			reducePermits(reduction);
+		}
+	}
+
+	private final RejectedException rejectedException = new RejectedException();
+
+	private final Permits permits;
+
+	private final AtomicInteger waiting = new AtomicInteger();
+
+	private volatile int maxConcurrent;
+
+	private volatile int maxWaiting;
+
+	private volatile long maxWaitNanos;
+
+	private Bulkhead(int maxConcurrent, int maxWaiting, long maxWaitNanos) {
+		this.permits = new Permits(maxConcurrent);
+		this.maxConcurrent = maxConcurrent;
+		this.maxWaiting = maxWaiting;
+		this.maxWaitNanos = maxWaitNanos;
+	}
+
+	/**
+	 * Creates a bulkhead that rejects the calls immediately when the maximal
+	 * number of concurrent calls is reached.
+	 *
+	 * @param maxConcurrent
+	 *            the maximal number of concurrent calls
+	 * @return the bulkhead
+	 * @throws IllegalArgumentException
+	 *             if maxConcurrent is not positive
+	 */
+	public static Bulkhead of(int maxConcurrent) {
+		return new Bulkhead(verifyMaxConcurrent(maxConcurrent), 0, 0);
+	}
+
+	/**
+	 * Creates a bulkhead that lets a bounded number of calls wait for a permit
+	 * when the maximal number of concurrent calls is reached.
+	 *
+	 * @param maxConcurrent
+	 *            the maximal number of concurrent calls
+	 * @param maxWaiting
+	 *            the maximal number of calls waiting for a permit
+	 * @param maxWait
+	 *            the maximal duration of the wait for a permit
+	 * @return the bulkhead
+	 * @throws NullPointerException
+	 *             if maxWait is null
+	 * @throws IllegalArgumentException
+	 *             if maxConcurrent is not positive, maxWaiting is negative or
+	 *             maxWait is negative
+	 */
+	public static Bulkhead of(int maxConcurrent, int maxWaiting, Duration maxWait) {
+		return new Bulkhead(verifyMaxConcurrent(maxConcurrent), verifyMaxWaiting(maxWaiting),
+				toNanos(maxWait, "maxWait"));
+	}
+
+	/**
+	 * Changes the maximal number of concurrent calls.
+	 * <p>
+	 * When the limit is reduced, the calls in progress are not interrupted ;
+	 * the new calls are rejected until enough calls are finished.
+	 *
+	 * @param maxConcurrent
+	 *            the new maximal number of concurrent calls
+	 * @return this bulkhead
+	 * @throws IllegalArgumentException
+	 *             if maxConcurrent is not positive
+	 */
+	public synchronized Bulkhead setMaxConcurrent(int maxConcurrent) {
+		int delta = verifyMaxConcurrent(maxConcurrent) - this.maxConcurrent;
+		if (delta > 0) {
+			permits.release(delta);
+		} else if (delta < 0) {
+			permits.reduce(-delta);
+		}
+		this.maxConcurrent = maxConcurrent;
+		return this;
+	}
+
+	/**
+	 * Changes the maximal number of calls waiting for a permit.
+	 *
+	 * @param maxWaiting
+	 *            the new maximal number of waiting calls
+	 * @return this bulkhead
+	 * @throws IllegalArgumentException
+	 *             if maxWaiting is negative
+	 */
+	public Bulkhead setMaxWaiting(int maxWaiting) {
+		this.maxWaiting = verifyMaxWaiting(maxWaiting);
+		return this;
+	}
+
+	/**
+	 * Changes the maximal duration of the wait for a permit.
+	 *
+	 * @param maxWait
+	 *            the new maximal duration of the wait
+	 * @return this bulkhead
+	 * @throws NullPointerException
+	 *             if maxWait is null
+	 * @throws IllegalArgumentException
+	 *             if maxWait is negative
+	 */
+	public Bulkhead setMaxWait(Duration maxWait) {
+		this.maxWaitNanos = toNanos(maxWait, "maxWait");
+		return this;
+	}
+
+	/**
+	 * Returns the maximal number of concurrent calls.
+	 *
+	 * @return the maximal number of concurrent calls
+	 */
+	public int getMaxConcurrent() {
+		return maxConcurrent;
+	}
+
+	/**
+	 * Returns the number of calls that can start immediately.
+	 *
+	 * @return the number of available permits, negative after a reduction of the
+	 *         limit while more calls are in progress
+	 */
+	public int getAvailable() {
+		return permits.availablePermits();
+	}
+
+	/**
+	 * Returns the number of calls waiting for a permit.
+	 *
+	 * @return the number of waiting calls
+	 */
+	public int getWaiting() {
+		return waiting.get();
+	}
+
+	<T, E extends Exception> T execute(SupplierWithException<T, E> operation) throws E {
+		if (!permits.tryAcquire() && !await()) {
+			throw rejectedException;
+		}
+		try {
+			return operation.get();
+		} finally {
+			permits.release();
+		}
+	}
+
+	private boolean await() {
+		long nanos = maxWaitNanos;
+		if (nanos == 0) {
+			return false;
+		}
+		if (waiting.incrementAndGet() > maxWaiting) {
+			waiting.decrementAndGet();
+			return false;
+		}
+		try {
+			return permits.tryAcquire(nanos, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		} finally {
+			waiting.decrementAndGet();
+		}
+	}
+
+	private static int verifyMaxConcurrent(int maxConcurrent) {
+		if (maxConcurrent <= 0) {
+			throw new IllegalArgumentException("maxConcurrent must be positive");
+		}
+		return maxConcurrent;
+	}
+
+	private static int verifyMaxWaiting(int maxWaiting) {
+		if (maxWaiting < 0) {
+			throw new IllegalArgumentException("maxWaiting can't be negative");
+		}
+		return maxWaiting;
+	}
+
+	@Override
+	public String toString() {
+		return "Bulkhead[maxConcurrent=" + maxConcurrent + ", available=" + getAvailable() + ", waiting="
+				+ getWaiting() + "]";
+	}
+
+}
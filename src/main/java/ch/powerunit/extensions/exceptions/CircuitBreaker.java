@@ -0,0 +1,340 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Circuit breaker, to stop calling an operation that keeps failing.
+ * <p>
+ * The breaker records the outcome of the last {@code windowSize} calls. When
+ * the window is full and the rate of failures reaches the threshold, the
+ * breaker is <i>opened</i> : the calls fail immediately with a preallocated
+ * {@link OpenException}, without calling the operation. After the open
+ * duration, the breaker is <i>half-opened</i> and lets one call through. If
+ * this call succeeds, the breaker is closed again ; otherwise it is opened for
+ * a new period.
+ * <p>
+ * Only the exceptions that are instance of one of the recorded classes (by
+ * default all exceptions) count as failures ; other exceptions are recorded
+ * as success. An {@code Error} always counts as a failure.
+ * <p>
+ * The breaker is lock-free and can be shared by several operations. It is
+ * used with {@link FunctionWithException#circuitBreaker(CircuitBreaker)} and
+ * {@link SupplierWithException#circuitBreaker(CircuitBreaker)}.
+ *
+ * @since 3.1.0
+ */
+public final class CircuitBreaker {
+
+	/**
+	 * The states of a circuit breaker.
+	 */
+	public enum State {
+		/**
+		 * The calls are done and their outcome recorded.
+		 */
+		CLOSED,
+		/**
+		 * The calls fail immediately.
+		 */
+		OPEN,
+		/**
+		 * One trial call is done, the other calls fail immediately.
+		 */
+		HALF_OPEN
+	}
+
+	/**
+	 * Listener of the state transitions of a circuit breaker.
+	 */
+	@FunctionalInterface
+	public interface TransitionListener {
+		/**
+		 * Called after each transition.
+		 *
+		 * @param from
+		 *            the previous state
+		 * @param to
+		 *            the new state
+		 */
+		void onTransition(State from, State to);
+	}
+
+	/**
+	 * Exception thrown when a call is rejected by an open circuit breaker.
+	 * <p>
+	 * This exception is preallocated and has no stack trace.
+	 */
+	public static final class OpenException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		private OpenException() {
+			super("Circuit breaker is open", null, false, false);
+		}
+	}
+
+	private static final int NONE = 0;
+
+	private static final int SUCCESS = 1;
+
+	private static final int FAILURE = 2;
+
+	private final int windowSize;
+
+	private final double failureRateThreshold;
+
+	private final long openDurationNanos;
+
+	private final Class<?>[] recordOn;
+
+	private final AtomicIntegerArray outcomes;
+
+	private final AtomicInteger position = new AtomicInteger();
+
+	private final AtomicInteger calls = new AtomicInteger();
+
+	private final AtomicInteger failures = new AtomicInteger();
+
+	private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+
+	private volatile long openedAt;
+
+	private final OpenException openException = new OpenException();
+
+	private final List<TransitionListener> listeners = new CopyOnWriteArrayList<>();
+
+	private CircuitBreaker(int windowSize, double failureRateThreshold, long openDurationNanos,
+			Class<?>[] recordOn) {
+		this.windowSize = windowSize;
+		this.failureRateThreshold = failureRateThreshold;
+		this.openDurationNanos = openDurationNanos;
+		this.recordOn = recordOn;
+		this.outcomes = new AtomicIntegerArray(windowSize);
+	}
+
+	/**
+	 * Creates a circuit breaker.
+	 *
+	 * @param windowSize
+	 *            the number of calls used to compute the failure rate.
+	 * @param failureRateThreshold
+	 *            the failure rate (between 0 excluded and 1 included) that opens
+	 *            the breaker.
+	 * @param openDuration
+	 *            the duration during which the breaker stays open.
+	 * @param recordOn
+	 *            the classes of the exceptions that are failures. When none is
+	 *            provided, all exceptions are failures.
+	 * @return the circuit breaker
+	 * @throws IllegalArgumentException
+	 *             if windowSize or openDuration is not positive, or if
+	 *             failureRateThreshold is not between 0 and 1.
+	 * @throws NullPointerException
+	 *             if openDuration or recordOn is null
+	 */
+	@SafeVarargs
+	public static CircuitBreaker of(int windowSize, double failureRateThreshold, Duration openDuration,
+			Class<? extends Exception>... recordOn) {
+		if (windowSize <= 0) {
+			throw new IllegalArgumentException("windowSize must be positive");
+		}
+		if (!(failureRateThreshold > 0 && failureRateThreshold <= 1)) {
+			throw new IllegalArgumentException("failureRateThreshold must be between 0 and 1");
+		}
+		requireNonNull(openDuration, "openDuration can't be null");
+		if (openDuration.isNegative() || openDuration.isZero()) {
+			throw new IllegalArgumentException("openDuration must be positive");
+		}
+		requireNonNull(recordOn, "recordOn can't be null");
+		Class<?>[] classes = recordOn.length == 0 ? new Class<?>[] { Exception.class }
+				: new Class<?>[recordOn.length];
+		for (int i = 0; i < recordOn.length; i++) {
+			classes[i] = recordOn[i];
+		}
+		return new CircuitBreaker(windowSize, failureRateThreshold, openDuration.toNanos(), classes);
+	}
+
+	/**
+	 * Registers a listener of the state transitions.
+	 *
+	 * @param listener
+	 *            the listener
+	 * @return this circuit breaker
+	 * @throws NullPointerException
+	 *             if listener is null
+	 */
+	public CircuitBreaker addListener(TransitionListener listener) {
+		listeners.add(requireNonNull(listener, "listener can't be null"));
+		return this;
+	}
+
+	/**
+	 * Returns the current state.
+	 *
+	 * @return the state
+	 */
+	public State getState() {
+		return state.get();
+	}
+
+	/**
+	 * Returns the failure rate of the calls in the window.
+	 *
+	 * @return the failure rate, 0 when no call was recorded.
+	 */
+	public double getFailureRate() {
+		int recorded = calls.get();
+		return recorded == 0 ? 0 : (double) failures.get() / recorded;
+	}
+
+	/**
+	 * Executes the operation, if allowed by this breaker, and records its
+	 * outcome.
+	 */
+	<T, E extends Exception> T execute(SupplierWithException<T, E> operation) throws E {
+		boolean trial = acquire();
+		try {
+			T result = operation.get();
+			onSuccess(trial);
+			return result;
+		} catch (Exception e) {
+			if (isFailure(e)) {
+				onFailure(trial);
+			} else {
+				onSuccess(trial);
+			}
+			throw e;
+		} catch (Throwable t) {
+			onFailure(trial);
+			throw t;
+		}
+	}
+
+	/**
+	 * Checks that the call is allowed.
+	 *
+	 * @return true if this call is the trial call of an half-opened breaker.
+	 */
+	private boolean acquire() {
+		State current = state.get();
+		if (current == State.CLOSED) {
+			return false;
+		}
+		if (current == State.OPEN && System.nanoTime() - openedAt >= openDurationNanos
+				&& transition(State.OPEN, State.HALF_OPEN)) {
+			return true;
+		}
+		throw openException;
+	}
+
+	private void onSuccess(boolean trial) {
+		if (trial) {
+			reset();
+			transition(State.HALF_OPEN, State.CLOSED);
+		} else {
+			record(SUCCESS);
+		}
+	}
+
+	private void onFailure(boolean trial) {
+		if (trial) {
+			openedAt = System.nanoTime();
+			transition(State.HALF_OPEN, State.OPEN);
+		} else if (record(FAILURE) && state.get() == State.CLOSED) {
+			// a call started before the breaker opened must not extend the open period
+			openedAt = System.nanoTime();
+			transition(State.CLOSED, State.OPEN);
+		}
+	}
+
+	/**
+	 * Records an outcome in the window.
+	 *
+	 * @return true if the failure rate threshold is reached.
+	 */
+	private boolean record(int outcome) {
+		int index = Math.floorMod(position.getAndIncrement(), windowSize);
+		int previous = outcomes.getAndSet(index, outcome);
+		if (previous == NONE) {
+			calls.incrementAndGet();
+		} else if (previous == FAILURE) {
+			failures.decrementAndGet();
+		}
+		if (outcome != FAILURE) {
+			return false;
+		}
+		int failed = failures.incrementAndGet();
+		return calls.get() >= windowSize && failed >= failureRateThreshold * windowSize;
+	}
+
+	private void reset() {
+		for (int i = 0; i < windowSize; i++) {
+			int previous = outcomes.getAndSet(i, NONE);
+			if (previous != NONE) {
+				calls.decrementAndGet();
+			}
+			if (previous == FAILURE) {
+				failures.decrementAndGet();
+			}
+		}
+	}
+
+	private boolean isFailure(Exception e) {
+		for (Class<?> c : recordOn) {
+			if (c.isInstance(e)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean transition(State from, State to) {
+		if (!state.compareAndSet(from, to)) {
+			return false;
+		}
+		listeners.forEach(l -> l.onTransition(from, to));
+		return true;
+	}
+
+	/**
+	 * Returns the exception mapper to be used by the protected operations : the
+	 * preallocated exception is returned as is, other exceptions are mapped by
+	 * the received mapper.
+	 */
+	Function<Exception, RuntimeException> exceptionMapper(Function<Exception, RuntimeException> mapper) {
+		return e -> e == openException ? openException : mapper.apply(e);
+	}
+
+	@Override
+	public String toString() {
+		return "CircuitBreaker[state=" + state.get() + ", failureRate=" + getFailureRate() + "]";
+	}
+
+}
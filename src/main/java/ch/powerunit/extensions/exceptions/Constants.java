@@ -25,9 +25,17 @@ import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.ServiceLoader.Provider;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.xml.transform.TransformerException;
 
@@ -37,18 +45,46 @@ import javax.xml.transform.TransformerException;
  */
 final class Constants {
 
-	public static final ExceptionMapper SQL_EXCEPTION_MAPPER = ignored(Constants::buildSQLExceptionMapper).get();
+	public static final String STACKLESS_PROPERTY = "powerunit.exceptions.stackless";
 
-	public static final ExceptionMapper JAXBEXCEPTION_EXCEPTION_MAPPER = ignored(Constants::buildJAXBExceptionMapper)
-			.get();
+	public static final boolean WRITABLE_STACK_TRACE = !Boolean.getBoolean(STACKLESS_PROPERTY);
 
-	public static final ExceptionMapper SAXEXCEPTION_EXCEPTION_MAPPER = ignored(Constants::buildSAXExceptionMapper)
-			.get();
+	// the mappers are only discovered on the first exception, not when the first operation is created
+	public static final Function<Exception, RuntimeException> MAPPERS = e -> MappersHolder.MAPPERS.apply(e);
 
-	public static final ExceptionMapper TRANSFORMEREXCEPTION_EXCEPTION_MAPPER = ignored(
-			Constants::buildTransformerExceptionMapper).get();
+	// the fallback of the mappers, a single instance to be recognized by the events
+	public static final Function<Exception, RuntimeException> WRAPPER = Constants::wrap;
 
-	public static final Function<Exception, RuntimeException> MAPPERS = computeDefaultMapper();
+	public static final Optional<Boolean> OPTIONAL_TRUE = Optional.of(Boolean.TRUE);
+
+	public static final Optional<Boolean> OPTIONAL_FALSE = Optional.of(Boolean.FALSE);
+
+	// shared by the unboxed staged operations : a minimal stage can't be completed by its users
+	public static final CompletionStage<Void> COMPLETED_STAGE = CompletableFuture.completedStage(null);
+
+	public static Function<Exception, RuntimeException> defaultMapper() {
+		return MappersHolder.MAPPERS;
+	}
+
+	public static ExceptionMapper sqlExceptionMapper() {
+		return SqlExceptionMapperHolder.MAPPER;
+	}
+
+	public static ExceptionMapper jaxbExceptionMapper() {
+		return JaxbExceptionMapperHolder.MAPPER;
+	}
+
+	public static ExceptionMapper saxExceptionMapper() {
+		return SaxExceptionMapperHolder.MAPPER;
+	}
+
+	public static ExceptionMapper transformerExceptionMapper() {
+		return TransformerExceptionMapperHolder.MAPPER;
+	}
+
+	public static Optional<Boolean> optionalOf(boolean value) {
+		return value ? OPTIONAL_TRUE : OPTIONAL_FALSE;
+	}
 
 	public static <T> T verifyOperation(T obj) {
 		return requireNonNull(obj, "operation can't be null");
@@ -74,29 +110,99 @@ final class Constants {
 		return requireNonNull(obj, "exceptionMapper can't be null");
 	}
 
+	public static Executor verifyExecutor(Executor executor) {
+		return requireNonNull(executor, "executor can't be null");
+	}
+
+	public static RateLimiter verifyRateLimiter(RateLimiter limiter) {
+		return requireNonNull(limiter, "limiter can't be null");
+	}
+
+	public static RetryPolicy verifyRetryPolicy(RetryPolicy policy) {
+		return requireNonNull(policy, "policy can't be null");
+	}
+
+	public static <T> T verifyScheduler(T scheduler) {
+		return requireNonNull(scheduler, "scheduler can't be null");
+	}
+
+	public static Bulkhead verifyBulkhead(Bulkhead bulkhead) {
+		return requireNonNull(bulkhead, "bulkhead can't be null");
+	}
+
+	public static CircuitBreaker verifyCircuitBreaker(CircuitBreaker breaker) {
+		return requireNonNull(breaker, "breaker can't be null");
+	}
+
+	public static HedgePolicy verifyHedgePolicy(HedgePolicy policy) {
+		return requireNonNull(policy, "policy can't be null");
+	}
+
+	public static OperationMetrics verifyMetrics(OperationMetrics metrics) {
+		return requireNonNull(metrics, "metrics can't be null");
+	}
+
+	public static Duration verifyTimeout(Duration timeout) {
+		requireNonNull(timeout, "timeout can't be null");
+		if (timeout.isNegative() || timeout.isZero()) {
+			throw new IllegalArgumentException("timeout must be positive");
+		}
+		return timeout;
+	}
+
+	// saturating conversion : a duration too long for a long number of nanoseconds is the maximal wait
+	public static long toNanos(Duration duration, String name) {
+		requireNonNull(duration, name + " can't be null");
+		if (duration.isNegative()) {
+			throw new IllegalArgumentException(name + " can't be negative");
+		}
+		try {
+			return duration.toNanos();
+		} catch (ArithmeticException e) {
+			return Long.MAX_VALUE;
+		}
+	}
+
+	public static Executor defaultExecutor() {
+		return DefaultExecutorHolder.EXECUTOR;
+	}
+
+	public static RuntimeException wrap(Exception e) {
+		return new WrappedException(e, WRITABLE_STACK_TRACE);
+	}
+
+	public static RuntimeException wrap(String message, Exception e) {
+		return new WrappedException(message, e, WRITABLE_STACK_TRACE);
+	}
+
+	// the message is only formatted when it is read
+	public static RuntimeException wrap(Supplier<String> message, Exception e) {
+		return new WrappedException(message, e, WRITABLE_STACK_TRACE);
+	}
+
 	@SuppressWarnings("unchecked")
 	private static ExceptionMapper buildSQLExceptionMapper() throws ClassNotFoundException {
 		return forException((Class<Exception>) Class.forName("java.sql.SQLException"),
-				e -> new WrappedException(String.format("%s - ErrorCode=%s ; SQLState=%s", e.getMessage(),
+				e -> wrap(() -> String.format("%s - ErrorCode=%s ; SQLState=%s", e.getMessage(),
 						((SQLException) e).getErrorCode(), ((SQLException) e).getSQLState()), e));
 	}
 
 	@SuppressWarnings("unchecked")
 	private static ExceptionMapper buildJAXBExceptionMapper() throws ClassNotFoundException {
 		return forException((Class<Exception>) Class.forName("javax.xml.bind.JAXBException"),
-				e -> new WrappedException(String.format("%s", e.toString()), e));
+				e -> wrap(e::toString, e));
 	}
 
 	@SuppressWarnings("unchecked")
 	private static ExceptionMapper buildSAXExceptionMapper() throws ClassNotFoundException {
 		return forException((Class<Exception>) Class.forName("org.xml.sax.SAXException"),
-				e -> new WrappedException(String.format("%s", e.toString()), e));
+				e -> wrap(e::toString, e));
 	}
 
 	@SuppressWarnings("unchecked")
 	private static ExceptionMapper buildTransformerExceptionMapper() throws ClassNotFoundException {
 		return forException((Class<Exception>) Class.forName("javax.xml.transform.TransformerException"),
-				e -> new WrappedException(String.format("%s", ((TransformerException) e).getMessageAndLocation()), e));
+				e -> wrap(((TransformerException) e)::getMessageAndLocation, e));
 	}
 
 	private static Function<Exception, RuntimeException> computeDefaultMapper() {
@@ -107,4 +213,64 @@ final class Constants {
 	private Constants() {
 	}
 
+	private static final class MappersHolder {
+
+		private static final Function<Exception, RuntimeException> MAPPERS = computeDefaultMapper();
+
+		private MappersHolder() {
+		}
+	}
+
+	private static final class SqlExceptionMapperHolder {
+
+		private static final ExceptionMapper MAPPER = ignored(Constants::buildSQLExceptionMapper).get();
+
+		private SqlExceptionMapperHolder() {
+		}
+	}
+
+	private static final class JaxbExceptionMapperHolder {
+
+		private static final ExceptionMapper MAPPER = ignored(Constants::buildJAXBExceptionMapper).get();
+
+		private JaxbExceptionMapperHolder() {
+		}
+	}
+
+	private static final class SaxExceptionMapperHolder {
+
+		private static final ExceptionMapper MAPPER = ignored(Constants::buildSAXExceptionMapper).get();
+
+		private SaxExceptionMapperHolder() {
+		}
+	}
+
+	private static final class TransformerExceptionMapperHolder {
+
+		private static final ExceptionMapper MAPPER = ignored(Constants::buildTransformerExceptionMapper).get();
+
+		private TransformerExceptionMapperHolder() {
+		}
+	}
+
+	private static final class DefaultExecutorHolder {
+
+		private static final Executor EXECUTOR = computeDefaultExecutor();
+
+		private static Executor computeDefaultExecutor() {
+			try {
+				return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				return Executors.newCachedThreadPool(r -> {
+					Thread thread = new Thread(r, "powerunit-exceptions-async");
+					thread.setDaemon(true);
+					return thread;
+				});
+			}
+		}
+
+		private DefaultExecutorHolder() {
+		}
+	}
+
 }
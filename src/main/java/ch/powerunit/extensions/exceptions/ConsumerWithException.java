@@ -21,9 +21,18 @@ package ch.powerunit.extensions.exceptions;
 
 import static ch.powerunit.extensions.exceptions.Constants.verifyConsumer;
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
+import static ch.powerunit.extensions.exceptions.Constants.verifyExecutor;
+import static ch.powerunit.extensions.exceptions.Constants.verifyMetrics;
+import static ch.powerunit.extensions.exceptions.Constants.verifyRateLimiter;
+import static ch.powerunit.extensions.exceptions.Constants.verifyRetryPolicy;
+import static ch.powerunit.extensions.exceptions.Constants.verifyScheduler;
 import static java.util.Objects.requireNonNull;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -101,6 +110,219 @@ public interface ConsumerWithException<T, E extends Exception> extends
 		return t -> NoReturnExceptionHandlerSupport.staged(() -> accept(t));
 	}
 
+	/**
+	 * Converts this {@code ConsumerWithException} to a <i>staged</i>
+	 * {@code Function} that return a {@code CompletionStage}, the operation
+	 * being executed asynchronously by the provided executor.
+	 *
+	 * @param executor
+	 *            the executor to be used to run the operation.
+	 * @return the staged operation.
+	 * @throws NullPointerException
+	 *             if executor is null
+	 * @since 3.1.0
+	 * @see #stage()
+	 */
+	@Override
+	default Function<T, CompletionStage<Void>> stageAsync(Executor executor) {
+		verifyExecutor(executor);
+		return t -> NoReturnExceptionHandlerSupport.stagedAsync(() -> accept(t), executor);
+	}
+
+	/**
+	 * Returns a {@code ConsumerWithException} that retries this operation
+	 * according to the received policy.
+	 * <p>
+	 * The calling thread waits between the attempts. When all the attempts fail,
+	 * the last exception is thrown.
+	 *
+	 * @param policy
+	 *            the retry policy
+	 * @return the retrying operation
+	 * @throws NullPointerException
+	 *             if policy is null
+	 * @since 3.1.0
+	 * @see RetryPolicy
+	 */
+	default ConsumerWithException<T, E> retry(RetryPolicy policy) {
+		verifyRetryPolicy(policy);
+		return new ConsumerWithException<T, E>() {
+
+			@Override
+			public void accept(T t) throws E {
+				policy.execute(() -> {
+					ConsumerWithException.this.accept(t);
+					return null;
+				});
+			}
+
+			@Override
+			public Function<Exception, RuntimeException> exceptionMapper() {
+				return ConsumerWithException.this.exceptionMapper();
+			}
+
+		};
+	}
+
+	/**
+	 * Converts this {@code ConsumerWithException} to a <i>staged</i>
+	 * {@code Function} that retries this operation according to the received
+	 * policy.
+	 * <p>
+	 * Each attempt is scheduled on the received executor, so that no thread waits
+	 * between the attempts. When all the attempts fail, the returned
+	 * {@code CompletionStage} is completed with the last exception.
+	 *
+	 * @param policy
+	 *            the retry policy
+	 * @param scheduler
+	 *            the executor used to run the attempts
+	 * @return the retrying operation
+	 * @throws NullPointerException
+	 *             if policy or scheduler is null
+	 * @since 3.1.0
+	 * @see RetryPolicy
+	 */
+	default Function<T, CompletionStage<Void>> retryAsync(RetryPolicy policy, ScheduledExecutorService scheduler) {
+		verifyRetryPolicy(policy);
+		verifyScheduler(scheduler);
+		return t -> policy.executeAsync(() -> {
+			accept(t);
+			return null;
+		}, scheduler);
+	}
+
+	/**
+	 * Returns a {@code ConsumerWithException} that records its invocations in the
+	 * received metrics.
+	 * <p>
+	 * The invocations, the failures and, when enabled, the latency are
+	 * recorded. The failures of the {@code ignore()} or {@code lift()} versions
+	 * of the returned operation are also counted as swallowed. When the metrics
+	 * are {@link OperationMetrics#disabled() disabled}, this operation is
+	 * returned unchanged.
+	 *
+	 * @param metrics
+	 *            the metrics
+	 * @return the instrumented operation
+	 * @throws NullPointerException
+	 *             if metrics is null
+	 * @since 3.1.0
+	 * @see OperationMetrics
+	 */
+	default ConsumerWithException<T, E> instrument(OperationMetrics metrics) {
+		verifyMetrics(metrics);
+		if (!metrics.isEnabled()) {
+			return this;
+		}
+		return new ConsumerWithException<T, E>() {
+
+			@Override
+			public void accept(T t) throws E {
+				metrics.record(() -> {
+					ConsumerWithException.this.accept(t);
+					return null;
+				}, false);
+			}
+
+			@Override
+			public Consumer<T> ignore() {
+				return t -> {
+					try {
+						metrics.record(() -> {
+							ConsumerWithException.this.accept(t);
+							return null;
+						}, true);
+					} catch (Exception e) {
+						// swallowed, but counted
+						ExceptionEvents.ignored(this, e);
+					}
+				};
+			}
+
+			@Override
+			public Function<Exception, RuntimeException> exceptionMapper() {
+				return ConsumerWithException.this.exceptionMapper();
+			}
+
+		};
+	}
+
+	/**
+	 * Returns a {@code ConsumerWithException} that is limited by the received
+	 * rate limiter.
+	 * <p>
+	 * Each call takes a token of the rate limiter, waiting for it if needed.
+	 * When the token can't be obtained within the maximal wait of the rate
+	 * limiter, the call fails with the preallocated
+	 * {@link RateLimiter.RejectedException}, that is mapped by the
+	 * {@link #exceptionMapper()} in {@link #uncheck()} mode. The throttling
+	 * exceptions thrown by this operation lower the rate of the rate limiter.
+	 *
+	 * @param limiter
+	 *            the rate limiter
+	 * @return the rate limited operation
+	 * @throws NullPointerException
+	 *             if limiter is null
+	 * @since 3.1.0
+	 * @see RateLimiter
+	 */
+	default ConsumerWithException<T, E> rateLimit(RateLimiter limiter) {
+		verifyRateLimiter(limiter);
+		return new ConsumerWithException<T, E>() {
+
+			@Override
+			public void accept(T t) throws E {
+				limiter.execute(() -> {
+					ConsumerWithException.this.accept(t);
+					return null;
+				});
+			}
+
+			@Override
+			public Function<Exception, RuntimeException> exceptionMapper() {
+				return ConsumerWithException.this.exceptionMapper();
+			}
+
+		};
+	}
+
+	/**
+	 * Accepts all the elements of a list, in one loop.
+	 * <p>
+	 * The failure of one element doesn't stop the batch : the exception is
+	 * recorded in the result, with the index of the element.
+	 *
+	 * @param elements
+	 *            the elements
+	 * @return the result of the batch
+	 * @throws NullPointerException
+	 *             if elements is null
+	 * @since 3.1.0
+	 * @see BatchResult
+	 */
+	default BatchResult<Void> acceptAll(List<? extends T> elements) {
+		return BatchResult.acceptAll(this, requireNonNull(elements, "elements can't be null"));
+	}
+
+	/**
+	 * Accepts all the elements of an array, in one loop.
+	 * <p>
+	 * The failure of one element doesn't stop the batch : the exception is
+	 * recorded in the result, with the index of the element.
+	 *
+	 * @param elements
+	 *            the elements
+	 * @return the result of the batch
+	 * @throws NullPointerException
+	 *             if elements is null
+	 * @since 3.1.0
+	 * @see BatchResult
+	 */
+	default BatchResult<Void> acceptAll(T[] elements) {
+		return acceptAll(Arrays.asList(requireNonNull(elements, "elements can't be null")));
+	}
+
 	/**
 	 * Returns a composed {@code ConsumerWithException} that performs, in sequence,
 	 * this operation followed by the {@code after} operation. If performing either
@@ -287,6 +509,145 @@ public interface ConsumerWithException<T, E extends Exception> extends
 		return verifyConsumer(consumer).stage();
 	}
 
+	/**
+	 * Converts a {@code ConsumerWithException} to a staged {@code Function},
+	 * the operation being executed asynchronously by the provided executor.
+	 *
+	 * @param consumer
+	 *            to be staged
+	 * @param executor
+	 *            the executor to be used to run the operation
+	 * @param <T>
+	 *            the type of the input to the operation
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the staged operation
+	 * @throws NullPointerException
+	 *             if consumer or executor is null
+	 * @since 3.1.0
+	 * @see #stageAsync(Executor)
+	 */
+	static <T, E extends Exception> Function<T, CompletionStage<Void>> stagedAsync(
+			ConsumerWithException<T, E> consumer, Executor executor) {
+		return verifyConsumer(consumer).stageAsync(executor);
+	}
+
+	/**
+	 * Converts a {@code ConsumerWithException} to a staged {@code Function},
+	 * the operation being executed asynchronously by the default executor.
+	 *
+	 * @param consumer
+	 *            to be staged
+	 * @param <T>
+	 *            the type of the input to the operation
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the staged operation
+	 * @throws NullPointerException
+	 *             if consumer is null
+	 * @since 3.1.0
+	 * @see #stageAsync()
+	 */
+	static <T, E extends Exception> Function<T, CompletionStage<Void>> stagedAsync(
+			ConsumerWithException<T, E> consumer) {
+		return verifyConsumer(consumer).stageAsync();
+	}
+
+	/**
+	 * Converts a {@code ConsumerWithException} to one that retries according to
+	 * the received policy.
+	 *
+	 * @param consumer
+	 *            to be retried
+	 * @param policy
+	 *            the retry policy
+	 * @param <T>
+	 *            the type of the input to the operation
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the retrying operation
+	 * @throws NullPointerException
+	 *             if consumer or policy is null
+	 * @since 3.1.0
+	 * @see #retry(RetryPolicy)
+	 */
+	static <T, E extends Exception> ConsumerWithException<T, E> retried(
+			ConsumerWithException<T, E> consumer, RetryPolicy policy) {
+		return verifyConsumer(consumer).retry(policy);
+	}
+
+	/**
+	 * Converts a {@code ConsumerWithException} to a staged {@code Function}
+	 * that retries according to the received policy, without waiting between
+	 * the attempts.
+	 *
+	 * @param consumer
+	 *            to be retried
+	 * @param policy
+	 *            the retry policy
+	 * @param scheduler
+	 *            the executor used to run the attempts
+	 * @param <T>
+	 *            the type of the input to the operation
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the retrying operation
+	 * @throws NullPointerException
+	 *             if consumer, policy or scheduler is null
+	 * @since 3.1.0
+	 * @see #retryAsync(RetryPolicy, ScheduledExecutorService)
+	 */
+	static <T, E extends Exception> Function<T, CompletionStage<Void>> retriedAsync(
+			ConsumerWithException<T, E> consumer, RetryPolicy policy, ScheduledExecutorService scheduler) {
+		return verifyConsumer(consumer).retryAsync(policy, scheduler);
+	}
+
+	/**
+	 * Converts a {@code ConsumerWithException} to one that records its invocations
+	 * in the received metrics.
+	 *
+	 * @param consumer
+	 *            to be instrumented
+	 * @param metrics
+	 *            the metrics
+	 * @param <T>
+	 *            the type of the input to the operation
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the instrumented operation
+	 * @throws NullPointerException
+	 *             if consumer or metrics is null
+	 * @since 3.1.0
+	 * @see #instrument(OperationMetrics)
+	 */
+	static <T, E extends Exception> ConsumerWithException<T, E> instrumented(
+			ConsumerWithException<T, E> consumer, OperationMetrics metrics) {
+		return verifyConsumer(consumer).instrument(metrics);
+	}
+
+	/**
+	 * Converts a {@code ConsumerWithException} to one that is limited by the
+	 * received rate limiter.
+	 *
+	 * @param consumer
+	 *            to be rate limited
+	 * @param limiter
+	 *            the rate limiter
+	 * @param <T>
+	 *            the type of the input to the operation
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the rate limited operation
+	 * @throws NullPointerException
+	 *             if consumer or limiter is null
+	 * @since 3.1.0
+	 * @see #rateLimit(RateLimiter)
+	 */
+	static <T, E extends Exception> ConsumerWithException<T, E> rateLimited(ConsumerWithException<T, E> consumer,
+			RateLimiter limiter) {
+		return verifyConsumer(consumer).rateLimit(limiter);
+	}
+
 	/**
 	 * Converts a {@code ConsumerWithException} to a {@code FunctionWithException}
 	 * returning {@code null}.
@@ -0,0 +1,93 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Preallocated RuntimeException, used when checked exceptions are used as
+ * control flow.
+ * <p>
+ * There is exactly one instance of this exception per class of mapped
+ * exception, created on the first mapping of this class and then reused. The
+ * instances have no stack trace, no cause and no suppressed exceptions, and
+ * are immutable ; the only information is the class of the mapped exception.
+ * Mapping an exception is then only one lookup, without allocation.
+ * <p>
+ * The instance only holds a weak reference to the class of the mapped
+ * exception, so that the cache doesn't prevent this class (and its class
+ * loader) from being unloaded. Once the class is unloaded, and for a
+ * deserialized instance, the class is no longer available.
+ *
+ * @since 3.1.0
+ * @see ExceptionMapper#controlFlowExceptionMapper()
+ */
+public final class ControlFlowException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final ClassValue<ControlFlowException> INSTANCES = new ClassValue<>() {
+		@Override
+		protected ControlFlowException computeValue(Class<?> type) {
+			return new ControlFlowException(type.asSubclass(Exception.class));
+		}
+	};
+
+	private final transient WeakReference<Class<? extends Exception>> exceptionClass;
+
+	private ControlFlowException(Class<? extends Exception> exceptionClass) {
+		super(exceptionClass.getName(), null, false, false);
+		this.exceptionClass = new WeakReference<>(exceptionClass);
+	}
+
+	/**
+	 * Returns the shared instance for the class of an exception.
+	 *
+	 * @param e
+	 *            the exception
+	 * @return the preallocated exception for this class
+	 */
+	static ControlFlowException of(Exception e) {
+		return INSTANCES.get(e.getClass());
+	}
+
+	/**
+	 * Returns the class of the mapped exception.
+	 *
+	 * @return the class of the exception, or {@code null} if this class is no
+	 *         longer available
+	 */
+	public Class<? extends Exception> getExceptionClass() {
+		return exceptionClass == null ? null : exceptionClass.get();
+	}
+
+	/**
+	 * Checks if the mapped exception was of the received class.
+	 *
+	 * @param clazz
+	 *            the class of exception
+	 * @return true if the mapped exception is an instance of this class
+	 */
+	public boolean is(Class<? extends Exception> clazz) {
+		Class<? extends Exception> mapped = getExceptionClass();
+		return mapped != null && clazz.isAssignableFrom(mapped);
+	}
+
+}
@@ -0,0 +1,2122 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.FilenameFilter;
+import java.io.ObjectInputFilter;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleBiFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntBiFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongBiFunction;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Delegates used by {@link ExceptionHandlerSupport#documented(Supplier)}.
+ * <p>
+ * There is one delegate per functional interface of this library. The
+ * functional method, {@code exceptionMapper}, {@code defaultValue} and the
+ * conversion methods ({@code uncheck}, {@code lift}, {@code liftOptional},
+ * {@code attempt}, {@code ignore}, {@code stage}, {@code stageAsync},
+ * {@code stageUnboxed} and {@code stageUnboxedAsync}) are forwarded directly to
+ * the target ; {@code toString} uses the provided supplier and
+ * {@code equals}/{@code hashCode} are the ones of the target, a documented
+ * operation being equal to the other documented versions of the same target.
+ * <p>
+ * The other default methods ({@code memoize}, {@code retry},
+ * {@code circuitBreaker}, {@code instrument}, {@code timeout}, {@code hedge},
+ * {@code bulkhead}, {@code rateLimit}, {@code applyAll}, ...) are not
+ * forwarded : they run against the delegate, with their default
+ * implementation reaching the target through the forwarded functional method.
+ */
+final class DocumentedDelegates {
+
+	private DocumentedDelegates() {
+	}
+
+	abstract static class Delegate<T> {
+
+		final T target;
+
+		private final Supplier<String> toString;
+
+		Delegate(T target, Supplier<String> toString) {
+			this.target = target;
+			this.toString = toString;
+		}
+
+		@Override
+		public String toString() {
+			return toString.get();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return target.equals(InternalHelper.undocumented(obj));
+		}
+
+		@Override
+		public int hashCode() {
+			return target.hashCode();
+		}
+	}
+
+	/**
+	 * Creates the delegate for the target.
+	 *
+	 * @param target
+	 *            the target, possibly already documented
+	 * @param toString
+	 *            the supplier of the string representation
+	 * @return the delegate, or {@code null} when the target doesn't implement
+	 *         exactly one of the functional interfaces of this library.
+	 */
+	static Object delegate(Object target, Supplier<String> toString) {
+		if (target instanceof Delegate) {
+			return delegate(((Delegate<?>) target).target, toString);
+		}
+		Class<?>[] interfaces = target.getClass().getInterfaces();
+		if (interfaces.length != 1 || target.getClass().getSuperclass() != Object.class) {
+			return null;
+		}
+		return delegate(interfaces[0], target, toString);
+	}
+
+	@SuppressWarnings({ "squid:S3776", "squid:S1541" }) // Dispatch on the exact interface
+	private static Object delegate(Class<?> type, Object target, Supplier<String> toString) {
+		if (type == BiConsumerWithException.class) {
+			return new BiConsumerDelegate<>((BiConsumerWithException<?, ?, ?>) target, toString);
+		}
+		if (type == BiFunctionWithException.class) {
+			return new BiFunctionDelegate<>((BiFunctionWithException<?, ?, ?, ?>) target, toString);
+		}
+		if (type == BiPredicateWithException.class) {
+			return new BiPredicateDelegate<>((BiPredicateWithException<?, ?, ?>) target, toString);
+		}
+		if (type == BinaryOperatorWithException.class) {
+			return new BinaryOperatorDelegate<>((BinaryOperatorWithException<?, ?>) target, toString);
+		}
+		if (type == BooleanSupplierWithException.class) {
+			return new BooleanSupplierDelegate<>((BooleanSupplierWithException<?>) target, toString);
+		}
+		if (type == ConsumerWithException.class) {
+			return new ConsumerDelegate<>((ConsumerWithException<?, ?>) target, toString);
+		}
+		if (type == DoubleBinaryOperatorWithException.class) {
+			return new DoubleBinaryOperatorDelegate<>((DoubleBinaryOperatorWithException<?>) target, toString);
+		}
+		if (type == DoubleConsumerWithException.class) {
+			return new DoubleConsumerDelegate<>((DoubleConsumerWithException<?>) target, toString);
+		}
+		if (type == DoubleFunctionWithException.class) {
+			return new DoubleFunctionDelegate<>((DoubleFunctionWithException<?, ?>) target, toString);
+		}
+		if (type == DoublePredicateWithException.class) {
+			return new DoublePredicateDelegate<>((DoublePredicateWithException<?>) target, toString);
+		}
+		if (type == DoubleSupplierWithException.class) {
+			return new DoubleSupplierDelegate<>((DoubleSupplierWithException<?>) target, toString);
+		}
+		if (type == DoubleToIntFunctionWithException.class) {
+			return new DoubleToIntFunctionDelegate<>((DoubleToIntFunctionWithException<?>) target, toString);
+		}
+		if (type == DoubleToLongFunctionWithException.class) {
+			return new DoubleToLongFunctionDelegate<>((DoubleToLongFunctionWithException<?>) target, toString);
+		}
+		if (type == DoubleUnaryOperatorWithException.class) {
+			return new DoubleUnaryOperatorDelegate<>((DoubleUnaryOperatorWithException<?>) target, toString);
+		}
+		if (type == FileFilterWithException.class) {
+			return new FileFilterDelegate<>((FileFilterWithException<?>) target, toString);
+		}
+		if (type == FilenameFilterWithException.class) {
+			return new FilenameFilterDelegate<>((FilenameFilterWithException<?>) target, toString);
+		}
+		if (type == FunctionWithException.class) {
+			return new FunctionDelegate<>((FunctionWithException<?, ?, ?>) target, toString);
+		}
+		if (type == IntBinaryOperatorWithException.class) {
+			return new IntBinaryOperatorDelegate<>((IntBinaryOperatorWithException<?>) target, toString);
+		}
+		if (type == IntConsumerWithException.class) {
+			return new IntConsumerDelegate<>((IntConsumerWithException<?>) target, toString);
+		}
+		if (type == IntFunctionWithException.class) {
+			return new IntFunctionDelegate<>((IntFunctionWithException<?, ?>) target, toString);
+		}
+		if (type == IntPredicateWithException.class) {
+			return new IntPredicateDelegate<>((IntPredicateWithException<?>) target, toString);
+		}
+		if (type == IntSupplierWithException.class) {
+			return new IntSupplierDelegate<>((IntSupplierWithException<?>) target, toString);
+		}
+		if (type == IntToDoubleFunctionWithException.class) {
+			return new IntToDoubleFunctionDelegate<>((IntToDoubleFunctionWithException<?>) target, toString);
+		}
+		if (type == IntToLongFunctionWithException.class) {
+			return new IntToLongFunctionDelegate<>((IntToLongFunctionWithException<?>) target, toString);
+		}
+		if (type == IntUnaryOperatorWithException.class) {
+			return new IntUnaryOperatorDelegate<>((IntUnaryOperatorWithException<?>) target, toString);
+		}
+		if (type == LongBinaryOperatorWithException.class) {
+			return new LongBinaryOperatorDelegate<>((LongBinaryOperatorWithException<?>) target, toString);
+		}
+		if (type == LongConsumerWithException.class) {
+			return new LongConsumerDelegate<>((LongConsumerWithException<?>) target, toString);
+		}
+		if (type == LongFunctionWithException.class) {
+			return new LongFunctionDelegate<>((LongFunctionWithException<?, ?>) target, toString);
+		}
+		if (type == LongPredicateWithException.class) {
+			return new LongPredicateDelegate<>((LongPredicateWithException<?>) target, toString);
+		}
+		if (type == LongSupplierWithException.class) {
+			return new LongSupplierDelegate<>((LongSupplierWithException<?>) target, toString);
+		}
+		if (type == LongToDoubleFunctionWithException.class) {
+			return new LongToDoubleFunctionDelegate<>((LongToDoubleFunctionWithException<?>) target, toString);
+		}
+		if (type == LongToIntFunctionWithException.class) {
+			return new LongToIntFunctionDelegate<>((LongToIntFunctionWithException<?>) target, toString);
+		}
+		if (type == LongUnaryOperatorWithException.class) {
+			return new LongUnaryOperatorDelegate<>((LongUnaryOperatorWithException<?>) target, toString);
+		}
+		if (type == ObjDoubleConsumerWithException.class) {
+			return new ObjDoubleConsumerDelegate<>((ObjDoubleConsumerWithException<?, ?>) target, toString);
+		}
+		if (type == ObjIntConsumerWithException.class) {
+			return new ObjIntConsumerDelegate<>((ObjIntConsumerWithException<?, ?>) target, toString);
+		}
+		if (type == ObjLongConsumerWithException.class) {
+			return new ObjLongConsumerDelegate<>((ObjLongConsumerWithException<?, ?>) target, toString);
+		}
+		if (type == ObjectInputFilterWithException.class) {
+			return new ObjectInputFilterDelegate<>((ObjectInputFilterWithException<?>) target, toString);
+		}
+		if (type == PathMatcherWithException.class) {
+			return new PathMatcherDelegate<>((PathMatcherWithException<?>) target, toString);
+		}
+		if (type == PredicateWithException.class) {
+			return new PredicateDelegate<>((PredicateWithException<?, ?>) target, toString);
+		}
+		if (type == RunnableWithException.class) {
+			return new RunnableDelegate<>((RunnableWithException<?>) target, toString);
+		}
+		if (type == SupplierWithException.class) {
+			return new SupplierDelegate<>((SupplierWithException<?, ?>) target, toString);
+		}
+		if (type == ToDoubleBiFunctionWithException.class) {
+			return new ToDoubleBiFunctionDelegate<>((ToDoubleBiFunctionWithException<?, ?, ?>) target, toString);
+		}
+		if (type == ToDoubleFunctionWithException.class) {
+			return new ToDoubleFunctionDelegate<>((ToDoubleFunctionWithException<?, ?>) target, toString);
+		}
+		if (type == ToIntBiFunctionWithException.class) {
+			return new ToIntBiFunctionDelegate<>((ToIntBiFunctionWithException<?, ?, ?>) target, toString);
+		}
+		if (type == ToIntFunctionWithException.class) {
+			return new ToIntFunctionDelegate<>((ToIntFunctionWithException<?, ?>) target, toString);
+		}
+		if (type == ToLongBiFunctionWithException.class) {
+			return new ToLongBiFunctionDelegate<>((ToLongBiFunctionWithException<?, ?, ?>) target, toString);
+		}
+		if (type == ToLongFunctionWithException.class) {
+			return new ToLongFunctionDelegate<>((ToLongFunctionWithException<?, ?>) target, toString);
+		}
+		if (type == UnaryOperatorWithException.class) {
+			return new UnaryOperatorDelegate<>((UnaryOperatorWithException<?, ?>) target, toString);
+		}
+		return null;
+	}
+
+	static final class BiConsumerDelegate<T, U, E extends Exception> extends Delegate<BiConsumerWithException<T, U, E>>
+			implements BiConsumerWithException<T, U, E> {
+
+		BiConsumerDelegate(BiConsumerWithException<T, U, E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public void accept(T t, U u) throws E {
+			target.accept(t, u);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public BiConsumer<T, U> uncheck() {
+			return target.uncheck();
+		}
+
+		@Override
+		public BiConsumer<T, U> ignore() {
+			return target.ignore();
+		}
+
+		@Override
+		public BiFunction<T, U, CompletionStage<Void>> stage() {
+			return target.stage();
+		}
+
+		@Override
+		public BiFunction<T, U, CompletionStage<Void>> stageAsync(Executor executor) {
+			return target.stageAsync(executor);
+		}
+	}
+
+	static final class BiFunctionDelegate<T, U, R, E extends Exception> extends Delegate<BiFunctionWithException<T, U, R, E>>
+			implements BiFunctionWithException<T, U, R, E> {
+
+		BiFunctionDelegate(BiFunctionWithException<T, U, R, E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public R apply(T t, U u) throws E {
+			return target.apply(t, u);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public BiFunction<T, U, R> uncheck() {
+			return target.uncheck();
+		}
+
+		@Override
+		public BiFunction<T, U, Optional<R>> lift() {
+			return target.lift();
+		}
+
+		@Override
+		public BiFunction<T, U, R> ignore() {
+			return target.ignore();
+		}
+
+		@Override
+		public BiFunction<T, U, CompletionStage<R>> stage() {
+			return target.stage();
+		}
+
+		@Override
+		public BiFunction<T, U, CompletionStage<R>> stageAsync(Executor executor) {
+			return target.stageAsync(executor);
+		}
+
+		@Override
+		public R defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public BiFunction<T, U, Result<R>> attempt() {
+			return target.attempt();
+		}
+	}
+
+	static final class BiPredicateDelegate<T, U, E extends Exception> extends Delegate<BiPredicateWithException<T, U, E>>
+			implements BiPredicateWithException<T, U, E> {
+
+		BiPredicateDelegate(BiPredicateWithException<T, U, E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public boolean test(T t, U u) throws E {
+			return target.test(t, u);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public BiPredicate<T, U> uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public boolean defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public BiFunction<T, U, Optional<Boolean>> liftOptional() {
+			return target.liftOptional();
+		}
+	}
+
+	static final class BinaryOperatorDelegate<T, E extends Exception> extends Delegate<BinaryOperatorWithException<T, E>>
+			implements BinaryOperatorWithException<T, E> {
+
+		BinaryOperatorDelegate(BinaryOperatorWithException<T, E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public T apply(T t, T u) throws E {
+			return target.apply(t, u);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public BinaryOperator<T> uncheck() {
+			return target.uncheck();
+		}
+
+		@Override
+		public BiFunction<T, T, Optional<T>> lift() {
+			return target.lift();
+		}
+
+		@Override
+		public BinaryOperator<T> ignore() {
+			return target.ignore();
+		}
+
+		@Override
+		public BiFunction<T, T, CompletionStage<T>> stage() {
+			return target.stage();
+		}
+
+		@Override
+		public BiFunction<T, T, CompletionStage<T>> stageAsync(Executor executor) {
+			return target.stageAsync(executor);
+		}
+
+		@Override
+		public T defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public BiFunction<T, T, Result<T>> attempt() {
+			return target.attempt();
+		}
+	}
+
+	static final class BooleanSupplierDelegate<E extends Exception> extends Delegate<BooleanSupplierWithException<E>>
+			implements BooleanSupplierWithException<E> {
+
+		BooleanSupplierDelegate(BooleanSupplierWithException<E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public boolean getAsBoolean() throws E {
+			return target.getAsBoolean();
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public BooleanSupplier uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public boolean defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public Supplier<Optional<Boolean>> liftOptional() {
+			return target.liftOptional();
+		}
+	}
+
+	static final class ConsumerDelegate<T, E extends Exception> extends Delegate<ConsumerWithException<T, E>>
+			implements ConsumerWithException<T, E> {
+
+		ConsumerDelegate(ConsumerWithException<T, E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public void accept(T t) throws E {
+			target.accept(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public Consumer<T> uncheck() {
+			return target.uncheck();
+		}
+
+		@Override
+		public Consumer<T> ignore() {
+			return target.ignore();
+		}
+
+		@Override
+		public Function<T, CompletionStage<Void>> stage() {
+			return target.stage();
+		}
+
+		@Override
+		public Function<T, CompletionStage<Void>> stageAsync(Executor executor) {
+			return target.stageAsync(executor);
+		}
+	}
+
+	static final class DoubleBinaryOperatorDelegate<E extends Exception> extends Delegate<DoubleBinaryOperatorWithException<E>>
+			implements DoubleBinaryOperatorWithException<E> {
+
+		DoubleBinaryOperatorDelegate(DoubleBinaryOperatorWithException<E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public double applyAsDouble(double t, double u) throws E {
+			return target.applyAsDouble(t, u);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public DoubleBinaryOperator uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public double defaultValue() {
+			return target.defaultValue();
+		}
+	}
+
+	static final class DoubleConsumerDelegate<E extends Exception> extends Delegate<DoubleConsumerWithException<E>>
+			implements DoubleConsumerWithException<E> {
+
+		DoubleConsumerDelegate(DoubleConsumerWithException<E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public void accept(double t) throws E {
+			target.accept(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public DoubleConsumer uncheck() {
+			return target.uncheck();
+		}
+
+		@Override
+		public DoubleConsumer ignore() {
+			return target.ignore();
+		}
+
+		@Override
+		public DoubleFunction<CompletionStage<Void>> stage() {
+			return target.stage();
+		}
+
+		@Override
+		public DoubleFunction<CompletionStage<Void>> stageAsync(Executor executor) {
+			return target.stageAsync(executor);
+		}
+	}
+
+	static final class DoubleFunctionDelegate<R, E extends Exception> extends Delegate<DoubleFunctionWithException<R, E>>
+			implements DoubleFunctionWithException<R, E> {
+
+		DoubleFunctionDelegate(DoubleFunctionWithException<R, E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public R apply(double t) throws E {
+			return target.apply(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public DoubleFunction<R> uncheck() {
+			return target.uncheck();
+		}
+
+		@Override
+		public DoubleFunction<Optional<R>> lift() {
+			return target.lift();
+		}
+
+		@Override
+		public DoubleFunction<R> ignore() {
+			return target.ignore();
+		}
+
+		@Override
+		public DoubleFunction<CompletionStage<R>> stage() {
+			return target.stage();
+		}
+
+		@Override
+		public DoubleFunction<CompletionStage<R>> stageAsync(Executor executor) {
+			return target.stageAsync(executor);
+		}
+
+		@Override
+		public R defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public DoubleFunction<Result<R>> attempt() {
+			return target.attempt();
+		}
+	}
+
+	static final class DoublePredicateDelegate<E extends Exception> extends Delegate<DoublePredicateWithException<E>>
+			implements DoublePredicateWithException<E> {
+
+		DoublePredicateDelegate(DoublePredicateWithException<E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public boolean test(double t) throws E {
+			return target.test(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public DoublePredicate uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public boolean defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public DoubleFunction<Optional<Boolean>> liftOptional() {
+			return target.liftOptional();
+		}
+	}
+
+	static final class DoubleSupplierDelegate<E extends Exception> extends Delegate<DoubleSupplierWithException<E>>
+			implements DoubleSupplierWithException<E> {
+
+		DoubleSupplierDelegate(DoubleSupplierWithException<E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public double getAsDouble() throws E {
+			return target.getAsDouble();
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public DoubleSupplier uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public double defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public Supplier<OptionalDouble> liftOptional() {
+			return target.liftOptional();
+		}
+	}
+
+	static final class DoubleToIntFunctionDelegate<E extends Exception> extends Delegate<DoubleToIntFunctionWithException<E>>
+			implements DoubleToIntFunctionWithException<E> {
+
+		DoubleToIntFunctionDelegate(DoubleToIntFunctionWithException<E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public int applyAsInt(double t) throws E {
+			return target.applyAsInt(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public DoubleToIntFunction uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public int defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public DoubleFunction<OptionalInt> liftOptional() {
+			return target.liftOptional();
+		}
+	}
+
+	static final class DoubleToLongFunctionDelegate<E extends Exception> extends Delegate<DoubleToLongFunctionWithException<E>>
+			implements DoubleToLongFunctionWithException<E> {
+
+		DoubleToLongFunctionDelegate(DoubleToLongFunctionWithException<E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public long applyAsLong(double t) throws E {
+			return target.applyAsLong(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public DoubleToLongFunction uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public long defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public DoubleFunction<OptionalLong> liftOptional() {
+			return target.liftOptional();
+		}
+	}
+
+	static final class DoubleUnaryOperatorDelegate<E extends Exception> extends Delegate<DoubleUnaryOperatorWithException<E>>
+			implements DoubleUnaryOperatorWithException<E> {
+
+		DoubleUnaryOperatorDelegate(DoubleUnaryOperatorWithException<E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public double applyAsDouble(double t) throws E {
+			return target.applyAsDouble(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public DoubleUnaryOperator uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public double defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public DoubleFunction<OptionalDouble> liftOptional() {
+			return target.liftOptional();
+		}
+	}
+
+	static final class FileFilterDelegate<E extends Exception> extends Delegate<FileFilterWithException<E>>
+			implements FileFilterWithException<E> {
+
+		FileFilterDelegate(FileFilterWithException<E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public boolean accept(File t) throws E {
+			return target.accept(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public FileFilter uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public boolean defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public Function<File, Optional<Boolean>> liftOptional() {
+			return target.liftOptional();
+		}
+	}
+
+	static final class FilenameFilterDelegate<E extends Exception> extends Delegate<FilenameFilterWithException<E>>
+			implements FilenameFilterWithException<E> {
+
+		FilenameFilterDelegate(FilenameFilterWithException<E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public boolean accept(File t, String u) throws E {
+			return target.accept(t, u);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public FilenameFilter uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public boolean defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public BiFunction<File, String, Optional<Boolean>> liftOptional() {
+			return target.liftOptional();
+		}
+	}
+
+	static final class FunctionDelegate<T, R, E extends Exception> extends Delegate<FunctionWithException<T, R, E>>
+			implements FunctionWithException<T, R, E> {
+
+		FunctionDelegate(FunctionWithException<T, R, E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public R apply(T t) throws E {
+			return target.apply(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public Function<T, R> uncheck() {
+			return target.uncheck();
+		}
+
+		@Override
+		public Function<T, Optional<R>> lift() {
+			return target.lift();
+		}
+
+		@Override
+		public Function<T, R> ignore() {
+			return target.ignore();
+		}
+
+		@Override
+		public Function<T, CompletionStage<R>> stage() {
+			return target.stage();
+		}
+
+		@Override
+		public Function<T, CompletionStage<R>> stageAsync(Executor executor) {
+			return target.stageAsync(executor);
+		}
+
+		@Override
+		public R defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public Function<T, Result<R>> attempt() {
+			return target.attempt();
+		}
+	}
+
+	static final class IntBinaryOperatorDelegate<E extends Exception> extends Delegate<IntBinaryOperatorWithException<E>>
+			implements IntBinaryOperatorWithException<E> {
+
+		IntBinaryOperatorDelegate(IntBinaryOperatorWithException<E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public int applyAsInt(int t, int u) throws E {
+			return target.applyAsInt(t, u);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public IntBinaryOperator uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public int defaultValue() {
+			return target.defaultValue();
+		}
+	}
+
+	static final class IntConsumerDelegate<E extends Exception> extends Delegate<IntConsumerWithException<E>>
+			implements IntConsumerWithException<E> {
+
+		IntConsumerDelegate(IntConsumerWithException<E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public void accept(int t) throws E {
+			target.accept(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public IntConsumer uncheck() {
+			return target.uncheck();
+		}
+
+		@Override
+		public IntConsumer ignore() {
+			return target.ignore();
+		}
+
+		@Override
+		public IntFunction<CompletionStage<Void>> stage() {
+			return target.stage();
+		}
+
+		@Override
+		public IntFunction<CompletionStage<Void>> stageAsync(Executor executor) {
+			return target.stageAsync(executor);
+		}
+	}
+
+	static final class IntFunctionDelegate<R, E extends Exception> extends Delegate<IntFunctionWithException<R, E>>
+			implements IntFunctionWithException<R, E> {
+
+		IntFunctionDelegate(IntFunctionWithException<R, E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public R apply(int t) throws E {
+			return target.apply(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public IntFunction<R> uncheck() {
+			return target.uncheck();
+		}
+
+		@Override
+		public IntFunction<Optional<R>> lift() {
+			return target.lift();
+		}
+
+		@Override
+		public IntFunction<R> ignore() {
+			return target.ignore();
+		}
+
+		@Override
+		public IntFunction<CompletionStage<R>> stage() {
+			return target.stage();
+		}
+
+		@Override
+		public IntFunction<CompletionStage<R>> stageAsync(Executor executor) {
+			return target.stageAsync(executor);
+		}
+
+		@Override
+		public R defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public IntFunction<Result<R>> attempt() {
+			return target.attempt();
+		}
+	}
+
+	static final class IntPredicateDelegate<E extends Exception> extends Delegate<IntPredicateWithException<E>>
+			implements IntPredicateWithException<E> {
+
+		IntPredicateDelegate(IntPredicateWithException<E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public boolean test(int t) throws E {
+			return target.test(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public IntPredicate uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public boolean defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public IntFunction<Optional<Boolean>> liftOptional() {
+			return target.liftOptional();
+		}
+	}
+
+	static final class IntSupplierDelegate<E extends Exception> extends Delegate<IntSupplierWithException<E>>
+			implements IntSupplierWithException<E> {
+
+		IntSupplierDelegate(IntSupplierWithException<E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public int getAsInt() throws E {
+			return target.getAsInt();
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public IntSupplier uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public int defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public Supplier<OptionalInt> liftOptional() {
+			return target.liftOptional();
+		}
+	}
+
+	static final class IntToDoubleFunctionDelegate<E extends Exception> extends Delegate<IntToDoubleFunctionWithException<E>>
+			implements IntToDoubleFunctionWithException<E> {
+
+		IntToDoubleFunctionDelegate(IntToDoubleFunctionWithException<E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public double applyAsDouble(int t) throws E {
+			return target.applyAsDouble(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public IntToDoubleFunction uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public double defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public IntFunction<OptionalDouble> liftOptional() {
+			return target.liftOptional();
+		}
+	}
+
+	static final class IntToLongFunctionDelegate<E extends Exception> extends Delegate<IntToLongFunctionWithException<E>>
+			implements IntToLongFunctionWithException<E> {
+
+		IntToLongFunctionDelegate(IntToLongFunctionWithException<E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public long applyAsLong(int t) throws E {
+			return target.applyAsLong(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public IntToLongFunction uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public long defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public IntFunction<OptionalLong> liftOptional() {
+			return target.liftOptional();
+		}
+	}
+
+	static final class IntUnaryOperatorDelegate<E extends Exception> extends Delegate<IntUnaryOperatorWithException<E>>
+			implements IntUnaryOperatorWithException<E> {
+
+		IntUnaryOperatorDelegate(IntUnaryOperatorWithException<E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public int applyAsInt(int t) throws E {
+			return target.applyAsInt(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public IntUnaryOperator uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public int defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public IntFunction<OptionalInt> liftOptional() {
+			return target.liftOptional();
+		}
+	}
+
+	static final class LongBinaryOperatorDelegate<E extends Exception> extends Delegate<LongBinaryOperatorWithException<E>>
+			implements LongBinaryOperatorWithException<E> {
+
+		LongBinaryOperatorDelegate(LongBinaryOperatorWithException<E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public long applyAsLong(long t, long u) throws E {
+			return target.applyAsLong(t, u);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public LongBinaryOperator uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public long defaultValue() {
+			return target.defaultValue();
+		}
+	}
+
+	static final class LongConsumerDelegate<E extends Exception> extends Delegate<LongConsumerWithException<E>>
+			implements LongConsumerWithException<E> {
+
+		LongConsumerDelegate(LongConsumerWithException<E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public void accept(long t) throws E {
+			target.accept(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public LongConsumer uncheck() {
+			return target.uncheck();
+		}
+
+		@Override
+		public LongConsumer ignore() {
+			return target.ignore();
+		}
+
+		@Override
+		public LongFunction<CompletionStage<Void>> stage() {
+			return target.stage();
+		}
+
+		@Override
+		public LongFunction<CompletionStage<Void>> stageAsync(Executor executor) {
+			return target.stageAsync(executor);
+		}
+	}
+
+	static final class LongFunctionDelegate<R, E extends Exception> extends Delegate<LongFunctionWithException<R, E>>
+			implements LongFunctionWithException<R, E> {
+
+		LongFunctionDelegate(LongFunctionWithException<R, E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public R apply(long t) throws E {
+			return target.apply(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public LongFunction<R> uncheck() {
+			return target.uncheck();
+		}
+
+		@Override
+		public LongFunction<Optional<R>> lift() {
+			return target.lift();
+		}
+
+		@Override
+		public LongFunction<R> ignore() {
+			return target.ignore();
+		}
+
+		@Override
+		public LongFunction<CompletionStage<R>> stage() {
+			return target.stage();
+		}
+
+		@Override
+		public LongFunction<CompletionStage<R>> stageAsync(Executor executor) {
+			return target.stageAsync(executor);
+		}
+
+		@Override
+		public R defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public LongFunction<Result<R>> attempt() {
+			return target.attempt();
+		}
+	}
+
+	static final class LongPredicateDelegate<E extends Exception> extends Delegate<LongPredicateWithException<E>>
+			implements LongPredicateWithException<E> {
+
+		LongPredicateDelegate(LongPredicateWithException<E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public boolean test(long t) throws E {
+			return target.test(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public LongPredicate uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public boolean defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public LongFunction<Optional<Boolean>> liftOptional() {
+			return target.liftOptional();
+		}
+	}
+
+	static final class LongSupplierDelegate<E extends Exception> extends Delegate<LongSupplierWithException<E>>
+			implements LongSupplierWithException<E> {
+
+		LongSupplierDelegate(LongSupplierWithException<E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public long getAsLong() throws E {
+			return target.getAsLong();
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public LongSupplier uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public long defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public Supplier<OptionalLong> liftOptional() {
+			return target.liftOptional();
+		}
+	}
+
+	static final class LongToDoubleFunctionDelegate<E extends Exception> extends Delegate<LongToDoubleFunctionWithException<E>>
+			implements LongToDoubleFunctionWithException<E> {
+
+		LongToDoubleFunctionDelegate(LongToDoubleFunctionWithException<E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public double applyAsDouble(long t) throws E {
+			return target.applyAsDouble(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public LongToDoubleFunction uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public double defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public LongFunction<OptionalDouble> liftOptional() {
+			return target.liftOptional();
+		}
+	}
+
+	static final class LongToIntFunctionDelegate<E extends Exception> extends Delegate<LongToIntFunctionWithException<E>>
+			implements LongToIntFunctionWithException<E> {
+
+		LongToIntFunctionDelegate(LongToIntFunctionWithException<E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public int applyAsInt(long t) throws E {
+			return target.applyAsInt(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public LongToIntFunction uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public int defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public LongFunction<OptionalInt> liftOptional() {
+			return target.liftOptional();
+		}
+	}
+
+	static final class LongUnaryOperatorDelegate<E extends Exception> extends Delegate<LongUnaryOperatorWithException<E>>
+			implements LongUnaryOperatorWithException<E> {
+
+		LongUnaryOperatorDelegate(LongUnaryOperatorWithException<E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public long applyAsLong(long t) throws E {
+			return target.applyAsLong(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public LongUnaryOperator uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public long defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public LongFunction<OptionalLong> liftOptional() {
+			return target.liftOptional();
+		}
+	}
+
+	static final class ObjDoubleConsumerDelegate<T, E extends Exception> extends Delegate<ObjDoubleConsumerWithException<T, E>>
+			implements ObjDoubleConsumerWithException<T, E> {
+
+		ObjDoubleConsumerDelegate(ObjDoubleConsumerWithException<T, E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public void accept(T t, double u) throws E {
+			target.accept(t, u);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public ObjDoubleConsumer<T> uncheck() {
+			return target.uncheck();
+		}
+
+		@Override
+		public ObjDoubleConsumer<T> ignore() {
+			return target.ignore();
+		}
+
+		@Override
+		public BiFunction<T, Double, CompletionStage<Void>> stage() {
+			return target.stage();
+		}
+
+		@Override
+		public BiFunction<T, Double, CompletionStage<Void>> stageAsync(Executor executor) {
+			return target.stageAsync(executor);
+		}
+
+		@Override
+		public StagedObjDoubleConsumer<T> stageUnboxed() {
+			return target.stageUnboxed();
+		}
+
+		@Override
+		public StagedObjDoubleConsumer<T> stageUnboxedAsync(Executor executor) {
+			return target.stageUnboxedAsync(executor);
+		}
+	}
+
+	static final class ObjIntConsumerDelegate<T, E extends Exception> extends Delegate<ObjIntConsumerWithException<T, E>>
+			implements ObjIntConsumerWithException<T, E> {
+
+		ObjIntConsumerDelegate(ObjIntConsumerWithException<T, E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public void accept(T t, int u) throws E {
+			target.accept(t, u);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public ObjIntConsumer<T> uncheck() {
+			return target.uncheck();
+		}
+
+		@Override
+		public ObjIntConsumer<T> ignore() {
+			return target.ignore();
+		}
+
+		@Override
+		public BiFunction<T, Integer, CompletionStage<Void>> stage() {
+			return target.stage();
+		}
+
+		@Override
+		public BiFunction<T, Integer, CompletionStage<Void>> stageAsync(Executor executor) {
+			return target.stageAsync(executor);
+		}
+
+		@Override
+		public StagedObjIntConsumer<T> stageUnboxed() {
+			return target.stageUnboxed();
+		}
+
+		@Override
+		public StagedObjIntConsumer<T> stageUnboxedAsync(Executor executor) {
+			return target.stageUnboxedAsync(executor);
+		}
+	}
+
+	static final class ObjLongConsumerDelegate<T, E extends Exception> extends Delegate<ObjLongConsumerWithException<T, E>>
+			implements ObjLongConsumerWithException<T, E> {
+
+		ObjLongConsumerDelegate(ObjLongConsumerWithException<T, E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public void accept(T t, long u) throws E {
+			target.accept(t, u);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public ObjLongConsumer<T> uncheck() {
+			return target.uncheck();
+		}
+
+		@Override
+		public ObjLongConsumer<T> ignore() {
+			return target.ignore();
+		}
+
+		@Override
+		public BiFunction<T, Long, CompletionStage<Void>> stage() {
+			return target.stage();
+		}
+
+		@Override
+		public BiFunction<T, Long, CompletionStage<Void>> stageAsync(Executor executor) {
+			return target.stageAsync(executor);
+		}
+
+		@Override
+		public StagedObjLongConsumer<T> stageUnboxed() {
+			return target.stageUnboxed();
+		}
+
+		@Override
+		public StagedObjLongConsumer<T> stageUnboxedAsync(Executor executor) {
+			return target.stageUnboxedAsync(executor);
+		}
+	}
+
+	static final class ObjectInputFilterDelegate<E extends Exception> extends Delegate<ObjectInputFilterWithException<E>>
+			implements ObjectInputFilterWithException<E> {
+
+		ObjectInputFilterDelegate(ObjectInputFilterWithException<E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public ObjectInputFilter.Status checkInput(ObjectInputFilter.FilterInfo t) throws E {
+			return target.checkInput(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public ObjectInputFilter uncheck() {
+			return target.uncheck();
+		}
+
+		@Override
+		public Function<ObjectInputFilter.FilterInfo, Optional<ObjectInputFilter.Status>> lift() {
+			return target.lift();
+		}
+
+		@Override
+		public ObjectInputFilter ignore() {
+			return target.ignore();
+		}
+
+		@Override
+		public Function<ObjectInputFilter.FilterInfo, CompletionStage<ObjectInputFilter.Status>> stage() {
+			return target.stage();
+		}
+
+		@Override
+		public Function<ObjectInputFilter.FilterInfo, CompletionStage<ObjectInputFilter.Status>> stageAsync(Executor executor) {
+			return target.stageAsync(executor);
+		}
+
+		@Override
+		public ObjectInputFilter.Status defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public Function<ObjectInputFilter.FilterInfo, Result<ObjectInputFilter.Status>> attempt() {
+			return target.attempt();
+		}
+	}
+
+	static final class PathMatcherDelegate<E extends Exception> extends Delegate<PathMatcherWithException<E>>
+			implements PathMatcherWithException<E> {
+
+		PathMatcherDelegate(PathMatcherWithException<E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public boolean matches(Path t) throws E {
+			return target.matches(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public PathMatcher uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public boolean defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public Function<Path, Optional<Boolean>> liftOptional() {
+			return target.liftOptional();
+		}
+	}
+
+	static final class PredicateDelegate<T, E extends Exception> extends Delegate<PredicateWithException<T, E>>
+			implements PredicateWithException<T, E> {
+
+		PredicateDelegate(PredicateWithException<T, E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public boolean test(T t) throws E {
+			return target.test(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public Predicate<T> uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public boolean defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public Function<T, Optional<Boolean>> liftOptional() {
+			return target.liftOptional();
+		}
+	}
+
+	static final class RunnableDelegate<E extends Exception> extends Delegate<RunnableWithException<E>>
+			implements RunnableWithException<E> {
+
+		RunnableDelegate(RunnableWithException<E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public void run() throws E {
+			target.run();
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public Runnable uncheck() {
+			return target.uncheck();
+		}
+
+		@Override
+		public Runnable ignore() {
+			return target.ignore();
+		}
+
+		@Override
+		public Supplier<CompletionStage<Void>> stage() {
+			return target.stage();
+		}
+
+		@Override
+		public Supplier<CompletionStage<Void>> stageAsync(Executor executor) {
+			return target.stageAsync(executor);
+		}
+	}
+
+	static final class SupplierDelegate<T, E extends Exception> extends Delegate<SupplierWithException<T, E>>
+			implements SupplierWithException<T, E> {
+
+		SupplierDelegate(SupplierWithException<T, E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public T get() throws E {
+			return target.get();
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public Supplier<T> uncheck() {
+			return target.uncheck();
+		}
+
+		@Override
+		public Supplier<Optional<T>> lift() {
+			return target.lift();
+		}
+
+		@Override
+		public Supplier<T> ignore() {
+			return target.ignore();
+		}
+
+		@Override
+		public Supplier<CompletionStage<T>> stage() {
+			return target.stage();
+		}
+
+		@Override
+		public Supplier<CompletionStage<T>> stageAsync(Executor executor) {
+			return target.stageAsync(executor);
+		}
+
+		@Override
+		public T defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public Supplier<Result<T>> attempt() {
+			return target.attempt();
+		}
+	}
+
+	static final class ToDoubleBiFunctionDelegate<T, U, E extends Exception> extends Delegate<ToDoubleBiFunctionWithException<T, U, E>>
+			implements ToDoubleBiFunctionWithException<T, U, E> {
+
+		ToDoubleBiFunctionDelegate(ToDoubleBiFunctionWithException<T, U, E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public double applyAsDouble(T t, U u) throws E {
+			return target.applyAsDouble(t, u);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public ToDoubleBiFunction<T, U> uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public double defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public BiFunction<T, U, OptionalDouble> liftOptional() {
+			return target.liftOptional();
+		}
+	}
+
+	static final class ToDoubleFunctionDelegate<T, E extends Exception> extends Delegate<ToDoubleFunctionWithException<T, E>>
+			implements ToDoubleFunctionWithException<T, E> {
+
+		ToDoubleFunctionDelegate(ToDoubleFunctionWithException<T, E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public double applyAsDouble(T t) throws E {
+			return target.applyAsDouble(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public ToDoubleFunction<T> uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public double defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public Function<T, OptionalDouble> liftOptional() {
+			return target.liftOptional();
+		}
+	}
+
+	static final class ToIntBiFunctionDelegate<T, U, E extends Exception> extends Delegate<ToIntBiFunctionWithException<T, U, E>>
+			implements ToIntBiFunctionWithException<T, U, E> {
+
+		ToIntBiFunctionDelegate(ToIntBiFunctionWithException<T, U, E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public int applyAsInt(T t, U u) throws E {
+			return target.applyAsInt(t, u);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public ToIntBiFunction<T, U> uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public int defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public BiFunction<T, U, OptionalInt> liftOptional() {
+			return target.liftOptional();
+		}
+	}
+
+	static final class ToIntFunctionDelegate<T, E extends Exception> extends Delegate<ToIntFunctionWithException<T, E>>
+			implements ToIntFunctionWithException<T, E> {
+
+		ToIntFunctionDelegate(ToIntFunctionWithException<T, E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public int applyAsInt(T t) throws E {
+			return target.applyAsInt(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public ToIntFunction<T> uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public int defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public Function<T, OptionalInt> liftOptional() {
+			return target.liftOptional();
+		}
+	}
+
+	static final class ToLongBiFunctionDelegate<T, U, E extends Exception> extends Delegate<ToLongBiFunctionWithException<T, U, E>>
+			implements ToLongBiFunctionWithException<T, U, E> {
+
+		ToLongBiFunctionDelegate(ToLongBiFunctionWithException<T, U, E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public long applyAsLong(T t, U u) throws E {
+			return target.applyAsLong(t, u);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public ToLongBiFunction<T, U> uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public long defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public BiFunction<T, U, OptionalLong> liftOptional() {
+			return target.liftOptional();
+		}
+	}
+
+	static final class ToLongFunctionDelegate<T, E extends Exception> extends Delegate<ToLongFunctionWithException<T, E>>
+			implements ToLongFunctionWithException<T, E> {
+
+		ToLongFunctionDelegate(ToLongFunctionWithException<T, E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public long applyAsLong(T t) throws E {
+			return target.applyAsLong(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public ToLongFunction<T> uncheckOrIgnore(boolean uncheck) {
+			return target.uncheckOrIgnore(uncheck);
+		}
+
+		@Override
+		public long defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public Function<T, OptionalLong> liftOptional() {
+			return target.liftOptional();
+		}
+	}
+
+	static final class UnaryOperatorDelegate<T, E extends Exception> extends Delegate<UnaryOperatorWithException<T, E>>
+			implements UnaryOperatorWithException<T, E> {
+
+		UnaryOperatorDelegate(UnaryOperatorWithException<T, E> target, Supplier<String> toString) {
+			super(target, toString);
+		}
+
+		@Override
+		public T apply(T t) throws E {
+			return target.apply(t);
+		}
+
+		@Override
+		public Function<Exception, RuntimeException> exceptionMapper() {
+			return target.exceptionMapper();
+		}
+
+		@Override
+		public UnaryOperator<T> uncheck() {
+			return target.uncheck();
+		}
+
+		@Override
+		public Function<T, Optional<T>> lift() {
+			return target.lift();
+		}
+
+		@Override
+		public UnaryOperator<T> ignore() {
+			return target.ignore();
+		}
+
+		@Override
+		public Function<T, CompletionStage<T>> stage() {
+			return target.stage();
+		}
+
+		@Override
+		public Function<T, CompletionStage<T>> stageAsync(Executor executor) {
+			return target.stageAsync(executor);
+		}
+
+		@Override
+		public T defaultValue() {
+			return target.defaultValue();
+		}
+
+		@Override
+		public Function<T, Result<T>> attempt() {
+			return target.attempt();
+		}
+	}
+
+}
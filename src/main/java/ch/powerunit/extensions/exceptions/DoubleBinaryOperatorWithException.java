@@ -69,7 +69,7 @@ public interface DoubleBinaryOperatorWithException<E extends Exception>
 			try {
 				return applyAsDouble(left, right);
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
@@ -20,10 +20,12 @@
 package ch.powerunit.extensions.exceptions;
 
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
+import static ch.powerunit.extensions.exceptions.Constants.verifyExecutor;
 import static ch.powerunit.extensions.exceptions.Constants.verifyFunction;
 
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.DoubleFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -73,7 +75,14 @@ public interface DoubleFunctionWithException<R, E extends Exception> extends
 	 */
 	@Override
 	default DoubleFunction<R> uncheck() {
-		return t -> ObjectReturnExceptionHandlerSupport.unchecked(() -> apply(t), throwingHandler());
+		Function<Exception, RuntimeException> exceptionMapper = exceptionMapper();
+		return t -> {
+			try {
+				return apply(t);
+			} catch (Exception e) {
+				throw ExceptionEvents.wrapped(this, exceptionMapper, e);
+			}
+		};
 	}
 
 	/**
@@ -89,6 +98,29 @@ public interface DoubleFunctionWithException<R, E extends Exception> extends
 				notThrowingHandler());
 	}
 
+	/**
+	 * Converts this {@code DoubleFunctionWithException} to a {@code DoubleFunction}
+	 * returning a {@code Result}, holding either the value or the exception.
+	 * <p>
+	 * Unlike {@link #lift()}, the exception is kept ; unlike {@link #stage()}, no
+	 * {@code CompletionStage} is created : the success path only allocates the
+	 * {@code Result}.
+	 *
+	 * @return the function returning a result
+	 * @see #attempted(DoubleFunctionWithException)
+	 * @see Result
+	 * @since 3.1.0
+	 */
+	default DoubleFunction<Result<R>> attempt() {
+		return t -> {
+			try {
+				return Result.success(apply(t));
+			} catch (Exception e) {
+				return Result.failure(e);
+			}
+		};
+	}
+
 	/**
 	 * Converts this {@code DoubleFunctionWithException} to a lifted
 	 * {@code DoubleFunction} returning {@code null} (or the value redefined by the
@@ -99,7 +131,14 @@ public interface DoubleFunctionWithException<R, E extends Exception> extends
 	 */
 	@Override
 	default DoubleFunction<R> ignore() {
-		return t -> ObjectReturnExceptionHandlerSupport.unchecked(() -> apply(t), e -> defaultValue());
+		return t -> {
+			try {
+				return apply(t);
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return defaultValue();
+			}
+		};
 	}
 
 	/**
@@ -114,6 +153,25 @@ public interface DoubleFunctionWithException<R, E extends Exception> extends
 		return t -> ObjectReturnExceptionHandlerSupport.staged(() -> apply(t));
 	}
 
+	/**
+	 * Converts this {@code DoubleFunctionWithException} to a <i>staged</i>
+	 * {@code DoubleFunction} that return a {@code CompletionStage}, the operation
+	 * being executed asynchronously by the provided executor.
+	 *
+	 * @param executor
+	 *            the executor to be used to run the operation.
+	 * @return the staged operation.
+	 * @throws NullPointerException
+	 *             if executor is null
+	 * @since 3.1.0
+	 * @see #stage()
+	 */
+	@Override
+	default DoubleFunction<CompletionStage<R>> stageAsync(Executor executor) {
+		verifyExecutor(executor);
+		return t -> ObjectReturnExceptionHandlerSupport.stagedAsync(() -> apply(t), executor);
+	}
+
 	/**
 	 * Returns a function that always throw exception.
 	 *
@@ -208,6 +266,26 @@ public interface DoubleFunctionWithException<R, E extends Exception> extends
 		return verifyFunction(function).lift();
 	}
 
+	/**
+	 * Converts a {@code DoubleFunctionWithException} to a {@code DoubleFunction}
+	 * returning a {@code Result}, holding either the value or the exception.
+	 *
+	 * @param function
+	 *            to be converted
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the function returning a result
+	 * @see #attempt()
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @since 3.1.0
+	 */
+	static <R, E extends Exception> DoubleFunction<Result<R>> attempted(DoubleFunctionWithException<R, E> function) {
+		return verifyFunction(function).attempt();
+	}
+
 	/**
 	 * Converts a {@code DoubleFunctionWithException} to a lifted
 	 * {@code DoubleFunction} returning {@code null} in case of exception.
@@ -283,4 +361,50 @@ public interface DoubleFunctionWithException<R, E extends Exception> extends
 		return verifyFunction(function).stage();
 	}
 
+	/**
+	 * Converts a {@code DoubleFunctionWithException} to a staged
+	 * {@code DoubleFunction}, the operation being executed asynchronously by
+	 * the provided executor.
+	 *
+	 * @param function
+	 *            to be staged
+	 * @param executor
+	 *            the executor to be used to run the operation
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the staged operation
+	 * @throws NullPointerException
+	 *             if function or executor is null
+	 * @since 3.1.0
+	 * @see #stageAsync(Executor)
+	 */
+	static <R, E extends Exception> DoubleFunction<CompletionStage<R>> stagedAsync(
+			DoubleFunctionWithException<R, E> function, Executor executor) {
+		return verifyFunction(function).stageAsync(executor);
+	}
+
+	/**
+	 * Converts a {@code DoubleFunctionWithException} to a staged
+	 * {@code DoubleFunction}, the operation being executed asynchronously by
+	 * the default executor.
+	 *
+	 * @param function
+	 *            to be staged
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the staged operation
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @since 3.1.0
+	 * @see #stageAsync()
+	 */
+	static <R, E extends Exception> DoubleFunction<CompletionStage<R>> stagedAsync(
+			DoubleFunctionWithException<R, E> function) {
+		return verifyFunction(function).stageAsync();
+	}
+
 }
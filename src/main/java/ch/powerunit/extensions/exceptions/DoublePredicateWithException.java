@@ -19,10 +19,13 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import static ch.powerunit.extensions.exceptions.Constants.optionalOf;
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
 import static ch.powerunit.extensions.exceptions.Constants.verifyPredicate;
 import static java.util.Objects.requireNonNull;
 
+import java.util.Optional;
+import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -67,12 +70,36 @@ public interface DoublePredicateWithException<E extends Exception> extends
 			try {
 				return test(value);
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
 	}
 
+	/**
+	 * Converts this {@code DoublePredicateWithException} to a <i>lifted</i>
+	 * {@code DoubleFunction} returning an {@code Optional<Boolean>}, empty in
+	 * case of error.
+	 * <p>
+	 * Unlike {@link #lift()}, a failure can be distinguished from a result
+	 * equal to the default value. The non-empty results are shared instances,
+	 * so that no allocation is done.
+	 *
+	 * @return the lifted predicate
+	 * @see #liftedOptional(DoublePredicateWithException)
+	 * @since 3.1.0
+	 */
+	default DoubleFunction<Optional<Boolean>> liftOptional() {
+		return value -> {
+			try {
+				return optionalOf(test(value));
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return Optional.empty();
+			}
+		};
+	}
+
 	/**
 	 * Returns a composed predicate that represents a short-circuiting logical AND
 	 * of this predicate and another. When evaluating the composed predicate, if
@@ -233,6 +260,26 @@ public interface DoublePredicateWithException<E extends Exception> extends
 		return verifyPredicate(predicate).lift();
 	}
 
+	/**
+	 * Converts a {@code DoublePredicateWithException} to a lifted
+	 * {@code DoubleFunction} returning an {@code Optional<Boolean>}, empty in
+	 * case of error.
+	 *
+	 * @param predicate
+	 *            to be lifted
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the lifted predicate
+	 * @throws NullPointerException
+	 *             if predicate is null
+	 * @see #liftOptional()
+	 * @since 3.1.0
+	 */
+	static <E extends Exception> DoubleFunction<Optional<Boolean>> liftedOptional(
+			DoublePredicateWithException<E> predicate) {
+		return verifyPredicate(predicate).liftOptional();
+	}
+
 	/**
 	 * Converts a {@code DoublePredicateWithException} to a lifted
 	 * {@code DoublePredicate} returning {@code false} in case of exception.
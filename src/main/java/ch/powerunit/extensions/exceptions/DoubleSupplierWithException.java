@@ -22,6 +22,7 @@ package ch.powerunit.extensions.exceptions;
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
 import static ch.powerunit.extensions.exceptions.Constants.verifySupplier;
 
+import java.util.OptionalDouble;
 import java.util.function.DoubleSupplier;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -66,12 +67,35 @@ public interface DoubleSupplierWithException<E extends Exception> extends
 			try {
 				return getAsDouble();
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
 	}
 
+	/**
+	 * Converts this {@code DoubleSupplierWithException} to a <i>lifted</i>
+	 * {@code Supplier} returning an {@code OptionalDouble}, empty in case of
+	 * error.
+	 * <p>
+	 * Unlike {@link #lift()}, a failure can be distinguished from a result
+	 * equal to the default value, without boxing the result.
+	 *
+	 * @return the lifted supplier
+	 * @see #liftedOptional(DoubleSupplierWithException)
+	 * @since 3.1.0
+	 */
+	default Supplier<OptionalDouble> liftOptional() {
+		return () -> {
+			try {
+				return OptionalDouble.of(getAsDouble());
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return OptionalDouble.empty();
+			}
+		};
+	}
+
 	/**
 	 * Returns a supplier that always throw exception.
 	 *
@@ -158,6 +182,25 @@ public interface DoubleSupplierWithException<E extends Exception> extends
 		return verifySupplier(supplier).lift();
 	}
 
+	/**
+	 * Converts a {@code DoubleSupplierWithException} to a lifted
+	 * {@code Supplier} returning an {@code OptionalDouble}, empty in case of
+	 * error.
+	 *
+	 * @param supplier
+	 *            to be lifted
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the lifted supplier
+	 * @throws NullPointerException
+	 *             if supplier is null
+	 * @see #liftOptional()
+	 * @since 3.1.0
+	 */
+	static <E extends Exception> Supplier<OptionalDouble> liftedOptional(DoubleSupplierWithException<E> supplier) {
+		return verifySupplier(supplier).liftOptional();
+	}
+
 	/**
 	 * Converts a {@code DoubleSupplierWithException} to a lifted
 	 * {@code DoubleSupplier} returning {@code 0} in case of exception.
@@ -22,6 +22,8 @@ package ch.powerunit.extensions.exceptions;
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
 import static ch.powerunit.extensions.exceptions.Constants.verifyFunction;
 
+import java.util.OptionalInt;
+import java.util.function.DoubleFunction;
 import java.util.function.DoubleToIntFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -67,12 +69,35 @@ public interface DoubleToIntFunctionWithException<E extends Exception>
 			try {
 				return applyAsInt(value);
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
 	}
 
+	/**
+	 * Converts this {@code DoubleToIntFunctionWithException} to a <i>lifted</i>
+	 * {@code DoubleFunction} returning an {@code OptionalInt}, empty in case of
+	 * error.
+	 * <p>
+	 * Unlike {@link #lift()}, a failure can be distinguished from a result
+	 * equal to the default value, without boxing the result.
+	 *
+	 * @return the lifted function
+	 * @see #liftedOptional(DoubleToIntFunctionWithException)
+	 * @since 3.1.0
+	 */
+	default DoubleFunction<OptionalInt> liftOptional() {
+		return value -> {
+			try {
+				return OptionalInt.of(applyAsInt(value));
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return OptionalInt.empty();
+			}
+		};
+	}
+
 	/**
 	 * Returns a function that always throw exception.
 	 *
@@ -159,6 +184,26 @@ public interface DoubleToIntFunctionWithException<E extends Exception>
 		return verifyFunction(function).lift();
 	}
 
+	/**
+	 * Converts a {@code DoubleToIntFunctionWithException} to a lifted
+	 * {@code DoubleFunction} returning an {@code OptionalInt}, empty in case of
+	 * error.
+	 *
+	 * @param function
+	 *            to be lifted
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the lifted function
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @see #liftOptional()
+	 * @since 3.1.0
+	 */
+	static <E extends Exception> DoubleFunction<OptionalInt> liftedOptional(
+			DoubleToIntFunctionWithException<E> function) {
+		return verifyFunction(function).liftOptional();
+	}
+
 	/**
 	 * Converts a {@code DoubleToIntFunctionWithException} to a lifted
 	 * {@code DoubleToIntFunction} returning {@code 0} in case of exception.
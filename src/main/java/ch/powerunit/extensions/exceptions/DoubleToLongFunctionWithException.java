@@ -22,6 +22,8 @@ package ch.powerunit.extensions.exceptions;
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
 import static ch.powerunit.extensions.exceptions.Constants.verifyFunction;
 
+import java.util.OptionalLong;
+import java.util.function.DoubleFunction;
 import java.util.function.DoubleToLongFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -67,12 +69,35 @@ public interface DoubleToLongFunctionWithException<E extends Exception>
 			try {
 				return applyAsLong(value);
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
 	}
 
+	/**
+	 * Converts this {@code DoubleToLongFunctionWithException} to a
+	 * <i>lifted</i> {@code DoubleFunction} returning an {@code OptionalLong},
+	 * empty in case of error.
+	 * <p>
+	 * Unlike {@link #lift()}, a failure can be distinguished from a result
+	 * equal to the default value, without boxing the result.
+	 *
+	 * @return the lifted function
+	 * @see #liftedOptional(DoubleToLongFunctionWithException)
+	 * @since 3.1.0
+	 */
+	default DoubleFunction<OptionalLong> liftOptional() {
+		return value -> {
+			try {
+				return OptionalLong.of(applyAsLong(value));
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return OptionalLong.empty();
+			}
+		};
+	}
+
 	/**
 	 * Returns a function that always throw exception.
 	 *
@@ -160,6 +185,26 @@ public interface DoubleToLongFunctionWithException<E extends Exception>
 		return verifyFunction(function).lift();
 	}
 
+	/**
+	 * Converts a {@code DoubleToLongFunctionWithException} to a lifted
+	 * {@code DoubleFunction} returning an {@code OptionalLong}, empty in case
+	 * of error.
+	 *
+	 * @param function
+	 *            to be lifted
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the lifted function
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @see #liftOptional()
+	 * @since 3.1.0
+	 */
+	static <E extends Exception> DoubleFunction<OptionalLong> liftedOptional(
+			DoubleToLongFunctionWithException<E> function) {
+		return verifyFunction(function).liftOptional();
+	}
+
 	/**
 	 * Converts a {@code DoubleToLongFunctionWithException} to a lifted
 	 * {@code DoubleToLongFunction} returning {@code 0} in case of exception.
@@ -23,6 +23,8 @@ import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper
 import static ch.powerunit.extensions.exceptions.Constants.verifyFunction;
 import static java.util.Objects.requireNonNull;
 
+import java.util.OptionalDouble;
+import java.util.function.DoubleFunction;
 import java.util.function.DoubleUnaryOperator;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -68,12 +70,35 @@ public interface DoubleUnaryOperatorWithException<E extends Exception>
 			try {
 				return applyAsDouble(operand);
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
 	}
 
+	/**
+	 * Converts this {@code DoubleUnaryOperatorWithException} to a <i>lifted</i>
+	 * {@code DoubleFunction} returning an {@code OptionalDouble}, empty in case
+	 * of error.
+	 * <p>
+	 * Unlike {@link #lift()}, a failure can be distinguished from a result
+	 * equal to the default value, without boxing the result.
+	 *
+	 * @return the lifted function
+	 * @see #liftedOptional(DoubleUnaryOperatorWithException)
+	 * @since 3.1.0
+	 */
+	default DoubleFunction<OptionalDouble> liftOptional() {
+		return operand -> {
+			try {
+				return OptionalDouble.of(applyAsDouble(operand));
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return OptionalDouble.empty();
+			}
+		};
+	}
+
 	/**
 	 * Returns a composed operator that first applies the {@code before} operator to
 	 * its input, and then applies this operator to the result. If evaluation of
@@ -212,6 +237,26 @@ public interface DoubleUnaryOperatorWithException<E extends Exception>
 		return verifyFunction(function).lift();
 	}
 
+	/**
+	 * Converts a {@code DoubleUnaryOperatorWithException} to a lifted
+	 * {@code DoubleFunction} returning an {@code OptionalDouble}, empty in case
+	 * of error.
+	 *
+	 * @param function
+	 *            to be lifted
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the lifted function
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @see #liftOptional()
+	 * @since 3.1.0
+	 */
+	static <E extends Exception> DoubleFunction<OptionalDouble> liftedOptional(
+			DoubleUnaryOperatorWithException<E> function) {
+		return verifyFunction(function).liftOptional();
+	}
+
 	/**
 	 * Converts a {@code DoubleUnaryOperatorWithException} to a lifted
 	 * {@code DoubleUnaryOperator} returning {@code 0} in case of exception.
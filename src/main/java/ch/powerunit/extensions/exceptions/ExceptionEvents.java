@@ -0,0 +1,161 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import java.util.function.Function;
+
+/**
+ * Entry point of the JFR events of this library.
+ * <p>
+ * The events are only emitted when the {@code jdk.jfr} module is available
+ * and the events are enabled in a running recording. Otherwise, the cost is
+ * one check on the failure path, without allocation. The event classes are
+ * only loaded once JFR is known to be available, so that this library still
+ * works on a runtime without the {@code jdk.jfr} module.
+ */
+final class ExceptionEvents {
+
+	private static final boolean AVAILABLE = isJfrAvailable();
+
+	private static final ClassValue<Class<?>> SOURCE_TYPES = new ClassValue<>() {
+		@Override
+		protected Class<?> computeValue(Class<?> type) {
+			for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+				for (Class<?> candidate : current.getInterfaces()) {
+					if (ExceptionHandlerSupport.class.isAssignableFrom(candidate)) {
+						return candidate;
+					}
+				}
+			}
+			return type;
+		}
+	};
+
+	private ExceptionEvents() {
+	}
+
+	/**
+	 * Maps an exception and records the mapping.
+	 *
+	 * @param source
+	 *            the operation that has thrown the exception
+	 * @param exceptionMapper
+	 *            the mapper of the operation
+	 * @param e
+	 *            the exception
+	 * @return the mapped exception
+	 */
+	static RuntimeException wrapped(Object source, Function<Exception, RuntimeException> exceptionMapper,
+			Exception e) {
+		if (AVAILABLE) {
+			return ExceptionWrappedEvent.wrap(source, exceptionMapper, e);
+		}
+		return exceptionMapper.apply(e);
+	}
+
+	/**
+	 * Records an exception that is ignored by a {@code lift} or {@code ignore}
+	 * version of an operation.
+	 *
+	 * @param source
+	 *            the operation that has thrown the exception
+	 * @param e
+	 *            the exception
+	 */
+	static void ignored(Object source, Exception e) {
+		if (AVAILABLE) {
+			ExceptionIgnoredEvent.ignore(source, e);
+		}
+	}
+
+	/**
+	 * Maps (and throw) or ignores an exception, depending on the mode.
+	 *
+	 * @param source
+	 *            the operation that has thrown the exception
+	 * @param uncheck
+	 *            true to throw the mapped exception
+	 * @param e
+	 *            the exception
+	 * @param exceptionMapper
+	 *            the mapper of the operation
+	 */
+	static void handle(Object source, boolean uncheck, Exception e,
+			Function<Exception, RuntimeException> exceptionMapper) {
+		if (uncheck) {
+			throw wrapped(source, exceptionMapper, e);
+		}
+		ignored(source, e);
+	}
+
+	/**
+	 * Returns the interface of this library implemented by an operation.
+	 *
+	 * @param source
+	 *            the operation
+	 * @return the interface, or the class of the operation if none is found.
+	 */
+	static Class<?> sourceType(Object source) {
+		return SOURCE_TYPES.get(source.getClass());
+	}
+
+	/**
+	 * Returns a description of the mapper that is really used for an exception.
+	 * <p>
+	 * For the default mapper and the mappers created by
+	 * {@link ExceptionMapper#forExceptions(ExceptionMapper...)}, this is the
+	 * selected {@code ExceptionMapper}, or {@code default (WrappedException)}
+	 * when none applies.
+	 *
+	 * @param exceptionMapper
+	 *            the mapper of the operation
+	 * @param e
+	 *            the exception
+	 * @return the description of the mapper
+	 */
+	static String describeMapper(Function<Exception, RuntimeException> exceptionMapper, Exception e) {
+		Function<Exception, RuntimeException> selected = exceptionMapper == Constants.MAPPERS
+				? Constants.defaultMapper()
+				: exceptionMapper;
+		if (selected instanceof ExceptionMapperDispatcher) {
+			selected = ((ExceptionMapperDispatcher) selected).select(e);
+		}
+		if (selected == Constants.WRAPPER) {
+			return "default (WrappedException)";
+		}
+		if (selected instanceof ExceptionMapper) {
+			return String.format("ExceptionMapper[%s]", ((ExceptionMapper) selected).targetException().getName());
+		}
+		// the name of a lambda changes from one run to the other, only the declaring class is kept
+		String name = selected.getClass().getName();
+		int lambda = name.indexOf("$$Lambda");
+		return lambda < 0 ? name : name.substring(0, lambda + "$$Lambda".length());
+	}
+
+	private static boolean isJfrAvailable() {
+		try {
+			Class.forName("jdk.jfr.Event", false, ExceptionEvents.class.getClassLoader());
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+}
@@ -47,6 +47,9 @@ public interface ExceptionHandlerSupport<F, L, Z extends ExceptionHandlerSupport
 	 * override only the current interface.</li>
 	 * <li>By defining global {@code ExceptionMapper}, using the module syntax :
 	 * {@code provides ch.powerunit.extensions.exceptions.ExceptionMapper with XXX}</li>
+	 * <li>By setting the system property {@code powerunit.exceptions.stackless} to
+	 * {@code true}, the default {@code WrappedException} are created without stack
+	 * trace.</li>
 	 * </ul>
 	 *
 	 * @return the mapping function, which is by default constructing
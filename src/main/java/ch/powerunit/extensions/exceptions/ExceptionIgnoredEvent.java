@@ -0,0 +1,63 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event recorded when an exception is ignored by a {@code lift} or
+ * {@code ignore} version of an operation.
+ */
+@Name(ExceptionIgnoredEvent.NAME)
+@Label("Exception Ignored")
+@Category({ "Powerunit", "Exceptions" })
+@Description("An exception has been ignored and replaced by a default value")
+final class ExceptionIgnoredEvent extends Event {
+
+	static final String NAME = "ch.powerunit.extensions.exceptions.ExceptionIgnored";
+
+	// checked first, so that no event is allocated when the event is disabled
+	private static final EventType TYPE = EventType.getEventType(ExceptionIgnoredEvent.class);
+
+	@Label("Source Type")
+	@Description("The interface of the operation")
+	Class<?> sourceType;
+
+	@Label("Exception Class")
+	Class<?> exceptionClass;
+
+	static void ignore(Object source, Exception e) {
+		if (!TYPE.isEnabled()) {
+			return;
+		}
+		ExceptionIgnoredEvent event = new ExceptionIgnoredEvent();
+		if (event.shouldCommit()) {
+			event.sourceType = ExceptionEvents.sourceType(source);
+			event.exceptionClass = e.getClass();
+			event.commit();
+		}
+	}
+
+}
@@ -19,8 +19,6 @@
  */
 package ch.powerunit.extensions.exceptions;
 
-import static java.util.Arrays.stream;
-
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Optional;
@@ -47,7 +45,7 @@ public interface ExceptionMapper extends Function<Exception, RuntimeException> {
 	 *             module missing).
 	 */
 	static ExceptionMapper sqlExceptionMapper() {
-		return Optional.ofNullable(Constants.SQL_EXCEPTION_MAPPER)
+		return Optional.ofNullable(Constants.sqlExceptionMapper())
 				.orElseThrow(() -> new NoClassDefFoundError("Unable to find the sqlException"));
 	}
 
@@ -65,7 +63,7 @@ public interface ExceptionMapper extends Function<Exception, RuntimeException> {
 	 * @since 2.1.0
 	 */
 	static ExceptionMapper jaxbExceptionMapper() {
-		return Optional.ofNullable(Constants.JAXBEXCEPTION_EXCEPTION_MAPPER)
+		return Optional.ofNullable(Constants.jaxbExceptionMapper())
 				.orElseThrow(() -> new NoClassDefFoundError("Unable to find the JAXBException"));
 	}
 
@@ -84,7 +82,7 @@ public interface ExceptionMapper extends Function<Exception, RuntimeException> {
 	 * @since 2.1.0
 	 */
 	static ExceptionMapper saxExceptionMapper() {
-		return Optional.ofNullable(Constants.SAXEXCEPTION_EXCEPTION_MAPPER)
+		return Optional.ofNullable(Constants.saxExceptionMapper())
 				.orElseThrow(() -> new NoClassDefFoundError("Unable to find the SAXException"));
 	}
 
@@ -103,16 +101,71 @@ public interface ExceptionMapper extends Function<Exception, RuntimeException> {
 	 * @since 2.1.0
 	 */
 	static ExceptionMapper transformerExceptionMapper() {
-		return Optional.ofNullable(Constants.TRANSFORMEREXCEPTION_EXCEPTION_MAPPER)
+		return Optional.ofNullable(Constants.transformerExceptionMapper())
 				.orElseThrow(() -> new NoClassDefFoundError("Unable to find the TransformerException"));
 	}
 
-	Class<? extends Exception> targetException();
+	/**
+	 * Exception wrapper, that creates {@code WrappedException} without stack
+	 * trace.
+	 * <p>
+	 * The stack trace of the wrapped exception is most of the time the useful one.
+	 * Not filling the stack trace of the {@code WrappedException} makes the
+	 * wrapping as cheap as an object allocation. This mapper may be used for
+	 * one single interface (second argument of the various {@code unchecked}
+	 * methods) or combined with other mappers. To create stackless
+	 * {@code WrappedException} for all the default mapping, the system property
+	 * {@code powerunit.exceptions.stackless} may be set to {@code true}.
+	 *
+	 * @return the Mapper creating stackless {@code WrappedException}.
+	 * @since 3.1.0
+	 * @see WrappedException#WrappedException(Throwable, boolean)
+	 */
+	static ExceptionMapper stacklessExceptionMapper() {
+		return forException(Exception.class, e -> new WrappedException(e, false));
+	}
 
-	private boolean accept(Exception e) {
-		return targetException().isInstance(e);
+	/**
+	 * Exception wrapper, that maps all the exceptions to a preallocated
+	 * {@code ControlFlowException}, shared by all the exceptions of the same
+	 * class.
+	 * <p>
+	 * This mapper is intended for the checked exceptions that are used as
+	 * control flow (for example "not found"), when the callers only use the
+	 * type of the exception. The mapping is one lookup, without allocation, stack
+	 * trace or message formatting ; the original exception is lost.
+	 *
+	 * @return the Mapper to {@code ControlFlowException}.
+	 * @since 3.1.0
+	 * @see ControlFlowException
+	 */
+	static ExceptionMapper controlFlowExceptionMapper() {
+		return forException(Exception.class, ControlFlowException::of);
 	}
 
+	/**
+	 * Exception wrapper, that maps the exceptions of the received class to a
+	 * preallocated {@code ControlFlowException}, shared by all the exceptions of
+	 * the same class. The other exceptions are wrapped in a
+	 * {@code WrappedException}.
+	 * <p>
+	 * This mapper may be combined with other mappers, for example with
+	 * {@link #forExceptions(ExceptionMapper...)}.
+	 *
+	 * @param clazz
+	 *            the class of the exceptions used as control flow.
+	 * @param <E>
+	 *            the type of the exception.
+	 * @return the Mapper to {@code ControlFlowException}.
+	 * @since 3.1.0
+	 * @see ControlFlowException
+	 */
+	static <E extends Exception> ExceptionMapper controlFlowExceptionMapper(Class<E> clazz) {
+		return forException(clazz, ControlFlowException::of);
+	}
+
+	Class<? extends Exception> targetException();
+
 	/**
 	 * This method is used when ExceptionMapper are registered as default Mapper to
 	 * defines the right order to select then.
@@ -161,7 +214,7 @@ public interface ExceptionMapper extends Function<Exception, RuntimeException> {
 
 			@Override
 			public RuntimeException apply(Exception t) {
-				return clazz.isInstance(t) ? mapper.apply(clazz.cast(t)) : new WrappedException(t);
+				return clazz.isInstance(t) ? mapper.apply(clazz.cast(t)) : Constants.wrap(t);
 			}
 
 			@Override
@@ -187,7 +240,7 @@ public interface ExceptionMapper extends Function<Exception, RuntimeException> {
 	 * @return the mapping function.
 	 */
 	static Function<Exception, RuntimeException> forExceptions(ExceptionMapper mapper1, ExceptionMapper mapper2) {
-		return e -> mapper1.accept(e) ? mapper1.apply(e) : mapper2.apply(e);
+		return new ExceptionMapperDispatcher(new ExceptionMapper[] { mapper1 }, mapper2);
 	}
 
 	/**
@@ -204,12 +257,15 @@ public interface ExceptionMapper extends Function<Exception, RuntimeException> {
 	 */
 	static Function<Exception, RuntimeException> forExceptions(ExceptionMapper mapper1, ExceptionMapper mapper2,
 			ExceptionMapper mapper3) {
-		return e -> (mapper1.accept(e) ? mapper1 : forExceptions(mapper2, mapper3)).apply(e);
+		return new ExceptionMapperDispatcher(new ExceptionMapper[] { mapper1, mapper2 }, mapper3);
 	}
 
 	/**
 	 * Helper method to create exception wrapper that use the first one that is
 	 * applicable.
+	 * <p>
+	 * The selected mapper is computed once per concrete exception class (based on
+	 * {@link #targetException()}) and then reused.
 	 *
 	 * @param mappers
 	 *            the mapper to be tried
@@ -217,10 +273,9 @@ public interface ExceptionMapper extends Function<Exception, RuntimeException> {
 	 */
 	static Function<Exception, RuntimeException> forExceptions(ExceptionMapper... mappers) {
 		if (mappers.length == 0) {
-			return WrappedException::new;
+			return Constants.WRAPPER;
 		}
-		return e -> stream(mappers).sequential().filter(m -> m.accept(e)).limit(1).map(m -> m.apply(e)).findFirst()
-				.orElseGet(() -> new WrappedException(e));
+		return new ExceptionMapperDispatcher(mappers, Constants.WRAPPER);
 	}
 
 	/**
@@ -234,7 +289,7 @@ public interface ExceptionMapper extends Function<Exception, RuntimeException> {
 	 */
 	static Function<Exception, RuntimeException> forOrderedExceptions(Collection<ExceptionMapper> mappers) {
 		if (mappers.isEmpty()) {
-			return WrappedException::new;
+			return Constants.WRAPPER;
 		}
 		return forExceptions(mappers.stream().sorted(Comparator.comparingInt(ExceptionMapper::order))
 				.toArray(ExceptionMapper[]::new));
@@ -0,0 +1,70 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import java.util.function.Function;
+
+/**
+ * Mapping function that selects the first applicable {@code ExceptionMapper}.
+ * <p>
+ * The selected mapper only depends on the class of the exception. It is
+ * computed once per concrete exception class and then cached, so that after
+ * the first exception of a class the mapping is only one lookup.
+ */
+final class ExceptionMapperDispatcher implements Function<Exception, RuntimeException> {
+
+	private final ExceptionMapper[] mappers;
+
+	private final Function<Exception, RuntimeException> fallback;
+
+	private final ClassValue<Function<Exception, RuntimeException>> dispatch = new ClassValue<>() {
+		@Override
+		protected Function<Exception, RuntimeException> computeValue(Class<?> type) {
+			for (ExceptionMapper mapper : mappers) {
+				if (mapper.targetException().isAssignableFrom(type)) {
+					return mapper;
+				}
+			}
+			return fallback;
+		}
+	};
+
+	ExceptionMapperDispatcher(ExceptionMapper[] mappers, Function<Exception, RuntimeException> fallback) {
+		this.mappers = mappers.clone();
+		this.fallback = fallback;
+	}
+
+	/**
+	 * Returns the mapping function that will be used for this exception.
+	 *
+	 * @param e
+	 *            the exception
+	 * @return the first applicable mapper, or the fallback function.
+	 */
+	Function<Exception, RuntimeException> select(Exception e) {
+		return dispatch.get(e.getClass());
+	}
+
+	@Override
+	public RuntimeException apply(Exception e) {
+		return select(e).apply(e);
+	}
+
+}
@@ -0,0 +1,80 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import java.util.function.Function;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event recorded when an exception is mapped by an {@code uncheck}
+ * version of an operation.
+ * <p>
+ * The duration of the event is the time spent in the mapper.
+ */
+@Name(ExceptionWrappedEvent.NAME)
+@Label("Exception Wrapped")
+@Category({ "Powerunit", "Exceptions" })
+@Description("A checked exception has been mapped to a RuntimeException")
+final class ExceptionWrappedEvent extends Event {
+
+	static final String NAME = "ch.powerunit.extensions.exceptions.ExceptionWrapped";
+
+	// checked first, so that no event is allocated when the event is disabled
+	private static final EventType TYPE = EventType.getEventType(ExceptionWrappedEvent.class);
+
+	@Label("Source Type")
+	@Description("The interface of the operation")
+	Class<?> sourceType;
+
+	@Label("Exception Class")
+	Class<?> exceptionClass;
+
+	@Label("Mapper")
+	@Description("The mapper used for this exception")
+	String mapper;
+
+	@Label("Result Class")
+	Class<?> resultClass;
+
+	static RuntimeException wrap(Object source, Function<Exception, RuntimeException> exceptionMapper, Exception e) {
+		if (!TYPE.isEnabled()) {
+			return exceptionMapper.apply(e);
+		}
+		ExceptionWrappedEvent event = new ExceptionWrappedEvent();
+		event.begin();
+		RuntimeException result = exceptionMapper.apply(e);
+		event.end();
+		if (event.shouldCommit()) {
+			event.sourceType = ExceptionEvents.sourceType(source);
+			event.exceptionClass = e.getClass();
+			event.mapper = ExceptionEvents.describeMapper(exceptionMapper, e);
+			event.resultClass = result == null ? null : result.getClass();
+			event.commit();
+		}
+		return result;
+	}
+
+}
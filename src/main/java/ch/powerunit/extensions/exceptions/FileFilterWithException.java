@@ -19,12 +19,14 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import static ch.powerunit.extensions.exceptions.Constants.optionalOf;
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
 import static ch.powerunit.extensions.exceptions.Constants.verifyPredicate;
 import static java.util.Objects.requireNonNull;
 
 import java.io.File;
 import java.io.FileFilter;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -68,12 +70,36 @@ public interface FileFilterWithException<E extends Exception>
 			try {
 				return accept(pathname);
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
 	}
 
+	/**
+	 * Converts this {@code FileFilterWithException} to a <i>lifted</i>
+	 * {@code Function} returning an {@code Optional<Boolean>}, empty in case of
+	 * error.
+	 * <p>
+	 * Unlike {@link #lift()}, a failure can be distinguished from a result
+	 * equal to the default value. The non-empty results are shared instances,
+	 * so that no allocation is done.
+	 *
+	 * @return the lifted predicate
+	 * @see #liftedOptional(FileFilterWithException)
+	 * @since 3.1.0
+	 */
+	default Function<File, Optional<Boolean>> liftOptional() {
+		return pathname -> {
+			try {
+				return optionalOf(accept(pathname));
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return Optional.empty();
+			}
+		};
+	}
+
 	/**
 	 * Returns a composed FileFilter that represents a short-circuiting logical AND
 	 * of this FileFilter and another. When evaluating the composed predicate, if
@@ -236,6 +262,25 @@ public interface FileFilterWithException<E extends Exception>
 		return verifyPredicate(predicate).lift();
 	}
 
+	/**
+	 * Converts a {@code FileFilterWithException} to a lifted {@code Function}
+	 * returning an {@code Optional<Boolean>}, empty in case of error.
+	 *
+	 * @param predicate
+	 *            to be lifted
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the lifted predicate
+	 * @throws NullPointerException
+	 *             if predicate is null
+	 * @see #liftOptional()
+	 * @since 3.1.0
+	 */
+	static <E extends Exception> Function<File, Optional<Boolean>> liftedOptional(
+			FileFilterWithException<E> predicate) {
+		return verifyPredicate(predicate).liftOptional();
+	}
+
 	/**
 	 * Converts a {@code FileFilterWithException} to a lifted {@code FileFilter}
 	 * returning {@code false} in case of exception.
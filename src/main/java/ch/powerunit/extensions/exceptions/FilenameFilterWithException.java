@@ -19,12 +19,15 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import static ch.powerunit.extensions.exceptions.Constants.optionalOf;
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
 import static ch.powerunit.extensions.exceptions.Constants.verifyPredicate;
 import static java.util.Objects.requireNonNull;
 
 import java.io.File;
 import java.io.FilenameFilter;
+import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -70,12 +73,36 @@ public interface FilenameFilterWithException<E extends Exception> extends
 			try {
 				return accept(dir, name);
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
 	}
 
+	/**
+	 * Converts this {@code FilenameFilterWithException} to a <i>lifted</i>
+	 * {@code BiFunction} returning an {@code Optional<Boolean>}, empty in case
+	 * of error.
+	 * <p>
+	 * Unlike {@link #lift()}, a failure can be distinguished from a result
+	 * equal to the default value. The non-empty results are shared instances,
+	 * so that no allocation is done.
+	 *
+	 * @return the lifted predicate
+	 * @see #liftedOptional(FilenameFilterWithException)
+	 * @since 3.1.0
+	 */
+	default BiFunction<File, String, Optional<Boolean>> liftOptional() {
+		return (dir, name) -> {
+			try {
+				return optionalOf(accept(dir, name));
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return Optional.empty();
+			}
+		};
+	}
+
 	/**
 	 * Returns a composed FilenameFilter that represents a short-circuiting logical
 	 * AND of this FilenameFilter and another. When evaluating the composed
@@ -242,6 +269,26 @@ public interface FilenameFilterWithException<E extends Exception> extends
 		return verifyPredicate(predicate).lift();
 	}
 
+	/**
+	 * Converts a {@code FilenameFilterWithException} to a lifted
+	 * {@code BiFunction} returning an {@code Optional<Boolean>}, empty in case
+	 * of error.
+	 *
+	 * @param predicate
+	 *            to be lifted
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the lifted predicate
+	 * @throws NullPointerException
+	 *             if predicate is null
+	 * @see #liftOptional()
+	 * @since 3.1.0
+	 */
+	static <E extends Exception> BiFunction<File, String, Optional<Boolean>> liftedOptional(
+			FilenameFilterWithException<E> predicate) {
+		return verifyPredicate(predicate).liftOptional();
+	}
+
 	/**
 	 * Converts a {@code FilenameFilterWithException} to a lifted
 	 * {@code FilenameFilter} returning {@code false} in case of exception.
@@ -0,0 +1,185 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import static ch.powerunit.extensions.exceptions.Constants.verifyFunction;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * Composition of {@code FunctionWithException} executed as one flat sequence.
+ * <p>
+ * Composing functions with {@link FunctionWithException#andThen} creates one
+ * new function for each step, each one calling the previous one ; a long
+ * composition becomes a deep stack of calls that the JIT may not inline. A
+ * {@code FunctionChain} keeps the steps in an array and applies them in a
+ * single loop. As it is itself a {@code FunctionWithException}, the
+ * {@code uncheck()}, {@code lift()}, {@code ignore()}, ... methods are
+ * available on the complete chain, with one single exception handling.
+ * <p>
+ * For example :
+ *
+ * <pre>
+ * Function&lt;Path, Data&gt; loader = FunctionChain.of(Files::readString).then(this::parse).then(this::validate)
+ * 		.uncheck();
+ * </pre>
+ * <p>
+ * A {@code FunctionChain} is immutable ; each step added creates a new chain.
+ * Adding a chain to another chain adds its steps, so that the result is still
+ * flat.
+ *
+ * @param <T>
+ *            the type of the input to the chain
+ * @param <R>
+ *            the type of the result of the chain
+ * @param <E>
+ *            the type of the potential exception of the chain
+ * @since 3.1.0
+ */
+public final class FunctionChain<T, R, E extends Exception> implements FunctionWithException<T, R, E> {
+
+	private final FunctionWithException<Object, Object, ? extends E>[] steps;
+
+	private FunctionChain(FunctionWithException<Object, Object, ? extends E>[] steps) {
+		this.steps = steps;
+	}
+
+	/**
+	 * Creates a chain with one step.
+	 *
+	 * @param first
+	 *            the first step of the chain
+	 * @param <T>
+	 *            the type of the input to the chain
+	 * @param <R>
+	 *            the type of the result of the chain
+	 * @param <E>
+	 *            the type of the potential exception of the chain
+	 * @return the chain
+	 * @throws NullPointerException
+	 *             if first is null
+	 */
+	public static <T, R, E extends Exception> FunctionChain<T, R, E> of(
+			FunctionWithException<? super T, ? extends R, ? extends E> first) {
+		return new FunctionChain<>(stepsOf(verifyFunction(first)));
+	}
+
+	/**
+	 * Returns a chain that applies this chain and then the received step.
+	 *
+	 * @param next
+	 *            the step to be applied on the result of this chain
+	 * @param <V>
+	 *            the type of the result of the new chain
+	 * @return the new chain
+	 * @throws NullPointerException
+	 *             if next is null
+	 */
+	public <V> FunctionChain<T, V, E> then(FunctionWithException<? super R, ? extends V, ? extends E> next) {
+		return new FunctionChain<>(concat(steps, stepsOf(requireNonNull(next))));
+	}
+
+	/**
+	 * Returns the number of steps of this chain.
+	 *
+	 * @return the number of steps
+	 */
+	public int size() {
+		return steps.length;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public R apply(T t) throws E {
+		Object value = t;
+		for (FunctionWithException<Object, Object, ? extends E> step : steps) {
+			value = step.apply(value);
+		}
+		return (R) value;
+	}
+
+	/**
+	 * Returns a chain that applies this chain and then the {@code after}
+	 * function, without nesting the functions.
+	 *
+	 * @param <V>
+	 *            the type of output of the {@code after} function, and of the
+	 *            new chain
+	 * @param after
+	 *            the function to apply after this chain is applied
+	 * @return the new chain
+	 * @throws NullPointerException
+	 *             if after is null
+	 * @see #then(FunctionWithException)
+	 */
+	@Override
+	public <V> FunctionChain<T, V, E> andThen(FunctionWithException<? super R, ? extends V, ? extends E> after) {
+		return then(after);
+	}
+
+	/**
+	 * Returns a chain that applies the {@code before} function and then this
+	 * chain, without nesting the functions.
+	 *
+	 * @param <V>
+	 *            the type of input to the {@code before} function, and to the
+	 *            new chain
+	 * @param before
+	 *            the function to apply before this chain is applied
+	 * @return the new chain
+	 * @throws NullPointerException
+	 *             if before is null
+	 */
+	@Override
+	public <V> FunctionChain<V, R, E> compose(FunctionWithException<? super V, ? extends T, ? extends E> before) {
+		return new FunctionChain<>(concat(stepsOf(requireNonNull(before)), steps));
+	}
+
+	private static <E extends Exception> FunctionWithException<Object, Object, ? extends E>[] stepsOf(
+			FunctionWithException<?, ?, ? extends E> function) {
+		if (function instanceof FunctionChain) {
+			return ((FunctionChain<?, ?, ? extends E>) function).steps;
+		}
+		return singleStep(function);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <E extends Exception> FunctionWithException<Object, Object, ? extends E>[] singleStep(
+			FunctionWithException<?, ?, ? extends E> function) {
+		FunctionWithException<?, ?, ?>[] result = { function };
+		return (FunctionWithException<Object, Object, ? extends E>[]) result;
+	}
+
+	private static <E extends Exception> FunctionWithException<Object, Object, ? extends E>[] concat(
+			FunctionWithException<Object, Object, ? extends E>[] first,
+			FunctionWithException<Object, Object, ? extends E>[] second) {
+		FunctionWithException<Object, Object, ? extends E>[] result = Arrays.copyOf(first,
+				first.length + second.length);
+		System.arraycopy(second, 0, result, first.length, second.length);
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return "FunctionChain[steps=" + steps.length + "]";
+	}
+
+}
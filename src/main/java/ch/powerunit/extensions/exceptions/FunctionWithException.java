@@ -19,13 +19,26 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import static ch.powerunit.extensions.exceptions.Constants.verifyBulkhead;
+import static ch.powerunit.extensions.exceptions.Constants.verifyCircuitBreaker;
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
+import static ch.powerunit.extensions.exceptions.Constants.verifyExecutor;
 import static ch.powerunit.extensions.exceptions.Constants.verifyFunction;
+import static ch.powerunit.extensions.exceptions.Constants.verifyMetrics;
+import static ch.powerunit.extensions.exceptions.Constants.verifyRetryPolicy;
+import static ch.powerunit.extensions.exceptions.Constants.verifyScheduler;
+import static ch.powerunit.extensions.exceptions.Constants.verifyTimeout;
 import static java.util.Objects.requireNonNull;
 
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -76,7 +89,14 @@ public interface FunctionWithException<T, R, E extends Exception> extends
 	 */
 	@Override
 	default Function<T, R> uncheck() {
-		return t -> ObjectReturnExceptionHandlerSupport.unchecked(() -> apply(t), throwingHandler());
+		Function<Exception, RuntimeException> exceptionMapper = exceptionMapper();
+		return t -> {
+			try {
+				return apply(t);
+			} catch (Exception e) {
+				throw ExceptionEvents.wrapped(this, exceptionMapper, e);
+			}
+		};
 	}
 
 	/**
@@ -93,6 +113,29 @@ public interface FunctionWithException<T, R, E extends Exception> extends
 				notThrowingHandler());
 	}
 
+	/**
+	 * Converts this {@code FunctionWithException} to a {@code Function} returning a
+	 * {@code Result}, holding either the value or the exception.
+	 * <p>
+	 * Unlike {@link #lift()}, the exception is kept ; unlike {@link #stage()}, no
+	 * {@code CompletionStage} is created : the success path only allocates the
+	 * {@code Result}.
+	 *
+	 * @return the function returning a result
+	 * @see #attempted(FunctionWithException)
+	 * @see Result
+	 * @since 3.1.0
+	 */
+	default Function<T, Result<R>> attempt() {
+		return t -> {
+			try {
+				return Result.success(apply(t));
+			} catch (Exception e) {
+				return Result.failure(e);
+			}
+		};
+	}
+
 	/**
 	 * Converts this {@code FunctionWithException} to a lifted {@code Function}
 	 * returning {@code null} (or the value redefined by the method
@@ -104,7 +147,15 @@ public interface FunctionWithException<T, R, E extends Exception> extends
 	 */
 	@Override
 	default Function<T, R> ignore() {
-		return lift().andThen(o -> o.orElse(defaultValue()));
+		return t -> {
+			try {
+				R result = apply(t);
+				return result == null ? defaultValue() : result;
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return defaultValue();
+			}
+		};
 	}
 
 	/**
@@ -120,6 +171,410 @@ public interface FunctionWithException<T, R, E extends Exception> extends
 		return t -> ObjectReturnExceptionHandlerSupport.staged(() -> apply(t));
 	}
 
+	/**
+	 * Converts this {@code FunctionWithException} to a <i>staged</i>
+	 * {@code Function} that return a {@code CompletionStage}, the operation
+	 * being executed asynchronously by the provided executor.
+	 *
+	 * @param executor
+	 *            the executor to be used to run the operation.
+	 * @return the staged operation.
+	 * @throws NullPointerException
+	 *             if executor is null
+	 * @since 3.1.0
+	 * @see #stage()
+	 */
+	@Override
+	default Function<T, CompletionStage<R>> stageAsync(Executor executor) {
+		verifyExecutor(executor);
+		return t -> ObjectReturnExceptionHandlerSupport.stagedAsync(() -> apply(t), executor);
+	}
+
+	/**
+	 * Returns a {@code FunctionWithException} that retries this function
+	 * according to the received policy.
+	 * <p>
+	 * The calling thread waits between the attempts. When all the attempts fail,
+	 * the last exception is thrown.
+	 *
+	 * @param policy
+	 *            the retry policy
+	 * @return the retrying function
+	 * @throws NullPointerException
+	 *             if policy is null
+	 * @since 3.1.0
+	 * @see RetryPolicy
+	 */
+	default FunctionWithException<T, R, E> retry(RetryPolicy policy) {
+		verifyRetryPolicy(policy);
+		return new FunctionWithException<T, R, E>() {
+
+			@Override
+			public R apply(T t) throws E {
+				return policy.execute(() -> FunctionWithException.this.apply(t));
+			}
+
+			@Override
+			public Function<Exception, RuntimeException> exceptionMapper() {
+				return FunctionWithException.this.exceptionMapper();
+			}
+
+			@Override
+			public R defaultValue() {
+				return FunctionWithException.this.defaultValue();
+			}
+
+		};
+	}
+
+	/**
+	 * Converts this {@code FunctionWithException} to a <i>staged</i>
+	 * {@code Function} that retries this function according to the received
+	 * policy.
+	 * <p>
+	 * Each attempt is scheduled on the received executor, so that no thread waits
+	 * between the attempts. When all the attempts fail, the returned
+	 * {@code CompletionStage} is completed with the last exception.
+	 *
+	 * @param policy
+	 *            the retry policy
+	 * @param scheduler
+	 *            the executor used to run the attempts
+	 * @return the retrying function
+	 * @throws NullPointerException
+	 *             if policy or scheduler is null
+	 * @since 3.1.0
+	 * @see RetryPolicy
+	 */
+	default Function<T, CompletionStage<R>> retryAsync(RetryPolicy policy, ScheduledExecutorService scheduler) {
+		verifyRetryPolicy(policy);
+		verifyScheduler(scheduler);
+		return t -> policy.executeAsync(() -> apply(t), scheduler);
+	}
+
+	/**
+	 * Returns a {@code FunctionWithException} that records its invocations in the
+	 * received metrics.
+	 * <p>
+	 * The invocations, the failures and, when enabled, the latency are
+	 * recorded. The failures of the {@code ignore()} or {@code lift()} versions
+	 * of the returned function are also counted as swallowed. When the metrics
+	 * are {@link OperationMetrics#disabled() disabled}, this function is
+	 * returned unchanged.
+	 *
+	 * @param metrics
+	 *            the metrics
+	 * @return the instrumented function
+	 * @throws NullPointerException
+	 *             if metrics is null
+	 * @since 3.1.0
+	 * @see OperationMetrics
+	 */
+	default FunctionWithException<T, R, E> instrument(OperationMetrics metrics) {
+		verifyMetrics(metrics);
+		if (!metrics.isEnabled()) {
+			return this;
+		}
+		return new FunctionWithException<T, R, E>() {
+
+			@Override
+			public R apply(T t) throws E {
+				return metrics.record(() -> FunctionWithException.this.apply(t), false);
+			}
+
+			@Override
+			public Function<T, Optional<R>> lift() {
+				return t -> {
+					try {
+						return Optional.ofNullable(metrics.record(() -> FunctionWithException.this.apply(t), true));
+					} catch (Exception e) {
+						ExceptionEvents.ignored(this, e);
+						return Optional.empty();
+					}
+				};
+			}
+
+			@Override
+			public Function<T, R> ignore() {
+				return t -> {
+					try {
+						R result = metrics.record(() -> FunctionWithException.this.apply(t), true);
+						return result == null ? defaultValue() : result;
+					} catch (Exception e) {
+						ExceptionEvents.ignored(this, e);
+						return defaultValue();
+					}
+				};
+			}
+
+			@Override
+			public Function<Exception, RuntimeException> exceptionMapper() {
+				return FunctionWithException.this.exceptionMapper();
+			}
+
+			@Override
+			public R defaultValue() {
+				return FunctionWithException.this.defaultValue();
+			}
+
+		};
+	}
+
+	/**
+	 * Returns a {@code FunctionWithException} that is protected by the received circuit
+	 * breaker.
+	 * <p>
+	 * When the breaker is open, the returned function fails immediately with the
+	 * preallocated {@link CircuitBreaker.OpenException}. This exception is not
+	 * wrapped by the exception mapper, and {@link #ignore()} returns the
+	 * {@link #defaultValue()} in this case.
+	 *
+	 * @param breaker
+	 *            the circuit breaker
+	 * @return the protected function
+	 * @throws NullPointerException
+	 *             if breaker is null
+	 * @since 3.1.0
+	 * @see CircuitBreaker
+	 */
+	default FunctionWithException<T, R, E> circuitBreaker(CircuitBreaker breaker) {
+		verifyCircuitBreaker(breaker);
+		return new FunctionWithException<T, R, E>() {
+
+			@Override
+			public R apply(T t) throws E {
+				return breaker.execute(() -> FunctionWithException.this.apply(t));
+			}
+
+			@Override
+			public Function<Exception, RuntimeException> exceptionMapper() {
+				return breaker.exceptionMapper(FunctionWithException.this.exceptionMapper());
+			}
+
+			@Override
+			public R defaultValue() {
+				return FunctionWithException.this.defaultValue();
+			}
+
+		};
+	}
+
+	/**
+	 * Returns a {@code FunctionWithException} that is protected by the received
+	 * bulkhead.
+	 * <p>
+	 * When the bulkhead is full, the returned function fails with the
+	 * preallocated {@link Bulkhead.RejectedException}. This exception is mapped
+	 * by the {@link #exceptionMapper()} in {@link #uncheck()} mode, and
+	 * {@link #ignore()} returns the {@link #defaultValue()} in this case.
+	 *
+	 * @param bulkhead
+	 *            the bulkhead
+	 * @return the protected function
+	 * @throws NullPointerException
+	 *             if bulkhead is null
+	 * @since 3.1.0
+	 * @see Bulkhead
+	 */
+	default FunctionWithException<T, R, E> bulkhead(Bulkhead bulkhead) {
+		verifyBulkhead(bulkhead);
+		return new FunctionWithException<T, R, E>() {
+
+			@Override
+			public R apply(T t) throws E {
+				return bulkhead.execute(() -> FunctionWithException.this.apply(t));
+			}
+
+			@Override
+			public Function<Exception, RuntimeException> exceptionMapper() {
+				return FunctionWithException.this.exceptionMapper();
+			}
+
+			@Override
+			public R defaultValue() {
+				return FunctionWithException.this.defaultValue();
+			}
+
+		};
+	}
+
+	/**
+	 * Returns a {@code FunctionWithException} that waits at most the received
+	 * timeout for the result of this function.
+	 * <p>
+	 * The function is executed by the default executor, which starts a new
+	 * virtual thread per call when the running JVM supports them and uses a
+	 * cached pool of daemon threads otherwise. When the deadline is reached,
+	 * the call is interrupted and the returned supplier throws a
+	 * {@code TimeoutException} ; this exception is mapped by the
+	 * {@link #exceptionMapper()} in {@link #uncheck()} mode, and
+	 * {@link #ignore()} returns the {@link #defaultValue()}.
+	 *
+	 * @param timeout
+	 *            the maximal duration of a call
+	 * @return the time limited function
+	 * @throws NullPointerException
+	 *             if timeout is null
+	 * @throws IllegalArgumentException
+	 *             if timeout is not positive
+	 * @since 3.1.0
+	 * @see #timeout(Duration, Executor)
+	 */
+	default FunctionWithException<T, R, Exception> timeout(Duration timeout) {
+		return timeout(timeout, Constants.defaultExecutor());
+	}
+
+	/**
+	 * Returns a {@code FunctionWithException} that waits at most the received
+	 * timeout for the result of this function, executed by the received
+	 * executor.
+	 * <p>
+	 * When the deadline is reached, the call is interrupted and the returned
+	 * function throws a {@code TimeoutException} ; this exception is mapped by
+	 * the {@link #exceptionMapper()} in {@link #uncheck()} mode, and
+	 * {@link #ignore()} returns the {@link #defaultValue()}.
+	 *
+	 * @param timeout
+	 *            the maximal duration of a call
+	 * @param executor
+	 *            the executor used to run the function
+	 * @return the time limited function
+	 * @throws NullPointerException
+	 *             if timeout or executor is null
+	 * @throws IllegalArgumentException
+	 *             if timeout is not positive
+	 * @since 3.1.0
+	 */
+	default FunctionWithException<T, R, Exception> timeout(Duration timeout, Executor executor) {
+		verifyTimeout(timeout);
+		verifyExecutor(executor);
+		return new FunctionWithException<T, R, Exception>() {
+
+			@Override
+			public R apply(T t) throws Exception {
+				return Timeouts.call(() -> FunctionWithException.this.apply(t), timeout, executor);
+			}
+
+			@Override
+			public Function<Exception, RuntimeException> exceptionMapper() {
+				return FunctionWithException.this.exceptionMapper();
+			}
+
+			@Override
+			public R defaultValue() {
+				return FunctionWithException.this.defaultValue();
+			}
+
+		};
+	}
+
+	/**
+	 * Applies this function to all the elements of a list, in one loop.
+	 * <p>
+	 * The failure of one element doesn't stop the batch : the exception is
+	 * recorded in the result, with the index of the element, and the
+	 * {@link #defaultValue()} is used as value for this element.
+	 *
+	 * @param elements
+	 *            the elements
+	 * @return the result of the batch
+	 * @throws NullPointerException
+	 *             if elements is null
+	 * @since 3.1.0
+	 * @see BatchResult
+	 */
+	default BatchResult<R> applyAll(List<? extends T> elements) {
+		return BatchResult.applyAll(this, requireNonNull(elements, "elements can't be null"));
+	}
+
+	/**
+	 * Applies this function to all the elements of an array, in one loop.
+	 * <p>
+	 * The failure of one element doesn't stop the batch : the exception is
+	 * recorded in the result, with the index of the element, and the
+	 * {@link #defaultValue()} is used as value for this element.
+	 *
+	 * @param elements
+	 *            the elements
+	 * @return the result of the batch
+	 * @throws NullPointerException
+	 *             if elements is null
+	 * @since 3.1.0
+	 * @see BatchResult
+	 */
+	default BatchResult<R> applyAll(T[] elements) {
+		return applyAll(Arrays.asList(requireNonNull(elements, "elements can't be null")));
+	}
+
+	/**
+	 * Returns a {@code FunctionWithException} that caches the results of this
+	 * function.
+	 * <p>
+	 * At most {@code maximumSize} results are kept. When this size is exceeded,
+	 * the least recently used results are evicted. Concurrent calls with the same
+	 * arguments compute the result only once. Results don't expire and
+	 * exceptions are not cached.
+	 *
+	 * @param maximumSize
+	 *            the maximum number of cached results.
+	 * @return the memoizing function
+	 * @throws IllegalArgumentException
+	 *             if maximumSize is not positive
+	 * @since 3.1.0
+	 * @see #memoize(int, Duration, boolean)
+	 */
+	default FunctionWithException<T, R, E> memoize(int maximumSize) {
+		return memoize(maximumSize, ChronoUnit.FOREVER.getDuration(), false);
+	}
+
+	/**
+	 * Returns a {@code FunctionWithException} that caches the results of this
+	 * function.
+	 * <p>
+	 * At most {@code maximumSize} results are kept. When this size is exceeded,
+	 * the least recently used results are evicted. Concurrent calls with the same
+	 * arguments compute the result only once. Cached results expire after the
+	 * received duration.
+	 * <p>
+	 * When {@code cacheException} is true, an exception thrown by this function
+	 * is cached like a result : the following calls with the same arguments
+	 * throw the same exception, until it expires.
+	 *
+	 * @param maximumSize
+	 *            the maximum number of cached results.
+	 * @param expireAfterWrite
+	 *            the duration after which a cached result is computed again.
+	 * @param cacheException
+	 *            true if exceptions must be cached.
+	 * @return the memoizing function
+	 * @throws IllegalArgumentException
+	 *             if maximumSize or expireAfterWrite is not positive
+	 * @throws NullPointerException
+	 *             if expireAfterWrite is null
+	 * @since 3.1.0
+	 */
+	default FunctionWithException<T, R, E> memoize(int maximumSize, Duration expireAfterWrite, boolean cacheException) {
+		Memoizer<R> memoizer = new Memoizer<>(maximumSize, expireAfterWrite, cacheException);
+		return new FunctionWithException<T, R, E>() {
+
+			@Override
+			public R apply(T t) throws E {
+				return memoizer.get(t, () -> FunctionWithException.this.apply(t));
+			}
+
+			@Override
+			public Function<Exception, RuntimeException> exceptionMapper() {
+				return FunctionWithException.this.exceptionMapper();
+			}
+
+			@Override
+			public R defaultValue() {
+				return FunctionWithException.this.defaultValue();
+			}
+
+		};
+	}
+
 	/**
 	 * Returns a composed function that first applies the {@code before} function to
 	 * its input, and then applies this function to the result. If evaluation of
@@ -284,6 +739,28 @@ public interface FunctionWithException<T, R, E extends Exception> extends
 		return verifyFunction(function).lift();
 	}
 
+	/**
+	 * Converts a {@code FunctionWithException} to a {@code Function} returning a
+	 * {@code Result}, holding either the value or the exception.
+	 *
+	 * @param function
+	 *            to be converted
+	 * @param <T>
+	 *            the type of the input to the function
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the function returning a result
+	 * @see #attempt()
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @since 3.1.0
+	 */
+	static <T, R, E extends Exception> Function<T, Result<R>> attempted(FunctionWithException<T, R, E> function) {
+		return verifyFunction(function).attempt();
+	}
+
 	/**
 	 * Converts a {@code FunctionWithException} to a lifted {@code Function}
 	 * returning {@code null} in case of exception.
@@ -364,6 +841,296 @@ public interface FunctionWithException<T, R, E extends Exception> extends
 		return verifyFunction(function).stage();
 	}
 
+	/**
+	 * Converts a {@code FunctionWithException} to a staged {@code Function},
+	 * the operation being executed asynchronously by the provided executor.
+	 *
+	 * @param function
+	 *            to be staged
+	 * @param executor
+	 *            the executor to be used to run the operation
+	 * @param <T>
+	 *            the type of the input to the function
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the staged operation
+	 * @throws NullPointerException
+	 *             if function or executor is null
+	 * @since 3.1.0
+	 * @see #stageAsync(Executor)
+	 */
+	static <T, R, E extends Exception> Function<T, CompletionStage<R>> stagedAsync(
+			FunctionWithException<T, R, E> function, Executor executor) {
+		return verifyFunction(function).stageAsync(executor);
+	}
+
+	/**
+	 * Converts a {@code FunctionWithException} to a staged {@code Function},
+	 * the operation being executed asynchronously by the default executor.
+	 *
+	 * @param function
+	 *            to be staged
+	 * @param <T>
+	 *            the type of the input to the function
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the staged operation
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @since 3.1.0
+	 * @see #stageAsync()
+	 */
+	static <T, R, E extends Exception> Function<T, CompletionStage<R>> stagedAsync(
+			FunctionWithException<T, R, E> function) {
+		return verifyFunction(function).stageAsync();
+	}
+
+	/**
+	 * Converts a {@code FunctionWithException} to a memoizing one.
+	 *
+	 * @param function
+	 *            to be memoized
+	 * @param maximumSize
+	 *            the maximum number of cached results.
+	 * @param <T>
+	 *            the type of the input to the function
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the memoizing function
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @throws IllegalArgumentException
+	 *             if maximumSize is not positive
+	 * @since 3.1.0
+	 * @see #memoize(int)
+	 */
+	static <T, R, E extends Exception> FunctionWithException<T, R, E> memoized(
+			FunctionWithException<T, R, E> function, int maximumSize) {
+		return verifyFunction(function).memoize(maximumSize);
+	}
+
+	/**
+	 * Converts a {@code FunctionWithException} to a memoizing one.
+	 *
+	 * @param function
+	 *            to be memoized
+	 * @param maximumSize
+	 *            the maximum number of cached results.
+	 * @param expireAfterWrite
+	 *            the duration after which a cached result is computed again.
+	 * @param cacheException
+	 *            true if exceptions must be cached.
+	 * @param <T>
+	 *            the type of the input to the function
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the memoizing function
+	 * @throws NullPointerException
+	 *             if function or expireAfterWrite is null
+	 * @throws IllegalArgumentException
+	 *             if maximumSize or expireAfterWrite is not positive
+	 * @since 3.1.0
+	 * @see #memoize(int, Duration, boolean)
+	 */
+	static <T, R, E extends Exception> FunctionWithException<T, R, E> memoized(
+			FunctionWithException<T, R, E> function, int maximumSize, Duration expireAfterWrite,
+			boolean cacheException) {
+		return verifyFunction(function).memoize(maximumSize, expireAfterWrite, cacheException);
+	}
+
+	/**
+	 * Converts a {@code FunctionWithException} to one that retries according to
+	 * the received policy.
+	 *
+	 * @param function
+	 *            to be retried
+	 * @param policy
+	 *            the retry policy
+	 * @param <T>
+	 *            the type of the input to the function
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the retrying function
+	 * @throws NullPointerException
+	 *             if function or policy is null
+	 * @since 3.1.0
+	 * @see #retry(RetryPolicy)
+	 */
+	static <T, R, E extends Exception> FunctionWithException<T, R, E> retried(
+			FunctionWithException<T, R, E> function, RetryPolicy policy) {
+		return verifyFunction(function).retry(policy);
+	}
+
+	/**
+	 * Converts a {@code FunctionWithException} to a staged {@code Function}
+	 * that retries according to the received policy, without waiting between
+	 * the attempts.
+	 *
+	 * @param function
+	 *            to be retried
+	 * @param policy
+	 *            the retry policy
+	 * @param scheduler
+	 *            the executor used to run the attempts
+	 * @param <T>
+	 *            the type of the input to the function
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the retrying function
+	 * @throws NullPointerException
+	 *             if function, policy or scheduler is null
+	 * @since 3.1.0
+	 * @see #retryAsync(RetryPolicy, ScheduledExecutorService)
+	 */
+	static <T, R, E extends Exception> Function<T, CompletionStage<R>> retriedAsync(
+			FunctionWithException<T, R, E> function, RetryPolicy policy, ScheduledExecutorService scheduler) {
+		return verifyFunction(function).retryAsync(policy, scheduler);
+	}
+
+	/**
+	 * Converts a {@code FunctionWithException} to one that records its invocations
+	 * in the received metrics.
+	 *
+	 * @param function
+	 *            to be instrumented
+	 * @param metrics
+	 *            the metrics
+	 * @param <T>
+	 *            the type of the input to the function
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the instrumented function
+	 * @throws NullPointerException
+	 *             if function or metrics is null
+	 * @since 3.1.0
+	 * @see #instrument(OperationMetrics)
+	 */
+	static <T, R, E extends Exception> FunctionWithException<T, R, E> instrumented(
+			FunctionWithException<T, R, E> function, OperationMetrics metrics) {
+		return verifyFunction(function).instrument(metrics);
+	}
+
+	/**
+	 * Converts a {@code FunctionWithException} to one that is protected by the
+	 * received circuit breaker.
+	 *
+	 * @param function
+	 *            to be protected
+	 * @param breaker
+	 *            the circuit breaker
+	 * @param <T>
+	 *            the type of the input to the function
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the protected function
+	 * @throws NullPointerException
+	 *             if function or breaker is null
+	 * @since 3.1.0
+	 * @see #circuitBreaker(CircuitBreaker)
+	 */
+	static <T, R, E extends Exception> FunctionWithException<T, R, E> circuitBroken(
+			FunctionWithException<T, R, E> function, CircuitBreaker breaker) {
+		return verifyFunction(function).circuitBreaker(breaker);
+	}
+
+	/**
+	 * Converts a {@code FunctionWithException} to one that is protected by the
+	 * received bulkhead.
+	 *
+	 * @param function
+	 *            to be protected
+	 * @param bulkhead
+	 *            the bulkhead
+	 * @param <T>
+	 *            the type of the input to the function
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the protected function
+	 * @throws NullPointerException
+	 *             if function or bulkhead is null
+	 * @since 3.1.0
+	 * @see #bulkhead(Bulkhead)
+	 */
+	static <T, R, E extends Exception> FunctionWithException<T, R, E> bulkheaded(
+			FunctionWithException<T, R, E> function, Bulkhead bulkhead) {
+		return verifyFunction(function).bulkhead(bulkhead);
+	}
+
+	/**
+	 * Converts a {@code FunctionWithException} to one that waits at most the
+	 * received timeout for the result.
+	 *
+	 * @param function
+	 *            to be time limited
+	 * @param timeout
+	 *            the maximal duration of a call
+	 * @param <T>
+	 *            the type of the input to the function
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the time limited function
+	 * @throws NullPointerException
+	 *             if function or timeout is null
+	 * @throws IllegalArgumentException
+	 *             if timeout is not positive
+	 * @since 3.1.0
+	 * @see #timeout(Duration)
+	 */
+	static <T, R, E extends Exception> FunctionWithException<T, R, Exception> timeLimited(
+			FunctionWithException<T, R, E> function, Duration timeout) {
+		return verifyFunction(function).timeout(timeout);
+	}
+
+	/**
+	 * Converts a {@code FunctionWithException} to one that waits at most the
+	 * received timeout for the result, the function being executed by the
+	 * received executor.
+	 *
+	 * @param function
+	 *            to be time limited
+	 * @param timeout
+	 *            the maximal duration of a call
+	 * @param executor
+	 *            the executor used to run the function
+	 * @param <T>
+	 *            the type of the input to the function
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the time limited function
+	 * @throws NullPointerException
+	 *             if function, timeout or executor is null
+	 * @throws IllegalArgumentException
+	 *             if timeout is not positive
+	 * @since 3.1.0
+	 * @see #timeout(Duration, Executor)
+	 */
+	static <T, R, E extends Exception> FunctionWithException<T, R, Exception> timeLimited(
+			FunctionWithException<T, R, E> function, Duration timeout, Executor executor) {
+		return verifyFunction(function).timeout(timeout, executor);
+	}
+
 	/**
 	 * Converts a {@code FunctionWithException} to a {@code ConsumerWithException}.
 	 *
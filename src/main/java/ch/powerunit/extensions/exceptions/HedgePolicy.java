@@ -0,0 +1,207 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import static ch.powerunit.extensions.exceptions.Constants.toNanos;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Policy to issue a second attempt of a slow operation.
+ * <p>
+ * When the first attempt has not completed after the hedging delay, a second
+ * attempt is started ; the first attempt to succeed wins and the other one is
+ * cancelled (interrupted). The exception of an attempt is only thrown when no
+ * other attempt can succeed : when the first attempt fails before the delay,
+ * or when both attempts failed (in this case, the exception of the first one
+ * to fail is thrown).
+ * <p>
+ * The delay is either fixed, or a percentile of the latency of the previous
+ * attempts, recorded in an {@link OperationMetrics}. The policy is immutable
+ * and can be shared by several operations. It is used with
+ * {@link SupplierWithException#hedge(HedgePolicy)}.
+ *
+ * @since 3.1.0
+ */
+public final class HedgePolicy {
+
+	private final long delayNanos;
+
+	private final OperationMetrics metrics;
+
+	private final double percentile;
+
+	private HedgePolicy(long delayNanos, OperationMetrics metrics, double percentile) {
+		this.delayNanos = delayNanos;
+		this.metrics = metrics;
+		this.percentile = percentile;
+	}
+
+	/**
+	 * Creates a policy that starts the second attempt after a fixed delay.
+	 *
+	 * @param delay
+	 *            the hedging delay
+	 * @return the policy
+	 * @throws NullPointerException
+	 *             if delay is null
+	 * @throws IllegalArgumentException
+	 *             if delay is negative
+	 */
+	public static HedgePolicy fixed(Duration delay) {
+		return new HedgePolicy(toNanos(delay, "delay"), null, 0);
+	}
+
+	/**
+	 * Creates a policy that starts the second attempt after a percentile of the
+	 * latency of the previous attempts.
+	 * <p>
+	 * The latency of each attempt is recorded in the metrics, which must have
+	 * been created by {@link OperationMetrics#withLatency(String)}. Until a
+	 * latency is recorded, the initial delay is used.
+	 *
+	 * @param metrics
+	 *            the metrics recording the latency of the attempts
+	 * @param percentile
+	 *            the percentile, between 0 and 1 (for example {@code 0.95})
+	 * @param initialDelay
+	 *            the hedging delay used before a latency is recorded
+	 * @return the policy
+	 * @throws NullPointerException
+	 *             if metrics or initialDelay is null
+	 * @throws IllegalArgumentException
+	 *             if the metrics doesn't record the latency, if the percentile
+	 *             is not between 0 and 1 or if initialDelay is negative
+	 */
+	public static HedgePolicy percentile(OperationMetrics metrics, double percentile, Duration initialDelay) {
+		requireNonNull(metrics, "metrics can't be null");
+		if (!metrics.isLatencyRecorded()) {
+			throw new IllegalArgumentException("metrics must record the latency");
+		}
+		if (!(percentile >= 0 && percentile <= 1)) {
+			throw new IllegalArgumentException("percentile must be between 0 and 1");
+		}
+		return new HedgePolicy(toNanos(initialDelay, "initialDelay"), metrics, percentile);
+	}
+
+	/**
+	 * Returns the current hedging delay.
+	 *
+	 * @return the delay before the second attempt
+	 */
+	public Duration getDelay() {
+		return Duration.ofNanos(delayNanos());
+	}
+
+	long delayNanos() {
+		if (metrics != null) {
+			long observed = metrics.getLatencyPercentile(percentile);
+			if (observed > 0) {
+				return observed;
+			}
+		}
+		return delayNanos;
+	}
+
+	<T> T execute(SupplierWithException<T, ?> operation, Executor executor) throws Exception {
+		CompletionService<T> attempts = new ExecutorCompletionService<>(executor);
+		SupplierWithException<T, ?> attempt = metrics == null ? operation : recorded(operation, new AtomicBoolean());
+		Future<T> first = attempts.submit(attempt::get);
+		Future<T> second = null;
+		try {
+			Future<T> done = attempts.poll(delayNanos(), TimeUnit.NANOSECONDS);
+			if (done == null) {
+				second = attempts.submit(attempt::get);
+				done = attempts.take();
+			}
+			try {
+				return done.get();
+			} catch (ExecutionException e) {
+				if (second == null) {
+					throw unwrap(e);
+				}
+				try {
+					return attempts.take().get();
+				} catch (ExecutionException ignored) {
+					throw unwrap(e);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw e;
+		} finally {
+			first.cancel(true);
+			if (second != null) {
+				second.cancel(true);
+			}
+		}
+	}
+
+	/**
+	 * Records the latency of the attempts, except the ones completing after
+	 * another attempt succeeded : the cancelled attempt would otherwise lower
+	 * the percentile, and then the delay.
+	 */
+	private <T> SupplierWithException<T, Exception> recorded(SupplierWithException<T, ?> operation,
+			AtomicBoolean succeeded) {
+		return () -> {
+			long start = System.nanoTime();
+			try {
+				T result = operation.get();
+				if (succeeded.compareAndSet(false, true)) {
+					metrics.record(start, null);
+				}
+				return result;
+			} catch (Exception e) {
+				if (!succeeded.get()) {
+					metrics.record(start, e);
+				}
+				throw e;
+			}
+		};
+	}
+
+	private static Exception unwrap(ExecutionException e) {
+		Throwable cause = e.getCause();
+		if (cause instanceof Exception) {
+			return (Exception) cause;
+		}
+		if (cause instanceof Error) {
+			throw (Error) cause;
+		}
+		return e;
+	}
+
+	@Override
+	public String toString() {
+		return metrics == null ? "HedgePolicy[delay=" + Duration.ofNanos(delayNanos) + "]"
+				: "HedgePolicy[percentile=" + percentile + ", metrics=" + metrics.getName() + ", initialDelay="
+						+ Duration.ofNanos(delayNanos) + "]";
+	}
+
+}
@@ -67,7 +67,7 @@ public interface IntBinaryOperatorWithException<E extends Exception> extends
 			try {
 				return applyAsInt(left, right);
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
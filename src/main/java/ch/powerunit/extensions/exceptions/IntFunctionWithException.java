@@ -20,10 +20,14 @@
 package ch.powerunit.extensions.exceptions;
 
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
+import static ch.powerunit.extensions.exceptions.Constants.verifyExecutor;
 import static ch.powerunit.extensions.exceptions.Constants.verifyFunction;
 
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.IntFunction;
 import java.util.function.Supplier;
@@ -73,7 +77,14 @@ public interface IntFunctionWithException<R, E extends Exception> extends
 	 */
 	@Override
 	default IntFunction<R> uncheck() {
-		return t -> ObjectReturnExceptionHandlerSupport.unchecked(() -> apply(t), throwingHandler());
+		Function<Exception, RuntimeException> exceptionMapper = exceptionMapper();
+		return t -> {
+			try {
+				return apply(t);
+			} catch (Exception e) {
+				throw ExceptionEvents.wrapped(this, exceptionMapper, e);
+			}
+		};
 	}
 
 	/**
@@ -89,6 +100,29 @@ public interface IntFunctionWithException<R, E extends Exception> extends
 				notThrowingHandler());
 	}
 
+	/**
+	 * Converts this {@code IntFunctionWithException} to a {@code IntFunction}
+	 * returning a {@code Result}, holding either the value or the exception.
+	 * <p>
+	 * Unlike {@link #lift()}, the exception is kept ; unlike {@link #stage()}, no
+	 * {@code CompletionStage} is created : the success path only allocates the
+	 * {@code Result}.
+	 *
+	 * @return the function returning a result
+	 * @see #attempted(IntFunctionWithException)
+	 * @see Result
+	 * @since 3.1.0
+	 */
+	default IntFunction<Result<R>> attempt() {
+		return t -> {
+			try {
+				return Result.success(apply(t));
+			} catch (Exception e) {
+				return Result.failure(e);
+			}
+		};
+	}
+
 	/**
 	 * Converts this {@code IntFunctionWithException} to a lifted
 	 * {@code IntFunction} returning {@code null} (or the value redefined by the
@@ -99,7 +133,14 @@ public interface IntFunctionWithException<R, E extends Exception> extends
 	 */
 	@Override
 	default IntFunction<R> ignore() {
-		return t -> ObjectReturnExceptionHandlerSupport.unchecked(() -> apply(t), e -> defaultValue());
+		return t -> {
+			try {
+				return apply(t);
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return defaultValue();
+			}
+		};
 	}
 
 	/**
@@ -114,6 +155,94 @@ public interface IntFunctionWithException<R, E extends Exception> extends
 		return t -> ObjectReturnExceptionHandlerSupport.staged(() -> apply(t));
 	}
 
+	/**
+	 * Converts this {@code IntFunctionWithException} to a <i>staged</i>
+	 * {@code IntFunction} that return a {@code CompletionStage}, the operation
+	 * being executed asynchronously by the provided executor.
+	 *
+	 * @param executor
+	 *            the executor to be used to run the operation.
+	 * @return the staged operation.
+	 * @throws NullPointerException
+	 *             if executor is null
+	 * @since 3.1.0
+	 * @see #stage()
+	 */
+	@Override
+	default IntFunction<CompletionStage<R>> stageAsync(Executor executor) {
+		verifyExecutor(executor);
+		return t -> ObjectReturnExceptionHandlerSupport.stagedAsync(() -> apply(t), executor);
+	}
+
+	/**
+	 * Returns a {@code IntFunctionWithException} that caches the results of
+	 * this function.
+	 * <p>
+	 * At most {@code maximumSize} results are kept. When this size is exceeded,
+	 * the least recently used results are evicted. Concurrent calls with the same
+	 * arguments compute the result only once. Results don't expire and
+	 * exceptions are not cached.
+	 *
+	 * @param maximumSize
+	 *            the maximum number of cached results.
+	 * @return the memoizing function
+	 * @throws IllegalArgumentException
+	 *             if maximumSize is not positive
+	 * @since 3.1.0
+	 * @see #memoize(int, Duration, boolean)
+	 */
+	default IntFunctionWithException<R, E> memoize(int maximumSize) {
+		return memoize(maximumSize, ChronoUnit.FOREVER.getDuration(), false);
+	}
+
+	/**
+	 * Returns a {@code IntFunctionWithException} that caches the results of
+	 * this function.
+	 * <p>
+	 * At most {@code maximumSize} results are kept. When this size is exceeded,
+	 * the least recently used results are evicted. Concurrent calls with the same
+	 * arguments compute the result only once. Cached results expire after the
+	 * received duration.
+	 * <p>
+	 * When {@code cacheException} is true, an exception thrown by this function
+	 * is cached like a result : the following calls with the same arguments
+	 * throw the same exception, until it expires.
+	 *
+	 * @param maximumSize
+	 *            the maximum number of cached results.
+	 * @param expireAfterWrite
+	 *            the duration after which a cached result is computed again.
+	 * @param cacheException
+	 *            true if exceptions must be cached.
+	 * @return the memoizing function
+	 * @throws IllegalArgumentException
+	 *             if maximumSize or expireAfterWrite is not positive
+	 * @throws NullPointerException
+	 *             if expireAfterWrite is null
+	 * @since 3.1.0
+	 */
+	default IntFunctionWithException<R, E> memoize(int maximumSize, Duration expireAfterWrite, boolean cacheException) {
+		Memoizer<R> memoizer = new Memoizer<>(maximumSize, expireAfterWrite, cacheException);
+		return new IntFunctionWithException<R, E>() {
+
+			@Override
+			public R apply(int value) throws E {
+				return memoizer.get(value, () -> IntFunctionWithException.this.apply(value));
+			}
+
+			@Override
+			public Function<Exception, RuntimeException> exceptionMapper() {
+				return IntFunctionWithException.this.exceptionMapper();
+			}
+
+			@Override
+			public R defaultValue() {
+				return IntFunctionWithException.this.defaultValue();
+			}
+
+		};
+	}
+
 	/**
 	 * Returns a function that always throw exception.
 	 *
@@ -208,6 +337,26 @@ public interface IntFunctionWithException<R, E extends Exception> extends
 		return verifyFunction(function).lift();
 	}
 
+	/**
+	 * Converts a {@code IntFunctionWithException} to a {@code IntFunction}
+	 * returning a {@code Result}, holding either the value or the exception.
+	 *
+	 * @param function
+	 *            to be converted
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the function returning a result
+	 * @see #attempt()
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @since 3.1.0
+	 */
+	static <R, E extends Exception> IntFunction<Result<R>> attempted(IntFunctionWithException<R, E> function) {
+		return verifyFunction(function).attempt();
+	}
+
 	/**
 	 * Converts a {@code IntFunctionWithException} to a lifted {@code IntFunction}
 	 * returning {@code null} in case of exception.
@@ -282,4 +431,103 @@ public interface IntFunctionWithException<R, E extends Exception> extends
 		return verifyFunction(function).stage();
 	}
 
+	/**
+	 * Converts a {@code IntFunctionWithException} to a staged
+	 * {@code IntFunction}, the operation being executed asynchronously by the
+	 * provided executor.
+	 *
+	 * @param function
+	 *            to be staged
+	 * @param executor
+	 *            the executor to be used to run the operation
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the staged operation
+	 * @throws NullPointerException
+	 *             if function or executor is null
+	 * @since 3.1.0
+	 * @see #stageAsync(Executor)
+	 */
+	static <R, E extends Exception> IntFunction<CompletionStage<R>> stagedAsync(
+			IntFunctionWithException<R, E> function, Executor executor) {
+		return verifyFunction(function).stageAsync(executor);
+	}
+
+	/**
+	 * Converts a {@code IntFunctionWithException} to a staged
+	 * {@code IntFunction}, the operation being executed asynchronously by the
+	 * default executor.
+	 *
+	 * @param function
+	 *            to be staged
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the staged operation
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @since 3.1.0
+	 * @see #stageAsync()
+	 */
+	static <R, E extends Exception> IntFunction<CompletionStage<R>> stagedAsync(
+			IntFunctionWithException<R, E> function) {
+		return verifyFunction(function).stageAsync();
+	}
+
+	/**
+	 * Converts a {@code IntFunctionWithException} to a memoizing one.
+	 *
+	 * @param function
+	 *            to be memoized
+	 * @param maximumSize
+	 *            the maximum number of cached results.
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the memoizing function
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @throws IllegalArgumentException
+	 *             if maximumSize is not positive
+	 * @since 3.1.0
+	 * @see #memoize(int)
+	 */
+	static <R, E extends Exception> IntFunctionWithException<R, E> memoized(
+			IntFunctionWithException<R, E> function, int maximumSize) {
+		return verifyFunction(function).memoize(maximumSize);
+	}
+
+	/**
+	 * Converts a {@code IntFunctionWithException} to a memoizing one.
+	 *
+	 * @param function
+	 *            to be memoized
+	 * @param maximumSize
+	 *            the maximum number of cached results.
+	 * @param expireAfterWrite
+	 *            the duration after which a cached result is computed again.
+	 * @param cacheException
+	 *            true if exceptions must be cached.
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the memoizing function
+	 * @throws NullPointerException
+	 *             if function or expireAfterWrite is null
+	 * @throws IllegalArgumentException
+	 *             if maximumSize or expireAfterWrite is not positive
+	 * @since 3.1.0
+	 * @see #memoize(int, Duration, boolean)
+	 */
+	static <R, E extends Exception> IntFunctionWithException<R, E> memoized(
+			IntFunctionWithException<R, E> function, int maximumSize, Duration expireAfterWrite,
+			boolean cacheException) {
+		return verifyFunction(function).memoize(maximumSize, expireAfterWrite, cacheException);
+	}
+
 }
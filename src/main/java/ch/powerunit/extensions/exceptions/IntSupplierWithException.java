@@ -22,6 +22,7 @@ package ch.powerunit.extensions.exceptions;
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
 import static ch.powerunit.extensions.exceptions.Constants.verifySupplier;
 
+import java.util.OptionalInt;
 import java.util.function.Function;
 import java.util.function.IntSupplier;
 import java.util.function.Supplier;
@@ -67,12 +68,35 @@ public interface IntSupplierWithException<E extends Exception>
 			try {
 				return getAsInt();
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
 	}
 
+	/**
+	 * Converts this {@code IntSupplierWithException} to a <i>lifted</i>
+	 * {@code Supplier} returning an {@code OptionalInt}, empty in case of
+	 * error.
+	 * <p>
+	 * Unlike {@link #lift()}, a failure can be distinguished from a result
+	 * equal to the default value, without boxing the result.
+	 *
+	 * @return the lifted supplier
+	 * @see #liftedOptional(IntSupplierWithException)
+	 * @since 3.1.0
+	 */
+	default Supplier<OptionalInt> liftOptional() {
+		return () -> {
+			try {
+				return OptionalInt.of(getAsInt());
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return OptionalInt.empty();
+			}
+		};
+	}
+
 	/**
 	 * Returns a supplier that always throw exception.
 	 *
@@ -159,6 +183,24 @@ public interface IntSupplierWithException<E extends Exception>
 		return verifySupplier(supplier).lift();
 	}
 
+	/**
+	 * Converts a {@code IntSupplierWithException} to a lifted {@code Supplier}
+	 * returning an {@code OptionalInt}, empty in case of error.
+	 *
+	 * @param supplier
+	 *            to be lifted
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the lifted supplier
+	 * @throws NullPointerException
+	 *             if supplier is null
+	 * @see #liftOptional()
+	 * @since 3.1.0
+	 */
+	static <E extends Exception> Supplier<OptionalInt> liftedOptional(IntSupplierWithException<E> supplier) {
+		return verifySupplier(supplier).liftOptional();
+	}
+
 	/**
 	 * Converts a {@code IntSupplierWithException} to a lifted {@code IntSupplier}
 	 * returning {@code 0} in case of exception.
@@ -22,7 +22,9 @@ package ch.powerunit.extensions.exceptions;
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
 import static ch.powerunit.extensions.exceptions.Constants.verifyFunction;
 
+import java.util.OptionalDouble;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.IntToDoubleFunction;
 import java.util.function.Supplier;
 
@@ -67,12 +69,35 @@ public interface IntToDoubleFunctionWithException<E extends Exception>
 			try {
 				return applyAsDouble(value);
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
 	}
 
+	/**
+	 * Converts this {@code IntToDoubleFunctionWithException} to a <i>lifted</i>
+	 * {@code IntFunction} returning an {@code OptionalDouble}, empty in case of
+	 * error.
+	 * <p>
+	 * Unlike {@link #lift()}, a failure can be distinguished from a result
+	 * equal to the default value, without boxing the result.
+	 *
+	 * @return the lifted function
+	 * @see #liftedOptional(IntToDoubleFunctionWithException)
+	 * @since 3.1.0
+	 */
+	default IntFunction<OptionalDouble> liftOptional() {
+		return value -> {
+			try {
+				return OptionalDouble.of(applyAsDouble(value));
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return OptionalDouble.empty();
+			}
+		};
+	}
+
 	/**
 	 * Returns a function that always throw exception.
 	 *
@@ -159,6 +184,26 @@ public interface IntToDoubleFunctionWithException<E extends Exception>
 		return verifyFunction(function).lift();
 	}
 
+	/**
+	 * Converts a {@code IntToDoubleFunctionWithException} to a lifted
+	 * {@code IntFunction} returning an {@code OptionalDouble}, empty in case of
+	 * error.
+	 *
+	 * @param function
+	 *            to be lifted
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the lifted function
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @see #liftOptional()
+	 * @since 3.1.0
+	 */
+	static <E extends Exception> IntFunction<OptionalDouble> liftedOptional(
+			IntToDoubleFunctionWithException<E> function) {
+		return verifyFunction(function).liftOptional();
+	}
+
 	/**
 	 * Converts a {@code IntToDoubleFunctionWithException} to a lifted
 	 * {@code IntToDoubleFunction} returning {@code 0} in case of exception.
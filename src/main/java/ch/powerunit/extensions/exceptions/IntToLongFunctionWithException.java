@@ -22,7 +22,9 @@ package ch.powerunit.extensions.exceptions;
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
 import static ch.powerunit.extensions.exceptions.Constants.verifyFunction;
 
+import java.util.OptionalLong;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.IntToLongFunction;
 import java.util.function.Supplier;
 
@@ -66,12 +68,35 @@ public interface IntToLongFunctionWithException<E extends Exception> extends
 			try {
 				return applyAsLong(value);
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
 	}
 
+	/**
+	 * Converts this {@code IntToLongFunctionWithException} to a <i>lifted</i>
+	 * {@code IntFunction} returning an {@code OptionalLong}, empty in case of
+	 * error.
+	 * <p>
+	 * Unlike {@link #lift()}, a failure can be distinguished from a result
+	 * equal to the default value, without boxing the result.
+	 *
+	 * @return the lifted function
+	 * @see #liftedOptional(IntToLongFunctionWithException)
+	 * @since 3.1.0
+	 */
+	default IntFunction<OptionalLong> liftOptional() {
+		return value -> {
+			try {
+				return OptionalLong.of(applyAsLong(value));
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return OptionalLong.empty();
+			}
+		};
+	}
+
 	/**
 	 * Returns a function that always throw exception.
 	 *
@@ -158,6 +183,25 @@ public interface IntToLongFunctionWithException<E extends Exception> extends
 		return verifyFunction(function).lift();
 	}
 
+	/**
+	 * Converts a {@code IntToLongFunctionWithException} to a lifted
+	 * {@code IntFunction} returning an {@code OptionalLong}, empty in case of
+	 * error.
+	 *
+	 * @param function
+	 *            to be lifted
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the lifted function
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @see #liftOptional()
+	 * @since 3.1.0
+	 */
+	static <E extends Exception> IntFunction<OptionalLong> liftedOptional(IntToLongFunctionWithException<E> function) {
+		return verifyFunction(function).liftOptional();
+	}
+
 	/**
 	 * Converts a {@code IntToLongFunctionWithException} to a lifted
 	 * {@code IntToLongFunction} returning {@code 0} in case of exception.
@@ -23,7 +23,9 @@ import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper
 import static ch.powerunit.extensions.exceptions.Constants.verifyFunction;
 import static java.util.Objects.requireNonNull;
 
+import java.util.OptionalInt;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.IntUnaryOperator;
 import java.util.function.Supplier;
 
@@ -66,12 +68,35 @@ public interface IntUnaryOperatorWithException<E extends Exception> extends
 			try {
 				return applyAsInt(t);
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
 	}
 
+	/**
+	 * Converts this {@code IntUnaryOperatorWithException} to a <i>lifted</i>
+	 * {@code IntFunction} returning an {@code OptionalInt}, empty in case of
+	 * error.
+	 * <p>
+	 * Unlike {@link #lift()}, a failure can be distinguished from a result
+	 * equal to the default value, without boxing the result.
+	 *
+	 * @return the lifted function
+	 * @see #liftedOptional(IntUnaryOperatorWithException)
+	 * @since 3.1.0
+	 */
+	default IntFunction<OptionalInt> liftOptional() {
+		return operand -> {
+			try {
+				return OptionalInt.of(applyAsInt(operand));
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return OptionalInt.empty();
+			}
+		};
+	}
+
 	/**
 	 * Returns a composed operator that first applies the {@code before} operator to
 	 * its input, and then applies this operator to the result. If evaluation of
@@ -210,6 +235,25 @@ public interface IntUnaryOperatorWithException<E extends Exception> extends
 		return verifyFunction(function).lift();
 	}
 
+	/**
+	 * Converts a {@code IntUnaryOperatorWithException} to a lifted
+	 * {@code IntFunction} returning an {@code OptionalInt}, empty in case of
+	 * error.
+	 *
+	 * @param function
+	 *            to be lifted
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the lifted function
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @see #liftOptional()
+	 * @since 3.1.0
+	 */
+	static <E extends Exception> IntFunction<OptionalInt> liftedOptional(IntUnaryOperatorWithException<E> function) {
+		return verifyFunction(function).liftOptional();
+	}
+
 	/**
 	 * Converts a {@code IntUnaryOperatorWithException} to a lifted
 	 * {@code IntUnaryOperator} returning {@code 0} in case of exception.
@@ -26,6 +26,10 @@ import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 final class InternalHelper {
@@ -33,13 +37,40 @@ final class InternalHelper {
 	private InternalHelper() {
 	}
 
+	@SuppressWarnings("unchecked")
 	public static <T extends ExceptionHandlerSupport<?, ?, ?>> T documented(T target, Supplier<String> toString) {
-		return proxy(target, (proxy, method, args) -> {
-			if (method.toString().endsWith(".toString()")) {
-				return toString.get();
-			}
-			return passthruInvoker(target, method, args);
-		});
+		Object delegate = DocumentedDelegates.delegate(target, toString);
+		if (delegate != null) {
+			return (T) delegate;
+		}
+		return proxy(target, new DocumentedHandler(target, toString));
+	}
+
+	// the operation behind a documented one, to compare them as the operation itself
+	public static Object undocumented(Object obj) {
+		if (obj instanceof DocumentedDelegates.Delegate) {
+			return ((DocumentedDelegates.Delegate<?>) obj).target;
+		}
+		if (obj != null && Proxy.isProxyClass(obj.getClass())
+				&& Proxy.getInvocationHandler(obj) instanceof DocumentedHandler) {
+			return ((DocumentedHandler) Proxy.getInvocationHandler(obj)).target;
+		}
+		return obj;
+	}
+
+	public static <T> CompletionStage<T> async(Callable<T> internal, Executor executor) {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		executor.execute(() -> complete(result, internal));
+		return result;
+	}
+
+	@SuppressWarnings("squid:S1181") // Everything must reach the CompletionStage
+	private static <T> void complete(CompletableFuture<T> result, Callable<T> internal) {
+		try {
+			result.complete(internal.call());
+		} catch (Throwable e) {
+			result.completeExceptionally(e);
+		}
 	}
 
 	@SuppressWarnings("squid:S00112") // This method must throw Throwable
@@ -57,6 +88,29 @@ final class InternalHelper {
 				allInterfaces(target.getClass()).stream().distinct().toArray(Class[]::new), handler);
 	}
 
+	private static final class DocumentedHandler implements InvocationHandler {
+
+		private final Object target;
+
+		private final Supplier<String> toString;
+
+		DocumentedHandler(Object target, Supplier<String> toString) {
+			this.target = target;
+			this.toString = toString;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			if (method.toString().endsWith(".toString()")) {
+				return toString.get();
+			}
+			if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+				return target.equals(undocumented(args[0]));
+			}
+			return passthruInvoker(target, method, args);
+		}
+	}
+
 	private static List<Class<?>> allInterfaces(Class<?> target) {
 		var interfaces = new ArrayList<Class<?>>(Arrays.asList(target.getInterfaces()));
 		if (target.getSuperclass() != null) {
@@ -68,7 +68,7 @@ public interface LongBinaryOperatorWithException<E extends Exception>
 			try {
 				return applyAsLong(left, right);
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
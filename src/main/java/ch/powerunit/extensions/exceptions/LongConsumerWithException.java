@@ -20,10 +20,12 @@
 package ch.powerunit.extensions.exceptions;
 
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
+import static ch.powerunit.extensions.exceptions.Constants.verifyExecutor;
 import static ch.powerunit.extensions.exceptions.Constants.verifyOperation;
 import static java.util.Objects.requireNonNull;
 
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.LongConsumer;
 import java.util.function.LongFunction;
@@ -100,6 +102,25 @@ public interface LongConsumerWithException<E extends Exception> extends
 		return t -> NoReturnExceptionHandlerSupport.staged(() -> accept(t));
 	}
 
+	/**
+	 * Converts this {@code LongConsumerWithException} to a <i>staged</i>
+	 * {@code LongFunction} that return a {@code CompletionStage}, the operation
+	 * being executed asynchronously by the provided executor.
+	 *
+	 * @param executor
+	 *            the executor to be used to run the operation.
+	 * @return the staged operation.
+	 * @throws NullPointerException
+	 *             if executor is null
+	 * @since 3.1.0
+	 * @see #stage()
+	 */
+	@Override
+	default LongFunction<CompletionStage<Void>> stageAsync(Executor executor) {
+		verifyExecutor(executor);
+		return t -> NoReturnExceptionHandlerSupport.stagedAsync(() -> accept(t), executor);
+	}
+
 	/**
 	 * Returns a composed {@code LongConsumerWithException} that performs, in
 	 * sequence, this operation followed by the {@code after} operation. If
@@ -245,6 +266,48 @@ public interface LongConsumerWithException<E extends Exception> extends
 		return verifyOperation(operation).stage();
 	}
 
+	/**
+	 * Converts a {@code LongConsumerWithException} to a staged
+	 * {@code LongFunction}, the operation being executed asynchronously by the
+	 * provided executor.
+	 *
+	 * @param operation
+	 *            to be staged
+	 * @param executor
+	 *            the executor to be used to run the operation
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the staged operation
+	 * @throws NullPointerException
+	 *             if operation or executor is null
+	 * @since 3.1.0
+	 * @see #stageAsync(Executor)
+	 */
+	static <E extends Exception> LongFunction<CompletionStage<Void>> stagedAsync(
+			LongConsumerWithException<E> operation, Executor executor) {
+		return verifyOperation(operation).stageAsync(executor);
+	}
+
+	/**
+	 * Converts a {@code LongConsumerWithException} to a staged
+	 * {@code LongFunction}, the operation being executed asynchronously by the
+	 * default executor.
+	 *
+	 * @param operation
+	 *            to be staged
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the staged operation
+	 * @throws NullPointerException
+	 *             if operation is null
+	 * @since 3.1.0
+	 * @see #stageAsync()
+	 */
+	static <E extends Exception> LongFunction<CompletionStage<Void>> stagedAsync(
+			LongConsumerWithException<E> operation) {
+		return verifyOperation(operation).stageAsync();
+	}
+
 	/**
 	 * Converts a {@code LongConsumerWithException} to a
 	 * {@code ConsumerWithException}.
@@ -20,10 +20,14 @@
 package ch.powerunit.extensions.exceptions;
 
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
+import static ch.powerunit.extensions.exceptions.Constants.verifyExecutor;
 import static ch.powerunit.extensions.exceptions.Constants.verifyFunction;
 
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.LongFunction;
 import java.util.function.Supplier;
@@ -73,7 +77,14 @@ public interface LongFunctionWithException<R, E extends Exception> extends
 	 */
 	@Override
 	default LongFunction<R> uncheck() {
-		return t -> ObjectReturnExceptionHandlerSupport.unchecked(() -> apply(t), throwingHandler());
+		Function<Exception, RuntimeException> exceptionMapper = exceptionMapper();
+		return t -> {
+			try {
+				return apply(t);
+			} catch (Exception e) {
+				throw ExceptionEvents.wrapped(this, exceptionMapper, e);
+			}
+		};
 	}
 
 	/**
@@ -89,6 +100,29 @@ public interface LongFunctionWithException<R, E extends Exception> extends
 				notThrowingHandler());
 	}
 
+	/**
+	 * Converts this {@code LongFunctionWithException} to a {@code LongFunction}
+	 * returning a {@code Result}, holding either the value or the exception.
+	 * <p>
+	 * Unlike {@link #lift()}, the exception is kept ; unlike {@link #stage()}, no
+	 * {@code CompletionStage} is created : the success path only allocates the
+	 * {@code Result}.
+	 *
+	 * @return the function returning a result
+	 * @see #attempted(LongFunctionWithException)
+	 * @see Result
+	 * @since 3.1.0
+	 */
+	default LongFunction<Result<R>> attempt() {
+		return t -> {
+			try {
+				return Result.success(apply(t));
+			} catch (Exception e) {
+				return Result.failure(e);
+			}
+		};
+	}
+
 	/**
 	 * Converts this {@code LongFunctionWithException} to a lifted
 	 * {@code LongFunction} returning {@code null} (or the value redefined by the
@@ -99,7 +133,14 @@ public interface LongFunctionWithException<R, E extends Exception> extends
 	 */
 	@Override
 	default LongFunction<R> ignore() {
-		return t -> ObjectReturnExceptionHandlerSupport.unchecked(() -> apply(t), e -> defaultValue());
+		return t -> {
+			try {
+				return apply(t);
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return defaultValue();
+			}
+		};
 	}
 
 	/**
@@ -114,6 +155,95 @@ public interface LongFunctionWithException<R, E extends Exception> extends
 		return t -> ObjectReturnExceptionHandlerSupport.staged(() -> apply(t));
 	}
 
+	/**
+	 * Converts this {@code LongFunctionWithException} to a <i>staged</i>
+	 * {@code LongFunction} that return a {@code CompletionStage}, the operation
+	 * being executed asynchronously by the provided executor.
+	 *
+	 * @param executor
+	 *            the executor to be used to run the operation.
+	 * @return the staged operation.
+	 * @throws NullPointerException
+	 *             if executor is null
+	 * @since 3.1.0
+	 * @see #stage()
+	 */
+	@Override
+	default LongFunction<CompletionStage<R>> stageAsync(Executor executor) {
+		verifyExecutor(executor);
+		return t -> ObjectReturnExceptionHandlerSupport.stagedAsync(() -> apply(t), executor);
+	}
+
+	/**
+	 * Returns a {@code LongFunctionWithException} that caches the results of
+	 * this function.
+	 * <p>
+	 * At most {@code maximumSize} results are kept. When this size is exceeded,
+	 * the least recently used results are evicted. Concurrent calls with the same
+	 * arguments compute the result only once. Results don't expire and
+	 * exceptions are not cached.
+	 *
+	 * @param maximumSize
+	 *            the maximum number of cached results.
+	 * @return the memoizing function
+	 * @throws IllegalArgumentException
+	 *             if maximumSize is not positive
+	 * @since 3.1.0
+	 * @see #memoize(int, Duration, boolean)
+	 */
+	default LongFunctionWithException<R, E> memoize(int maximumSize) {
+		return memoize(maximumSize, ChronoUnit.FOREVER.getDuration(), false);
+	}
+
+	/**
+	 * Returns a {@code LongFunctionWithException} that caches the results of
+	 * this function.
+	 * <p>
+	 * At most {@code maximumSize} results are kept. When this size is exceeded,
+	 * the least recently used results are evicted. Concurrent calls with the same
+	 * arguments compute the result only once. Cached results expire after the
+	 * received duration.
+	 * <p>
+	 * When {@code cacheException} is true, an exception thrown by this function
+	 * is cached like a result : the following calls with the same arguments
+	 * throw the same exception, until it expires.
+	 *
+	 * @param maximumSize
+	 *            the maximum number of cached results.
+	 * @param expireAfterWrite
+	 *            the duration after which a cached result is computed again.
+	 * @param cacheException
+	 *            true if exceptions must be cached.
+	 * @return the memoizing function
+	 * @throws IllegalArgumentException
+	 *             if maximumSize or expireAfterWrite is not positive
+	 * @throws NullPointerException
+	 *             if expireAfterWrite is null
+	 * @since 3.1.0
+	 */
+	default LongFunctionWithException<R, E> memoize(int maximumSize, Duration expireAfterWrite,
+			boolean cacheException) {
+		Memoizer<R> memoizer = new Memoizer<>(maximumSize, expireAfterWrite, cacheException);
+		return new LongFunctionWithException<R, E>() {
+
+			@Override
+			public R apply(long value) throws E {
+				return memoizer.get(value, () -> LongFunctionWithException.this.apply(value));
+			}
+
+			@Override
+			public Function<Exception, RuntimeException> exceptionMapper() {
+				return LongFunctionWithException.this.exceptionMapper();
+			}
+
+			@Override
+			public R defaultValue() {
+				return LongFunctionWithException.this.defaultValue();
+			}
+
+		};
+	}
+
 	/**
 	 * Returns a function that always throw exception.
 	 *
@@ -208,6 +338,26 @@ public interface LongFunctionWithException<R, E extends Exception> extends
 		return verifyFunction(function).lift();
 	}
 
+	/**
+	 * Converts a {@code LongFunctionWithException} to a {@code LongFunction}
+	 * returning a {@code Result}, holding either the value or the exception.
+	 *
+	 * @param function
+	 *            to be converted
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the function returning a result
+	 * @see #attempt()
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @since 3.1.0
+	 */
+	static <R, E extends Exception> LongFunction<Result<R>> attempted(LongFunctionWithException<R, E> function) {
+		return verifyFunction(function).attempt();
+	}
+
 	/**
 	 * Converts a {@code LongFunctionWithException} to a lifted {@code LongFunction}
 	 * returning {@code null} in case of exception.
@@ -282,4 +432,103 @@ public interface LongFunctionWithException<R, E extends Exception> extends
 		return verifyFunction(function).stage();
 	}
 
+	/**
+	 * Converts a {@code LongFunctionWithException} to a staged
+	 * {@code LongFunction}, the operation being executed asynchronously by the
+	 * provided executor.
+	 *
+	 * @param function
+	 *            to be staged
+	 * @param executor
+	 *            the executor to be used to run the operation
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the staged operation
+	 * @throws NullPointerException
+	 *             if function or executor is null
+	 * @since 3.1.0
+	 * @see #stageAsync(Executor)
+	 */
+	static <R, E extends Exception> LongFunction<CompletionStage<R>> stagedAsync(
+			LongFunctionWithException<R, E> function, Executor executor) {
+		return verifyFunction(function).stageAsync(executor);
+	}
+
+	/**
+	 * Converts a {@code LongFunctionWithException} to a staged
+	 * {@code LongFunction}, the operation being executed asynchronously by the
+	 * default executor.
+	 *
+	 * @param function
+	 *            to be staged
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the staged operation
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @since 3.1.0
+	 * @see #stageAsync()
+	 */
+	static <R, E extends Exception> LongFunction<CompletionStage<R>> stagedAsync(
+			LongFunctionWithException<R, E> function) {
+		return verifyFunction(function).stageAsync();
+	}
+
+	/**
+	 * Converts a {@code LongFunctionWithException} to a memoizing one.
+	 *
+	 * @param function
+	 *            to be memoized
+	 * @param maximumSize
+	 *            the maximum number of cached results.
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the memoizing function
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @throws IllegalArgumentException
+	 *             if maximumSize is not positive
+	 * @since 3.1.0
+	 * @see #memoize(int)
+	 */
+	static <R, E extends Exception> LongFunctionWithException<R, E> memoized(
+			LongFunctionWithException<R, E> function, int maximumSize) {
+		return verifyFunction(function).memoize(maximumSize);
+	}
+
+	/**
+	 * Converts a {@code LongFunctionWithException} to a memoizing one.
+	 *
+	 * @param function
+	 *            to be memoized
+	 * @param maximumSize
+	 *            the maximum number of cached results.
+	 * @param expireAfterWrite
+	 *            the duration after which a cached result is computed again.
+	 * @param cacheException
+	 *            true if exceptions must be cached.
+	 * @param <R>
+	 *            the type of the result of the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the memoizing function
+	 * @throws NullPointerException
+	 *             if function or expireAfterWrite is null
+	 * @throws IllegalArgumentException
+	 *             if maximumSize or expireAfterWrite is not positive
+	 * @since 3.1.0
+	 * @see #memoize(int, Duration, boolean)
+	 */
+	static <R, E extends Exception> LongFunctionWithException<R, E> memoized(
+			LongFunctionWithException<R, E> function, int maximumSize, Duration expireAfterWrite,
+			boolean cacheException) {
+		return verifyFunction(function).memoize(maximumSize, expireAfterWrite, cacheException);
+	}
+
 }
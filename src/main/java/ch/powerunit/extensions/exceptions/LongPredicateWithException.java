@@ -19,11 +19,14 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import static ch.powerunit.extensions.exceptions.Constants.optionalOf;
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
 import static ch.powerunit.extensions.exceptions.Constants.verifyPredicate;
 import static java.util.Objects.requireNonNull;
 
+import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.LongFunction;
 import java.util.function.LongPredicate;
 import java.util.function.Supplier;
 
@@ -67,12 +70,36 @@ public interface LongPredicateWithException<E extends Exception> extends
 			try {
 				return test(value);
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
 	}
 
+	/**
+	 * Converts this {@code LongPredicateWithException} to a <i>lifted</i>
+	 * {@code LongFunction} returning an {@code Optional<Boolean>}, empty in
+	 * case of error.
+	 * <p>
+	 * Unlike {@link #lift()}, a failure can be distinguished from a result
+	 * equal to the default value. The non-empty results are shared instances,
+	 * so that no allocation is done.
+	 *
+	 * @return the lifted predicate
+	 * @see #liftedOptional(LongPredicateWithException)
+	 * @since 3.1.0
+	 */
+	default LongFunction<Optional<Boolean>> liftOptional() {
+		return value -> {
+			try {
+				return optionalOf(test(value));
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return Optional.empty();
+			}
+		};
+	}
+
 	/**
 	 * Returns a composed predicate that represents a short-circuiting logical AND
 	 * of this predicate and another. When evaluating the composed predicate, if
@@ -233,6 +260,26 @@ public interface LongPredicateWithException<E extends Exception> extends
 		return verifyPredicate(predicate).lift();
 	}
 
+	/**
+	 * Converts a {@code LongPredicateWithException} to a lifted
+	 * {@code LongFunction} returning an {@code Optional<Boolean>}, empty in
+	 * case of error.
+	 *
+	 * @param predicate
+	 *            to be lifted
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the lifted predicate
+	 * @throws NullPointerException
+	 *             if predicate is null
+	 * @see #liftOptional()
+	 * @since 3.1.0
+	 */
+	static <E extends Exception> LongFunction<Optional<Boolean>> liftedOptional(
+			LongPredicateWithException<E> predicate) {
+		return verifyPredicate(predicate).liftOptional();
+	}
+
 	/**
 	 * Converts a {@code LongPredicateWithException} to a lifted
 	 * {@code LongPredicate} returning {@code 0} in case of exception.
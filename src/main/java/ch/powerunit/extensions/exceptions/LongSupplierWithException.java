@@ -22,6 +22,7 @@ package ch.powerunit.extensions.exceptions;
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
 import static ch.powerunit.extensions.exceptions.Constants.verifySupplier;
 
+import java.util.OptionalLong;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
 import java.util.function.Supplier;
@@ -67,12 +68,35 @@ public interface LongSupplierWithException<E extends Exception>
 			try {
 				return getAsLong();
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
 	}
 
+	/**
+	 * Converts this {@code LongSupplierWithException} to a <i>lifted</i>
+	 * {@code Supplier} returning an {@code OptionalLong}, empty in case of
+	 * error.
+	 * <p>
+	 * Unlike {@link #lift()}, a failure can be distinguished from a result
+	 * equal to the default value, without boxing the result.
+	 *
+	 * @return the lifted supplier
+	 * @see #liftedOptional(LongSupplierWithException)
+	 * @since 3.1.0
+	 */
+	default Supplier<OptionalLong> liftOptional() {
+		return () -> {
+			try {
+				return OptionalLong.of(getAsLong());
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return OptionalLong.empty();
+			}
+		};
+	}
+
 	/**
 	 * Converts this {@code LongSupplierWithException} to a {@code LongSupplier}
 	 * that wraps exception to {@code RuntimeException}.
@@ -184,6 +208,24 @@ public interface LongSupplierWithException<E extends Exception>
 		return verifySupplier(supplier).lift();
 	}
 
+	/**
+	 * Converts a {@code LongSupplierWithException} to a lifted {@code Supplier}
+	 * returning an {@code OptionalLong}, empty in case of error.
+	 *
+	 * @param supplier
+	 *            to be lifted
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the lifted supplier
+	 * @throws NullPointerException
+	 *             if supplier is null
+	 * @see #liftOptional()
+	 * @since 3.1.0
+	 */
+	static <E extends Exception> Supplier<OptionalLong> liftedOptional(LongSupplierWithException<E> supplier) {
+		return verifySupplier(supplier).liftOptional();
+	}
+
 	/**
 	 * Converts a {@code LongSupplierWithException} to a lifted {@code LongSupplier}
 	 * returning {@code 0} in case of exception.
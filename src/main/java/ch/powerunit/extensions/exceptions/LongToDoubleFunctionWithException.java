@@ -22,7 +22,9 @@ package ch.powerunit.extensions.exceptions;
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
 import static ch.powerunit.extensions.exceptions.Constants.verifyFunction;
 
+import java.util.OptionalDouble;
 import java.util.function.Function;
+import java.util.function.LongFunction;
 import java.util.function.LongToDoubleFunction;
 import java.util.function.Supplier;
 
@@ -67,12 +69,35 @@ public interface LongToDoubleFunctionWithException<E extends Exception>
 			try {
 				return applyAsDouble(value);
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
 	}
 
+	/**
+	 * Converts this {@code LongToDoubleFunctionWithException} to a
+	 * <i>lifted</i> {@code LongFunction} returning an {@code OptionalDouble},
+	 * empty in case of error.
+	 * <p>
+	 * Unlike {@link #lift()}, a failure can be distinguished from a result
+	 * equal to the default value, without boxing the result.
+	 *
+	 * @return the lifted function
+	 * @see #liftedOptional(LongToDoubleFunctionWithException)
+	 * @since 3.1.0
+	 */
+	default LongFunction<OptionalDouble> liftOptional() {
+		return value -> {
+			try {
+				return OptionalDouble.of(applyAsDouble(value));
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return OptionalDouble.empty();
+			}
+		};
+	}
+
 	/**
 	 * Converts this {@code LongToDoubleFunctionWithException} to a
 	 * {@code LongToDoubleFunction} that wraps exception to
@@ -186,6 +211,26 @@ public interface LongToDoubleFunctionWithException<E extends Exception>
 		return verifyFunction(function).lift();
 	}
 
+	/**
+	 * Converts a {@code LongToDoubleFunctionWithException} to a lifted
+	 * {@code LongFunction} returning an {@code OptionalDouble}, empty in case
+	 * of error.
+	 *
+	 * @param function
+	 *            to be lifted
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the lifted function
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @see #liftOptional()
+	 * @since 3.1.0
+	 */
+	static <E extends Exception> LongFunction<OptionalDouble> liftedOptional(
+			LongToDoubleFunctionWithException<E> function) {
+		return verifyFunction(function).liftOptional();
+	}
+
 	/**
 	 * Converts a {@code LongToDoubleFunctionWithException} to a lifted
 	 * {@code LongToDoubleFunction} returning {@code 0} in case of exception.
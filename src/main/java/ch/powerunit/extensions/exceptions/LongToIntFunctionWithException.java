@@ -22,7 +22,9 @@ package ch.powerunit.extensions.exceptions;
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
 import static ch.powerunit.extensions.exceptions.Constants.verifyFunction;
 
+import java.util.OptionalInt;
 import java.util.function.Function;
+import java.util.function.LongFunction;
 import java.util.function.LongToIntFunction;
 import java.util.function.Supplier;
 
@@ -66,12 +68,35 @@ public interface LongToIntFunctionWithException<E extends Exception> extends
 			try {
 				return applyAsInt(value);
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
 	}
 
+	/**
+	 * Converts this {@code LongToIntFunctionWithException} to a <i>lifted</i>
+	 * {@code LongFunction} returning an {@code OptionalInt}, empty in case of
+	 * error.
+	 * <p>
+	 * Unlike {@link #lift()}, a failure can be distinguished from a result
+	 * equal to the default value, without boxing the result.
+	 *
+	 * @return the lifted function
+	 * @see #liftedOptional(LongToIntFunctionWithException)
+	 * @since 3.1.0
+	 */
+	default LongFunction<OptionalInt> liftOptional() {
+		return value -> {
+			try {
+				return OptionalInt.of(applyAsInt(value));
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return OptionalInt.empty();
+			}
+		};
+	}
+
 	/**
 	 * Converts this {@code LongToIntFunctionWithException} to a
 	 * {@code LongToIntFunction} that wraps exception to {@code RuntimeException}.
@@ -183,6 +208,25 @@ public interface LongToIntFunctionWithException<E extends Exception> extends
 		return verifyFunction(function).lift();
 	}
 
+	/**
+	 * Converts a {@code LongToIntFunctionWithException} to a lifted
+	 * {@code LongFunction} returning an {@code OptionalInt}, empty in case of
+	 * error.
+	 *
+	 * @param function
+	 *            to be lifted
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the lifted function
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @see #liftOptional()
+	 * @since 3.1.0
+	 */
+	static <E extends Exception> LongFunction<OptionalInt> liftedOptional(LongToIntFunctionWithException<E> function) {
+		return verifyFunction(function).liftOptional();
+	}
+
 	/**
 	 * Converts a {@code LongToIntFunctionWithException} to a lifted
 	 * {@code LongToIntFunction} returning {@code 0} in case of exception.
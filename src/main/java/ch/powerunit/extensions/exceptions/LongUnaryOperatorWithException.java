@@ -23,7 +23,9 @@ import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper
 import static ch.powerunit.extensions.exceptions.Constants.verifyFunction;
 import static java.util.Objects.requireNonNull;
 
+import java.util.OptionalLong;
 import java.util.function.Function;
+import java.util.function.LongFunction;
 import java.util.function.LongUnaryOperator;
 import java.util.function.Supplier;
 
@@ -68,12 +70,35 @@ public interface LongUnaryOperatorWithException<E extends Exception> extends
 			try {
 				return applyAsLong(operand);
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
 	}
 
+	/**
+	 * Converts this {@code LongUnaryOperatorWithException} to a <i>lifted</i>
+	 * {@code LongFunction} returning an {@code OptionalLong}, empty in case of
+	 * error.
+	 * <p>
+	 * Unlike {@link #lift()}, a failure can be distinguished from a result
+	 * equal to the default value, without boxing the result.
+	 *
+	 * @return the lifted function
+	 * @see #liftedOptional(LongUnaryOperatorWithException)
+	 * @since 3.1.0
+	 */
+	default LongFunction<OptionalLong> liftOptional() {
+		return operand -> {
+			try {
+				return OptionalLong.of(applyAsLong(operand));
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return OptionalLong.empty();
+			}
+		};
+	}
+
 	/**
 	 * Converts this {@code LongUnaryOperatorWithException} to a
 	 * {@code LongUnaryOperator} that convert exception to {@code RuntimeException}.
@@ -238,6 +263,25 @@ public interface LongUnaryOperatorWithException<E extends Exception> extends
 		return verifyFunction(function).lift();
 	}
 
+	/**
+	 * Converts a {@code LongUnaryOperatorWithException} to a lifted
+	 * {@code LongFunction} returning an {@code OptionalLong}, empty in case of
+	 * error.
+	 *
+	 * @param function
+	 *            to be lifted
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the lifted function
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @see #liftOptional()
+	 * @since 3.1.0
+	 */
+	static <E extends Exception> LongFunction<OptionalLong> liftedOptional(LongUnaryOperatorWithException<E> function) {
+		return verifyFunction(function).liftOptional();
+	}
+
 	/**
 	 * Converts a {@code LongUnaryOperatorWithException} to a lifted
 	 * {@code LongUnaryOperator} returning {@code 0} in case of exception.
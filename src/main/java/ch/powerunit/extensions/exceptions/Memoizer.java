@@ -0,0 +1,221 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import static ch.powerunit.extensions.exceptions.Constants.toNanos;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded cache used to support the {@code memoize} methods.
+ * <p>
+ * The entries are kept in a {@code ConcurrentHashMap}. When the maximum size
+ * is exceeded, entries are evicted using the CLOCK algorithm (an approximation
+ * of LRU) : each read marks the entry as referenced, and the eviction hand
+ * gives a second chance to referenced entries before removing them. The
+ * entries are visited in the order of the hand ; an expired entry visited by
+ * the hand is removed even if referenced, and an expired entry is also
+ * removed when it is read.
+ * <p>
+ * The eviction is done by only one thread at a time, the other threads not
+ * waiting for it ; under contention, the size can then temporarily exceed the
+ * maximum size.
+ * <p>
+ * Only one thread computes the value of a missing key ; concurrent callers for
+ * the same key wait for this result. A recursive call for the same key, from
+ * the computation of this key, fails with an {@code IllegalStateException}
+ * instead of waiting forever.
+ *
+ * @param <V>
+ *            the type of the cached values
+ */
+final class Memoizer<V> {
+
+	private static final Object NULL_KEY = new Object();
+
+	private final Map<Object, Entry<V>> entries = new ConcurrentHashMap<>();
+
+	private final int maximumSize;
+
+	private final long expireAfterWriteNanos;
+
+	private final boolean cacheException;
+
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	private Iterator<Map.Entry<Object, Entry<V>>> hand;
+
+	Memoizer(int maximumSize, Duration expireAfterWrite, boolean cacheException) {
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException("maximumSize must be positive");
+		}
+		this.maximumSize = maximumSize;
+		this.expireAfterWriteNanos = toNanos(expireAfterWrite, "expireAfterWrite");
+		if (expireAfterWriteNanos == 0) {
+			throw new IllegalArgumentException("expireAfterWrite must be positive");
+		}
+		this.cacheException = cacheException;
+	}
+
+	/**
+	 * Returns the cached value for this key, computing it if needed.
+	 *
+	 * @param key
+	 *            the key (may be null)
+	 * @param loader
+	 *            the computation of the value
+	 * @return the value
+	 * @throws E
+	 *             the exception of the computation (current or cached)
+	 * @param <E>
+	 *            the type of the exception
+	 */
+	<E extends Exception> V get(Object key, SupplierWithException<V, E> loader) throws E {
+		Object k = key == null ? NULL_KEY : key;
+		Entry<V> entry = entries.get(k);
+		if (entry != null && isExpired(entry, System.nanoTime())) {
+			entries.remove(k, entry);
+			entry = null;
+		}
+		if (entry == null) {
+			Entry<V> created = new Entry<>();
+			entry = entries.putIfAbsent(k, created);
+			if (entry == null) {
+				return load(k, created, loader);
+			}
+		}
+		entry.referenced = true;
+		return entry.await();
+	}
+
+	int size() {
+		return entries.size();
+	}
+
+	@SuppressWarnings("squid:S1181") // Waiting callers must always be released
+	private <E extends Exception> V load(Object key, Entry<V> entry, SupplierWithException<V, E> loader) throws E {
+		try {
+			V value = loader.get();
+			entry.complete(value);
+			evictIfNeeded();
+			return value;
+		} catch (Exception e) {
+			if (cacheException) {
+				entry.fail(e);
+				evictIfNeeded();
+			} else {
+				entries.remove(key, entry);
+				entry.fail(e);
+			}
+			throw e;
+		} catch (Throwable e) {
+			entries.remove(key, entry);
+			entry.fail(e);
+			throw e;
+		}
+	}
+
+	private boolean isExpired(Entry<V> entry, long now) {
+		return expireAfterWriteNanos != Long.MAX_VALUE && entry.isDone()
+				&& now - entry.writeTime >= expireAfterWriteNanos;
+	}
+
+	private void evictIfNeeded() {
+		if (entries.size() <= maximumSize || !evictionLock.tryLock()) {
+			return;
+		}
+		try {
+			long now = System.nanoTime();
+			// Each entry is visited at most twice : first to clear its reference flag,
+			// then to evict it.
+			for (int visited = 0, limit = 2 * entries.size() + 1; entries.size() > maximumSize
+					&& visited < limit; visited++) {
+				if (hand == null || !hand.hasNext()) {
+					hand = entries.entrySet().iterator();
+					if (!hand.hasNext()) {
+						return;
+					}
+				}
+				Map.Entry<Object, Entry<V>> candidate = hand.next();
+				Entry<V> entry = candidate.getValue();
+				if (!entry.isDone()) {
+					continue;
+				}
+				if (isExpired(entry, now) || !entry.referenced) {
+					entries.remove(candidate.getKey(), entry);
+				} else {
+					entry.referenced = false;
+				}
+			}
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private static final class Entry<V> {
+
+		private final CompletableFuture<V> result = new CompletableFuture<>();
+
+		private volatile long writeTime;
+
+		// the thread computing the value, until the value is available
+		private volatile Thread loader = Thread.currentThread();
+
+		volatile boolean referenced;
+
+		void complete(V value) {
+			writeTime = System.nanoTime();
+			loader = null;
+			result.complete(value);
+		}
+
+		void fail(Throwable failure) {
+			writeTime = System.nanoTime();
+			loader = null;
+			result.completeExceptionally(failure);
+		}
+
+		boolean isDone() {
+			return result.isDone();
+		}
+
+		@SuppressWarnings("unchecked")
+		<E extends Exception> V await() throws E {
+			if (loader == Thread.currentThread()) {
+				throw new IllegalStateException("Recursive computation of the same key");
+			}
+			try {
+				return result.join();
+			} catch (CompletionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+				throw (E) cause;
+			}
+		}
+	}
+}
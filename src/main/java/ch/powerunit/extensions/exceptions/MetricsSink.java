@@ -0,0 +1,42 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+/**
+ * Destination of the metrics of the instrumented operations.
+ * <p>
+ * A sink is typically an adapter to a metrics system, reading the counters of
+ * the received {@link OperationMetrics} and publishing them.
+ *
+ * @see OperationMetrics#publishTo(MetricsSink)
+ * @since 3.1.0
+ */
+@FunctionalInterface
+public interface MetricsSink {
+
+	/**
+	 * Publishes the current values of the metrics.
+	 *
+	 * @param metrics
+	 *            the metrics to be published
+	 */
+	void publish(OperationMetrics metrics);
+
+}
@@ -23,6 +23,7 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.failedFuture;
 
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 /**
@@ -119,6 +120,41 @@ public interface NoReturnExceptionHandlerSupport<F, S, Z extends NoReturnExcepti
 	 */
 	S stage();
 
+	/**
+	 * Converts this functional interface to a lifted one, using a
+	 * {@code CompletionStage} as a return value, the operation being executed
+	 * asynchronously by the provided executor.
+	 * <p>
+	 * The returned {@code CompletionStage} is completed exceptionally when the
+	 * operation throws an exception.
+	 *
+	 * @param executor
+	 *            the executor to be used to run the operation.
+	 * @return the lifted function
+	 * @throws NullPointerException
+	 *             if executor is null
+	 * @since 3.1.0
+	 * @see #stage()
+	 */
+	S stageAsync(Executor executor);
+
+	/**
+	 * Converts this functional interface to a lifted one, using a
+	 * {@code CompletionStage} as a return value, the operation being executed
+	 * asynchronously by the default executor.
+	 * <p>
+	 * The default executor starts a new virtual thread per operation when the
+	 * running JVM supports them and uses a cached pool of daemon threads
+	 * otherwise.
+	 *
+	 * @return the lifted function
+	 * @since 3.1.0
+	 * @see #stageAsync(Executor)
+	 */
+	default S stageAsync() {
+		return stageAsync(Constants.defaultExecutor());
+	}
+
 	/**
 	 * Used internally to support the exception interception.
 	 *
@@ -156,6 +192,23 @@ public interface NoReturnExceptionHandlerSupport<F, S, Z extends NoReturnExcepti
 		}
 	}
 
+	/**
+	 * Used internally to support the asynchronous exception interception.
+	 *
+	 * @param internal
+	 *            the call to be done
+	 * @param executor
+	 *            the executor to be used
+	 * @return the completion stage
+	 * @since 3.1.0
+	 */
+	static CompletionStage<Void> stagedAsync(RunnableWithException<?> internal, Executor executor) {
+		return InternalHelper.async(() -> {
+			internal.run();
+			return null;
+		}, executor);
+	}
+
 	/**
 	 * Used internally to support the exception interception.
 	 *
@@ -163,7 +216,7 @@ public interface NoReturnExceptionHandlerSupport<F, S, Z extends NoReturnExcepti
 	 */
 	default Consumer<Exception> throwingHandler() {
 		return e -> {
-			throw exceptionMapper().apply(e);
+			throw ExceptionEvents.wrapped(this, exceptionMapper(), e);
 		};
 	}
 
@@ -173,7 +226,6 @@ public interface NoReturnExceptionHandlerSupport<F, S, Z extends NoReturnExcepti
 	 * @return exception handler to ignore exception control
 	 */
 	default Consumer<Exception> notThrowingHandler() {
-		return e -> {
-		};
+		return e -> ExceptionEvents.ignored(this, e);
 	}
 }
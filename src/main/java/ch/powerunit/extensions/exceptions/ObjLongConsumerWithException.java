@@ -19,10 +19,14 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import static ch.powerunit.extensions.exceptions.Constants.COMPLETED_STAGE;
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
+import static ch.powerunit.extensions.exceptions.Constants.verifyExecutor;
 import static ch.powerunit.extensions.exceptions.Constants.verifyOperation;
+import static java.util.concurrent.CompletableFuture.failedFuture;
 
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.ObjLongConsumer;
@@ -103,6 +107,64 @@ public interface ObjLongConsumerWithException<T, E extends Exception> extends
 		return (t, value) -> NoReturnExceptionHandlerSupport.staged(() -> accept(t, value));
 	}
 
+	/**
+	 * Converts this {@code ObjLongConsumerWithException} to a <i>staged</i>
+	 * {@code BiFunction} that return a {@code CompletionStage}, the operation
+	 * being executed asynchronously by the provided executor.
+	 *
+	 * @param executor
+	 *            the executor to be used to run the operation.
+	 * @return the staged operation.
+	 * @throws NullPointerException
+	 *             if executor is null
+	 * @since 3.1.0
+	 * @see #stage()
+	 */
+	@Override
+	default BiFunction<T, Long, CompletionStage<Void>> stageAsync(Executor executor) {
+		verifyExecutor(executor);
+		return (t, value) -> NoReturnExceptionHandlerSupport.stagedAsync(() -> accept(t, value), executor);
+	}
+
+	/**
+	 * Converts this {@code ObjLongConsumerWithException} to a <i>staged</i>
+	 * {@code StagedObjLongConsumer} that return a {@code CompletionStage}, the
+	 * {@code long} argument being received without boxing.
+	 *
+	 * @return the staged operation.
+	 * @since 3.1.0
+	 * @see #stage()
+	 */
+	default StagedObjLongConsumer<T> stageUnboxed() {
+		return (t, value) -> {
+			try {
+				accept(t, value);
+				return COMPLETED_STAGE;
+			} catch (Exception e) {
+				return failedFuture(e);
+			}
+		};
+	}
+
+	/**
+	 * Converts this {@code ObjLongConsumerWithException} to a <i>staged</i>
+	 * {@code StagedObjLongConsumer} that return a {@code CompletionStage}, the
+	 * {@code long} argument being received without boxing and the operation
+	 * being executed asynchronously by the provided executor.
+	 *
+	 * @param executor
+	 *            the executor to be used to run the operation.
+	 * @return the staged operation.
+	 * @throws NullPointerException
+	 *             if executor is null
+	 * @since 3.1.0
+	 * @see #stageAsync(Executor)
+	 */
+	default StagedObjLongConsumer<T> stageUnboxedAsync(Executor executor) {
+		verifyExecutor(executor);
+		return (t, value) -> NoReturnExceptionHandlerSupport.stagedAsync(() -> accept(t, value), executor);
+	}
+
 	/**
 	 * Returns an operation that always throw exception.
 	 *
@@ -236,6 +298,99 @@ public interface ObjLongConsumerWithException<T, E extends Exception> extends
 		return verifyOperation(operation).stage();
 	}
 
+	/**
+	 * Converts a {@code ObjLongConsumerWithException} to a staged
+	 * {@code BiFunction}, the operation being executed asynchronously by the
+	 * provided executor.
+	 *
+	 * @param operation
+	 *            to be staged
+	 * @param executor
+	 *            the executor to be used to run the operation
+	 * @param <T>
+	 *            the type of the object argument to the operation
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the staged operation
+	 * @throws NullPointerException
+	 *             if operation or executor is null
+	 * @since 3.1.0
+	 * @see #stageAsync(Executor)
+	 */
+	static <T, E extends Exception> BiFunction<T, Long, CompletionStage<Void>> stagedAsync(
+			ObjLongConsumerWithException<T, E> operation, Executor executor) {
+		return verifyOperation(operation).stageAsync(executor);
+	}
+
+	/**
+	 * Converts a {@code ObjLongConsumerWithException} to a staged
+	 * {@code BiFunction}, the operation being executed asynchronously by the
+	 * default executor.
+	 *
+	 * @param operation
+	 *            to be staged
+	 * @param <T>
+	 *            the type of the object argument to the operation
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the staged operation
+	 * @throws NullPointerException
+	 *             if operation is null
+	 * @since 3.1.0
+	 * @see #stageAsync()
+	 */
+	static <T, E extends Exception> BiFunction<T, Long, CompletionStage<Void>> stagedAsync(
+			ObjLongConsumerWithException<T, E> operation) {
+		return verifyOperation(operation).stageAsync();
+	}
+
+	/**
+	 * Converts a {@code ObjLongConsumerWithException} to a staged
+	 * {@code StagedObjLongConsumer}, the {@code long} argument being received
+	 * without boxing.
+	 *
+	 * @param operation
+	 *            to be staged
+	 * @param <T>
+	 *            the type of the object argument to the operation
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the staged operation
+	 * @throws NullPointerException
+	 *             if operation is null
+	 * @since 3.1.0
+	 * @see #stageUnboxed()
+	 */
+	static <T, E extends Exception> StagedObjLongConsumer<T> stagedUnboxed(
+			ObjLongConsumerWithException<T, E> operation) {
+		return verifyOperation(operation).stageUnboxed();
+	}
+
+	/**
+	 * Converts a {@code ObjLongConsumerWithException} to a staged
+	 * {@code StagedObjLongConsumer}, the {@code long} argument being received
+	 * without boxing and the operation being executed asynchronously by the
+	 * provided executor.
+	 *
+	 * @param operation
+	 *            to be staged
+	 * @param executor
+	 *            the executor to be used to run the operation
+	 * @param <T>
+	 *            the type of the object argument to the operation
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the staged operation
+	 * @throws NullPointerException
+	 *             if operation or executor is null
+	 * @since 3.1.0
+	 * @see #stageUnboxedAsync(Executor)
+	 */
+	static <T, E extends Exception> StagedObjLongConsumer<T> stagedUnboxedAsync(
+			ObjLongConsumerWithException<T, E> operation, Executor executor) {
+		return verifyOperation(operation).stageUnboxedAsync(executor);
+	}
+
 	/**
 	 * Converts a {@code ObjLongConsumerWithException} to a
 	 * {@code BiConsumerWithException} returning {@code null}.
@@ -20,6 +20,7 @@
 package ch.powerunit.extensions.exceptions;
 
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
+import static ch.powerunit.extensions.exceptions.Constants.verifyExecutor;
 import static ch.powerunit.extensions.exceptions.Constants.verifyFunction;
 
 import java.io.ObjectInputFilter;
@@ -29,6 +30,7 @@ import java.io.ObjectInputStream;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -89,7 +91,14 @@ public interface ObjectInputFilterWithException<E extends Exception> extends
 	 */
 	@Override
 	default ObjectInputFilter uncheck() {
-		return t -> ObjectReturnExceptionHandlerSupport.unchecked(() -> checkInput(t), throwingHandler());
+		Function<Exception, RuntimeException> exceptionMapper = exceptionMapper();
+		return t -> {
+			try {
+				return checkInput(t);
+			} catch (Exception e) {
+				throw ExceptionEvents.wrapped(this, exceptionMapper, e);
+			}
+		};
 	}
 
 	/**
@@ -106,6 +115,29 @@ public interface ObjectInputFilterWithException<E extends Exception> extends
 				notThrowingHandler());
 	}
 
+	/**
+	 * Converts this {@code ObjectInputFilterWithException} to a {@code Function}
+	 * returning a {@code Result}, holding either the value or the exception.
+	 * <p>
+	 * Unlike {@link #lift()}, the exception is kept ; unlike {@link #stage()}, no
+	 * {@code CompletionStage} is created : the success path only allocates the
+	 * {@code Result}.
+	 *
+	 * @return the function returning a result
+	 * @see #attempted(ObjectInputFilterWithException)
+	 * @see Result
+	 * @since 3.1.0
+	 */
+	default Function<FilterInfo, Result<Status>> attempt() {
+		return t -> {
+			try {
+				return Result.success(checkInput(t));
+			} catch (Exception e) {
+				return Result.failure(e);
+			}
+		};
+	}
+
 	@Override
 	default Status defaultValue() {
 		return Status.UNDECIDED;
@@ -123,7 +155,15 @@ public interface ObjectInputFilterWithException<E extends Exception> extends
 	 */
 	@Override
 	default ObjectInputFilter ignore() {
-		return t -> lift().apply(t).orElse(defaultValue());
+		return t -> {
+			try {
+				Status result = checkInput(t);
+				return result == null ? defaultValue() : result;
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return defaultValue();
+			}
+		};
 	}
 
 	/**
@@ -139,6 +179,25 @@ public interface ObjectInputFilterWithException<E extends Exception> extends
 		return t -> ObjectReturnExceptionHandlerSupport.staged(() -> checkInput(t));
 	}
 
+	/**
+	 * Converts this {@code ObjectInputFilterWithException} to a <i>staged</i>
+	 * {@code Function} that return a {@code CompletionStage}, the operation
+	 * being executed asynchronously by the provided executor.
+	 *
+	 * @param executor
+	 *            the executor to be used to run the operation.
+	 * @return the staged operation.
+	 * @throws NullPointerException
+	 *             if executor is null
+	 * @since 3.1.0
+	 * @see #stage()
+	 */
+	@Override
+	default Function<FilterInfo, CompletionStage<Status>> stageAsync(Executor executor) {
+		verifyExecutor(executor);
+		return t -> ObjectReturnExceptionHandlerSupport.stagedAsync(() -> checkInput(t), executor);
+	}
+
 	/**
 	 * Returns a ObjectInputFilter that always throw exception.
 	 *
@@ -227,6 +286,25 @@ public interface ObjectInputFilterWithException<E extends Exception> extends
 		return verifyFunction(function).lift();
 	}
 
+	/**
+	 * Converts a {@code ObjectInputFilterWithException} to a {@code Function}
+	 * returning a {@code Result}, holding either the value or the exception.
+	 *
+	 * @param function
+	 *            to be converted
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the function returning a result
+	 * @see #attempt()
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @since 3.1.0
+	 */
+	static <E extends Exception> Function<FilterInfo, Result<Status>> attempted(
+			ObjectInputFilterWithException<E> function) {
+		return verifyFunction(function).attempt();
+	}
+
 	/**
 	 * Converts a {@code ObjectInputFilterWithException} to a lifted
 	 * {@code ObjectInputFilter} returning {@link Status#UNDECIDED Status.UNDECIDED}
@@ -299,4 +377,46 @@ public interface ObjectInputFilterWithException<E extends Exception> extends
 		return verifyFunction(function).stage();
 	}
 
+	/**
+	 * Converts a {@code ObjectInputFilterWithException} to a staged
+	 * {@code Function}, the operation being executed asynchronously by the
+	 * provided executor.
+	 *
+	 * @param function
+	 *            to be staged
+	 * @param executor
+	 *            the executor to be used to run the operation
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the staged operation
+	 * @throws NullPointerException
+	 *             if function or executor is null
+	 * @since 3.1.0
+	 * @see #stageAsync(Executor)
+	 */
+	static <E extends Exception> Function<FilterInfo, CompletionStage<Status>> stagedAsync(
+			ObjectInputFilterWithException<E> function, Executor executor) {
+		return verifyFunction(function).stageAsync(executor);
+	}
+
+	/**
+	 * Converts a {@code ObjectInputFilterWithException} to a staged
+	 * {@code Function}, the operation being executed asynchronously by the
+	 * default executor.
+	 *
+	 * @param function
+	 *            to be staged
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the staged operation
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @since 3.1.0
+	 * @see #stageAsync()
+	 */
+	static <E extends Exception> Function<FilterInfo, CompletionStage<Status>> stagedAsync(
+			ObjectInputFilterWithException<E> function) {
+		return verifyFunction(function).stageAsync();
+	}
+
 }
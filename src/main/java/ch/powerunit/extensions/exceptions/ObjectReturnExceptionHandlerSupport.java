@@ -25,6 +25,7 @@ import static java.util.concurrent.CompletableFuture.failedFuture;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 /**
@@ -61,6 +62,10 @@ public interface ObjectReturnExceptionHandlerSupport<F, L, S, T, Z extends Objec
 	 * 	}
 	 * }
 	 * </pre>
+	 * <p>
+	 * The exception mapper is resolved once, when this method is called. The
+	 * returned operation doesn't allocate anything by itself when no exception is
+	 * thrown.
 	 *
 	 * @return the unchecked operation
 	 * @see #lift()
@@ -107,6 +112,9 @@ public interface ObjectReturnExceptionHandlerSupport<F, L, S, T, Z extends Objec
 	 * 	}
 	 * }
 	 * </pre>
+	 * <p>
+	 * The returned operation doesn't go through {@code Optional} and doesn't
+	 * allocate anything by itself when no exception is thrown.
 	 *
 	 * @return the operation that ignore error
 	 * @see #uncheck()
@@ -125,6 +133,42 @@ public interface ObjectReturnExceptionHandlerSupport<F, L, S, T, Z extends Objec
 	 */
 	S stage();
 
+	/**
+	 * Converts this functional interface to the corresponding java standard
+	 * functional interface with staged result, the operation being executed
+	 * asynchronously by the provided executor.
+	 * <p>
+	 * The returned {@code CompletionStage} is completed exceptionally when the
+	 * operation throws an exception.
+	 *
+	 * @param executor
+	 *            the executor to be used to run the operation.
+	 * @return the operation supporting stage.
+	 * @throws NullPointerException
+	 *             if executor is null
+	 * @since 3.1.0
+	 * @see #stage()
+	 * @see CompletionStage
+	 */
+	S stageAsync(Executor executor);
+
+	/**
+	 * Converts this functional interface to the corresponding java standard
+	 * functional interface with staged result, the operation being executed
+	 * asynchronously by the default executor.
+	 * <p>
+	 * The default executor starts a new virtual thread per operation when the
+	 * running JVM supports them and uses a cached pool of daemon threads
+	 * otherwise.
+	 *
+	 * @return the operation supporting stage.
+	 * @since 3.1.0
+	 * @see #stageAsync(Executor)
+	 */
+	default S stageAsync() {
+		return stageAsync(Constants.defaultExecutor());
+	}
+
 	/**
 	 * Defines the default value (by default {@code null}) returned by the ignore
 	 * and ignored method.
@@ -178,6 +222,22 @@ public interface ObjectReturnExceptionHandlerSupport<F, L, S, T, Z extends Objec
 		}
 	}
 
+	/**
+	 * Used internally to support the asynchronous exception interception.
+	 *
+	 * @param internal
+	 *            the call to be done
+	 * @param executor
+	 *            the executor to be used
+	 * @return the completion stage
+	 * @param <T>
+	 *            type of the return value
+	 * @since 3.1.0
+	 */
+	static <T> CompletionStage<T> stagedAsync(Callable<T> internal, Executor executor) {
+		return InternalHelper.async(internal, executor);
+	}
+
 	/**
 	 * Used internally to support the exception interception.
 	 *
@@ -185,7 +245,7 @@ public interface ObjectReturnExceptionHandlerSupport<F, L, S, T, Z extends Objec
 	 */
 	default Function<Exception, T> throwingHandler() {
 		return e -> {
-			throw exceptionMapper().apply(e);
+			throw ExceptionEvents.wrapped(this, exceptionMapper(), e);
 		};
 	}
 
@@ -195,6 +255,9 @@ public interface ObjectReturnExceptionHandlerSupport<F, L, S, T, Z extends Objec
 	 * @return exception handler to ignore exception
 	 */
 	default Function<Exception, Optional<T>> notThrowingHandler() {
-		return e -> Optional.empty();
+		return e -> {
+			ExceptionEvents.ignored(this, e);
+			return Optional.empty();
+		};
 	}
 }
@@ -0,0 +1,295 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Counters of the calls of instrumented operations.
+ * <p>
+ * An {@code OperationMetrics} counts the invocations, the failures (by class
+ * of exception) and the failures that were swallowed by the {@code ignore()}
+ * or {@code lift()} adapters. Optionally, the latency of the invocations is
+ * recorded in a histogram with one bucket by power of two of nanoseconds. The
+ * counters are striped ({@code LongAdder}), so that concurrent operations don't
+ * contend on them.
+ * <p>
+ * The metrics are used with the {@code instrument} methods, for example
+ * {@link FunctionWithException#instrument(OperationMetrics)}. Instrumenting
+ * with the {@link #disabled()} metrics returns the operation itself, so that
+ * the instrumentation can be switched off at no cost.
+ *
+ * @see MetricsSink
+ * @since 3.1.0
+ */
+public final class OperationMetrics {
+
+	private static final OperationMetrics DISABLED = new OperationMetrics("disabled", false);
+
+	private static final int BUCKETS = 64;
+
+	private final String name;
+
+	private final LongAdder invocations = new LongAdder();
+
+	private final LongAdder failures = new LongAdder();
+
+	private final LongAdder swallowed = new LongAdder();
+
+	private final Map<Class<?>, LongAdder> failuresByClass = new ConcurrentHashMap<>();
+
+	private final Function<Class<?>, LongAdder> newCounter = k -> new LongAdder();
+
+	private final LongAdder[] latency;
+
+	private OperationMetrics(String name, boolean withLatency) {
+		this.name = name;
+		if (withLatency) {
+			latency = new LongAdder[BUCKETS];
+			for (int i = 0; i < BUCKETS; i++) {
+				latency[i] = new LongAdder();
+			}
+		} else {
+			latency = null;
+		}
+	}
+
+	/**
+	 * Creates metrics counting the invocations and the failures.
+	 *
+	 * @param name
+	 *            the name of the metrics
+	 * @return the metrics
+	 * @throws NullPointerException
+	 *             if name is null
+	 */
+	public static OperationMetrics of(String name) {
+		return new OperationMetrics(requireNonNull(name, "name can't be null"), false);
+	}
+
+	/**
+	 * Creates metrics counting the invocations and the failures, and recording
+	 * the latency of the invocations.
+	 *
+	 * @param name
+	 *            the name of the metrics
+	 * @return the metrics
+	 * @throws NullPointerException
+	 *             if name is null
+	 */
+	public static OperationMetrics withLatency(String name) {
+		return new OperationMetrics(requireNonNull(name, "name can't be null"), true);
+	}
+
+	/**
+	 * Returns the disabled metrics. Instrumenting an operation with these
+	 * metrics returns the operation unchanged.
+	 *
+	 * @return the disabled metrics
+	 */
+	public static OperationMetrics disabled() {
+		return DISABLED;
+	}
+
+	/**
+	 * Checks if these metrics are enabled.
+	 *
+	 * @return false for the {@link #disabled()} metrics.
+	 */
+	public boolean isEnabled() {
+		return this != DISABLED;
+	}
+
+	/**
+	 * Returns the name of these metrics.
+	 *
+	 * @return the name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the number of invocations.
+	 *
+	 * @return the number of invocations
+	 */
+	public long getInvocations() {
+		return invocations.sum();
+	}
+
+	/**
+	 * Returns the number of failed invocations.
+	 *
+	 * @return the number of failures
+	 */
+	public long getFailures() {
+		return failures.sum();
+	}
+
+	/**
+	 * Returns the number of failed invocations, by class of the exception.
+	 *
+	 * @return a new map of the number of failures by exception class
+	 */
+	public Map<Class<?>, Long> getFailuresByClass() {
+		Map<Class<?>, Long> result = new ConcurrentHashMap<>();
+		failuresByClass.forEach((k, v) -> result.put(k, v.sum()));
+		return result;
+	}
+
+	/**
+	 * Returns the number of failures that were swallowed by {@code ignore()} or
+	 * {@code lift()}.
+	 *
+	 * @return the number of swallowed failures
+	 */
+	public long getSwallowed() {
+		return swallowed.sum();
+	}
+
+	/**
+	 * Checks if the latency is recorded.
+	 *
+	 * @return true if the latency is recorded
+	 */
+	public boolean isLatencyRecorded() {
+		return latency != null;
+	}
+
+	/**
+	 * Returns an approximation of a percentile of the latency.
+	 * <p>
+	 * The result is the upper bound of the bucket containing the percentile ;
+	 * it is at most twice the real value.
+	 *
+	 * @param percentile
+	 *            the percentile, between 0 and 1 (for example {@code 0.99})
+	 * @return the latency in nanoseconds, 0 if no latency was recorded.
+	 * @throws IllegalArgumentException
+	 *             if percentile is not between 0 and 1
+	 */
+	public long getLatencyPercentile(double percentile) {
+		if (!(percentile >= 0 && percentile <= 1)) {
+			throw new IllegalArgumentException("percentile must be between 0 and 1");
+		}
+		if (latency == null) {
+			return 0;
+		}
+		long[] counts = new long[BUCKETS];
+		long total = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			counts[i] = latency[i].sum();
+			total += counts[i];
+		}
+		if (total == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile * total));
+		long cumulated = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			cumulated += counts[i];
+			if (cumulated >= rank) {
+				// for the last bucket, this overflows to Long.MAX_VALUE
+				return (1L << i) - 1;
+			}
+		}
+		return Long.MAX_VALUE;
+	}
+
+	/**
+	 * Publishes these metrics to the sink.
+	 *
+	 * @param sink
+	 *            the sink
+	 * @throws NullPointerException
+	 *             if sink is null
+	 */
+	public void publishTo(MetricsSink sink) {
+		requireNonNull(sink, "sink can't be null").publish(this);
+	}
+
+	/**
+	 * Executes the operation and records its invocation.
+	 *
+	 * @param swallowing
+	 *            true if a failure of the operation will be swallowed by the
+	 *            caller.
+	 */
+	<T, E extends Exception> T record(SupplierWithException<T, E> operation, boolean swallowing) throws E {
+		invocations.increment();
+		long start = latency == null ? 0 : System.nanoTime();
+		try {
+			return operation.get();
+		} catch (Exception e) {
+			recordFailure(e, swallowing);
+			throw e;
+		} finally {
+			recordLatency(start);
+		}
+	}
+
+	/**
+	 * Records an invocation that was executed by the caller.
+	 *
+	 * @param start
+	 *            the {@code System.nanoTime()} at the start of the invocation
+	 * @param failure
+	 *            the exception of the invocation, null for a success
+	 */
+	void record(long start, Exception failure) {
+		invocations.increment();
+		if (failure != null) {
+			recordFailure(failure, false);
+		}
+		recordLatency(start);
+	}
+
+	private void recordFailure(Exception e, boolean swallowing) {
+		failures.increment();
+		LongAdder counter = failuresByClass.get(e.getClass());
+		if (counter == null) {
+			counter = failuresByClass.computeIfAbsent(e.getClass(), newCounter);
+		}
+		counter.increment();
+		if (swallowing) {
+			swallowed.increment();
+		}
+	}
+
+	private void recordLatency(long start) {
+		if (latency != null) {
+			long duration = Math.max(0, System.nanoTime() - start);
+			latency[BUCKETS - Long.numberOfLeadingZeros(duration)].increment();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "OperationMetrics[name=" + name + ", invocations=" + getInvocations() + ", failures=" + getFailures()
+				+ ", swallowed=" + getSwallowed() + "]";
+	}
+
+}
@@ -19,12 +19,14 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import static ch.powerunit.extensions.exceptions.Constants.optionalOf;
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
 import static ch.powerunit.extensions.exceptions.Constants.verifyPredicate;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -68,12 +70,36 @@ public interface PathMatcherWithException<E extends Exception>
 			try {
 				return matches(value);
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
 	}
 
+	/**
+	 * Converts this {@code PathMatcherWithException} to a <i>lifted</i>
+	 * {@code Function} returning an {@code Optional<Boolean>}, empty in case of
+	 * error.
+	 * <p>
+	 * Unlike {@link #lift()}, a failure can be distinguished from a result
+	 * equal to the default value. The non-empty results are shared instances,
+	 * so that no allocation is done.
+	 *
+	 * @return the lifted predicate
+	 * @see #liftedOptional(PathMatcherWithException)
+	 * @since 3.1.0
+	 */
+	default Function<Path, Optional<Boolean>> liftOptional() {
+		return path -> {
+			try {
+				return optionalOf(matches(path));
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return Optional.empty();
+			}
+		};
+	}
+
 	/**
 	 * Returns a composed PathMatcher that represents a short-circuiting logical AND
 	 * of this PathMatcher and another. When evaluating the composed predicate, if
@@ -239,6 +265,25 @@ public interface PathMatcherWithException<E extends Exception>
 		return verifyPredicate(predicate).lift();
 	}
 
+	/**
+	 * Converts a {@code PathMatcherWithException} to a lifted {@code Function}
+	 * returning an {@code Optional<Boolean>}, empty in case of error.
+	 *
+	 * @param predicate
+	 *            to be lifted
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the lifted predicate
+	 * @throws NullPointerException
+	 *             if predicate is null
+	 * @see #liftOptional()
+	 * @since 3.1.0
+	 */
+	static <E extends Exception> Function<Path, Optional<Boolean>> liftedOptional(
+			PathMatcherWithException<E> predicate) {
+		return verifyPredicate(predicate).liftOptional();
+	}
+
 	/**
 	 * Converts a {@code PathMatcherWithException} to a lifted {@code PathMatcher}
 	 * returning {@code false} in case of exception.
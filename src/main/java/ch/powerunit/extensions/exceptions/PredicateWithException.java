@@ -19,10 +19,12 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import static ch.powerunit.extensions.exceptions.Constants.optionalOf;
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
 import static ch.powerunit.extensions.exceptions.Constants.verifyPredicate;
 import static java.util.Objects.requireNonNull;
 
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -68,12 +70,36 @@ public interface PredicateWithException<T, E extends Exception> extends
 			try {
 				return test(value);
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
 	}
 
+	/**
+	 * Converts this {@code PredicateWithException} to a <i>lifted</i>
+	 * {@code Function} returning an {@code Optional<Boolean>}, empty in case of
+	 * error.
+	 * <p>
+	 * Unlike {@link #lift()}, a failure can be distinguished from a result
+	 * equal to the default value. The non-empty results are shared instances,
+	 * so that no allocation is done.
+	 *
+	 * @return the lifted predicate
+	 * @see #liftedOptional(PredicateWithException)
+	 * @since 3.1.0
+	 */
+	default Function<T, Optional<Boolean>> liftOptional() {
+		return t -> {
+			try {
+				return optionalOf(test(t));
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return Optional.empty();
+			}
+		};
+	}
+
 	/**
 	 * Returns a composed predicate that represents a short-circuiting logical AND
 	 * of this predicate and another. When evaluating the composed predicate, if
@@ -245,6 +271,27 @@ public interface PredicateWithException<T, E extends Exception> extends
 		return verifyPredicate(predicate).lift();
 	}
 
+	/**
+	 * Converts a {@code PredicateWithException} to a lifted {@code Function}
+	 * returning an {@code Optional<Boolean>}, empty in case of error.
+	 *
+	 * @param predicate
+	 *            to be lifted
+	 * @param <T>
+	 *            the type of the input to the predicate
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the lifted predicate
+	 * @throws NullPointerException
+	 *             if predicate is null
+	 * @see #liftOptional()
+	 * @since 3.1.0
+	 */
+	static <T, E extends Exception> Function<T, Optional<Boolean>> liftedOptional(
+			PredicateWithException<T, E> predicate) {
+		return verifyPredicate(predicate).liftOptional();
+	}
+
 	/**
 	 * Converts a {@code PredicateWithException} to a lifted {@code Predicate}
 	 * returning {@code false} in case of exception.
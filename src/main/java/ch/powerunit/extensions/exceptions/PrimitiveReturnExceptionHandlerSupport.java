@@ -19,8 +19,6 @@
  */
 package ch.powerunit.extensions.exceptions;
 
-import java.util.function.Function;
-
 /**
  * Root interface to support global operations related to exception handling for
  * functional interface with primitive return value.
@@ -118,20 +116,4 @@ public interface PrimitiveReturnExceptionHandlerSupport<F, Z extends PrimitiveRe
 	 */
 	F uncheckOrIgnore(boolean uncheck);
 
-	/**
-	 * Internal function to throw an exception in case of error and uncheck mode.
-	 *
-	 * @param uncheck
-	 *            true if exception must be thrown.
-	 * @param e
-	 *            the current exception
-	 * @param exceptionMapper
-	 *            the mapper to create exception
-	 */
-	static void handleException(boolean uncheck, Exception e, Function<Exception, RuntimeException> exceptionMapper) {
-		if (uncheck) {
-			throw exceptionMapper.apply(e);
-		}
-	}
-
 }
@@ -0,0 +1,298 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import static ch.powerunit.extensions.exceptions.Constants.toNanos;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket rate limiter, that adapts its rate to the throttling of the
+ * called system.
+ * <p>
+ * The bucket is filled at the current rate, up to the burst size ; each call
+ * takes one token, waiting for it if needed. When a maximal wait is defined
+ * and the next token is not available within this wait, the call is rejected
+ * with a preallocated {@link RejectedException}, that goes through the
+ * exception mapper of the operation.
+ * <p>
+ * When a call throws an exception that is an instance of one of the
+ * throttling classes (see {@link #adaptOn(double, double, double, Class...)}),
+ * the rate is multiplied by the decrease factor (without going under the
+ * minimal rate). The rate is then increased linearly by the recovery speed,
+ * until the maximal rate is reached again.
+ * <p>
+ * The rate limiter can be shared by several operations. It is used with
+ * {@link RunnableWithException#rateLimit(RateLimiter)} and
+ * {@link ConsumerWithException#rateLimit(RateLimiter)}.
+ *
+ * @since 3.1.0
+ */
+public final class RateLimiter {
+
+	/**
+	 * Exception thrown when a call is rejected by a rate limiter.
+	 * <p>
+	 * This exception is preallocated and has no stack trace.
+	 */
+	public static final class RejectedException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		private RejectedException() {
+			super("Rate limit exceeded", null, false, false);
+		}
+	}
+
+	private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	private static final Class<?>[] NO_THROTTLING = new Class<?>[0];
+
+	private final RejectedException rejectedException = new RejectedException();
+
+	private final LongSupplier clock;
+
+	private final double maxRate;
+
+	private final int burst;
+
+	private double rate;
+
+	private double storedTokens;
+
+	private long nextFreeNanos;
+
+	private long lastAdjustNanos;
+
+	private double minRate;
+
+	private double decreaseFactor = 1;
+
+	private double recoveryPerSecond;
+
+	private volatile Class<?>[] throttleOn = NO_THROTTLING;
+
+	private long maxWaitNanos = Long.MAX_VALUE;
+
+	RateLimiter(double permitsPerSecond, int burst, LongSupplier clock) {
+		if (!(permitsPerSecond > 0) || Double.isInfinite(permitsPerSecond)) {
+			throw new IllegalArgumentException("permitsPerSecond must be positive");
+		}
+		if (burst <= 0) {
+			throw new IllegalArgumentException("burst must be positive");
+		}
+		this.clock = clock;
+		this.maxRate = permitsPerSecond;
+		this.rate = permitsPerSecond;
+		this.minRate = permitsPerSecond;
+		this.burst = burst;
+		long now = clock.getAsLong();
+		this.nextFreeNanos = now;
+		this.lastAdjustNanos = now;
+	}
+
+	/**
+	 * Creates a rate limiter, without burst.
+	 *
+	 * @param permitsPerSecond
+	 *            the maximal rate
+	 * @return the rate limiter
+	 * @throws IllegalArgumentException
+	 *             if permitsPerSecond is not positive
+	 */
+	public static RateLimiter of(double permitsPerSecond) {
+		return of(permitsPerSecond, 1);
+	}
+
+	/**
+	 * Creates a rate limiter, allowing bursts of calls after a period of
+	 * inactivity.
+	 *
+	 * @param permitsPerSecond
+	 *            the maximal rate
+	 * @param burst
+	 *            the maximal number of tokens stored in the bucket
+	 * @return the rate limiter
+	 * @throws IllegalArgumentException
+	 *             if permitsPerSecond or burst is not positive
+	 */
+	public static RateLimiter of(double permitsPerSecond, int burst) {
+		return new RateLimiter(permitsPerSecond, burst, System::nanoTime);
+	}
+
+	/**
+	 * Makes this rate limiter adaptive.
+	 *
+	 * @param decreaseFactor
+	 *            the factor applied to the rate after a throttling exception,
+	 *            between 0 (excluded) and 1 (for example {@code 0.5})
+	 * @param minRate
+	 *            the minimal rate, between 0 (excluded) and the maximal rate
+	 * @param recoveryPerSecond
+	 *            the increase of the rate per second, until the maximal rate
+	 *            is reached
+	 * @param throttleOn
+	 *            the classes of the exceptions that signal a throttling
+	 * @return this rate limiter
+	 * @throws NullPointerException
+	 *             if throttleOn is null
+	 * @throws IllegalArgumentException
+	 *             if one of the values is not in the expected range, or if
+	 *             throttleOn is empty
+	 */
+	@SafeVarargs
+	public final synchronized RateLimiter adaptOn(double decreaseFactor, double minRate, double recoveryPerSecond,
+			Class<? extends Exception>... throttleOn) {
+		if (!(decreaseFactor > 0 && decreaseFactor <= 1)) {
+			throw new IllegalArgumentException("decreaseFactor must be between 0 and 1");
+		}
+		if (!(minRate > 0 && minRate <= maxRate)) {
+			throw new IllegalArgumentException("minRate must be between 0 and the maximal rate");
+		}
+		if (!(recoveryPerSecond >= 0) || Double.isInfinite(recoveryPerSecond)) {
+			throw new IllegalArgumentException("recoveryPerSecond can't be negative");
+		}
+		if (requireNonNull(throttleOn, "throttleOn can't be null").length == 0) {
+			throw new IllegalArgumentException("throttleOn can't be empty");
+		}
+		this.decreaseFactor = decreaseFactor;
+		this.minRate = minRate;
+		this.recoveryPerSecond = recoveryPerSecond;
+		Class<?>[] classes = new Class<?>[throttleOn.length];
+		for (int i = 0; i < classes.length; i++) {
+			classes[i] = throttleOn[i];
+		}
+		this.throttleOn = classes;
+		return this;
+	}
+
+	/**
+	 * Defines the maximal wait for a token.
+	 * <p>
+	 * By default, the calls wait as long as needed.
+	 *
+	 * @param maxWait
+	 *            the maximal wait
+	 * @return this rate limiter
+	 * @throws NullPointerException
+	 *             if maxWait is null
+	 * @throws IllegalArgumentException
+	 *             if maxWait is negative
+	 */
+	public synchronized RateLimiter withMaxWait(Duration maxWait) {
+		this.maxWaitNanos = toNanos(maxWait, "maxWait");
+		return this;
+	}
+
+	/**
+	 * Returns the current rate.
+	 *
+	 * @return the current number of permits per second
+	 */
+	public synchronized double getRate() {
+		recover(clock.getAsLong());
+		return rate;
+	}
+
+	/**
+	 * Returns the maximal rate.
+	 *
+	 * @return the maximal number of permits per second
+	 */
+	public double getMaxRate() {
+		return maxRate;
+	}
+
+	<T, E extends Exception> T execute(SupplierWithException<T, E> operation) throws E {
+		acquire();
+		try {
+			return operation.get();
+		} catch (Exception e) {
+			if (isThrottling(e)) {
+				onThrottling();
+			}
+			throw e;
+		}
+	}
+
+	void acquire() {
+		long waitNanos = reserve();
+		if (waitNanos < 0) {
+			throw rejectedException;
+		}
+		if (waitNanos > 0) {
+			try {
+				TimeUnit.NANOSECONDS.sleep(waitNanos);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw rejectedException;
+			}
+		}
+	}
+
+	// returns the time to wait before the reserved token is available, -1 if the token can't be reserved
+	synchronized long reserve() {
+		long now = clock.getAsLong();
+		recover(now);
+		if (now > nextFreeNanos) {
+			storedTokens = Math.min(burst, storedTokens + (now - nextFreeNanos) * rate / NANOS_PER_SECOND);
+			nextFreeNanos = now;
+		}
+		long waitNanos = nextFreeNanos - now;
+		if (waitNanos > maxWaitNanos) {
+			return -1;
+		}
+		double fromStored = Math.min(1, storedTokens);
+		storedTokens -= fromStored;
+		nextFreeNanos += (long) ((1 - fromStored) * NANOS_PER_SECOND / rate);
+		return waitNanos;
+	}
+
+	synchronized void onThrottling() {
+		long now = clock.getAsLong();
+		recover(now);
+		rate = Math.max(minRate, rate * decreaseFactor);
+	}
+
+	private void recover(long now) {
+		if (rate < maxRate) {
+			rate = Math.min(maxRate, rate + recoveryPerSecond * (now - lastAdjustNanos) / NANOS_PER_SECOND);
+		}
+		lastAdjustNanos = now;
+	}
+
+	private boolean isThrottling(Exception e) {
+		for (Class<?> c : throttleOn) {
+			if (c.isInstance(e)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		return "RateLimiter[rate=" + getRate() + ", maxRate=" + maxRate + ", burst=" + burst + "]";
+	}
+
+}
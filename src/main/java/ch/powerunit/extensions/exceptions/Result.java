@@ -0,0 +1,333 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Result of an operation : either a success, holding the value (which may be
+ * null), or a failure, holding the exception.
+ * <p>
+ * Contrary to {@code lift()}, the exception is kept ; contrary to
+ * {@code stage()}, there is no {@code CompletableFuture} : a result is one
+ * small immutable object. The transformations
+ * ({@link #map(FunctionWithException)} and
+ * {@link #recover(FunctionWithException)}) accept functions throwing
+ * exceptions ; an exception thrown by such a function gives a failure.
+ *
+ * @param <T>
+ *            the type of the value
+ * @since 3.1.0
+ * @see FunctionWithException#attempt()
+ * @see SupplierWithException#attempt()
+ */
+public sealed interface Result<T> permits Result.Success, Result.Failure {
+
+	/**
+	 * Successful result.
+	 *
+	 * @param <T>
+	 *            the type of the value
+	 * @param value
+	 *            the value, may be null
+	 */
+	record Success<T>(T value) implements Result<T> {
+
+		@Override
+		public boolean isSuccess() {
+			return true;
+		}
+
+		@Override
+		public T get() {
+			return value;
+		}
+
+		@Override
+		public Optional<Exception> getFailure() {
+			return Optional.empty();
+		}
+
+		@Override
+		public <R> Result<R> map(FunctionWithException<? super T, ? extends R, ?> mapper) {
+			requireNonNull(mapper, "mapper can't be null");
+			try {
+				return new Success<>(mapper.apply(value));
+			} catch (Exception e) {
+				return new Failure<>(e);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public <R> Result<R> flatMap(Function<? super T, ? extends Result<? extends R>> mapper) {
+			requireNonNull(mapper, "mapper can't be null");
+			return requireNonNull((Result<R>) mapper.apply(value), "the result of mapper can't be null");
+		}
+
+		@Override
+		public Result<T> recover(FunctionWithException<? super Exception, ? extends T, ?> recovery) {
+			requireNonNull(recovery, "recovery can't be null");
+			return this;
+		}
+
+		@Override
+		public T orElse(T other) {
+			return value;
+		}
+
+		@Override
+		public T orElseThrow(Function<Exception, ? extends RuntimeException> exceptionMapper) {
+			requireNonNull(exceptionMapper, "exceptionMapper can't be null");
+			return value;
+		}
+
+	}
+
+	/**
+	 * Failed result.
+	 *
+	 * @param <T>
+	 *            the type of the value
+	 * @param exception
+	 *            the exception
+	 */
+	record Failure<T>(Exception exception) implements Result<T> {
+
+		/**
+		 * Creates a failed result.
+		 *
+		 * @param exception
+		 *            the exception
+		 * @throws NullPointerException
+		 *             if exception is null
+		 */
+		public Failure {
+			requireNonNull(exception, "exception can't be null");
+		}
+
+		@Override
+		public boolean isSuccess() {
+			return false;
+		}
+
+		@Override
+		public T get() {
+			throw new NoSuchElementException("The result is a failure : " + exception);
+		}
+
+		@Override
+		public Optional<Exception> getFailure() {
+			return Optional.of(exception);
+		}
+
+		// the failure doesn't depend on the type of the value, it is reused
+		@SuppressWarnings("unchecked")
+		@Override
+		public <R> Result<R> map(FunctionWithException<? super T, ? extends R, ?> mapper) {
+			requireNonNull(mapper, "mapper can't be null");
+			return (Result<R>) this;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public <R> Result<R> flatMap(Function<? super T, ? extends Result<? extends R>> mapper) {
+			requireNonNull(mapper, "mapper can't be null");
+			return (Result<R>) this;
+		}
+
+		@Override
+		public Result<T> recover(FunctionWithException<? super Exception, ? extends T, ?> recovery) {
+			requireNonNull(recovery, "recovery can't be null");
+			try {
+				return new Success<>(recovery.apply(exception));
+			} catch (Exception e) {
+				return new Failure<>(e);
+			}
+		}
+
+		@Override
+		public T orElse(T other) {
+			return other;
+		}
+
+		@Override
+		public T orElseThrow(Function<Exception, ? extends RuntimeException> exceptionMapper) {
+			throw requireNonNull(exceptionMapper, "exceptionMapper can't be null").apply(exception);
+		}
+
+	}
+
+	/**
+	 * Creates a successful result.
+	 *
+	 * @param value
+	 *            the value, may be null
+	 * @param <T>
+	 *            the type of the value
+	 * @return the result
+	 */
+	static <T> Result<T> success(T value) {
+		return new Success<>(value);
+	}
+
+	/**
+	 * Creates a failed result.
+	 *
+	 * @param exception
+	 *            the exception
+	 * @param <T>
+	 *            the type of the value
+	 * @return the result
+	 * @throws NullPointerException
+	 *             if exception is null
+	 */
+	static <T> Result<T> failure(Exception exception) {
+		return new Failure<>(exception);
+	}
+
+	/**
+	 * Executes a supplier and returns its result.
+	 *
+	 * @param supplier
+	 *            the supplier
+	 * @param <T>
+	 *            the type of the value
+	 * @return the value of the supplier, or the exception thrown
+	 * @throws NullPointerException
+	 *             if supplier is null
+	 */
+	static <T> Result<T> of(SupplierWithException<? extends T, ?> supplier) {
+		requireNonNull(supplier, "supplier can't be null");
+		try {
+			return new Success<>(supplier.get());
+		} catch (Exception e) {
+			return new Failure<>(e);
+		}
+	}
+
+	/**
+	 * Checks if this result is a success.
+	 *
+	 * @return true for a success
+	 */
+	boolean isSuccess();
+
+	/**
+	 * Checks if this result is a failure.
+	 *
+	 * @return true for a failure
+	 */
+	default boolean isFailure() {
+		return !isSuccess();
+	}
+
+	/**
+	 * Returns the value of a successful result.
+	 *
+	 * @return the value
+	 * @throws NoSuchElementException
+	 *             if this result is a failure
+	 */
+	T get();
+
+	/**
+	 * Returns the exception of a failed result.
+	 *
+	 * @return the exception, empty for a success
+	 */
+	Optional<Exception> getFailure();
+
+	/**
+	 * Transforms the value of a successful result.
+	 *
+	 * @param mapper
+	 *            the function to be applied to the value ; an exception thrown
+	 *            by this function gives a failure
+	 * @param <R>
+	 *            the type of the new value
+	 * @return the new result, or this failure
+	 * @throws NullPointerException
+	 *             if mapper is null
+	 */
+	<R> Result<R> map(FunctionWithException<? super T, ? extends R, ?> mapper);
+
+	/**
+	 * Transforms the value of a successful result to another result.
+	 *
+	 * @param mapper
+	 *            the function to be applied to the value
+	 * @param <R>
+	 *            the type of the new value
+	 * @return the result of the function, or this failure
+	 * @throws NullPointerException
+	 *             if mapper is null or returns null
+	 */
+	<R> Result<R> flatMap(Function<? super T, ? extends Result<? extends R>> mapper);
+
+	/**
+	 * Transforms a failure to a value.
+	 *
+	 * @param recovery
+	 *            the function to be applied to the exception ; an exception
+	 *            thrown by this function gives a failure
+	 * @return the new result, or this success
+	 * @throws NullPointerException
+	 *             if recovery is null
+	 */
+	Result<T> recover(FunctionWithException<? super Exception, ? extends T, ?> recovery);
+
+	/**
+	 * Returns the value of a successful result, or another value for a failure.
+	 *
+	 * @param other
+	 *            the value to be used for a failure
+	 * @return the value
+	 */
+	T orElse(T other);
+
+	/**
+	 * Returns the value of a successful result, or throws the mapped exception
+	 * for a failure.
+	 *
+	 * @param exceptionMapper
+	 *            the mapper of the exception, for example the
+	 *            {@link ExceptionHandlerSupport#exceptionMapper()} of an
+	 *            operation
+	 * @return the value
+	 * @throws NullPointerException
+	 *             if exceptionMapper is null
+	 */
+	T orElseThrow(Function<Exception, ? extends RuntimeException> exceptionMapper);
+
+	/**
+	 * Returns the value of a successful result as an {@code Optional}.
+	 *
+	 * @return the value, empty for a failure or a null value
+	 */
+	default Optional<T> toOptional() {
+		return isSuccess() ? Optional.ofNullable(get()) : Optional.empty();
+	}
+
+}
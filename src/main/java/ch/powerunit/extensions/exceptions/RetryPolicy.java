@@ -0,0 +1,314 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import static ch.powerunit.extensions.exceptions.Constants.toNanos;
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable definition of how an operation must be retried.
+ * <p>
+ * A policy defines :
+ * <ul>
+ * <li>The maximum number of attempts (including the first one).</li>
+ * <li>The exceptions that must be retried. Like for
+ * {@link ExceptionMapper#forException(Class, java.util.function.Function)}, an
+ * exception is retried when it is an instance of one of these classes. By
+ * default, all exceptions are retried.</li>
+ * <li>The delay before the first retry, multiplied by a factor for each
+ * following retry and limited by a maximum delay (exponential backoff).</li>
+ * <li>The jitter, a ratio of the delay that is randomly removed from each
+ * delay, so that operations failing at the same time are not retried at the
+ * same time.</li>
+ * </ul>
+ * <p>
+ * For example :
+ *
+ * <pre>
+ * RetryPolicy policy = RetryPolicy.maxAttempts(5).withBackoff(Duration.ofMillis(100)).withMultiplier(2)
+ * 		.withJitter(0.5).retryOn(IOException.class);
+ *
+ * SupplierWithException&lt;String, IOException&gt; retried = mySupplier.retry(policy);
+ * </pre>
+ *
+ * @since 3.1.0
+ */
+public final class RetryPolicy {
+
+	private final int maxAttempts;
+
+	private final long initialDelayNanos;
+
+	private final double multiplier;
+
+	private final long maxDelayNanos;
+
+	private final double jitter;
+
+	private final Class<?>[] retryOn;
+
+	private RetryPolicy(int maxAttempts, long initialDelayNanos, double multiplier, long maxDelayNanos,
+			double jitter, Class<?>[] retryOn) {
+		this.maxAttempts = maxAttempts;
+		this.initialDelayNanos = initialDelayNanos;
+		this.multiplier = multiplier;
+		this.maxDelayNanos = maxDelayNanos;
+		this.jitter = jitter;
+		this.retryOn = retryOn;
+	}
+
+	/**
+	 * Creates a policy with the received maximum number of attempts, retrying
+	 * all exceptions without delay.
+	 *
+	 * @param maxAttempts
+	 *            the maximum number of attempts, including the first one.
+	 * @return the policy
+	 * @throws IllegalArgumentException
+	 *             if maxAttempts is not positive
+	 */
+	public static RetryPolicy maxAttempts(int maxAttempts) {
+		if (maxAttempts <= 0) {
+			throw new IllegalArgumentException("maxAttempts must be positive");
+		}
+		return new RetryPolicy(maxAttempts, 0, 1, Long.MAX_VALUE, 0, new Class<?>[] { Exception.class });
+	}
+
+	/**
+	 * Returns a copy of this policy, waiting the received delay before the first
+	 * retry.
+	 *
+	 * @param initialDelay
+	 *            the delay before the first retry
+	 * @return the new policy
+	 * @throws NullPointerException
+	 *             if initialDelay is null
+	 * @throws IllegalArgumentException
+	 *             if initialDelay is negative
+	 */
+	public RetryPolicy withBackoff(Duration initialDelay) {
+		return new RetryPolicy(maxAttempts, toNanos(initialDelay, "initialDelay"), multiplier, maxDelayNanos, jitter,
+				retryOn);
+	}
+
+	/**
+	 * Returns a copy of this policy, multiplying the delay by the received factor
+	 * after each retry.
+	 *
+	 * @param multiplier
+	 *            the factor, at least 1
+	 * @return the new policy
+	 * @throws IllegalArgumentException
+	 *             if multiplier is less than 1
+	 */
+	public RetryPolicy withMultiplier(double multiplier) {
+		if (!(multiplier >= 1)) {
+			throw new IllegalArgumentException("multiplier must be at least 1");
+		}
+		return new RetryPolicy(maxAttempts, initialDelayNanos, multiplier, maxDelayNanos, jitter, retryOn);
+	}
+
+	/**
+	 * Returns a copy of this policy, limiting each delay to the received value.
+	 *
+	 * @param maxDelay
+	 *            the maximum delay between two attempts
+	 * @return the new policy
+	 * @throws NullPointerException
+	 *             if maxDelay is null
+	 * @throws IllegalArgumentException
+	 *             if maxDelay is negative
+	 */
+	public RetryPolicy withMaxDelay(Duration maxDelay) {
+		return new RetryPolicy(maxAttempts, initialDelayNanos, multiplier, toNanos(maxDelay, "maxDelay"), jitter,
+				retryOn);
+	}
+
+	/**
+	 * Returns a copy of this policy, randomly removing up to the received ratio
+	 * from each delay.
+	 *
+	 * @param jitter
+	 *            the ratio, between 0 (no jitter) and 1.
+	 * @return the new policy
+	 * @throws IllegalArgumentException
+	 *             if jitter is not between 0 and 1
+	 */
+	public RetryPolicy withJitter(double jitter) {
+		if (!(jitter >= 0 && jitter <= 1)) {
+			throw new IllegalArgumentException("jitter must be between 0 and 1");
+		}
+		return new RetryPolicy(maxAttempts, initialDelayNanos, multiplier, maxDelayNanos, jitter, retryOn);
+	}
+
+	/**
+	 * Returns a copy of this policy, only retrying the exceptions that are
+	 * instance of one of the received classes.
+	 *
+	 * @param exceptions
+	 *            the classes of the exceptions to be retried
+	 * @return the new policy
+	 * @throws NullPointerException
+	 *             if exceptions is null or contains null
+	 */
+	@SafeVarargs
+	public final RetryPolicy retryOn(Class<? extends Exception>... exceptions) {
+		requireNonNull(exceptions, "exceptions can't be null");
+		Class<?>[] classes = new Class<?>[exceptions.length];
+		for (int i = 0; i < classes.length; i++) {
+			classes[i] = requireNonNull(exceptions[i], "exceptions can't contain null");
+		}
+		return new RetryPolicy(maxAttempts, initialDelayNanos, multiplier, maxDelayNanos, jitter, classes);
+	}
+
+	/**
+	 * Returns the maximum number of attempts, including the first one.
+	 *
+	 * @return the maximum number of attempts
+	 */
+	public int getMaxAttempts() {
+		return maxAttempts;
+	}
+
+	/**
+	 * Checks if an exception, thrown by the received attempt, must be retried.
+	 *
+	 * @param exception
+	 *            the exception
+	 * @param attempt
+	 *            the attempt that failed (starting at 1)
+	 * @return true if a new attempt must be done
+	 */
+	public boolean shouldRetry(Exception exception, int attempt) {
+		if (attempt >= maxAttempts) {
+			return false;
+		}
+		for (Class<?> c : retryOn) {
+			if (c.isInstance(exception)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the delay to wait after the received failed attempt, including the
+	 * jitter.
+	 *
+	 * @param attempt
+	 *            the attempt that failed (starting at 1)
+	 * @return the delay
+	 */
+	public Duration delay(int attempt) {
+		return Duration.ofNanos(delayNanos(attempt));
+	}
+
+	long delayNanos(int attempt) {
+		if (initialDelayNanos == 0) {
+			return 0;
+		}
+		double delay = Math.min(initialDelayNanos * Math.pow(multiplier, attempt - 1.0), maxDelayNanos);
+		if (jitter > 0) {
+			delay -= delay * jitter * ThreadLocalRandom.current().nextDouble();
+		}
+		return (long) delay;
+	}
+
+	/**
+	 * Executes the operation, retrying it according to this policy. The calling
+	 * thread waits between the attempts.
+	 * <p>
+	 * If the thread is interrupted while waiting, the last exception is thrown
+	 * and the interrupt status is kept.
+	 */
+	<T, E extends Exception> T execute(SupplierWithException<T, E> operation) throws E {
+		for (int attempt = 1;; attempt++) {
+			try {
+				return operation.get();
+			} catch (Exception e) {
+				if (!shouldRetry(e, attempt) || !sleep(delayNanos(attempt))) {
+					throw e;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Executes the operation asynchronously, retrying it according to this
+	 * policy. Each attempt is scheduled on the received executor, so that no
+	 * thread waits between the attempts.
+	 */
+	<T> CompletionStage<T> executeAsync(SupplierWithException<T, ?> operation, ScheduledExecutorService scheduler) {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		schedule(operation, scheduler, result, 1, 0);
+		return result;
+	}
+
+	private <T> void schedule(SupplierWithException<T, ?> operation, ScheduledExecutorService scheduler,
+			CompletableFuture<T> result, int attempt, long delayNanos) {
+		try {
+			scheduler.schedule(() -> attempt(operation, scheduler, result, attempt), delayNanos, TimeUnit.NANOSECONDS);
+		} catch (RuntimeException e) {
+			result.completeExceptionally(e);
+		}
+	}
+
+	@SuppressWarnings("squid:S1181") // Everything must reach the CompletionStage
+	private <T> void attempt(SupplierWithException<T, ?> operation, ScheduledExecutorService scheduler,
+			CompletableFuture<T> result, int attempt) {
+		try {
+			result.complete(operation.get());
+		} catch (Exception e) {
+			if (shouldRetry(e, attempt)) {
+				schedule(operation, scheduler, result, attempt + 1, delayNanos(attempt));
+			} else {
+				result.completeExceptionally(e);
+			}
+		} catch (Throwable e) {
+			result.completeExceptionally(e);
+		}
+	}
+
+	private static boolean sleep(long nanos) {
+		try {
+			TimeUnit.NANOSECONDS.sleep(nanos);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "RetryPolicy[maxAttempts=" + maxAttempts + ", initialDelay=" + Duration.ofNanos(initialDelayNanos)
+				+ ", multiplier=" + multiplier + ", maxDelay=" + Duration.ofNanos(maxDelayNanos) + ", jitter="
+				+ jitter + ", retryOn=" + Arrays.toString(retryOn) + "]";
+	}
+
+}
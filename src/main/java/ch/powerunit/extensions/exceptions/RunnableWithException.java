@@ -20,10 +20,17 @@
 package ch.powerunit.extensions.exceptions;
 
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
+import static ch.powerunit.extensions.exceptions.Constants.verifyExecutor;
+import static ch.powerunit.extensions.exceptions.Constants.verifyMetrics;
 import static ch.powerunit.extensions.exceptions.Constants.verifyOperation;
+import static ch.powerunit.extensions.exceptions.Constants.verifyRateLimiter;
+import static ch.powerunit.extensions.exceptions.Constants.verifyRetryPolicy;
+import static ch.powerunit.extensions.exceptions.Constants.verifyScheduler;
 import static java.util.Objects.requireNonNull;
 
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -94,6 +101,183 @@ public interface RunnableWithException<E extends Exception>
 		return () -> NoReturnExceptionHandlerSupport.staged(this);
 	}
 
+	/**
+	 * Converts this {@code RunnableWithException} to a <i>staged</i>
+	 * {@code Supplier} that return a {@code CompletionStage}, the operation
+	 * being executed asynchronously by the provided executor.
+	 *
+	 * @param executor
+	 *            the executor to be used to run the operation.
+	 * @return the staged operation.
+	 * @throws NullPointerException
+	 *             if executor is null
+	 * @since 3.1.0
+	 * @see #stage()
+	 */
+	@Override
+	default Supplier<CompletionStage<Void>> stageAsync(Executor executor) {
+		verifyExecutor(executor);
+		return () -> NoReturnExceptionHandlerSupport.stagedAsync(this, executor);
+	}
+
+	/**
+	 * Returns a {@code RunnableWithException} that retries this operation
+	 * according to the received policy.
+	 * <p>
+	 * The calling thread waits between the attempts. When all the attempts fail,
+	 * the last exception is thrown.
+	 *
+	 * @param policy
+	 *            the retry policy
+	 * @return the retrying operation
+	 * @throws NullPointerException
+	 *             if policy is null
+	 * @since 3.1.0
+	 * @see RetryPolicy
+	 */
+	default RunnableWithException<E> retry(RetryPolicy policy) {
+		verifyRetryPolicy(policy);
+		return new RunnableWithException<E>() {
+
+			@Override
+			public void run() throws E {
+				policy.execute(() -> {
+					RunnableWithException.this.run();
+					return null;
+				});
+			}
+
+			@Override
+			public Function<Exception, RuntimeException> exceptionMapper() {
+				return RunnableWithException.this.exceptionMapper();
+			}
+
+		};
+	}
+
+	/**
+	 * Converts this {@code RunnableWithException} to a <i>staged</i>
+	 * {@code Supplier} that retries this operation according to the received
+	 * policy.
+	 * <p>
+	 * Each attempt is scheduled on the received executor, so that no thread waits
+	 * between the attempts. When all the attempts fail, the returned
+	 * {@code CompletionStage} is completed with the last exception.
+	 *
+	 * @param policy
+	 *            the retry policy
+	 * @param scheduler
+	 *            the executor used to run the attempts
+	 * @return the retrying operation
+	 * @throws NullPointerException
+	 *             if policy or scheduler is null
+	 * @since 3.1.0
+	 * @see RetryPolicy
+	 */
+	default Supplier<CompletionStage<Void>> retryAsync(RetryPolicy policy, ScheduledExecutorService scheduler) {
+		verifyRetryPolicy(policy);
+		verifyScheduler(scheduler);
+		return () -> policy.executeAsync(() -> {
+			run();
+			return null;
+		}, scheduler);
+	}
+
+	/**
+	 * Returns a {@code RunnableWithException} that records its invocations in the
+	 * received metrics.
+	 * <p>
+	 * The invocations, the failures and, when enabled, the latency are
+	 * recorded. The failures of the {@code ignore()} or {@code lift()} versions
+	 * of the returned operation are also counted as swallowed. When the metrics
+	 * are {@link OperationMetrics#disabled() disabled}, this operation is
+	 * returned unchanged.
+	 *
+	 * @param metrics
+	 *            the metrics
+	 * @return the instrumented operation
+	 * @throws NullPointerException
+	 *             if metrics is null
+	 * @since 3.1.0
+	 * @see OperationMetrics
+	 */
+	default RunnableWithException<E> instrument(OperationMetrics metrics) {
+		verifyMetrics(metrics);
+		if (!metrics.isEnabled()) {
+			return this;
+		}
+		return new RunnableWithException<E>() {
+
+			@Override
+			public void run() throws E {
+				metrics.record(() -> {
+					RunnableWithException.this.run();
+					return null;
+				}, false);
+			}
+
+			@Override
+			public Runnable ignore() {
+				return () -> {
+					try {
+						metrics.record(() -> {
+							RunnableWithException.this.run();
+							return null;
+						}, true);
+					} catch (Exception e) {
+						// swallowed, but counted
+						ExceptionEvents.ignored(this, e);
+					}
+				};
+			}
+
+			@Override
+			public Function<Exception, RuntimeException> exceptionMapper() {
+				return RunnableWithException.this.exceptionMapper();
+			}
+
+		};
+	}
+
+	/**
+	 * Returns a {@code RunnableWithException} that is limited by the received
+	 * rate limiter.
+	 * <p>
+	 * Each call takes a token of the rate limiter, waiting for it if needed.
+	 * When the token can't be obtained within the maximal wait of the rate
+	 * limiter, the call fails with the preallocated
+	 * {@link RateLimiter.RejectedException}, that is mapped by the
+	 * {@link #exceptionMapper()} in {@link #uncheck()} mode. The throttling
+	 * exceptions thrown by this operation lower the rate of the rate limiter.
+	 *
+	 * @param limiter
+	 *            the rate limiter
+	 * @return the rate limited operation
+	 * @throws NullPointerException
+	 *             if limiter is null
+	 * @since 3.1.0
+	 * @see RateLimiter
+	 */
+	default RunnableWithException<E> rateLimit(RateLimiter limiter) {
+		verifyRateLimiter(limiter);
+		return new RunnableWithException<E>() {
+
+			@Override
+			public void run() throws E {
+				limiter.execute(() -> {
+					RunnableWithException.this.run();
+					return null;
+				});
+			}
+
+			@Override
+			public Function<Exception, RuntimeException> exceptionMapper() {
+				return RunnableWithException.this.exceptionMapper();
+			}
+
+		};
+	}
+
 	/**
 	 * Returns a composed {@code RunnableWithException} that performs, in sequence,
 	 * this operation followed by the {@code after} operation. If performing either
@@ -235,6 +419,132 @@ public interface RunnableWithException<E extends Exception>
 		return verifyOperation(operation).stage();
 	}
 
+	/**
+	 * Converts a {@code RunnableWithException} to a staged {@code Supplier},
+	 * the operation being executed asynchronously by the provided executor.
+	 *
+	 * @param operation
+	 *            to be staged
+	 * @param executor
+	 *            the executor to be used to run the operation
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the staged operation
+	 * @throws NullPointerException
+	 *             if operation or executor is null
+	 * @since 3.1.0
+	 * @see #stageAsync(Executor)
+	 */
+	static <E extends Exception> Supplier<CompletionStage<Void>> stagedAsync(
+			RunnableWithException<E> operation, Executor executor) {
+		return verifyOperation(operation).stageAsync(executor);
+	}
+
+	/**
+	 * Converts a {@code RunnableWithException} to a staged {@code Supplier},
+	 * the operation being executed asynchronously by the default executor.
+	 *
+	 * @param operation
+	 *            to be staged
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the staged operation
+	 * @throws NullPointerException
+	 *             if operation is null
+	 * @since 3.1.0
+	 * @see #stageAsync()
+	 */
+	static <E extends Exception> Supplier<CompletionStage<Void>> stagedAsync(RunnableWithException<E> operation) {
+		return verifyOperation(operation).stageAsync();
+	}
+
+	/**
+	 * Converts a {@code RunnableWithException} to one that retries according to
+	 * the received policy.
+	 *
+	 * @param operation
+	 *            to be retried
+	 * @param policy
+	 *            the retry policy
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the retrying operation
+	 * @throws NullPointerException
+	 *             if operation or policy is null
+	 * @since 3.1.0
+	 * @see #retry(RetryPolicy)
+	 */
+	static <E extends Exception> RunnableWithException<E> retried(
+			RunnableWithException<E> operation, RetryPolicy policy) {
+		return verifyOperation(operation).retry(policy);
+	}
+
+	/**
+	 * Converts a {@code RunnableWithException} to a staged {@code Supplier}
+	 * that retries according to the received policy, without waiting between
+	 * the attempts.
+	 *
+	 * @param operation
+	 *            to be retried
+	 * @param policy
+	 *            the retry policy
+	 * @param scheduler
+	 *            the executor used to run the attempts
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the retrying operation
+	 * @throws NullPointerException
+	 *             if operation, policy or scheduler is null
+	 * @since 3.1.0
+	 * @see #retryAsync(RetryPolicy, ScheduledExecutorService)
+	 */
+	static <E extends Exception> Supplier<CompletionStage<Void>> retriedAsync(
+			RunnableWithException<E> operation, RetryPolicy policy, ScheduledExecutorService scheduler) {
+		return verifyOperation(operation).retryAsync(policy, scheduler);
+	}
+
+	/**
+	 * Converts a {@code RunnableWithException} to one that records its invocations
+	 * in the received metrics.
+	 *
+	 * @param operation
+	 *            to be instrumented
+	 * @param metrics
+	 *            the metrics
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the instrumented operation
+	 * @throws NullPointerException
+	 *             if operation or metrics is null
+	 * @since 3.1.0
+	 * @see #instrument(OperationMetrics)
+	 */
+	static <E extends Exception> RunnableWithException<E> instrumented(
+			RunnableWithException<E> operation, OperationMetrics metrics) {
+		return verifyOperation(operation).instrument(metrics);
+	}
+
+	/**
+	 * Converts a {@code RunnableWithException} to one that is limited by the
+	 * received rate limiter.
+	 *
+	 * @param operation
+	 *            to be rate limited
+	 * @param limiter
+	 *            the rate limiter
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the rate limited operation
+	 * @throws NullPointerException
+	 *             if operation or limiter is null
+	 * @since 3.1.0
+	 * @see #rateLimit(RateLimiter)
+	 */
+	static <E extends Exception> RunnableWithException<E> rateLimited(RunnableWithException<E> operation,
+			RateLimiter limiter) {
+		return verifyOperation(operation).rateLimit(limiter);
+	}
+
 	/**
 	 * Converts a {@code RunnableWithException} to a {@code FunctionWithException}
 	 * returning {@code null} and ignoring input.
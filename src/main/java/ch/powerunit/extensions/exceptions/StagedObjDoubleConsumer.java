@@ -0,0 +1,70 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
+
+/**
+ * Represents the <i>staged</i> version of an
+ * {@link ObjDoubleConsumerWithException}: a function that accepts an
+ * object-valued and a {@code double}-valued argument and returns a
+ * {@code CompletionStage}.
+ * <p>
+ * The {@code double} argument is received without boxing. This interface is also
+ * a {@code BiFunction}, the boxed {@link #apply(Object, Double)} method
+ * delegating to the functional method.
+ *
+ * @param <T>
+ *            the type of the object argument to the operation
+ * @since 3.1.0
+ */
+@FunctionalInterface
+public interface StagedObjDoubleConsumer<T> extends BiFunction<T, Double, CompletionStage<Void>> {
+
+	/**
+	 * Applies the staged operation to the given arguments.
+	 *
+	 * @param t
+	 *            the first input argument
+	 * @param value
+	 *            the second input argument
+	 * @return the result of the operation
+	 */
+	CompletionStage<Void> apply(T t, double value);
+
+	/**
+	 * Applies the staged operation to the given arguments, the second one being
+	 * unboxed.
+	 *
+	 * @param t
+	 *            the first input argument
+	 * @param value
+	 *            the second input argument
+	 * @return the result of the operation
+	 * @throws NullPointerException
+	 *             if value is null
+	 */
+	@Override
+	default CompletionStage<Void> apply(T t, Double value) {
+		return apply(t, value.doubleValue());
+	}
+
+}
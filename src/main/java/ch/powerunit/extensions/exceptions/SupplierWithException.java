@@ -19,11 +19,22 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import static ch.powerunit.extensions.exceptions.Constants.verifyBulkhead;
+import static ch.powerunit.extensions.exceptions.Constants.verifyCircuitBreaker;
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
+import static ch.powerunit.extensions.exceptions.Constants.verifyExecutor;
+import static ch.powerunit.extensions.exceptions.Constants.verifyHedgePolicy;
+import static ch.powerunit.extensions.exceptions.Constants.verifyMetrics;
+import static ch.powerunit.extensions.exceptions.Constants.verifyRetryPolicy;
+import static ch.powerunit.extensions.exceptions.Constants.verifyScheduler;
 import static ch.powerunit.extensions.exceptions.Constants.verifySupplier;
+import static ch.powerunit.extensions.exceptions.Constants.verifyTimeout;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -72,7 +83,14 @@ public interface SupplierWithException<T, E extends Exception> extends
 	 */
 	@Override
 	default Supplier<T> uncheck() {
-		return () -> ObjectReturnExceptionHandlerSupport.unchecked(this::get, throwingHandler());
+		Function<Exception, RuntimeException> exceptionMapper = exceptionMapper();
+		return () -> {
+			try {
+				return get();
+			} catch (Exception e) {
+				throw ExceptionEvents.wrapped(this, exceptionMapper, e);
+			}
+		};
 	}
 
 	/**
@@ -88,6 +106,29 @@ public interface SupplierWithException<T, E extends Exception> extends
 				notThrowingHandler());
 	}
 
+	/**
+	 * Converts this {@code SupplierWithException} to a {@code Supplier} returning a
+	 * {@code Result}, holding either the value or the exception.
+	 * <p>
+	 * Unlike {@link #lift()}, the exception is kept ; unlike {@link #stage()}, no
+	 * {@code CompletionStage} is created : the success path only allocates the
+	 * {@code Result}.
+	 *
+	 * @return the supplier returning a result
+	 * @see #attempted(SupplierWithException)
+	 * @see Result
+	 * @since 3.1.0
+	 */
+	default Supplier<Result<T>> attempt() {
+		return () -> {
+			try {
+				return Result.success(get());
+			} catch (Exception e) {
+				return Result.failure(e);
+			}
+		};
+	}
+
 	/**
 	 * Converts this {@code SupplierWithException} to a lifted {@code Supplier}
 	 * returning {@code null} (or the value redefined by the method
@@ -98,7 +139,15 @@ public interface SupplierWithException<T, E extends Exception> extends
 	 */
 	@Override
 	default Supplier<T> ignore() {
-		return () -> lift().get().orElse(defaultValue());
+		return () -> {
+			try {
+				T result = get();
+				return result == null ? defaultValue() : result;
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return defaultValue();
+			}
+		};
 	}
 
 	/**
@@ -113,6 +162,370 @@ public interface SupplierWithException<T, E extends Exception> extends
 		return () -> ObjectReturnExceptionHandlerSupport.staged(this::get);
 	}
 
+	/**
+	 * Converts this {@code SupplierWithException} to a <i>staged</i>
+	 * {@code Supplier} that return a {@code CompletionStage}, the operation
+	 * being executed asynchronously by the provided executor.
+	 *
+	 * @param executor
+	 *            the executor to be used to run the operation.
+	 * @return the staged operation.
+	 * @throws NullPointerException
+	 *             if executor is null
+	 * @since 3.1.0
+	 * @see #stage()
+	 */
+	@Override
+	default Supplier<CompletionStage<T>> stageAsync(Executor executor) {
+		verifyExecutor(executor);
+		return () -> ObjectReturnExceptionHandlerSupport.stagedAsync(this::get, executor);
+	}
+
+	/**
+	 * Returns a {@code SupplierWithException} that retries this supplier
+	 * according to the received policy.
+	 * <p>
+	 * The calling thread waits between the attempts. When all the attempts fail,
+	 * the last exception is thrown.
+	 *
+	 * @param policy
+	 *            the retry policy
+	 * @return the retrying supplier
+	 * @throws NullPointerException
+	 *             if policy is null
+	 * @since 3.1.0
+	 * @see RetryPolicy
+	 */
+	default SupplierWithException<T, E> retry(RetryPolicy policy) {
+		verifyRetryPolicy(policy);
+		return new SupplierWithException<T, E>() {
+
+			@Override
+			public T get() throws E {
+				return policy.execute(SupplierWithException.this);
+			}
+
+			@Override
+			public Function<Exception, RuntimeException> exceptionMapper() {
+				return SupplierWithException.this.exceptionMapper();
+			}
+
+			@Override
+			public T defaultValue() {
+				return SupplierWithException.this.defaultValue();
+			}
+
+		};
+	}
+
+	/**
+	 * Converts this {@code SupplierWithException} to a <i>staged</i>
+	 * {@code Supplier} that retries this supplier according to the received
+	 * policy.
+	 * <p>
+	 * Each attempt is scheduled on the received executor, so that no thread waits
+	 * between the attempts. When all the attempts fail, the returned
+	 * {@code CompletionStage} is completed with the last exception.
+	 *
+	 * @param policy
+	 *            the retry policy
+	 * @param scheduler
+	 *            the executor used to run the attempts
+	 * @return the retrying supplier
+	 * @throws NullPointerException
+	 *             if policy or scheduler is null
+	 * @since 3.1.0
+	 * @see RetryPolicy
+	 */
+	default Supplier<CompletionStage<T>> retryAsync(RetryPolicy policy, ScheduledExecutorService scheduler) {
+		verifyRetryPolicy(policy);
+		verifyScheduler(scheduler);
+		return () -> policy.executeAsync(this, scheduler);
+	}
+
+	/**
+	 * Returns a {@code SupplierWithException} that records its invocations in the
+	 * received metrics.
+	 * <p>
+	 * The invocations, the failures and, when enabled, the latency are
+	 * recorded. The failures of the {@code ignore()} or {@code lift()} versions
+	 * of the returned supplier are also counted as swallowed. When the metrics
+	 * are {@link OperationMetrics#disabled() disabled}, this supplier is
+	 * returned unchanged.
+	 *
+	 * @param metrics
+	 *            the metrics
+	 * @return the instrumented supplier
+	 * @throws NullPointerException
+	 *             if metrics is null
+	 * @since 3.1.0
+	 * @see OperationMetrics
+	 */
+	default SupplierWithException<T, E> instrument(OperationMetrics metrics) {
+		verifyMetrics(metrics);
+		if (!metrics.isEnabled()) {
+			return this;
+		}
+		return new SupplierWithException<T, E>() {
+
+			@Override
+			public T get() throws E {
+				return metrics.record(SupplierWithException.this, false);
+			}
+
+			@Override
+			public Supplier<Optional<T>> lift() {
+				return () -> {
+					try {
+						return Optional.ofNullable(metrics.record(SupplierWithException.this, true));
+					} catch (Exception e) {
+						ExceptionEvents.ignored(this, e);
+						return Optional.empty();
+					}
+				};
+			}
+
+			@Override
+			public Supplier<T> ignore() {
+				return () -> {
+					try {
+						T result = metrics.record(SupplierWithException.this, true);
+						return result == null ? defaultValue() : result;
+					} catch (Exception e) {
+						ExceptionEvents.ignored(this, e);
+						return defaultValue();
+					}
+				};
+			}
+
+			@Override
+			public Function<Exception, RuntimeException> exceptionMapper() {
+				return SupplierWithException.this.exceptionMapper();
+			}
+
+			@Override
+			public T defaultValue() {
+				return SupplierWithException.this.defaultValue();
+			}
+
+		};
+	}
+
+	/**
+	 * Returns a {@code SupplierWithException} that is protected by the received circuit
+	 * breaker.
+	 * <p>
+	 * When the breaker is open, the returned supplier fails immediately with the
+	 * preallocated {@link CircuitBreaker.OpenException}. This exception is not
+	 * wrapped by the exception mapper, and {@link #ignore()} returns the
+	 * {@link #defaultValue()} in this case.
+	 *
+	 * @param breaker
+	 *            the circuit breaker
+	 * @return the protected supplier
+	 * @throws NullPointerException
+	 *             if breaker is null
+	 * @since 3.1.0
+	 * @see CircuitBreaker
+	 */
+	default SupplierWithException<T, E> circuitBreaker(CircuitBreaker breaker) {
+		verifyCircuitBreaker(breaker);
+		return new SupplierWithException<T, E>() {
+
+			@Override
+			public T get() throws E {
+				return breaker.execute(SupplierWithException.this);
+			}
+
+			@Override
+			public Function<Exception, RuntimeException> exceptionMapper() {
+				return breaker.exceptionMapper(SupplierWithException.this.exceptionMapper());
+			}
+
+			@Override
+			public T defaultValue() {
+				return SupplierWithException.this.defaultValue();
+			}
+
+		};
+	}
+
+	/**
+	 * Returns a {@code SupplierWithException} that is protected by the received
+	 * bulkhead.
+	 * <p>
+	 * When the bulkhead is full, the returned supplier fails with the
+	 * preallocated {@link Bulkhead.RejectedException}. This exception is mapped
+	 * by the {@link #exceptionMapper()} in {@link #uncheck()} mode, and
+	 * {@link #ignore()} returns the {@link #defaultValue()} in this case.
+	 *
+	 * @param bulkhead
+	 *            the bulkhead
+	 * @return the protected supplier
+	 * @throws NullPointerException
+	 *             if bulkhead is null
+	 * @since 3.1.0
+	 * @see Bulkhead
+	 */
+	default SupplierWithException<T, E> bulkhead(Bulkhead bulkhead) {
+		verifyBulkhead(bulkhead);
+		return new SupplierWithException<T, E>() {
+
+			@Override
+			public T get() throws E {
+				return bulkhead.execute(SupplierWithException.this);
+			}
+
+			@Override
+			public Function<Exception, RuntimeException> exceptionMapper() {
+				return SupplierWithException.this.exceptionMapper();
+			}
+
+			@Override
+			public T defaultValue() {
+				return SupplierWithException.this.defaultValue();
+			}
+
+		};
+	}
+
+	/**
+	 * Returns a {@code SupplierWithException} that waits at most the received
+	 * timeout for the result of this supplier.
+	 * <p>
+	 * The supplier is executed by the default executor, which starts a new
+	 * virtual thread per call when the running JVM supports them and uses a
+	 * cached pool of daemon threads otherwise. When the deadline is reached,
+	 * the call is interrupted and the returned supplier throws a
+	 * {@code TimeoutException} ; this exception is mapped by the
+	 * {@link #exceptionMapper()} in {@link #uncheck()} mode, and
+	 * {@link #ignore()} returns the {@link #defaultValue()}.
+	 *
+	 * @param timeout
+	 *            the maximal duration of a call
+	 * @return the time limited supplier
+	 * @throws NullPointerException
+	 *             if timeout is null
+	 * @throws IllegalArgumentException
+	 *             if timeout is not positive
+	 * @since 3.1.0
+	 * @see #timeout(Duration, Executor)
+	 */
+	default SupplierWithException<T, Exception> timeout(Duration timeout) {
+		return timeout(timeout, Constants.defaultExecutor());
+	}
+
+	/**
+	 * Returns a {@code SupplierWithException} that waits at most the received
+	 * timeout for the result of this supplier, executed by the received
+	 * executor.
+	 * <p>
+	 * When the deadline is reached, the call is interrupted and the returned
+	 * supplier throws a {@code TimeoutException} ; this exception is mapped by
+	 * the {@link #exceptionMapper()} in {@link #uncheck()} mode, and
+	 * {@link #ignore()} returns the {@link #defaultValue()}.
+	 *
+	 * @param timeout
+	 *            the maximal duration of a call
+	 * @param executor
+	 *            the executor used to run the supplier
+	 * @return the time limited supplier
+	 * @throws NullPointerException
+	 *             if timeout or executor is null
+	 * @throws IllegalArgumentException
+	 *             if timeout is not positive
+	 * @since 3.1.0
+	 */
+	default SupplierWithException<T, Exception> timeout(Duration timeout, Executor executor) {
+		verifyTimeout(timeout);
+		verifyExecutor(executor);
+		return new SupplierWithException<T, Exception>() {
+
+			@Override
+			public T get() throws Exception {
+				return Timeouts.call(SupplierWithException.this, timeout, executor);
+			}
+
+			@Override
+			public Function<Exception, RuntimeException> exceptionMapper() {
+				return SupplierWithException.this.exceptionMapper();
+			}
+
+			@Override
+			public T defaultValue() {
+				return SupplierWithException.this.defaultValue();
+			}
+
+		};
+	}
+
+	/**
+	 * Returns a {@code SupplierWithException} that starts a second attempt when
+	 * the first one is slow.
+	 * <p>
+	 * The attempts are executed by the default executor, which starts a new
+	 * virtual thread per attempt when the running JVM supports them and uses a
+	 * cached pool of daemon threads otherwise. The first attempt to succeed
+	 * wins and the other one is cancelled. The exceptions of the attempts are
+	 * mapped by the {@link #exceptionMapper()} in {@link #uncheck()} mode, and
+	 * {@link #ignore()} returns the {@link #defaultValue()}.
+	 *
+	 * @param policy
+	 *            the hedging policy
+	 * @return the hedged supplier
+	 * @throws NullPointerException
+	 *             if policy is null
+	 * @since 3.1.0
+	 * @see HedgePolicy
+	 * @see #hedge(HedgePolicy, Executor)
+	 */
+	default SupplierWithException<T, Exception> hedge(HedgePolicy policy) {
+		return hedge(policy, Constants.defaultExecutor());
+	}
+
+	/**
+	 * Returns a {@code SupplierWithException} that starts a second attempt when
+	 * the first one is slow, the attempts being executed by the received
+	 * executor.
+	 * <p>
+	 * The first attempt to succeed wins and the other one is cancelled. The
+	 * exceptions of the attempts are mapped by the {@link #exceptionMapper()}
+	 * in {@link #uncheck()} mode, and {@link #ignore()} returns the
+	 * {@link #defaultValue()}.
+	 *
+	 * @param policy
+	 *            the hedging policy
+	 * @param executor
+	 *            the executor used to run the attempts
+	 * @return the hedged supplier
+	 * @throws NullPointerException
+	 *             if policy or executor is null
+	 * @since 3.1.0
+	 * @see HedgePolicy
+	 */
+	default SupplierWithException<T, Exception> hedge(HedgePolicy policy, Executor executor) {
+		verifyHedgePolicy(policy);
+		verifyExecutor(executor);
+		return new SupplierWithException<T, Exception>() {
+
+			@Override
+			public T get() throws Exception {
+				return policy.execute(SupplierWithException.this, executor);
+			}
+
+			@Override
+			public Function<Exception, RuntimeException> exceptionMapper() {
+				return SupplierWithException.this.exceptionMapper();
+			}
+
+			@Override
+			public T defaultValue() {
+				return SupplierWithException.this.defaultValue();
+			}
+
+		};
+	}
+
 	/**
 	 * Returns a supplier that always throw exception.
 	 *
@@ -206,6 +619,26 @@ public interface SupplierWithException<T, E extends Exception> extends
 		return verifySupplier(supplier).lift();
 	}
 
+	/**
+	 * Converts a {@code SupplierWithException} to a {@code Supplier} returning a
+	 * {@code Result}, holding either the value or the exception.
+	 *
+	 * @param supplier
+	 *            to be converted
+	 * @param <T>
+	 *            the type of the output object to the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the lifted function
+	 * @see #attempt()
+	 * @throws NullPointerException
+	 *             if supplier is null
+	 * @since 3.1.0
+	 */
+	static <T, E extends Exception> Supplier<Result<T>> attempted(SupplierWithException<T, E> supplier) {
+		return verifySupplier(supplier).attempt();
+	}
+
 	/**
 	 * Converts a {@code SupplierWithException} to a lifted {@code Supplier}
 	 * returning {@code null} in case of exception.
@@ -280,6 +713,269 @@ public interface SupplierWithException<T, E extends Exception> extends
 		return verifySupplier(supplier).stage();
 	}
 
+	/**
+	 * Converts a {@code SupplierWithException} to a staged {@code Supplier},
+	 * the operation being executed asynchronously by the provided executor.
+	 *
+	 * @param supplier
+	 *            to be staged
+	 * @param executor
+	 *            the executor to be used to run the operation
+	 * @param <T>
+	 *            the type of the output object to the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the staged operation
+	 * @throws NullPointerException
+	 *             if supplier or executor is null
+	 * @since 3.1.0
+	 * @see #stageAsync(Executor)
+	 */
+	static <T, E extends Exception> Supplier<CompletionStage<T>> stagedAsync(
+			SupplierWithException<T, E> supplier, Executor executor) {
+		return verifySupplier(supplier).stageAsync(executor);
+	}
+
+	/**
+	 * Converts a {@code SupplierWithException} to a staged {@code Supplier},
+	 * the operation being executed asynchronously by the default executor.
+	 *
+	 * @param supplier
+	 *            to be staged
+	 * @param <T>
+	 *            the type of the output object to the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the staged operation
+	 * @throws NullPointerException
+	 *             if supplier is null
+	 * @since 3.1.0
+	 * @see #stageAsync()
+	 */
+	static <T, E extends Exception> Supplier<CompletionStage<T>> stagedAsync(SupplierWithException<T, E> supplier) {
+		return verifySupplier(supplier).stageAsync();
+	}
+
+	/**
+	 * Converts a {@code SupplierWithException} to one that retries according to
+	 * the received policy.
+	 *
+	 * @param supplier
+	 *            to be retried
+	 * @param policy
+	 *            the retry policy
+	 * @param <T>
+	 *            the type of results supplied by this supplier
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the retrying supplier
+	 * @throws NullPointerException
+	 *             if supplier or policy is null
+	 * @since 3.1.0
+	 * @see #retry(RetryPolicy)
+	 */
+	static <T, E extends Exception> SupplierWithException<T, E> retried(
+			SupplierWithException<T, E> supplier, RetryPolicy policy) {
+		return verifySupplier(supplier).retry(policy);
+	}
+
+	/**
+	 * Converts a {@code SupplierWithException} to a staged {@code Supplier}
+	 * that retries according to the received policy, without waiting between
+	 * the attempts.
+	 *
+	 * @param supplier
+	 *            to be retried
+	 * @param policy
+	 *            the retry policy
+	 * @param scheduler
+	 *            the executor used to run the attempts
+	 * @param <T>
+	 *            the type of results supplied by this supplier
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the retrying supplier
+	 * @throws NullPointerException
+	 *             if supplier, policy or scheduler is null
+	 * @since 3.1.0
+	 * @see #retryAsync(RetryPolicy, ScheduledExecutorService)
+	 */
+	static <T, E extends Exception> Supplier<CompletionStage<T>> retriedAsync(
+			SupplierWithException<T, E> supplier, RetryPolicy policy, ScheduledExecutorService scheduler) {
+		return verifySupplier(supplier).retryAsync(policy, scheduler);
+	}
+
+	/**
+	 * Converts a {@code SupplierWithException} to one that records its invocations
+	 * in the received metrics.
+	 *
+	 * @param supplier
+	 *            to be instrumented
+	 * @param metrics
+	 *            the metrics
+	 * @param <T>
+	 *            the type of results supplied by this supplier
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the instrumented supplier
+	 * @throws NullPointerException
+	 *             if supplier or metrics is null
+	 * @since 3.1.0
+	 * @see #instrument(OperationMetrics)
+	 */
+	static <T, E extends Exception> SupplierWithException<T, E> instrumented(
+			SupplierWithException<T, E> supplier, OperationMetrics metrics) {
+		return verifySupplier(supplier).instrument(metrics);
+	}
+
+	/**
+	 * Converts a {@code SupplierWithException} to one that is protected by the
+	 * received circuit breaker.
+	 *
+	 * @param supplier
+	 *            to be protected
+	 * @param breaker
+	 *            the circuit breaker
+	 * @param <T>
+	 *            the type of results supplied by this supplier
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the protected supplier
+	 * @throws NullPointerException
+	 *             if supplier or breaker is null
+	 * @since 3.1.0
+	 * @see #circuitBreaker(CircuitBreaker)
+	 */
+	static <T, E extends Exception> SupplierWithException<T, E> circuitBroken(
+			SupplierWithException<T, E> supplier, CircuitBreaker breaker) {
+		return verifySupplier(supplier).circuitBreaker(breaker);
+	}
+
+	/**
+	 * Converts a {@code SupplierWithException} to one that is protected by the
+	 * received bulkhead.
+	 *
+	 * @param supplier
+	 *            to be protected
+	 * @param bulkhead
+	 *            the bulkhead
+	 * @param <T>
+	 *            the type of results supplied by this supplier
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the protected supplier
+	 * @throws NullPointerException
+	 *             if supplier or bulkhead is null
+	 * @since 3.1.0
+	 * @see #bulkhead(Bulkhead)
+	 */
+	static <T, E extends Exception> SupplierWithException<T, E> bulkheaded(SupplierWithException<T, E> supplier,
+			Bulkhead bulkhead) {
+		return verifySupplier(supplier).bulkhead(bulkhead);
+	}
+
+	/**
+	 * Converts a {@code SupplierWithException} to one that waits at most the
+	 * received timeout for the result.
+	 *
+	 * @param supplier
+	 *            to be time limited
+	 * @param timeout
+	 *            the maximal duration of a call
+	 * @param <T>
+	 *            the type of results supplied by this supplier
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the time limited supplier
+	 * @throws NullPointerException
+	 *             if supplier or timeout is null
+	 * @throws IllegalArgumentException
+	 *             if timeout is not positive
+	 * @since 3.1.0
+	 * @see #timeout(Duration)
+	 */
+	static <T, E extends Exception> SupplierWithException<T, Exception> timeLimited(
+			SupplierWithException<T, E> supplier, Duration timeout) {
+		return verifySupplier(supplier).timeout(timeout);
+	}
+
+	/**
+	 * Converts a {@code SupplierWithException} to one that waits at most the
+	 * received timeout for the result, the supplier being executed by the
+	 * received executor.
+	 *
+	 * @param supplier
+	 *            to be time limited
+	 * @param timeout
+	 *            the maximal duration of a call
+	 * @param executor
+	 *            the executor used to run the supplier
+	 * @param <T>
+	 *            the type of results supplied by this supplier
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the time limited supplier
+	 * @throws NullPointerException
+	 *             if supplier, timeout or executor is null
+	 * @throws IllegalArgumentException
+	 *             if timeout is not positive
+	 * @since 3.1.0
+	 * @see #timeout(Duration, Executor)
+	 */
+	static <T, E extends Exception> SupplierWithException<T, Exception> timeLimited(
+			SupplierWithException<T, E> supplier, Duration timeout, Executor executor) {
+		return verifySupplier(supplier).timeout(timeout, executor);
+	}
+
+	/**
+	 * Converts a {@code SupplierWithException} to one that starts a second
+	 * attempt when the first one is slow.
+	 *
+	 * @param supplier
+	 *            to be hedged
+	 * @param policy
+	 *            the hedging policy
+	 * @param <T>
+	 *            the type of results supplied by this supplier
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the hedged supplier
+	 * @throws NullPointerException
+	 *             if supplier or policy is null
+	 * @since 3.1.0
+	 * @see #hedge(HedgePolicy)
+	 */
+	static <T, E extends Exception> SupplierWithException<T, Exception> hedged(SupplierWithException<T, E> supplier,
+			HedgePolicy policy) {
+		return verifySupplier(supplier).hedge(policy);
+	}
+
+	/**
+	 * Converts a {@code SupplierWithException} to one that starts a second
+	 * attempt when the first one is slow, the attempts being executed by the
+	 * received executor.
+	 *
+	 * @param supplier
+	 *            to be hedged
+	 * @param policy
+	 *            the hedging policy
+	 * @param executor
+	 *            the executor used to run the attempts
+	 * @param <T>
+	 *            the type of results supplied by this supplier
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the hedged supplier
+	 * @throws NullPointerException
+	 *             if supplier, policy or executor is null
+	 * @since 3.1.0
+	 * @see #hedge(HedgePolicy, Executor)
+	 */
+	static <T, E extends Exception> SupplierWithException<T, Exception> hedged(SupplierWithException<T, E> supplier,
+			HedgePolicy policy, Executor executor) {
+		return verifySupplier(supplier).hedge(policy, executor);
+	}
+
 	/**
 	 * Converts a {@code SupplierWithException} to a {@code FunctionWithException}.
 	 *
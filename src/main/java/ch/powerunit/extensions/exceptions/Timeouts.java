@@ -0,0 +1,85 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import static ch.powerunit.extensions.exceptions.Constants.toNanos;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Support to run an operation with a deadline.
+ */
+final class Timeouts {
+
+	private Timeouts() {
+	}
+
+	/**
+	 * Runs an operation with the executor and waits at most the timeout for its
+	 * result.
+	 * <p>
+	 * When the deadline is reached, the operation is interrupted and a
+	 * {@code TimeoutException} is thrown. The exceptions thrown by the
+	 * operation are rethrown as is.
+	 *
+	 * @param operation
+	 *            the operation
+	 * @param timeout
+	 *            the timeout
+	 * @param executor
+	 *            the executor used to run the operation
+	 * @param <T>
+	 *            the type of the result
+	 * @return the result of the operation
+	 * @throws Exception
+	 *             the exception thrown by the operation or a
+	 *             {@code TimeoutException}
+	 */
+	static <T> T call(SupplierWithException<T, ?> operation, Duration timeout, Executor executor) throws Exception {
+		long timeoutNanos = toNanos(timeout, "timeout");
+		FutureTask<T> task = new FutureTask<>(operation::get);
+		executor.execute(task);
+		try {
+			return task.get(timeoutNanos, TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			task.cancel(true);
+			throw new TimeoutException(String.format("Operation not completed after %s", timeout));
+		} catch (InterruptedException e) {
+			task.cancel(true);
+			Thread.currentThread().interrupt();
+			throw e;
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof Exception) {
+				throw (Exception) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw e;
+		}
+	}
+
+}
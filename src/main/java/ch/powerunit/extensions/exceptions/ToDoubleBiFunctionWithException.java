@@ -22,6 +22,8 @@ package ch.powerunit.extensions.exceptions;
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
 import static ch.powerunit.extensions.exceptions.Constants.verifyFunction;
 
+import java.util.OptionalDouble;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.ToDoubleBiFunction;
@@ -72,12 +74,35 @@ public interface ToDoubleBiFunctionWithException<T, U, E extends Exception> exte
 			try {
 				return applyAsDouble(t, u);
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
 	}
 
+	/**
+	 * Converts this {@code ToDoubleBiFunctionWithException} to a <i>lifted</i>
+	 * {@code BiFunction} returning an {@code OptionalDouble}, empty in case of
+	 * error.
+	 * <p>
+	 * Unlike {@link #lift()}, a failure can be distinguished from a result
+	 * equal to the default value, without boxing the result.
+	 *
+	 * @return the lifted function
+	 * @see #liftedOptional(ToDoubleBiFunctionWithException)
+	 * @since 3.1.0
+	 */
+	default BiFunction<T, U, OptionalDouble> liftOptional() {
+		return (t, u) -> {
+			try {
+				return OptionalDouble.of(applyAsDouble(t, u));
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return OptionalDouble.empty();
+			}
+		};
+	}
+
 	/**
 	 * Returns a function that always throw exception.
 	 *
@@ -182,6 +207,30 @@ public interface ToDoubleBiFunctionWithException<T, U, E extends Exception> exte
 		return verifyFunction(function).lift();
 	}
 
+	/**
+	 * Converts a {@code ToDoubleBiFunctionWithException} to a lifted
+	 * {@code BiFunction} returning an {@code OptionalDouble}, empty in case of
+	 * error.
+	 *
+	 * @param function
+	 *            to be lifted
+	 * @param <T>
+	 *            the type of the first argument to the function
+	 * @param <U>
+	 *            the type of the second argument the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the lifted function
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @see #liftOptional()
+	 * @since 3.1.0
+	 */
+	static <T, U, E extends Exception> BiFunction<T, U, OptionalDouble> liftedOptional(
+			ToDoubleBiFunctionWithException<T, U, E> function) {
+		return verifyFunction(function).liftOptional();
+	}
+
 	/**
 	 * Converts a {@code ToDoubleBiFunctionWithException} to a lifted
 	 * {@code ToDoubleBiFunction} returning {@code 0} in case of exception.
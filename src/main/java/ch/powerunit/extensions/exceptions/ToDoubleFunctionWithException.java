@@ -22,6 +22,7 @@ package ch.powerunit.extensions.exceptions;
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
 import static ch.powerunit.extensions.exceptions.Constants.verifyFunction;
 
+import java.util.OptionalDouble;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.ToDoubleFunction;
@@ -68,12 +69,35 @@ public interface ToDoubleFunctionWithException<T, E extends Exception>
 			try {
 				return applyAsDouble(value);
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
 	}
 
+	/**
+	 * Converts this {@code ToDoubleFunctionWithException} to a <i>lifted</i>
+	 * {@code Function} returning an {@code OptionalDouble}, empty in case of
+	 * error.
+	 * <p>
+	 * Unlike {@link #lift()}, a failure can be distinguished from a result
+	 * equal to the default value, without boxing the result.
+	 *
+	 * @return the lifted function
+	 * @see #liftedOptional(ToDoubleFunctionWithException)
+	 * @since 3.1.0
+	 */
+	default Function<T, OptionalDouble> liftOptional() {
+		return value -> {
+			try {
+				return OptionalDouble.of(applyAsDouble(value));
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return OptionalDouble.empty();
+			}
+		};
+	}
+
 	/**
 	 * Returns a function that always throw exception.
 	 *
@@ -168,6 +192,28 @@ public interface ToDoubleFunctionWithException<T, E extends Exception>
 		return verifyFunction(function).lift();
 	}
 
+	/**
+	 * Converts a {@code ToDoubleFunctionWithException} to a lifted
+	 * {@code Function} returning an {@code OptionalDouble}, empty in case of
+	 * error.
+	 *
+	 * @param function
+	 *            to be lifted
+	 * @param <T>
+	 *            the type of the input to the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the lifted function
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @see #liftOptional()
+	 * @since 3.1.0
+	 */
+	static <T, E extends Exception> Function<T, OptionalDouble> liftedOptional(
+			ToDoubleFunctionWithException<T, E> function) {
+		return verifyFunction(function).liftOptional();
+	}
+
 	/**
 	 * Converts a {@code ToDoubleFunctionWithException} to a lifted
 	 * {@code ToDoubleFunction} returning {@code 0} in case of exception.
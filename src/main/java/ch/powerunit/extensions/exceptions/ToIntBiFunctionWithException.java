@@ -22,6 +22,8 @@ package ch.powerunit.extensions.exceptions;
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
 import static ch.powerunit.extensions.exceptions.Constants.verifyFunction;
 
+import java.util.OptionalInt;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.ToIntBiFunction;
@@ -72,12 +74,35 @@ public interface ToIntBiFunctionWithException<T, U, E extends Exception>
 			try {
 				return applyAsInt(t, u);
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
 	}
 
+	/**
+	 * Converts this {@code ToIntBiFunctionWithException} to a <i>lifted</i>
+	 * {@code BiFunction} returning an {@code OptionalInt}, empty in case of
+	 * error.
+	 * <p>
+	 * Unlike {@link #lift()}, a failure can be distinguished from a result
+	 * equal to the default value, without boxing the result.
+	 *
+	 * @return the lifted function
+	 * @see #liftedOptional(ToIntBiFunctionWithException)
+	 * @since 3.1.0
+	 */
+	default BiFunction<T, U, OptionalInt> liftOptional() {
+		return (t, u) -> {
+			try {
+				return OptionalInt.of(applyAsInt(t, u));
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return OptionalInt.empty();
+			}
+		};
+	}
+
 	/**
 	 * Returns a function that always throw exception.
 	 *
@@ -180,6 +205,30 @@ public interface ToIntBiFunctionWithException<T, U, E extends Exception>
 		return verifyFunction(function).lift();
 	}
 
+	/**
+	 * Converts a {@code ToIntBiFunctionWithException} to a lifted
+	 * {@code BiFunction} returning an {@code OptionalInt}, empty in case of
+	 * error.
+	 *
+	 * @param function
+	 *            to be lifted
+	 * @param <T>
+	 *            the type of the first argument to the function
+	 * @param <U>
+	 *            the type of the second argument to the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the lifted function
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @see #liftOptional()
+	 * @since 3.1.0
+	 */
+	static <T, U, E extends Exception> BiFunction<T, U, OptionalInt> liftedOptional(
+			ToIntBiFunctionWithException<T, U, E> function) {
+		return verifyFunction(function).liftOptional();
+	}
+
 	/**
 	 * Converts a {@code ToIntBiFunctionWithException} to a lifted
 	 * {@code ToIntBiFunction} returning {@code 0} in case of exception.
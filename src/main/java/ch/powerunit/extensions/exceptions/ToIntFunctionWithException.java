@@ -22,6 +22,7 @@ package ch.powerunit.extensions.exceptions;
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
 import static ch.powerunit.extensions.exceptions.Constants.verifyFunction;
 
+import java.util.OptionalInt;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.ToIntFunction;
@@ -67,12 +68,35 @@ public interface ToIntFunctionWithException<T, E extends Exception> extends
 			try {
 				return applyAsInt(value);
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
 	}
 
+	/**
+	 * Converts this {@code ToIntFunctionWithException} to a <i>lifted</i>
+	 * {@code Function} returning an {@code OptionalInt}, empty in case of
+	 * error.
+	 * <p>
+	 * Unlike {@link #lift()}, a failure can be distinguished from a result
+	 * equal to the default value, without boxing the result.
+	 *
+	 * @return the lifted function
+	 * @see #liftedOptional(ToIntFunctionWithException)
+	 * @since 3.1.0
+	 */
+	default Function<T, OptionalInt> liftOptional() {
+		return value -> {
+			try {
+				return OptionalInt.of(applyAsInt(value));
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return OptionalInt.empty();
+			}
+		};
+	}
+
 	/**
 	 * Returns a function that always throw exception.
 	 *
@@ -167,6 +191,27 @@ public interface ToIntFunctionWithException<T, E extends Exception> extends
 		return verifyFunction(function).lift();
 	}
 
+	/**
+	 * Converts a {@code ToIntFunctionWithException} to a lifted
+	 * {@code Function} returning an {@code OptionalInt}, empty in case of
+	 * error.
+	 *
+	 * @param function
+	 *            to be lifted
+	 * @param <T>
+	 *            the type of the input object to the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the lifted function
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @see #liftOptional()
+	 * @since 3.1.0
+	 */
+	static <T, E extends Exception> Function<T, OptionalInt> liftedOptional(ToIntFunctionWithException<T, E> function) {
+		return verifyFunction(function).liftOptional();
+	}
+
 	/**
 	 * Converts a {@code ToLongFunctionWithException} to a lifted
 	 * {@code ToIntFunction} returning {@code 0} in case of exception.
@@ -22,6 +22,7 @@ package ch.powerunit.extensions.exceptions;
 import static ch.powerunit.extensions.exceptions.Constants.verifyExceptionMapper;
 import static ch.powerunit.extensions.exceptions.Constants.verifyFunction;
 
+import java.util.OptionalLong;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.ToLongFunction;
@@ -67,12 +68,35 @@ public interface ToLongFunctionWithException<T, E extends Exception> extends
 			try {
 				return applyAsLong(value);
 			} catch (Exception e) {
-				PrimitiveReturnExceptionHandlerSupport.handleException(uncheck, e, exceptionMapper());
+				ExceptionEvents.handle(this, uncheck, e, exceptionMapper());
 				return defaultValue();
 			}
 		};
 	}
 
+	/**
+	 * Converts this {@code ToLongFunctionWithException} to a <i>lifted</i>
+	 * {@code Function} returning an {@code OptionalLong}, empty in case of
+	 * error.
+	 * <p>
+	 * Unlike {@link #lift()}, a failure can be distinguished from a result
+	 * equal to the default value, without boxing the result.
+	 *
+	 * @return the lifted function
+	 * @see #liftedOptional(ToLongFunctionWithException)
+	 * @since 3.1.0
+	 */
+	default Function<T, OptionalLong> liftOptional() {
+		return value -> {
+			try {
+				return OptionalLong.of(applyAsLong(value));
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return OptionalLong.empty();
+			}
+		};
+	}
+
 	/**
 	 * Returns a function that always throw exception.
 	 *
@@ -167,6 +191,28 @@ public interface ToLongFunctionWithException<T, E extends Exception> extends
 		return verifyFunction(function).lift();
 	}
 
+	/**
+	 * Converts a {@code ToLongFunctionWithException} to a lifted
+	 * {@code Function} returning an {@code OptionalLong}, empty in case of
+	 * error.
+	 *
+	 * @param function
+	 *            to be lifted
+	 * @param <T>
+	 *            the type of the input object to the function
+	 * @param <E>
+	 *            the type of the potential exception
+	 * @return the lifted function
+	 * @throws NullPointerException
+	 *             if function is null
+	 * @see #liftOptional()
+	 * @since 3.1.0
+	 */
+	static <T, E extends Exception> Function<T, OptionalLong> liftedOptional(
+			ToLongFunctionWithException<T, E> function) {
+		return verifyFunction(function).liftOptional();
+	}
+
 	/**
 	 * Converts a {@code ToLongFunctionWithException} to a lifted
 	 * {@code ToLongFunction} returning {@code 0} in case of exception.
@@ -0,0 +1,137 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import static ch.powerunit.extensions.exceptions.Constants.verifyConsumer;
+import static ch.powerunit.extensions.exceptions.Constants.verifyFunction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * Collectors that don't stop on the first exception.
+ * <p>
+ * Using {@code parallelStream().map(FunctionWithException.unchecked(f))}, the
+ * first exception stops the whole stream and the work done by the other
+ * threads is lost. The collectors of this class apply the operation to each
+ * element and collect both the results and the exceptions in a
+ * {@link TolerantResult} :
+ *
+ * <pre>
+ * TolerantResult&lt;Data&gt; result = files.parallelStream().collect(TolerantCollectors.mapping(this::load));
+ * </pre>
+ * <p>
+ * Each leaf of a parallel stream accumulates in its own buffer, the buffers
+ * being only merged by the combiner ; no synchronization is needed.
+ *
+ * @since 3.1.0
+ */
+public final class TolerantCollectors {
+
+	private TolerantCollectors() {
+	}
+
+	/**
+	 * Returns a {@code Collector} that applies the function to each element,
+	 * collecting the results and the exceptions.
+	 *
+	 * @param function
+	 *            the function to be applied to each element
+	 * @param <T>
+	 *            the type of the input elements
+	 * @param <R>
+	 *            the type of the results
+	 * @return the collector
+	 * @throws NullPointerException
+	 *             if function is null
+	 */
+	public static <T, R> Collector<T, ?, TolerantResult<R>> mapping(
+			FunctionWithException<? super T, ? extends R, ?> function) {
+		verifyFunction(function);
+		return Collector.of(Buffer<R>::new, (buffer, t) -> {
+			try {
+				buffer.values.add(function.apply(t));
+			} catch (Exception e) {
+				buffer.fail(e);
+			}
+		}, Buffer::merge, Buffer::toResult);
+	}
+
+	/**
+	 * Returns a {@code Collector} that passes each element to the consumer,
+	 * collecting the elements that were accepted and the exceptions.
+	 *
+	 * @param consumer
+	 *            the consumer to be applied to each element
+	 * @param <T>
+	 *            the type of the input elements
+	 * @return the collector
+	 * @throws NullPointerException
+	 *             if consumer is null
+	 */
+	public static <T> Collector<T, ?, TolerantResult<T>> consuming(ConsumerWithException<? super T, ?> consumer) {
+		verifyConsumer(consumer);
+		return Collector.of(Buffer<T>::new, (buffer, t) -> {
+			try {
+				consumer.accept(t);
+				buffer.values.add(t);
+			} catch (Exception e) {
+				buffer.fail(e);
+			}
+		}, Buffer::merge, Buffer::toResult);
+	}
+
+	/**
+	 * Mutable container of one leaf of the collect.
+	 */
+	private static final class Buffer<R> {
+
+		private final List<R> values = new ArrayList<>();
+
+		// most leaves have no failure ; the list is only created when needed
+		private List<Exception> failures;
+
+		void fail(Exception e) {
+			if (failures == null) {
+				failures = new ArrayList<>();
+			}
+			failures.add(e);
+		}
+
+		Buffer<R> merge(Buffer<R> other) {
+			values.addAll(other.values);
+			if (other.failures != null) {
+				if (failures == null) {
+					failures = other.failures;
+				} else {
+					failures.addAll(other.failures);
+				}
+			}
+			return this;
+		}
+
+		TolerantResult<R> toResult() {
+			return new TolerantResult<>(values, failures == null ? Collections.emptyList() : failures);
+		}
+	}
+
+}
@@ -0,0 +1,77 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of a tolerant collect, holding both the values that were produced and
+ * the exceptions that were thrown.
+ *
+ * @param <R>
+ *            the type of the values
+ * @see TolerantCollectors
+ * @since 3.1.0
+ */
+public final class TolerantResult<R> {
+
+	private final List<R> values;
+
+	private final List<Exception> failures;
+
+	TolerantResult(List<R> values, List<Exception> failures) {
+		this.values = Collections.unmodifiableList(values);
+		this.failures = Collections.unmodifiableList(failures);
+	}
+
+	/**
+	 * Returns the produced values, in the encounter order of the stream.
+	 *
+	 * @return the unmodifiable list of values
+	 */
+	public List<R> getValues() {
+		return values;
+	}
+
+	/**
+	 * Returns the thrown exceptions, in the encounter order of the stream.
+	 *
+	 * @return the unmodifiable list of exceptions
+	 */
+	public List<Exception> getFailures() {
+		return failures;
+	}
+
+	/**
+	 * Checks if at least one element failed.
+	 *
+	 * @return true if there is at least one failure
+	 */
+	public boolean hasFailures() {
+		return !failures.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return "TolerantResult[values=" + values.size() + ", failures=" + failures.size() + "]";
+	}
+
+}
@@ -62,19 +62,34 @@ public interface UnaryOperatorWithException<T, E extends Exception> extends Func
 	 */
 	@Override
 	default UnaryOperator<T> uncheck() {
-		return t -> ObjectReturnExceptionHandlerSupport.unchecked(() -> apply(t), throwingHandler());
+		Function<Exception, RuntimeException> exceptionMapper = exceptionMapper();
+		return t -> {
+			try {
+				return apply(t);
+			} catch (Exception e) {
+				throw ExceptionEvents.wrapped(this, exceptionMapper, e);
+			}
+		};
 	}
 
 	/**
 	 * Converts this {@code UnaryOperatorWithException} to a lifted
-	 * {@code UnaryOperator} returning {@code null} in case of exception.
+	 * {@code UnaryOperator} returning {@code null} (or the value redefined by the
+	 * method {@link #defaultValue()}) in case of exception.
 	 *
 	 * @return the function that ignore error
 	 * @see #ignored(FunctionWithException)
 	 */
 	@Override
 	default UnaryOperator<T> ignore() {
-		return t -> ObjectReturnExceptionHandlerSupport.unchecked(() -> apply(t), e -> null);
+		return t -> {
+			try {
+				return apply(t);
+			} catch (Exception e) {
+				ExceptionEvents.ignored(this, e);
+				return defaultValue();
+			}
+		};
 	}
 
 	@Override
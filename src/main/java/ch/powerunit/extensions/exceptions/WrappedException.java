@@ -19,6 +19,10 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.function.Supplier;
+
 /**
  * RuntimeException to wrap the Exception.
  *
@@ -27,6 +31,10 @@ public final class WrappedException extends RuntimeException {
 
 	private static final long serialVersionUID = -5914178098082781979L;
 
+	private transient volatile Supplier<String> messageSupplier;
+
+	private volatile String computedMessage;
+
 	/**
 	 * Constructs a new wrapped exception with the specified detail message and
 	 * cause.
@@ -71,4 +79,83 @@ public final class WrappedException extends RuntimeException {
 		super(cause.getMessage(), cause);
 	}
 
+	/**
+	 * Constructs a new wrapped exception with the specified detail message and
+	 * cause, with the stack trace enabled or disabled.
+	 * <p>
+	 * When the stack trace is disabled, {@code fillInStackTrace} is not done.
+	 * This makes the creation of this exception as cheap as an object allocation.
+	 * The stack trace of the cause is still available.
+	 *
+	 * @param message
+	 *            the detail message (which is saved for later retrieval by the
+	 *            {@link #getMessage()} method).
+	 * @param cause
+	 *            the cause (which is saved for later retrieval by the
+	 *            {@link #getCause()} method). (A {@code null} value is permitted,
+	 *            and indicates that the cause is nonexistent or unknown.)
+	 * @param writableStackTrace
+	 *            whether or not the stack trace should be writable
+	 * @since 3.1.0
+	 */
+	public WrappedException(String message, Throwable cause, boolean writableStackTrace) {
+		super(message, cause, true, writableStackTrace);
+	}
+
+	/**
+	 * Constructs a new wrapped exception with the specified cause and a detail
+	 * message of {@code (cause.getMessage())}, with the stack trace enabled or
+	 * disabled.
+	 *
+	 * @param cause
+	 *            the cause (which is saved for later retrieval by the
+	 *            {@link #getCause()} method).
+	 * @param writableStackTrace
+	 *            whether or not the stack trace should be writable
+	 * @since 3.1.0
+	 * @see #WrappedException(String, Throwable, boolean)
+	 */
+	public WrappedException(Throwable cause, boolean writableStackTrace) {
+		this(cause.getMessage(), cause, writableStackTrace);
+	}
+
+	/**
+	 * Constructs a new wrapped exception with a detail message that is only
+	 * computed when it is read.
+	 *
+	 * @param message
+	 *            the supplier of the detail message, called once (or more
+	 *            when the message is read concurrently) ; a {@code null}
+	 *            result gives the message {@code "null"}.
+	 * @param cause
+	 *            the cause
+	 * @param writableStackTrace
+	 *            whether or not the stack trace should be writable
+	 */
+	WrappedException(Supplier<String> message, Throwable cause, boolean writableStackTrace) {
+		super(null, cause, true, writableStackTrace);
+		this.messageSupplier = message;
+	}
+
+	@Override
+	public String getMessage() {
+		String message = computedMessage;
+		if (message == null) {
+			// the supplier is kept, so that a concurrent reader can't miss both
+			Supplier<String> supplier = messageSupplier;
+			if (supplier == null) {
+				return super.getMessage();
+			}
+			message = String.valueOf(supplier.get());
+			computedMessage = message;
+		}
+		return message;
+	}
+
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		// the supplier is not serializable ; the message is computed before
+		getMessage();
+		out.defaultWriteObject();
+	}
+
 }
@@ -10,5 +10,6 @@ module powerunit.exceptions {
 	requires static java.sql;
 	requires static java.xml;
 	requires static org.apache.commons.collections4;
+	requires static jdk.jfr;
 	uses ch.powerunit.extensions.exceptions.ExceptionMapper;
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedList;
+import java.util.List;
+
+import ch.powerunit.Test;
+import ch.powerunit.TestSuite;
+
+@SuppressWarnings("squid:S2187") // Sonar doesn't under that it is really a test
+public class BatchResultTest implements TestSuite {
+
+	private static final FunctionWithException<String, Integer, IOException> PARSE = s -> {
+		if (s.isEmpty()) {
+			throw new IOException("empty");
+		}
+		return s.length();
+	};
+
+	@Test
+	public void testApplyAllWithoutFailure() {
+		BatchResult<Integer> result = BatchResult.applyAll(PARSE, Arrays.asList("a", "bb", "ccc"));
+		assertThat(result.size()).is(3);
+		assertThat(result.getValues()).is(Arrays.asList(1, 2, 3));
+		assertThat(result.hasFailures()).is(false);
+		assertThat(result.getFailureCount()).is(0);
+		assertThat(result.getFailures().isEmpty()).is(true);
+		assertThat(result.getFailedIndices().isEmpty()).is(true);
+		assertThat(result.isFailed(1)).is(false);
+		assertThat(result.toString()).is("BatchResult[size=3, failures=0]");
+	}
+
+	@Test
+	public void testApplyAllContinuesAfterFailures() {
+		List<String> elements = new LinkedList<>(Arrays.asList("", "bb", "", "", "eeeee"));
+		BatchResult<Integer> result = BatchResult.applyAll(PARSE, elements);
+		assertThat(result.getValues()).is(Arrays.asList(null, 2, null, null, 5));
+		assertThat(result.getFailureCount()).is(3);
+		BitSet expected = new BitSet();
+		expected.set(0);
+		expected.set(2);
+		expected.set(3);
+		assertThat(result.getFailedIndices()).is(expected);
+		assertThat(result.isFailed(2)).is(true);
+		assertThat(result.getFailures().get(1)).is(instanceOf(IOException.class));
+	}
+
+	@Test
+	public void testApplyAllUsesDefaultValue() {
+		FunctionWithException<String, Integer, IOException> fn = new FunctionWithException<String, Integer, IOException>() {
+
+			@Override
+			public Integer apply(String t) throws IOException {
+				return PARSE.apply(t);
+			}
+
+			@Override
+			public Integer defaultValue() {
+				return -1;
+			}
+		};
+		assertThat(fn.applyAll(new String[] { "a", "" }).getValues()).is(Arrays.asList(1, -1));
+	}
+
+	@Test
+	public void testAcceptAll() {
+		StringBuilder seen = new StringBuilder();
+		BatchResult<Void> result = BatchResult.<String, IOException>acceptAll(s -> {
+			if (s.isEmpty()) {
+				throw new IOException();
+			}
+			seen.append(s);
+		}, Arrays.asList("a", "", "c"));
+		assertThat(seen.toString()).is("ac");
+		assertThat(result.size()).is(3);
+		assertThat(result.get(0)).isNull();
+		assertThat(result.isFailed(1)).is(true);
+		assertThat(result.getValues().size()).is(3);
+	}
+
+	@Test
+	public void testGetOutOfBatch() {
+		BatchResult<Integer> result = BatchResult.applyAll(PARSE, Arrays.asList("a"));
+		assertWhen((x) -> result.get(1)).throwException(instanceOf(IndexOutOfBoundsException.class));
+		assertWhen((x) -> result.getValues().add(1)).throwException(instanceOf(UnsupportedOperationException.class));
+	}
+
+}
@@ -21,6 +21,7 @@ package ch.powerunit.extensions.exceptions;
 
 import java.util.Arrays;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
@@ -124,4 +125,31 @@ public class BiConsumerWithExceptionTest implements TestSuite {
 		assertThat(fct1.toString()).is("test");
 	}
 
+	@Test
+	public void testStagedAsyncNoException() {
+		BiConsumerWithException.stagedAsync((x, y) -> {
+		}).apply("2", "3").toCompletableFuture().join();
+	}
+
+	@Test
+	public void testStagedAsyncExecutorNoException() {
+		BiConsumerWithException.stagedAsync((x, y) -> {
+		}, ForkJoinPool.commonPool()).apply("2", "3").toCompletableFuture().join();
+	}
+
+	@Test
+	public void testStagedAsyncException() {
+		assertWhen((x) -> BiConsumerWithException.stagedAsync((y, z) -> {
+			throw new Exception();
+		}).apply("x", "y").toCompletableFuture().join()).throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testStagedAsyncExecutorException() {
+		assertWhen((x) -> BiConsumerWithException.stagedAsync((y, z) -> {
+			throw new Exception();
+		}, ForkJoinPool.commonPool()).apply("x", "y").toCompletableFuture().join())
+				.throwException(instanceOf(CompletionException.class));
+	}
+
 }
@@ -19,7 +19,10 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.time.Duration;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
@@ -132,4 +135,70 @@ public class BiFunctionWithExceptionTest implements TestSuite {
 		}, "x").apply("x", "y")).is("x");
 	}
 
+	@Test
+	public void testStagedAsyncNoException() {
+		assertThat(BiFunctionWithException.stagedAsync((x, y) -> "" + x + y).apply("2", "1").toCompletableFuture().join())
+				.is("21");
+	}
+
+	@Test
+	public void testStagedAsyncExecutorNoException() {
+		assertThat(BiFunctionWithException.stagedAsync((x, y) -> "" + x + y, ForkJoinPool.commonPool()).apply("2", "1").toCompletableFuture().join())
+				.is("21");
+	}
+
+	@Test
+	public void testStagedAsyncException() {
+		assertWhen((x) -> BiFunctionWithException.stagedAsync((y, z) -> {
+			throw new Exception();
+		}).apply("x", "x").toCompletableFuture().join()).throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testStagedAsyncExecutorException() {
+		assertWhen((x) -> BiFunctionWithException.stagedAsync((y, z) -> {
+			throw new Exception();
+		}, ForkJoinPool.commonPool()).apply("x", "x").toCompletableFuture().join())
+				.throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testMemoizeComputeOnce() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		BiFunctionWithException<String, String, String, Exception> fn = (x, y) -> x + y + count.incrementAndGet();
+		BiFunctionWithException<String, String, String, Exception> memoized = fn.memoize(10);
+		assertThat(memoized.apply("2", "3")).is(memoized.apply("2", "3"));
+		assertThat(count.get()).is(1);
+	}
+
+	@Test
+	public void testMemoizeExceptionNotCached() {
+		AtomicInteger count = new AtomicInteger();
+		BiFunctionWithException<String, String, String, Exception> memoized = BiFunctionWithException.memoized((x, y) -> {
+			count.incrementAndGet();
+			throw new Exception();
+		}, 10);
+		assertWhen((x) -> memoized.apply("2", "3")).throwException(instanceOf(Exception.class));
+		assertWhen((x) -> memoized.apply("2", "3")).throwException(instanceOf(Exception.class));
+		assertThat(count.get()).is(2);
+	}
+
+	@Test
+	public void testMemoizeExceptionCached() {
+		AtomicInteger count = new AtomicInteger();
+		BiFunctionWithException<String, String, String, Exception> memoized = BiFunctionWithException.memoized((x, y) -> {
+			count.incrementAndGet();
+			throw new Exception();
+		}, 10, Duration.ofMinutes(1), true);
+		assertWhen((x) -> memoized.apply("2", "3")).throwException(instanceOf(Exception.class));
+		assertWhen((x) -> memoized.apply("2", "3")).throwException(instanceOf(Exception.class));
+		assertThat(count.get()).is(1);
+	}
+
+	@Test
+	public void testMemoizeKeepDefaultValue() {
+		BiFunctionWithException<String, String, String, Exception> failing = BiFunctionWithException.failing(Exception::new);
+		BiFunctionWithException<String, String, String, Exception> memoized = failing.memoize(10);
+		assertThat(memoized.ignore().apply("2", "3")).isNull();
+	}
 }
@@ -19,6 +19,8 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.util.Optional;
+
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
 
@@ -133,6 +135,18 @@ public class BiPredicateWithExceptionTest implements TestSuite {
 		}).test("x", "x")).is(false);
 	}
 
+	@Test
+	public void testLiftedOptionalNoException() {
+		assertThat(BiPredicateWithException.liftedOptional((x, y) -> true).apply("2", "3")).is(Optional.of(true));
+	}
+
+	@Test
+	public void testLiftedOptionalException() {
+		assertThat(BiPredicateWithException.liftedOptional((x, y) -> {
+			throw new Exception();
+		}).apply("x", "x")).is(Optional.empty());
+	}
+
 	@Test
 	public void testIgnoredNoException() {
 		assertThat(BiPredicateWithException.ignored((x, y) -> true).test("2", "3")).is(true);
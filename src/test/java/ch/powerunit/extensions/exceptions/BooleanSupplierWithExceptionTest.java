@@ -19,6 +19,8 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.util.Optional;
+
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
 
@@ -62,6 +64,18 @@ public class BooleanSupplierWithExceptionTest implements TestSuite {
 		}).getAsBoolean()).is(false);
 	}
 
+	@Test
+	public void testLiftedOptionalNoException() {
+		assertThat(BooleanSupplierWithException.liftedOptional(() -> true).get()).is(Optional.of(true));
+	}
+
+	@Test
+	public void testLiftedOptionalException() {
+		assertThat(BooleanSupplierWithException.liftedOptional(() -> {
+			throw new Exception();
+		}).get()).is(Optional.empty());
+	}
+
 	@Test
 	public void testIgnoredNoException() {
 		assertThat(BooleanSupplierWithException.ignored(() -> true).getAsBoolean()).is(true);
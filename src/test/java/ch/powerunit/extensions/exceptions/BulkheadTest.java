@@ -0,0 +1,110 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import ch.powerunit.Test;
+import ch.powerunit.TestSuite;
+
+@SuppressWarnings("squid:S2187") // Sonar doesn't under that it is really a test
+public class BulkheadTest implements TestSuite {
+
+	@Test
+	public void testRejectsWhenFull() throws Exception {
+		Bulkhead bulkhead = Bulkhead.of(1);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<String> running = executor.submit(() -> bulkhead.execute(() -> {
+				started.countDown();
+				release.await();
+				return "x";
+			}));
+			assertThat(started.await(5, TimeUnit.SECONDS)).is(true);
+			assertThat(bulkhead.getAvailable()).is(0);
+			assertWhen((x) -> bulkhead.execute(() -> "y")).throwException(instanceOf(Bulkhead.RejectedException.class));
+			release.countDown();
+			assertThat(running.get()).is("x");
+			assertThat(bulkhead.execute(() -> "y")).is("y");
+			assertThat(bulkhead.getAvailable()).is(1);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testWaitsForPermit() throws Exception {
+		Bulkhead bulkhead = Bulkhead.of(1, 1, Duration.ofSeconds(5));
+		CountDownLatch started = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			executor.submit(() -> bulkhead.execute(() -> {
+				started.countDown();
+				Thread.sleep(50);
+				return "x";
+			}));
+			assertThat(started.await(5, TimeUnit.SECONDS)).is(true);
+			assertThat(bulkhead.execute(() -> "y")).is("y");
+			assertThat(bulkhead.getWaiting()).is(0);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testRejectsWhenQueueIsFull() throws Exception {
+		Bulkhead bulkhead = Bulkhead.of(1, 0, Duration.ofSeconds(5));
+		assertThat(bulkhead.execute(() -> bulkhead.getAvailable())).is(0);
+		assertWhen((x) -> bulkhead.execute(() -> bulkhead.execute(() -> "y")))
+				.throwException(instanceOf(Bulkhead.RejectedException.class));
+		bulkhead.setMaxWaiting(1).setMaxWait(Duration.ofMillis(10));
+		assertWhen((x) -> bulkhead.execute(() -> bulkhead.execute(() -> "y")))
+				.throwException(instanceOf(Bulkhead.RejectedException.class));
+	}
+
+	@Test
+	public void testChangeMaxConcurrent() throws Exception {
+		Bulkhead bulkhead = Bulkhead.of(2);
+		assertThat(bulkhead.setMaxConcurrent(3).getAvailable()).is(3);
+		assertThat(bulkhead.execute(() -> bulkhead.setMaxConcurrent(1).getAvailable())).is(0);
+		assertThat(bulkhead.getAvailable()).is(1);
+		assertThat(bulkhead.getMaxConcurrent()).is(1);
+		assertWhen((x) -> bulkhead.execute(() -> bulkhead.execute(() -> "y")))
+				.throwException(instanceOf(Bulkhead.RejectedException.class));
+		assertThat(bulkhead.toString()).is("Bulkhead[maxConcurrent=1, available=1, waiting=0]");
+	}
+
+	@Test
+	public void testInvalidArguments() {
+		assertWhen((x) -> Bulkhead.of(0)).throwException(instanceOf(IllegalArgumentException.class));
+		assertWhen((x) -> Bulkhead.of(1, -1, Duration.ZERO)).throwException(instanceOf(IllegalArgumentException.class));
+		assertWhen((x) -> Bulkhead.of(1, 1, null)).throwException(instanceOf(NullPointerException.class));
+		assertWhen((x) -> Bulkhead.of(1).setMaxWait(Duration.ofMillis(-1)))
+				.throwException(instanceOf(IllegalArgumentException.class));
+	}
+
+}
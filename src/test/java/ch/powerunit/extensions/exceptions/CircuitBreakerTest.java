@@ -0,0 +1,189 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ch.powerunit.Test;
+import ch.powerunit.TestSuite;
+
+@SuppressWarnings("squid:S2187") // Sonar doesn't under that it is really a test
+public class CircuitBreakerTest implements TestSuite {
+
+	private static SupplierWithException<String, Exception> failing(AtomicInteger count) {
+		return () -> {
+			count.incrementAndGet();
+			throw new IOException("ko");
+		};
+	}
+
+	@Test
+	public void testOfInvalid() {
+		assertWhen((x) -> CircuitBreaker.of(0, 0.5, Duration.ofSeconds(1)))
+				.throwException(instanceOf(IllegalArgumentException.class));
+		assertWhen((x) -> CircuitBreaker.of(2, 0, Duration.ofSeconds(1)))
+				.throwException(instanceOf(IllegalArgumentException.class));
+		assertWhen((x) -> CircuitBreaker.of(2, 1.5, Duration.ofSeconds(1)))
+				.throwException(instanceOf(IllegalArgumentException.class));
+		assertWhen((x) -> CircuitBreaker.of(2, 0.5, Duration.ZERO))
+				.throwException(instanceOf(IllegalArgumentException.class));
+		assertWhen((x) -> CircuitBreaker.of(2, 0.5, null)).throwException(instanceOf(NullPointerException.class));
+		assertWhen((x) -> CircuitBreaker.of(2, 0.5, Duration.ofSeconds(1)).addListener(null))
+				.throwException(instanceOf(NullPointerException.class));
+	}
+
+	@Test
+	public void testStaysClosedBelowThreshold() throws Exception {
+		CircuitBreaker breaker = CircuitBreaker.of(4, 0.5, Duration.ofMinutes(1));
+		AtomicInteger count = new AtomicInteger();
+		assertWhen((x) -> breaker.execute(failing(count))).throwException(instanceOf(IOException.class));
+		assertThat(breaker.execute(() -> "ok")).is("ok");
+		assertThat(breaker.execute(() -> "ok")).is("ok");
+		assertThat(breaker.execute(() -> "ok")).is("ok");
+		assertThat(breaker.getState()).is(CircuitBreaker.State.CLOSED);
+		assertThat(breaker.getFailureRate()).is(0.25);
+	}
+
+	@Test
+	public void testOpensAndFailsFast() {
+		List<String> transitions = new ArrayList<>();
+		CircuitBreaker breaker = CircuitBreaker.of(2, 0.5, Duration.ofMinutes(1))
+				.addListener((from, to) -> transitions.add(from + "->" + to));
+		AtomicInteger count = new AtomicInteger();
+		assertWhen((x) -> breaker.execute(failing(count))).throwException(instanceOf(IOException.class));
+		assertThat(breaker.getState()).is(CircuitBreaker.State.CLOSED);
+		assertWhen((x) -> breaker.execute(failing(count))).throwException(instanceOf(IOException.class));
+		assertThat(breaker.getState()).is(CircuitBreaker.State.OPEN);
+		assertWhen((x) -> breaker.execute(failing(count)))
+				.throwException(instanceOf(CircuitBreaker.OpenException.class));
+		assertThat(count.get()).is(2);
+		assertThat(transitions).is(List.of("CLOSED->OPEN"));
+	}
+
+	@Test
+	public void testHalfOpenTrialSuccessCloses() throws Exception {
+		List<String> transitions = new ArrayList<>();
+		CircuitBreaker breaker = CircuitBreaker.of(1, 1, Duration.ofMillis(1))
+				.addListener((from, to) -> transitions.add(from + "->" + to));
+		assertWhen((x) -> breaker.execute(failing(new AtomicInteger())))
+				.throwException(instanceOf(IOException.class));
+		Thread.sleep(5);
+		assertThat(breaker.execute(() -> "ok")).is("ok");
+		assertThat(breaker.getState()).is(CircuitBreaker.State.CLOSED);
+		assertThat(breaker.getFailureRate()).is(0.0);
+		assertThat(transitions).is(List.of("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED"));
+	}
+
+	@Test
+	public void testHalfOpenTrialFailureReopens() throws Exception {
+		CircuitBreaker breaker = CircuitBreaker.of(1, 1, Duration.ofMillis(1));
+		AtomicInteger count = new AtomicInteger();
+		assertWhen((x) -> breaker.execute(failing(count))).throwException(instanceOf(IOException.class));
+		Thread.sleep(5);
+		assertWhen((x) -> breaker.execute(failing(count))).throwException(instanceOf(IOException.class));
+		assertThat(breaker.getState()).is(CircuitBreaker.State.OPEN);
+		assertThat(count.get()).is(2);
+	}
+
+	@Test
+	public void testHalfOpenTrialErrorReopens() throws Exception {
+		CircuitBreaker breaker = CircuitBreaker.of(1, 1, Duration.ofMillis(1));
+		assertWhen((x) -> breaker.execute(failing(new AtomicInteger())))
+				.throwException(instanceOf(IOException.class));
+		Thread.sleep(5);
+		assertWhen((x) -> breaker.execute(() -> {
+			throw new AssertionError("ko");
+		})).throwException(instanceOf(AssertionError.class));
+		assertThat(breaker.getState()).is(CircuitBreaker.State.OPEN);
+		Thread.sleep(5);
+		assertThat(breaker.execute(() -> "ok")).is("ok");
+		assertThat(breaker.getState()).is(CircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	public void testStragglingFailureDoesntExtendOpenPeriod() throws Exception {
+		CircuitBreaker breaker = CircuitBreaker.of(1, 1, Duration.ofMillis(300));
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Thread straggler = new Thread(() -> {
+			try {
+				breaker.execute(() -> {
+					started.countDown();
+					release.await();
+					throw new IOException("late");
+				});
+			} catch (Exception e) {
+				// expected
+			}
+		});
+		straggler.start();
+		started.await();
+		assertWhen((x) -> breaker.execute(failing(new AtomicInteger())))
+				.throwException(instanceOf(IOException.class));
+		assertThat(breaker.getState()).is(CircuitBreaker.State.OPEN);
+		Thread.sleep(200);
+		release.countDown();
+		straggler.join();
+		Thread.sleep(200);
+		assertThat(breaker.execute(() -> "ok")).is("ok");
+		assertThat(breaker.getState()).is(CircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	public void testRecordOnOnlyCountsSelectedExceptions() throws Exception {
+		CircuitBreaker breaker = CircuitBreaker.of(1, 1, Duration.ofMinutes(1), SQLException.class);
+		assertWhen((x) -> breaker.execute(failing(new AtomicInteger())))
+				.throwException(instanceOf(IOException.class));
+		assertThat(breaker.getState()).is(CircuitBreaker.State.CLOSED);
+		assertWhen((x) -> breaker.execute(() -> {
+			throw new SQLException();
+		})).throwException(instanceOf(SQLException.class));
+		assertThat(breaker.getState()).is(CircuitBreaker.State.OPEN);
+	}
+
+	@Test
+	public void testOpenExceptionIsPreallocated() {
+		CircuitBreaker breaker = CircuitBreaker.of(1, 1, Duration.ofMinutes(1));
+		AtomicInteger count = new AtomicInteger();
+		assertWhen((x) -> breaker.execute(failing(count))).throwException(instanceOf(IOException.class));
+		RuntimeException first = null;
+		RuntimeException second = null;
+		try {
+			breaker.execute(failing(count));
+		} catch (Exception e) {
+			first = (RuntimeException) e;
+		}
+		try {
+			breaker.execute(failing(count));
+		} catch (Exception e) {
+			second = (RuntimeException) e;
+		}
+		assertThat(first).is(sameInstance(second));
+		assertThat(first.getStackTrace().length).is(0);
+		assertThat(breaker.exceptionMapper(Constants.MAPPERS).apply(first)).is(sameInstance(first));
+	}
+
+}
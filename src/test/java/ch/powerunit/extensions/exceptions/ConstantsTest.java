@@ -0,0 +1,105 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import ch.powerunit.Test;
+import ch.powerunit.TestSuite;
+
+@SuppressWarnings("squid:S2187") // Sonar doesn't under that it is really a test
+public class ConstantsTest implements TestSuite {
+
+	private static final String PACKAGE = "ch.powerunit.extensions.exceptions.";
+
+	private static final String[] HOLDERS = { "Constants$MappersHolder", "Constants$SqlExceptionMapperHolder",
+			"Constants$JaxbExceptionMapperHolder", "Constants$SaxExceptionMapperHolder",
+			"Constants$TransformerExceptionMapperHolder" };
+
+	/**
+	 * Loads the classes of this library in isolation, to see which ones are
+	 * loaded (a class can't be initialized before being loaded).
+	 */
+	private static final class IsolatedLoader extends URLClassLoader {
+
+		private final Set<String> loaded = ConcurrentHashMap.newKeySet();
+
+		IsolatedLoader() {
+			super(new URL[] { Constants.class.getProtectionDomain().getCodeSource().getLocation() },
+					ClassLoader.getPlatformClassLoader());
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if (name.startsWith(PACKAGE)) {
+				loaded.add(name.substring(PACKAGE.length()));
+			}
+			return super.loadClass(name, resolve);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Function<Object, Object> unchecked(IsolatedLoader loader, Exception failure) throws Exception {
+		Class<?> type = loader.loadClass(PACKAGE + "FunctionWithException");
+		InvocationHandler handler = (proxy, method, args) -> {
+			if (method.isDefault()) {
+				return InvocationHandler.invokeDefault(proxy, method, args);
+			}
+			if (failure != null) {
+				throw failure;
+			}
+			return args[0];
+		};
+		Object function = Proxy.newProxyInstance(loader, new Class<?>[] { type }, handler);
+		return (Function<Object, Object>) type.getMethod("uncheck").invoke(function);
+	}
+
+	@Test
+	public void testMappersNotResolvedOnSuccessPath() throws Exception {
+		try (IsolatedLoader loader = new IsolatedLoader()) {
+			assertThat(unchecked(loader, null).apply("x")).is("x");
+			assertThat(loader.loaded.contains("Constants")).is(true);
+			for (String holder : HOLDERS) {
+				assertThat(loader.loaded.contains(holder)).is(false);
+			}
+		}
+	}
+
+	@Test
+	public void testMappersResolvedOnFirstException() throws Exception {
+		ClassLoader previous = Thread.currentThread().getContextClassLoader();
+		try (IsolatedLoader loader = new IsolatedLoader()) {
+			Thread.currentThread().setContextClassLoader(loader);
+			Function<Object, Object> function = unchecked(loader, new Exception("x"));
+			assertThat(loader.loaded.contains("Constants$MappersHolder")).is(false);
+			assertWhen((x) -> function.apply("x")).throwException(instanceOf(RuntimeException.class));
+			assertThat(loader.loaded.contains("Constants$MappersHolder")).is(true);
+		} finally {
+			Thread.currentThread().setContextClassLoader(previous);
+		}
+	}
+
+}
@@ -19,7 +19,13 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
@@ -115,4 +121,112 @@ public class ConsumerWithExceptionTest implements TestSuite {
 		}).apply("x").toCompletableFuture().join()).throwException(instanceOf(CompletionException.class));
 	}
 
+	@Test
+	public void testStagedAsyncNoException() {
+		ConsumerWithException.stagedAsync(x -> {
+		}).apply("2").toCompletableFuture().join();
+	}
+
+	@Test
+	public void testStagedAsyncExecutorNoException() {
+		ConsumerWithException.stagedAsync(x -> {
+		}, ForkJoinPool.commonPool()).apply("2").toCompletableFuture().join();
+	}
+
+	@Test
+	public void testStagedAsyncException() {
+		assertWhen((x) -> ConsumerWithException.stagedAsync(y -> {
+			throw new Exception();
+		}).apply("x").toCompletableFuture().join()).throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testStagedAsyncExecutorException() {
+		assertWhen((x) -> ConsumerWithException.stagedAsync(y -> {
+			throw new Exception();
+		}, ForkJoinPool.commonPool()).apply("x").toCompletableFuture().join())
+				.throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testRetryUntilSuccess() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		ConsumerWithException<String, Exception> retried = ConsumerWithException.retried(x -> {
+			if (count.incrementAndGet() < 3) {
+				throw new Exception();
+			}
+		}, RetryPolicy.maxAttempts(3));
+		retried.accept("x");
+		assertThat(count.get()).is(3);
+	}
+
+	@Test
+	public void testRetryFailure() {
+		AtomicInteger count = new AtomicInteger();
+		ConsumerWithException<String, Exception> fn = x -> {
+			count.incrementAndGet();
+			throw new Exception();
+		};
+		assertWhen((x) -> fn.retry(RetryPolicy.maxAttempts(2)).uncheck().accept("x"))
+				.throwException(instanceOf(WrappedException.class));
+		assertThat(count.get()).is(2);
+	}
+
+	@Test
+	public void testRetryAsyncUntilSuccess() {
+		AtomicInteger count = new AtomicInteger();
+		ConsumerWithException<String, Exception> fn = x -> {
+			if (count.incrementAndGet() < 3) {
+				throw new Exception();
+			}
+		};
+		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+		try {
+			fn.retryAsync(RetryPolicy.maxAttempts(3), scheduler).apply("x").toCompletableFuture().join();
+			assertThat(count.get()).is(3);
+		} finally {
+			scheduler.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testInstrumentCountsFailures() {
+		OperationMetrics metrics = OperationMetrics.of("consumer");
+		ConsumerWithException<String, Exception> fn = ConsumerWithException.instrumented(x -> {
+			if (x.isEmpty()) {
+				throw new Exception();
+			}
+		}, metrics);
+		fn.uncheck().accept("x");
+		fn.ignore().accept("");
+		assertThat(metrics.getInvocations()).is(2L);
+		assertThat(metrics.getFailures()).is(1L);
+		assertThat(metrics.getSwallowed()).is(1L);
+	}
+
+	@Test
+	public void testAcceptAll() {
+		AtomicInteger count = new AtomicInteger();
+		ConsumerWithException<String, Exception> fn = s -> {
+			if (s.isEmpty()) {
+				throw new Exception();
+			}
+			count.incrementAndGet();
+		};
+		BatchResult<Void> result = fn.acceptAll(new String[] { "", "b", "c" });
+		assertThat(count.get()).is(2);
+		assertThat(result.isFailed(0)).is(true);
+		assertWhen((x) -> fn.acceptAll((List<String>) null)).throwException(instanceOf(NullPointerException.class));
+	}
+
+	@Test
+	public void testRateLimitRejectionIsMapped() {
+		RateLimiter limiter = RateLimiter.of(0.001).withMaxWait(Duration.ZERO);
+		ConsumerWithException<String, Exception> fn = ConsumerWithException.rateLimited(s -> {
+		}, limiter);
+		fn.uncheck().accept("x");
+		assertWhen((x) -> fn.uncheck().accept("y")).throwException(instanceOf(WrappedException.class));
+		fn.ignore().accept("z");
+	}
+
 }
@@ -0,0 +1,88 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.function.Function;
+
+import ch.powerunit.Test;
+import ch.powerunit.TestSuite;
+
+@SuppressWarnings("squid:S2187") // Sonar doesn't under that it is really a test
+public class ControlFlowExceptionTest implements TestSuite {
+
+	@Test
+	public void testOneInstancePerClass() {
+		ControlFlowException first = ControlFlowException.of(new IOException("a"));
+		assertThat(ControlFlowException.of(new IOException("b"))).is(sameInstance(first));
+		assertThat(ControlFlowException.of(new FileNotFoundException()) == first).is(false);
+		assertThat(first.getExceptionClass()).is(sameInstance(IOException.class));
+		assertThat(first.getMessage()).is("java.io.IOException");
+	}
+
+	@Test
+	public void testIsImmutableAndStackless() {
+		ControlFlowException e = ControlFlowException.of(new IOException());
+		e.addSuppressed(new IllegalStateException());
+		e.setStackTrace(new StackTraceElement[] { new StackTraceElement("a", "b", "c", 1) });
+		assertThat(e.getSuppressed().length).is(0);
+		assertThat(e.getStackTrace().length).is(0);
+		assertThat(e.getCause()).isNull();
+		assertWhen((x) -> e.initCause(new IOException())).throwException(instanceOf(IllegalStateException.class));
+	}
+
+	@Test
+	public void testIs() {
+		ControlFlowException e = ControlFlowException.of(new FileNotFoundException());
+		assertThat(e.is(FileNotFoundException.class)).is(true);
+		assertThat(e.is(IOException.class)).is(true);
+		assertThat(e.is(InterruptedException.class)).is(false);
+	}
+
+	@Test
+	public void testMappers() {
+		assertThat(ExceptionMapper.controlFlowExceptionMapper().apply(new IOException()))
+				.is(sameInstance(ControlFlowException.of(new IOException())));
+		Function<Exception, RuntimeException> mapper = ExceptionMapper
+				.forExceptions(ExceptionMapper.controlFlowExceptionMapper(FileNotFoundException.class));
+		assertThat(mapper.apply(new FileNotFoundException())).is(instanceOf(ControlFlowException.class));
+		assertThat(mapper.apply(new IOException())).is(instanceOf(WrappedException.class));
+	}
+
+	@Test
+	public void testDeserializedHasNoClass() throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(ControlFlowException.of(new IOException()));
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			ControlFlowException e = (ControlFlowException) in.readObject();
+			assertThat(e.getMessage()).is("java.io.IOException");
+			assertThat(e.getExceptionClass()).isNull();
+			assertThat(e.is(IOException.class)).is(false);
+		}
+	}
+
+}
@@ -20,6 +20,7 @@
 package ch.powerunit.extensions.exceptions;
 
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
@@ -115,4 +116,31 @@ public class DoubleConsumerWithExceptionTest implements TestSuite {
 		}).apply(1).toCompletableFuture().join()).throwException(instanceOf(CompletionException.class));
 	}
 
+	@Test
+	public void testStagedAsyncNoException() {
+		DoubleConsumerWithException.stagedAsync(x -> {
+		}).apply(1).toCompletableFuture().join();
+	}
+
+	@Test
+	public void testStagedAsyncExecutorNoException() {
+		DoubleConsumerWithException.stagedAsync(x -> {
+		}, ForkJoinPool.commonPool()).apply(1).toCompletableFuture().join();
+	}
+
+	@Test
+	public void testStagedAsyncException() {
+		assertWhen((x) -> DoubleConsumerWithException.stagedAsync(y -> {
+			throw new Exception();
+		}).apply(1).toCompletableFuture().join()).throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testStagedAsyncExecutorException() {
+		assertWhen((x) -> DoubleConsumerWithException.stagedAsync(y -> {
+			throw new Exception();
+		}, ForkJoinPool.commonPool()).apply(1).toCompletableFuture().join())
+				.throwException(instanceOf(CompletionException.class));
+	}
+
 }
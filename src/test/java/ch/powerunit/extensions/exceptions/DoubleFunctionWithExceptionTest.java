@@ -20,6 +20,7 @@
 package ch.powerunit.extensions.exceptions;
 
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
@@ -100,4 +101,29 @@ public class DoubleFunctionWithExceptionTest implements TestSuite {
 		}, "x").apply(1)).is("x");
 	}
 
+	@Test
+	public void testStagedAsyncNoException() {
+		assertThat(DoubleFunctionWithException.stagedAsync(x -> "1").apply(2).toCompletableFuture().join()).is("1");
+	}
+
+	@Test
+	public void testStagedAsyncExecutorNoException() {
+		assertThat(DoubleFunctionWithException.stagedAsync(x -> "1", ForkJoinPool.commonPool()).apply(2).toCompletableFuture().join()).is("1");
+	}
+
+	@Test
+	public void testStagedAsyncException() {
+		assertWhen((x) -> DoubleFunctionWithException.stagedAsync(y -> {
+			throw new Exception();
+		}).apply(2).toCompletableFuture().join()).throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testStagedAsyncExecutorException() {
+		assertWhen((x) -> DoubleFunctionWithException.stagedAsync(y -> {
+			throw new Exception();
+		}, ForkJoinPool.commonPool()).apply(2).toCompletableFuture().join())
+				.throwException(instanceOf(CompletionException.class));
+	}
+
 }
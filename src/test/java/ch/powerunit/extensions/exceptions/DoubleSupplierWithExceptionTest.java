@@ -19,6 +19,8 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.util.OptionalDouble;
+
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
 
@@ -62,6 +64,18 @@ public class DoubleSupplierWithExceptionTest implements TestSuite {
 		}).getAsDouble()).is(0d);
 	}
 
+	@Test
+	public void testLiftedOptionalNoException() {
+		assertThat(DoubleSupplierWithException.liftedOptional(() -> 1d).get()).is(OptionalDouble.of(1d));
+	}
+
+	@Test
+	public void testLiftedOptionalException() {
+		assertThat(DoubleSupplierWithException.liftedOptional(() -> {
+			throw new Exception();
+		}).get()).is(OptionalDouble.empty());
+	}
+
 	@Test
 	public void testIgnoredNoException() {
 		assertThat(DoubleSupplierWithException.ignored(() -> 2).getAsDouble()).is(2d);
@@ -19,6 +19,8 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.util.OptionalInt;
+
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
 
@@ -62,6 +64,18 @@ public class DoubleToIntFunctionWithExceptionTest implements TestSuite {
 		}).applyAsInt(1)).is(0);
 	}
 
+	@Test
+	public void testLiftedOptionalNoException() {
+		assertThat(DoubleToIntFunctionWithException.liftedOptional(x -> 1).apply(2)).is(OptionalInt.of(1));
+	}
+
+	@Test
+	public void testLiftedOptionalException() {
+		assertThat(DoubleToIntFunctionWithException.liftedOptional(y -> {
+			throw new Exception();
+		}).apply(1)).is(OptionalInt.empty());
+	}
+
 	@Test
 	public void testIgnoredNoException() {
 		assertThat(DoubleToIntFunctionWithException.ignored(x -> 1).applyAsInt(2)).is(1);
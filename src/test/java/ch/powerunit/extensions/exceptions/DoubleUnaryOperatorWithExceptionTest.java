@@ -19,6 +19,8 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.util.OptionalDouble;
+
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
 
@@ -81,6 +83,18 @@ public class DoubleUnaryOperatorWithExceptionTest implements TestSuite {
 		}).applyAsDouble(1)).is(0d);
 	}
 
+	@Test
+	public void testLiftedOptionalNoException() {
+		assertThat(DoubleUnaryOperatorWithException.liftedOptional(x -> x + 1).apply(2)).is(OptionalDouble.of(3d));
+	}
+
+	@Test
+	public void testLiftedOptionalException() {
+		assertThat(DoubleUnaryOperatorWithException.liftedOptional(x -> {
+			throw new Exception();
+		}).apply(1)).is(OptionalDouble.empty());
+	}
+
 	@Test
 	public void testIgnoredNoException() {
 		assertThat(DoubleUnaryOperatorWithException.ignored(x -> x + 1).applyAsDouble(2)).is(3d);
@@ -0,0 +1,105 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import ch.powerunit.Test;
+import ch.powerunit.TestSuite;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+@SuppressWarnings("squid:S2187") // Sonar doesn't under that it is really a test
+public class ExceptionEventsTest implements TestSuite {
+
+	@Test
+	public void testSourceType() {
+		assertThat(ExceptionEvents.sourceType(FunctionWithException.identity()))
+				.is(sameInstance(FunctionWithException.class));
+		assertThat(ExceptionEvents.sourceType((UnaryOperatorWithException<String, IOException>) x -> x))
+				.is(sameInstance(UnaryOperatorWithException.class));
+		assertThat(ExceptionEvents.sourceType("x")).is(sameInstance(String.class));
+	}
+
+	@Test
+	public void testDescribeMapper() {
+		Exception e = new IOException();
+		assertThat(ExceptionEvents.describeMapper(Constants.MAPPERS, e)).is("default (WrappedException)");
+		assertThat(ExceptionEvents.describeMapper(
+				ExceptionMapper.forExceptions(ExceptionMapper.forException(IOException.class, IllegalStateException::new)),
+				e)).is("ExceptionMapper[java.io.IOException]");
+		assertThat(ExceptionEvents.describeMapper(ExceptionMapper
+				.forExceptions(ExceptionMapper.forException(SQLException.class, IllegalStateException::new)), e))
+				.is("default (WrappedException)");
+		assertThat(ExceptionEvents.describeMapper(IllegalStateException::new, e))
+				.is(ExceptionEventsTest.class.getName() + "$$Lambda");
+	}
+
+	@Test
+	public void testWrappedWithoutRecording() {
+		assertThat(ExceptionEvents.wrapped(this, IllegalStateException::new, new IOException()))
+				.is(instanceOf(IllegalStateException.class));
+	}
+
+	@Test
+	public void testEventsRecorded() throws Exception {
+		Path file = Files.createTempFile("events", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable(ExceptionWrappedEvent.NAME);
+			recording.enable(ExceptionIgnoredEvent.NAME);
+			recording.start();
+			FunctionWithException<String, String, IOException> fct = x -> {
+				throw new IOException();
+			};
+			assertWhen((x) -> fct.uncheck().apply("x")).throwException(instanceOf(WrappedException.class));
+			assertThat(fct.lift().apply("x").isPresent()).is(false);
+			assertThat(((IntSupplierWithException<IOException>) () -> {
+				throw new IOException();
+			}).ignore().getAsInt()).is(0);
+			recording.stop();
+			recording.dump(file);
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+			List<RecordedEvent> wrapped = events.stream()
+					.filter(e -> e.getEventType().getName().equals(ExceptionWrappedEvent.NAME))
+					.collect(Collectors.toList());
+			List<RecordedEvent> ignored = events.stream()
+					.filter(e -> e.getEventType().getName().equals(ExceptionIgnoredEvent.NAME))
+					.collect(Collectors.toList());
+			assertThat(wrapped.size()).is(1);
+			assertThat(wrapped.get(0).getClass("sourceType").getName()).is(FunctionWithException.class.getName());
+			assertThat(wrapped.get(0).getClass("exceptionClass").getName()).is(IOException.class.getName());
+			assertThat(wrapped.get(0).getClass("resultClass").getName()).is(WrappedException.class.getName());
+			assertThat(wrapped.get(0).getString("mapper")).isNotNull();
+			assertThat(ignored.size()).is(2);
+			assertThat(ignored.stream().map(e -> e.getClass("sourceType").getName()).collect(Collectors.toSet()))
+					.is(containsInAnyOrder(FunctionWithException.class.getName(),
+							IntSupplierWithException.class.getName()));
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+}
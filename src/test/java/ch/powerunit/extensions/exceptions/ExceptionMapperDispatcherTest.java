@@ -0,0 +1,104 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import ch.powerunit.Test;
+import ch.powerunit.TestSuite;
+
+@SuppressWarnings("squid:S2187") // Sonar doesn't under that it is really a test
+public class ExceptionMapperDispatcherTest implements TestSuite {
+
+	private final ExceptionMapper ioe = ExceptionMapper.forException(IOException.class,
+			e -> new WrappedException("ioe"));
+
+	private final ExceptionMapper fnf = ExceptionMapper.forException(FileNotFoundException.class,
+			e -> new WrappedException("fnf"));
+
+	private final Function<Exception, RuntimeException> fallback = e -> new WrappedException("fallback");
+
+	@Test
+	public void testSelectFirstApplicable() {
+		ExceptionMapperDispatcher dispatcher = new ExceptionMapperDispatcher(new ExceptionMapper[] { ioe, fnf },
+				fallback);
+		assertThat(dispatcher.select(new FileNotFoundException())).is(sameInstance(ioe));
+	}
+
+	@Test
+	public void testSelectOrderRespected() {
+		ExceptionMapperDispatcher dispatcher = new ExceptionMapperDispatcher(new ExceptionMapper[] { fnf, ioe },
+				fallback);
+		assertThat(dispatcher.select(new FileNotFoundException())).is(sameInstance(fnf));
+		assertThat(dispatcher.select(new IOException())).is(sameInstance(ioe));
+	}
+
+	@Test
+	public void testSelectFallback() {
+		ExceptionMapperDispatcher dispatcher = new ExceptionMapperDispatcher(new ExceptionMapper[] { ioe }, fallback);
+		assertThat(dispatcher.select(new SQLException())).is(sameInstance(fallback));
+	}
+
+	@Test
+	public void testApply() {
+		ExceptionMapperDispatcher dispatcher = new ExceptionMapperDispatcher(new ExceptionMapper[] { ioe }, fallback);
+		assertThat(dispatcher.apply(new IOException()).getMessage()).is("ioe");
+		assertThat(dispatcher.apply(new SQLException()).getMessage()).is("fallback");
+	}
+
+	@Test
+	public void testSelectionCachedPerClass() {
+		AtomicInteger lookup = new AtomicInteger();
+		ExceptionMapper counting = new ExceptionMapper() {
+
+			@Override
+			public RuntimeException apply(Exception e) {
+				return new WrappedException(e);
+			}
+
+			@Override
+			public Class<? extends Exception> targetException() {
+				lookup.incrementAndGet();
+				return IOException.class;
+			}
+		};
+		ExceptionMapperDispatcher dispatcher = new ExceptionMapperDispatcher(new ExceptionMapper[] { counting },
+				fallback);
+		for (int i = 0; i < 10; i++) {
+			dispatcher.apply(new IOException());
+		}
+		assertThat(lookup.get()).is(1);
+		dispatcher.apply(new SQLException());
+		assertThat(lookup.get()).is(2);
+	}
+
+	@Test
+	public void testMappersArrayCopied() {
+		ExceptionMapper[] mappers = new ExceptionMapper[] { ioe };
+		ExceptionMapperDispatcher dispatcher = new ExceptionMapperDispatcher(mappers, fallback);
+		mappers[0] = fnf;
+		assertThat(dispatcher.select(new IOException())).is(sameInstance(ioe));
+	}
+
+}
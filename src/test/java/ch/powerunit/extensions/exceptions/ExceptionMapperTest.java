@@ -35,6 +35,15 @@ import ch.powerunit.TestSuite;
 @SuppressWarnings("squid:S2187") // Sonar doesn't under that it is really a test
 public class ExceptionMapperTest implements TestSuite {
 
+	@Test
+	public void testStacklessExceptionMapper() {
+		IOException cause = new IOException("test");
+		RuntimeException e = ExceptionMapper.stacklessExceptionMapper().apply(cause);
+		assertThat(e).is(both(exceptionMessage("test")).and(instanceOf(WrappedException.class)));
+		assertThat(e.getCause()).is(cause);
+		assertThat(e.getStackTrace().length).is(0);
+	}
+
 	@Test
 	public void testForExceptionSameException() {
 		assertThatFunction(ExceptionMapper.forException(IOException.class, e -> new WrappedException("testme")),
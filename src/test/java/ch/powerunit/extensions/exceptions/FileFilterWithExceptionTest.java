@@ -20,6 +20,7 @@
 package ch.powerunit.extensions.exceptions;
 
 import java.io.File;
+import java.util.Optional;
 
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
@@ -135,6 +136,18 @@ public class FileFilterWithExceptionTest implements TestSuite {
 		}).accept(new File("."))).is(false);
 	}
 
+	@Test
+	public void acceptLiftedOptionalNoException() {
+		assertThat(FileFilterWithException.liftedOptional(x -> true).apply(new File("."))).is(Optional.of(true));
+	}
+
+	@Test
+	public void acceptLiftedOptionalException() {
+		assertThat(FileFilterWithException.liftedOptional(y -> {
+			throw new Exception();
+		}).apply(new File("."))).is(Optional.empty());
+	}
+
 	@Test
 	public void acceptIgnoredNoException() {
 		assertThat(FileFilterWithException.ignored(x -> true).accept(new File("."))).is(true);
@@ -20,6 +20,7 @@
 package ch.powerunit.extensions.exceptions;
 
 import java.io.File;
+import java.util.Optional;
 
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
@@ -137,6 +138,19 @@ public class FilenameFilterWithExceptionTest implements TestSuite {
 		}).accept(new File("."), "x")).is(false);
 	}
 
+	@Test
+	public void testLiftedOptionalNoException() {
+		assertThat(FilenameFilterWithException.liftedOptional((x, y) -> true).apply(new File("."), "3"))
+				.is(Optional.of(true));
+	}
+
+	@Test
+	public void testLiftedOptionalException() {
+		assertThat(FilenameFilterWithException.liftedOptional((x, y) -> {
+			throw new Exception();
+		}).apply(new File("."), "x")).is(Optional.empty());
+	}
+
 	@Test
 	public void testIgnoredNoException() {
 		assertThat(FilenameFilterWithException.ignored((x, y) -> true).accept(new File("."), "3")).is(true);
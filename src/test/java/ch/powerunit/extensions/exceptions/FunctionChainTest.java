@@ -0,0 +1,81 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import ch.powerunit.Test;
+import ch.powerunit.TestSuite;
+
+@SuppressWarnings("squid:S2187") // Sonar doesn't under that it is really a test
+public class FunctionChainTest implements TestSuite {
+
+	@Test
+	public void testApplyAllSteps() throws Exception {
+		FunctionChain<String, Integer, Exception> chain = FunctionChain.<String, String, Exception>of(x -> x + "1")
+				.then(x -> x + "2").then(String::length);
+		assertThat(chain.apply("a")).is(3);
+		assertThat(chain.size()).is(3);
+	}
+
+	@Test
+	public void testExceptionStopsChain() {
+		FunctionChain<String, String, IOException> chain = FunctionChain.<String, String, IOException>of(x -> {
+			throw new IOException("ko");
+		}).then(x -> {
+			throw new IllegalStateException("not called");
+		});
+		assertWhen((x) -> chain.apply("a")).throwException(instanceOf(IOException.class));
+		assertWhen((x) -> chain.uncheck().apply("a")).throwException(instanceOf(WrappedException.class));
+		assertThat(chain.lift().apply("a")).is(Optional.empty());
+		assertThat(chain.ignore().apply("a")).isNull();
+	}
+
+	@Test
+	public void testAndThenAndComposeStayFlat() throws Exception {
+		FunctionChain<String, String, Exception> chain = FunctionChain.of(x -> x + "b");
+		FunctionWithException<String, String, Exception> composed = chain.andThen(x -> x + "c")
+				.andThen(x -> x + "d").compose(x -> x + "a");
+		assertThat(composed).is(instanceOf(FunctionChain.class));
+		assertThat(((FunctionChain<String, String, Exception>) composed).size()).is(4);
+		assertThat(composed.apply("")).is("abcd");
+	}
+
+	@Test
+	public void testChainOfChainIsFlattened() throws Exception {
+		FunctionChain<String, String, Exception> inner = FunctionChain.<String, String, Exception>of(x -> x + "b")
+				.then(x -> x + "c");
+		FunctionChain<String, String, Exception> chain = FunctionChain.<String, String, Exception>of(x -> x + "a")
+				.then(inner).then(inner);
+		assertThat(chain.size()).is(5);
+		assertThat(chain.apply("")).is("abcbc");
+		assertThat(FunctionChain.of(inner).size()).is(2);
+	}
+
+	@Test
+	public void testNullStep() {
+		assertWhen((x) -> FunctionChain.of(null)).throwException(instanceOf(NullPointerException.class));
+		assertWhen((x) -> FunctionChain.of(y -> y).then(null)).throwException(instanceOf(NullPointerException.class));
+		assertWhen((x) -> FunctionChain.of(y -> y).compose(null))
+				.throwException(instanceOf(NullPointerException.class));
+	}
+
+}
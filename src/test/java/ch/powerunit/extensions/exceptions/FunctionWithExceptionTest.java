@@ -19,7 +19,14 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
@@ -179,4 +186,225 @@ public class FunctionWithExceptionTest implements TestSuite {
 		}, "x").apply("x")).is("x");
 	}
 
+	@Test
+	public void testStagedAsyncNoException() {
+		assertThat(FunctionWithException.stagedAsync(x -> x + "1").apply("2").toCompletableFuture().join()).is("21");
+	}
+
+	@Test
+	public void testStagedAsyncExecutorNoException() {
+		assertThat(FunctionWithException.stagedAsync(x -> x + "1", ForkJoinPool.commonPool()).apply("2").toCompletableFuture().join()).is("21");
+	}
+
+	@Test
+	public void testStagedAsyncException() {
+		assertWhen((x) -> FunctionWithException.stagedAsync(y -> {
+			throw new Exception();
+		}).apply("x").toCompletableFuture().join()).throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testStagedAsyncExecutorException() {
+		assertWhen((x) -> FunctionWithException.stagedAsync(y -> {
+			throw new Exception();
+		}, ForkJoinPool.commonPool()).apply("x").toCompletableFuture().join())
+				.throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testStageAsyncUseExecutor() {
+		Thread[] threads = new Thread[1];
+		Executor executor = command -> {
+			threads[0] = new Thread(command);
+			threads[0].start();
+		};
+		FunctionWithException<String, Thread, Exception> fn = x -> Thread.currentThread();
+		assertThat(fn.stageAsync(executor).apply("x").toCompletableFuture().join()).is(sameInstance(threads[0]));
+	}
+
+	@Test
+	public void testStageAsyncDefaultExecutorNotCallerThread() {
+		FunctionWithException<String, Thread, Exception> fn = x -> Thread.currentThread();
+		assertThat(fn.stageAsync().apply("x").toCompletableFuture().join()).is(not(Thread.currentThread()));
+	}
+
+	@Test
+	public void testStageAsyncNullExecutor() {
+		FunctionWithException<String, String, Exception> fn = x -> x;
+		assertWhen((x) -> fn.stageAsync(null)).throwException(instanceOf(NullPointerException.class));
+	}
+
+	@Test
+	public void testMemoizeComputeOnce() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		FunctionWithException<String, String, Exception> fn = x -> x + count.incrementAndGet();
+		FunctionWithException<String, String, Exception> memoized = fn.memoize(10);
+		assertThat(memoized.apply("2")).is(memoized.apply("2"));
+		assertThat(count.get()).is(1);
+	}
+
+	@Test
+	public void testMemoizeExceptionNotCached() {
+		AtomicInteger count = new AtomicInteger();
+		FunctionWithException<String, String, Exception> memoized = FunctionWithException.memoized(x -> {
+			count.incrementAndGet();
+			throw new Exception();
+		}, 10);
+		assertWhen((x) -> memoized.apply("2")).throwException(instanceOf(Exception.class));
+		assertWhen((x) -> memoized.apply("2")).throwException(instanceOf(Exception.class));
+		assertThat(count.get()).is(2);
+	}
+
+	@Test
+	public void testMemoizeExceptionCached() {
+		AtomicInteger count = new AtomicInteger();
+		FunctionWithException<String, String, Exception> memoized = FunctionWithException.memoized(x -> {
+			count.incrementAndGet();
+			throw new Exception();
+		}, 10, Duration.ofMinutes(1), true);
+		assertWhen((x) -> memoized.apply("2")).throwException(instanceOf(Exception.class));
+		assertWhen((x) -> memoized.apply("2")).throwException(instanceOf(Exception.class));
+		assertThat(count.get()).is(1);
+	}
+
+	@Test
+	public void testMemoizeKeepDefaultValue() {
+		FunctionWithException<String, String, Exception> failing = FunctionWithException.failing(Exception::new);
+		FunctionWithException<String, String, Exception> memoized = failing.memoize(10);
+		assertThat(memoized.ignore().apply("2")).isNull();
+	}
+
+	@Test
+	public void testRetryUntilSuccess() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		FunctionWithException<String, String, Exception> retried = FunctionWithException.retried(x -> {
+			if (count.incrementAndGet() < 3) {
+				throw new Exception();
+			}
+			return "ok";
+		}, RetryPolicy.maxAttempts(3));
+		assertThat(retried.apply("x")).is("ok");
+		assertThat(count.get()).is(3);
+	}
+
+	@Test
+	public void testRetryFailure() {
+		AtomicInteger count = new AtomicInteger();
+		FunctionWithException<String, String, Exception> fn = x -> {
+			count.incrementAndGet();
+			throw new Exception();
+		};
+		assertWhen((x) -> fn.retry(RetryPolicy.maxAttempts(2)).uncheck().apply("x"))
+				.throwException(instanceOf(WrappedException.class));
+		assertThat(count.get()).is(2);
+	}
+
+	@Test
+	public void testRetryAsyncUntilSuccess() {
+		AtomicInteger count = new AtomicInteger();
+		FunctionWithException<String, String, Exception> fn = x -> {
+			if (count.incrementAndGet() < 3) {
+				throw new Exception();
+			}
+			return "ok";
+		};
+		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+		try {
+			assertThat(fn.retryAsync(RetryPolicy.maxAttempts(3), scheduler).apply("x").toCompletableFuture().join()).is("ok");
+			assertThat(count.get()).is(3);
+		} finally {
+			scheduler.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testCircuitBreakerFailsFastWithDefaultValue() {
+		AtomicInteger count = new AtomicInteger();
+		FunctionWithException<String, String, Exception> fn = x -> {
+			count.incrementAndGet();
+			throw new Exception();
+		};
+		FunctionWithException<String, String, Exception> protectedFn = FunctionWithException.circuitBroken(fn,
+				CircuitBreaker.of(1, 1, Duration.ofMinutes(1)));
+		assertWhen((x) -> protectedFn.uncheck().apply("x")).throwException(instanceOf(WrappedException.class));
+		assertWhen((x) -> protectedFn.uncheck().apply("x"))
+				.throwException(instanceOf(CircuitBreaker.OpenException.class));
+		assertThat(protectedFn.lift().apply("x").isPresent()).is(false);
+		assertThat(count.get()).is(1);
+	}
+
+	@Test
+	public void testInstrumentCountsFailures() {
+		OperationMetrics metrics = OperationMetrics.of("function");
+		FunctionWithException<String, String, Exception> fn = FunctionWithException.instrumented(x -> {
+			if (x.isEmpty()) {
+				throw new Exception();
+			}
+			return x;
+		}, metrics);
+		assertThat(fn.uncheck().apply("x")).is("x");
+		assertWhen((x) -> fn.uncheck().apply("")).throwException(instanceOf(WrappedException.class));
+		assertThat(metrics.getSwallowed()).is(0L);
+		assertThat(fn.ignore().apply("")).isNull();
+		assertThat(fn.lift().apply("").isPresent()).is(false);
+		assertThat(metrics.getInvocations()).is(4L);
+		assertThat(metrics.getFailures()).is(3L);
+		assertThat(metrics.getSwallowed()).is(2L);
+	}
+
+	@Test
+	public void testTimeoutWithExecutor() {
+		ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+		try {
+			FunctionWithException<String, String, Exception> fn = FunctionWithException
+					.timeLimited((String s) -> s + s, Duration.ofSeconds(5), executor);
+			assertThat(fn.uncheck().apply("x")).is("xx");
+			assertThat(FunctionWithException.<String, String, Exception>timeLimited(s -> {
+				Thread.sleep(60_000);
+				return s;
+			}, Duration.ofMillis(20), executor).lift().apply("x").isPresent()).is(false);
+			assertWhen((x) -> FunctionWithException.identity().timeout(Duration.ofSeconds(1), null))
+					.throwException(instanceOf(NullPointerException.class));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testApplyAll() {
+		FunctionWithException<String, String, Exception> fn = s -> {
+			if (s.isEmpty()) {
+				throw new Exception();
+			}
+			return s + s;
+		};
+		BatchResult<String> result = fn.applyAll(Arrays.asList("a", "", "c"));
+		assertThat(result.getValues()).is(Arrays.asList("aa", null, "cc"));
+		assertThat(result.getFailureCount()).is(1);
+		assertWhen((x) -> fn.applyAll((String[]) null)).throwException(instanceOf(NullPointerException.class));
+	}
+
+	@Test
+	public void testBulkhead() {
+		Bulkhead bulkhead = Bulkhead.of(1);
+		FunctionWithException<String, String, Exception> fn = FunctionWithException
+				.bulkheaded((String s) -> s + bulkhead.getAvailable(), bulkhead);
+		assertThat(fn.uncheck().apply("x")).is("x0");
+		assertThat(bulkhead.getAvailable()).is(1);
+		assertWhen((x) -> fn.bulkhead(null)).throwException(instanceOf(NullPointerException.class));
+	}
+
+	@Test
+	public void testAttemptedNoException() {
+		assertThat(FunctionWithException.attempted(x -> x + "1").apply("2").get()).is("21");
+	}
+
+	@Test
+	public void testAttemptedException() {
+		Exception e = new Exception();
+		assertThat(FunctionWithException.attempted(y -> {
+			throw e;
+		}).apply("x").getFailure().get()).is(sameInstance(e));
+	}
+
 }
@@ -0,0 +1,159 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ch.powerunit.Test;
+import ch.powerunit.TestSuite;
+
+@SuppressWarnings("squid:S2187") // Sonar doesn't under that it is really a test
+public class HedgePolicyTest implements TestSuite {
+
+	@Test
+	public void testFastAttemptIsNotHedged() throws Exception {
+		AtomicInteger attempts = new AtomicInteger();
+		HedgePolicy policy = HedgePolicy.fixed(Duration.ofSeconds(5));
+		assertThat(policy.execute(() -> attempts.incrementAndGet(), Constants.defaultExecutor())).is(1);
+		assertThat(attempts.get()).is(1);
+	}
+
+	@Test
+	public void testSlowAttemptIsHedgedAndCancelled() throws Exception {
+		AtomicInteger attempts = new AtomicInteger();
+		CountDownLatch interrupted = new CountDownLatch(1);
+		HedgePolicy policy = HedgePolicy.fixed(Duration.ofMillis(20));
+		assertThat(policy.execute(() -> {
+			if (attempts.incrementAndGet() == 1) {
+				try {
+					Thread.sleep(60_000);
+				} catch (InterruptedException e) {
+					interrupted.countDown();
+				}
+				return "first";
+			}
+			return "second";
+		}, Constants.defaultExecutor())).is("second");
+		assertThat(interrupted.await(5, TimeUnit.SECONDS)).is(true);
+	}
+
+	@Test
+	public void testFailureBeforeDelayIsThrown() {
+		AtomicInteger attempts = new AtomicInteger();
+		HedgePolicy policy = HedgePolicy.fixed(Duration.ofSeconds(5));
+		assertWhen((x) -> policy.execute(() -> {
+			attempts.incrementAndGet();
+			throw new IOException();
+		}, Constants.defaultExecutor())).throwException(instanceOf(IOException.class));
+		assertThat(attempts.get()).is(1);
+	}
+
+	@Test
+	public void testFailureAfterDelayWaitsForOtherAttempt() throws Exception {
+		AtomicInteger attempts = new AtomicInteger();
+		HedgePolicy policy = HedgePolicy.fixed(Duration.ofMillis(10));
+		assertThat(policy.execute(() -> {
+			if (attempts.incrementAndGet() == 1) {
+				Thread.sleep(50);
+				throw new IOException();
+			}
+			Thread.sleep(100);
+			return "second";
+		}, Constants.defaultExecutor())).is("second");
+	}
+
+	@Test
+	public void testBothFailuresThrowFirstOne() {
+		AtomicInteger attempts = new AtomicInteger();
+		HedgePolicy policy = HedgePolicy.fixed(Duration.ofMillis(10));
+		assertWhen((x) -> policy.execute(() -> {
+			if (attempts.incrementAndGet() == 1) {
+				Thread.sleep(50);
+				throw new IOException("first");
+			}
+			Thread.sleep(100);
+			throw new IOException("second");
+		}, Constants.defaultExecutor())).throwException(exceptionMessage("first"));
+	}
+
+	@Test
+	public void testPercentileDelay() throws Exception {
+		OperationMetrics metrics = OperationMetrics.withLatency("hedge");
+		HedgePolicy policy = HedgePolicy.percentile(metrics, 0.9, Duration.ofMillis(500));
+		assertThat(policy.getDelay()).is(Duration.ofMillis(500));
+		policy.execute(() -> {
+			Thread.sleep(2);
+			return null;
+		}, Constants.defaultExecutor());
+		assertThat(metrics.getInvocations()).is(1L);
+		assertThat(policy.getDelay().toNanos() >= 2_000_000L).is(true);
+		assertThat(policy.getDelay().compareTo(Duration.ofMillis(500)) < 0).is(true);
+	}
+
+	@Test
+	public void testPercentileIgnoresCancelledAttempts() throws Exception {
+		OperationMetrics metrics = OperationMetrics.withLatency("hedge");
+		HedgePolicy policy = HedgePolicy.percentile(metrics, 0.9, Duration.ofMillis(20));
+		AtomicInteger attempts = new AtomicInteger();
+		CountDownLatch cancelled = new CountDownLatch(5);
+		for (int i = 0; i < 5; i++) {
+			assertThat(policy.execute(() -> {
+				if (attempts.incrementAndGet() % 2 == 0) {
+					return "fast";
+				}
+				try {
+					Thread.sleep(60_000);
+					return "slow";
+				} finally {
+					cancelled.countDown();
+				}
+			}, Constants.defaultExecutor())).is("fast");
+		}
+		assertThat(cancelled.await(5, TimeUnit.SECONDS)).is(true);
+		assertThat(metrics.getInvocations()).is(5L);
+		assertThat(metrics.getFailures()).is(0L);
+		assertThat(metrics.getLatencyPercentile(0.99) < TimeUnit.MILLISECONDS.toNanos(1)).is(true);
+	}
+
+	@Test
+	public void testInvalidPolicies() {
+		assertWhen((x) -> HedgePolicy.fixed(null)).throwException(instanceOf(NullPointerException.class));
+		assertWhen((x) -> HedgePolicy.fixed(Duration.ofMillis(-1)))
+				.throwException(instanceOf(IllegalArgumentException.class));
+		assertWhen((x) -> HedgePolicy.percentile(OperationMetrics.of("x"), 0.5, Duration.ZERO))
+				.throwException(instanceOf(IllegalArgumentException.class));
+		assertWhen((x) -> HedgePolicy.percentile(OperationMetrics.withLatency("x"), 1.5, Duration.ZERO))
+				.throwException(instanceOf(IllegalArgumentException.class));
+		assertWhen((x) -> HedgePolicy.percentile(null, 0.5, Duration.ZERO))
+				.throwException(instanceOf(NullPointerException.class));
+	}
+
+	@Test
+	public void testToString() {
+		assertThat(HedgePolicy.fixed(Duration.ofMillis(10)).toString()).is("HedgePolicy[delay=PT0.01S]");
+		assertThat(HedgePolicy.percentile(OperationMetrics.withLatency("x"), 0.5, Duration.ofMillis(10)).toString())
+				.is("HedgePolicy[percentile=0.5, metrics=x, initialDelay=PT0.01S]");
+	}
+
+}
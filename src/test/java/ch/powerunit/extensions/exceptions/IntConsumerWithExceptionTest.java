@@ -19,7 +19,11 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
 
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
@@ -114,4 +118,39 @@ public class IntConsumerWithExceptionTest implements TestSuite {
 			throw new Exception();
 		}).apply(1).toCompletableFuture().join()).throwException(instanceOf(CompletionException.class));
 	}
+
+	@Test
+	public void testStagedAsyncNoException() {
+		IntConsumerWithException.stagedAsync(x -> {
+		}).apply(1).toCompletableFuture().join();
+	}
+
+	@Test
+	public void testStagedAsyncExecutorNoException() {
+		IntConsumerWithException.stagedAsync(x -> {
+		}, ForkJoinPool.commonPool()).apply(1).toCompletableFuture().join();
+	}
+
+	@Test
+	public void testStagedAsyncException() {
+		assertWhen((x) -> IntConsumerWithException.stagedAsync(y -> {
+			throw new Exception();
+		}).apply(1).toCompletableFuture().join()).throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testStagedAsyncExecutorException() {
+		assertWhen((x) -> IntConsumerWithException.stagedAsync(y -> {
+			throw new Exception();
+		}, ForkJoinPool.commonPool()).apply(1).toCompletableFuture().join())
+				.throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testStagedNoExceptionIsCompletableFuture() {
+		IntFunction<CompletionStage<Void>> staged = IntConsumerWithException.staged(x -> {
+		});
+		assertThat(staged.apply(1)).is(instanceOf(CompletableFuture.class));
+	}
+
 }
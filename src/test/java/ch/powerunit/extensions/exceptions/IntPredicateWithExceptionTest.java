@@ -19,6 +19,8 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.util.Optional;
+
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
 
@@ -133,6 +135,18 @@ public class IntPredicateWithExceptionTest implements TestSuite {
 		}).test(1)).is(false);
 	}
 
+	@Test
+	public void testLiftedOptionalNoException() {
+		assertThat(IntPredicateWithException.liftedOptional(x -> true).apply(1)).is(Optional.of(true));
+	}
+
+	@Test
+	public void testLiftedOptionalException() {
+		assertThat(IntPredicateWithException.liftedOptional(y -> {
+			throw new Exception();
+		}).apply(1)).is(Optional.empty());
+	}
+
 	@Test
 	public void testIgnoredNoException() {
 		assertThat(IntPredicateWithException.ignored(x -> true).test(2)).is(true);
@@ -19,6 +19,8 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.util.OptionalInt;
+
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
 
@@ -62,6 +64,18 @@ public class IntSupplierWithExceptionTest implements TestSuite {
 		}).getAsInt()).is(0);
 	}
 
+	@Test
+	public void testLiftedOptionalNoException() {
+		assertThat(IntSupplierWithException.liftedOptional(() -> 1).get()).is(OptionalInt.of(1));
+	}
+
+	@Test
+	public void testLiftedOptionalException() {
+		assertThat(IntSupplierWithException.liftedOptional(() -> {
+			throw new Exception();
+		}).get()).is(OptionalInt.empty());
+	}
+
 	@Test
 	public void testIgnoredNoException() {
 		assertThat(IntSupplierWithException.ignored(() -> 2).getAsInt()).is(2);
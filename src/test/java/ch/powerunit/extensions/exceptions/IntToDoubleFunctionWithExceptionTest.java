@@ -19,6 +19,8 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.util.OptionalDouble;
+
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
 
@@ -62,6 +64,18 @@ public class IntToDoubleFunctionWithExceptionTest implements TestSuite {
 		}).applyAsDouble(1)).is(0d);
 	}
 
+	@Test
+	public void testLiftedOptionalNoException() {
+		assertThat(IntToDoubleFunctionWithException.liftedOptional(x -> 1).apply(2)).is(OptionalDouble.of(1d));
+	}
+
+	@Test
+	public void testLiftedOptionalException() {
+		assertThat(IntToDoubleFunctionWithException.liftedOptional(y -> {
+			throw new Exception();
+		}).apply(1)).is(OptionalDouble.empty());
+	}
+
 	@Test
 	public void testIgnoredNoException() {
 		assertThat(IntToDoubleFunctionWithException.ignored(x -> 1).applyAsDouble(2)).is(1d);
@@ -19,6 +19,8 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.util.OptionalLong;
+
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
 
@@ -62,6 +64,18 @@ public class IntToLongFunctionWithExceptionTest implements TestSuite {
 		}).applyAsLong(1)).is(0L);
 	}
 
+	@Test
+	public void testLiftedOptionalNoException() {
+		assertThat(IntToLongFunctionWithException.liftedOptional(x -> 1).apply(2)).is(OptionalLong.of(1L));
+	}
+
+	@Test
+	public void testLiftedOptionalException() {
+		assertThat(IntToLongFunctionWithException.liftedOptional(y -> {
+			throw new Exception();
+		}).apply(1)).is(OptionalLong.empty());
+	}
+
 	@Test
 	public void testIgnoredNoException() {
 		assertThat(IntToLongFunctionWithException.ignored(x -> 1).applyAsLong(2)).is(1L);
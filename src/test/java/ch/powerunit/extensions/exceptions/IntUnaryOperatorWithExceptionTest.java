@@ -19,6 +19,8 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.util.OptionalInt;
+
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
 
@@ -81,6 +83,18 @@ public class IntUnaryOperatorWithExceptionTest implements TestSuite {
 		}).applyAsInt(1)).is(0);
 	}
 
+	@Test
+	public void testLiftedOptionalNoException() {
+		assertThat(IntUnaryOperatorWithException.liftedOptional(x -> x + 1).apply(2)).is(OptionalInt.of(3));
+	}
+
+	@Test
+	public void testLiftedOptionalException() {
+		assertThat(IntUnaryOperatorWithException.liftedOptional(x -> {
+			throw new Exception();
+		}).apply(1)).is(OptionalInt.empty());
+	}
+
 	@Test
 	public void testIgnoredNoException() {
 		assertThat(IntUnaryOperatorWithException.ignored(x -> x + 1).applyAsInt(2)).is(3);
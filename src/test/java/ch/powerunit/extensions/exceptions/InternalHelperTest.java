@@ -20,6 +20,8 @@
 package ch.powerunit.extensions.exceptions;
 
 import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.function.Function;
 
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
@@ -46,4 +48,116 @@ public class InternalHelperTest implements TestSuite {
 				.throwException(instanceOf(IOException.class));
 	}
 
+	@Test
+	public void testDocumentedNoProxy() {
+		assertThat(Proxy.isProxyClass(InternalHelper.documented(swe, () -> "x").getClass())).is(false);
+	}
+
+	@Test
+	public void testDocumentedTwiceReplaceToString() {
+		SupplierWithException<String, Exception> documented = InternalHelper
+				.documented(InternalHelper.documented(swe, () -> "x"), () -> "z");
+		assertThat(documented.toString()).is("z");
+		assertThat(documented.uncheck().get()).is("y");
+	}
+
+	@Test
+	public void testDocumentedKeepExceptionMapper() {
+		FunctionWithException<String, String, Exception> fwe = FunctionWithException.failing(IOException::new);
+		FunctionWithException<String, String, Exception> target = new FunctionWithException<String, String, Exception>() {
+
+			@Override
+			public String apply(String t) throws Exception {
+				return fwe.apply(t);
+			}
+
+			@Override
+			public Function<Exception, RuntimeException> exceptionMapper() {
+				return e -> new IllegalStateException("mapped");
+			}
+		};
+		assertWhen(() -> InternalHelper.documented(target, () -> "x").uncheck().apply("x"))
+				.throwException(instanceOf(IllegalStateException.class));
+	}
+
+	@Test
+	public void testDocumentedPrimitive() {
+		IntPredicateWithException<Exception> ipwe = i -> i > 0;
+		IntPredicateWithException<Exception> documented = InternalHelper.documented(ipwe, () -> "positive");
+		assertThat(documented.toString()).is("positive");
+		assertThat(documented.uncheck().test(1)).is(true);
+		assertThat(documented.defaultValue()).is(false);
+	}
+
+	@Test
+	public void testDocumentedNoReturn() {
+		ConsumerWithException<String, IOException> cwe = ConsumerWithException.failing(IOException::new);
+		ConsumerWithException<String, IOException> documented = InternalHelper.documented(cwe, () -> "consumer");
+		assertThat(documented.toString()).is("consumer");
+		assertWhen(() -> documented.accept("x")).throwException(instanceOf(IOException.class));
+		documented.ignore().accept("x");
+	}
+
+	private interface MultipleInterfaces extends SupplierWithException<String, Exception>, Runnable {
+	}
+
+	@Test
+	public void testDocumentedMultipleInterfacesUseProxy() {
+		MultipleInterfaces target = new MultipleInterfaces() {
+
+			@Override
+			public String get() {
+				return "y";
+			}
+
+			@Override
+			public void run() {
+				// nothing
+			}
+		};
+		SupplierWithException<String, Exception> documented = InternalHelper.documented(target, () -> "x");
+		assertThat(documented.toString()).is("x");
+		assertThat(documented instanceof MultipleInterfaces).is(true);
+	}
+
+	@Test
+	public void testDocumentedEqualsDelegate() {
+		SupplierWithException<String, Exception> documented = InternalHelper.documented(swe, () -> "x");
+		assertThat(Proxy.isProxyClass(documented.getClass())).is(false);
+		assertThat(documented.equals(InternalHelper.documented(swe, () -> "z"))).is(true);
+		assertThat(documented.equals(swe)).is(true);
+		assertThat(documented.equals(InternalHelper.documented(swef, () -> "x"))).is(false);
+		assertThat(documented.hashCode()).is(swe.hashCode());
+	}
+
+	@Test
+	public void testDocumentedEqualsProxy() {
+		MultipleInterfaces target = new MultipleInterfaces() {
+
+			@Override
+			public String get() {
+				return "y";
+			}
+
+			@Override
+			public void run() {
+				// nothing
+			}
+		};
+		SupplierWithException<String, Exception> documented = InternalHelper.documented(target, () -> "x");
+		assertThat(Proxy.isProxyClass(documented.getClass())).is(true);
+		assertThat(documented.equals(InternalHelper.documented(target, () -> "z"))).is(true);
+		assertThat(documented.equals(target)).is(true);
+		assertThat(documented.equals(InternalHelper.documented(swe, () -> "x"))).is(false);
+		assertThat(documented.hashCode()).is(target.hashCode());
+	}
+
+	@Test
+	public void testDocumentedForwardsLiftOptional() {
+		IntPredicateWithException<Exception> documented = InternalHelper.documented(x -> {
+			throw new IOException();
+		}, () -> "failing");
+		assertThat(documented.liftOptional().apply(1).isPresent()).is(false);
+	}
+
 }
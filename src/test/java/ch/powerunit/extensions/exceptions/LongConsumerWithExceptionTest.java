@@ -20,6 +20,7 @@
 package ch.powerunit.extensions.exceptions;
 
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
@@ -114,4 +115,32 @@ public class LongConsumerWithExceptionTest implements TestSuite {
 			throw new Exception();
 		}).apply(1).toCompletableFuture().join()).throwException(instanceOf(CompletionException.class));
 	}
+
+	@Test
+	public void testStagedAsyncNoException() {
+		LongConsumerWithException.stagedAsync(x -> {
+		}).apply(1).toCompletableFuture().join();
+	}
+
+	@Test
+	public void testStagedAsyncExecutorNoException() {
+		LongConsumerWithException.stagedAsync(x -> {
+		}, ForkJoinPool.commonPool()).apply(1).toCompletableFuture().join();
+	}
+
+	@Test
+	public void testStagedAsyncException() {
+		assertWhen((x) -> LongConsumerWithException.stagedAsync(y -> {
+			throw new Exception();
+		}).apply(1).toCompletableFuture().join()).throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testStagedAsyncExecutorException() {
+		assertWhen((x) -> LongConsumerWithException.stagedAsync(y -> {
+			throw new Exception();
+		}, ForkJoinPool.commonPool()).apply(1).toCompletableFuture().join())
+				.throwException(instanceOf(CompletionException.class));
+	}
+
 }
@@ -19,7 +19,10 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.time.Duration;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
@@ -100,4 +103,68 @@ public class LongFunctionWithExceptionTest implements TestSuite {
 		}, "x").apply(1)).is("x");
 	}
 
+	@Test
+	public void testStagedAsyncNoException() {
+		assertThat(LongFunctionWithException.stagedAsync(x -> "1").apply(2).toCompletableFuture().join()).is("1");
+	}
+
+	@Test
+	public void testStagedAsyncExecutorNoException() {
+		assertThat(LongFunctionWithException.stagedAsync(x -> "1", ForkJoinPool.commonPool()).apply(2).toCompletableFuture().join()).is("1");
+	}
+
+	@Test
+	public void testStagedAsyncException() {
+		assertWhen((x) -> LongFunctionWithException.stagedAsync(y -> {
+			throw new Exception();
+		}).apply(2).toCompletableFuture().join()).throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testStagedAsyncExecutorException() {
+		assertWhen((x) -> LongFunctionWithException.stagedAsync(y -> {
+			throw new Exception();
+		}, ForkJoinPool.commonPool()).apply(2).toCompletableFuture().join())
+				.throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testMemoizeComputeOnce() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		LongFunctionWithException<String, Exception> fn = x -> x + "-" + count.incrementAndGet();
+		LongFunctionWithException<String, Exception> memoized = fn.memoize(10);
+		assertThat(memoized.apply(2L)).is(memoized.apply(2L));
+		assertThat(count.get()).is(1);
+	}
+
+	@Test
+	public void testMemoizeExceptionNotCached() {
+		AtomicInteger count = new AtomicInteger();
+		LongFunctionWithException<String, Exception> memoized = LongFunctionWithException.memoized(x -> {
+			count.incrementAndGet();
+			throw new Exception();
+		}, 10);
+		assertWhen((x) -> memoized.apply(2L)).throwException(instanceOf(Exception.class));
+		assertWhen((x) -> memoized.apply(2L)).throwException(instanceOf(Exception.class));
+		assertThat(count.get()).is(2);
+	}
+
+	@Test
+	public void testMemoizeExceptionCached() {
+		AtomicInteger count = new AtomicInteger();
+		LongFunctionWithException<String, Exception> memoized = LongFunctionWithException.memoized(x -> {
+			count.incrementAndGet();
+			throw new Exception();
+		}, 10, Duration.ofMinutes(1), true);
+		assertWhen((x) -> memoized.apply(2L)).throwException(instanceOf(Exception.class));
+		assertWhen((x) -> memoized.apply(2L)).throwException(instanceOf(Exception.class));
+		assertThat(count.get()).is(1);
+	}
+
+	@Test
+	public void testMemoizeKeepDefaultValue() {
+		LongFunctionWithException<String, Exception> failing = LongFunctionWithException.failing(Exception::new);
+		LongFunctionWithException<String, Exception> memoized = failing.memoize(10);
+		assertThat(memoized.ignore().apply(2L)).isNull();
+	}
 }
@@ -19,6 +19,8 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.util.OptionalLong;
+
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
 
@@ -62,6 +64,18 @@ public class LongSupplierWithExceptionTest implements TestSuite {
 		}).getAsLong()).is(0L);
 	}
 
+	@Test
+	public void testLiftedOptionalNoException() {
+		assertThat(LongSupplierWithException.liftedOptional(() -> 1).get()).is(OptionalLong.of(1L));
+	}
+
+	@Test
+	public void testLiftedOptionalException() {
+		assertThat(LongSupplierWithException.liftedOptional(() -> {
+			throw new Exception();
+		}).get()).is(OptionalLong.empty());
+	}
+
 	@Test
 	public void testIgnoredNoException() {
 		assertThat(LongSupplierWithException.ignored(() -> 2).getAsLong()).is(2L);
@@ -19,6 +19,8 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.util.OptionalInt;
+
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
 
@@ -62,6 +64,18 @@ public class LongToIntFunctionWithExceptionTest implements TestSuite {
 		}).applyAsInt(1)).is(0);
 	}
 
+	@Test
+	public void testLiftedOptionalNoException() {
+		assertThat(LongToIntFunctionWithException.liftedOptional(x -> 1).apply(2)).is(OptionalInt.of(1));
+	}
+
+	@Test
+	public void testLiftedOptionalException() {
+		assertThat(LongToIntFunctionWithException.liftedOptional(y -> {
+			throw new Exception();
+		}).apply(1)).is(OptionalInt.empty());
+	}
+
 	@Test
 	public void testIgnoredNoException() {
 		assertThat(LongToIntFunctionWithException.ignored(x -> 1).applyAsInt(2)).is(1);
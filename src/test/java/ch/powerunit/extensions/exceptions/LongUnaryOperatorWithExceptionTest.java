@@ -19,6 +19,8 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.util.OptionalLong;
+
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
 
@@ -81,6 +83,18 @@ public class LongUnaryOperatorWithExceptionTest implements TestSuite {
 		}).applyAsLong(1)).is(0L);
 	}
 
+	@Test
+	public void testLiftedOptionalNoException() {
+		assertThat(LongUnaryOperatorWithException.liftedOptional(x -> x + 1).apply(2)).is(OptionalLong.of(3L));
+	}
+
+	@Test
+	public void testLiftedOptionalException() {
+		assertThat(LongUnaryOperatorWithException.liftedOptional(x -> {
+			throw new Exception();
+		}).apply(1)).is(OptionalLong.empty());
+	}
+
 	@Test
 	public void testIgnoredNoException() {
 		assertThat(LongUnaryOperatorWithException.ignored(x -> x + 1).applyAsLong(2)).is(3L);
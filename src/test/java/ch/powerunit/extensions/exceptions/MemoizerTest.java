@@ -0,0 +1,165 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ch.powerunit.Test;
+import ch.powerunit.TestSuite;
+
+@SuppressWarnings("squid:S2187") // Sonar doesn't under that it is really a test
+public class MemoizerTest implements TestSuite {
+
+	private static final Duration FOREVER = Duration.ofDays(1);
+
+	@Test
+	public void testGetComputeOnce() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		Memoizer<String> memoizer = new Memoizer<>(10, FOREVER, false);
+		assertThat(memoizer.get("x", () -> "x" + count.incrementAndGet())).is("x1");
+		assertThat(memoizer.get("x", () -> "x" + count.incrementAndGet())).is("x1");
+		assertThat(count.get()).is(1);
+	}
+
+	@Test
+	public void testGetNullKeyAndValue() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		Memoizer<String> memoizer = new Memoizer<>(10, FOREVER, false);
+		assertThat(memoizer.get(null, () -> {
+			count.incrementAndGet();
+			return null;
+		})).isNull();
+		assertThat(memoizer.get(null, () -> "x")).isNull();
+		assertThat(count.get()).is(1);
+	}
+
+	@Test
+	public void testGetExceptionNotCached() {
+		AtomicInteger count = new AtomicInteger();
+		Memoizer<String> memoizer = new Memoizer<>(10, FOREVER, false);
+		SupplierWithException<String, IOException> failing = () -> {
+			count.incrementAndGet();
+			throw new IOException();
+		};
+		assertWhen((x) -> memoizer.get("x", failing)).throwException(instanceOf(IOException.class));
+		assertWhen((x) -> memoizer.get("x", failing)).throwException(instanceOf(IOException.class));
+		assertThat(count.get()).is(2);
+		assertThat(memoizer.size()).is(0);
+	}
+
+	@Test
+	public void testGetExceptionCached() {
+		AtomicInteger count = new AtomicInteger();
+		Memoizer<String> memoizer = new Memoizer<>(10, FOREVER, true);
+		IOException exception = new IOException();
+		SupplierWithException<String, IOException> failing = () -> {
+			count.incrementAndGet();
+			throw exception;
+		};
+		assertWhen((x) -> memoizer.get("x", failing)).throwException(sameInstance(exception));
+		assertWhen((x) -> memoizer.get("x", failing)).throwException(sameInstance(exception));
+		assertThat(count.get()).is(1);
+	}
+
+	@Test
+	public void testGetExpired() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		Memoizer<String> memoizer = new Memoizer<>(10, Duration.ofNanos(1), false);
+		memoizer.get("x", () -> "x" + count.incrementAndGet());
+		Thread.sleep(1);
+		assertThat(memoizer.get("x", () -> "x" + count.incrementAndGet())).is("x2");
+	}
+
+	@Test
+	public void testMaximumSize() throws Exception {
+		Memoizer<Integer> memoizer = new Memoizer<>(10, FOREVER, false);
+		for (int i = 0; i < 1000; i++) {
+			int value = i;
+			memoizer.get(value, () -> value);
+		}
+		assertThat(memoizer.size()).is(lessThanOrEqualTo(10));
+	}
+
+	@Test
+	public void testEvictionKeepReferenced() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		Memoizer<Integer> memoizer = new Memoizer<>(10, FOREVER, false);
+		memoizer.get("hot", count::incrementAndGet);
+		for (int i = 0; i < 100; i++) {
+			int value = i;
+			memoizer.get(value, () -> value);
+			memoizer.get("hot", count::incrementAndGet);
+		}
+		assertThat(count.get()).is(1);
+	}
+
+	@Test
+	public void testConcurrentComputeOnce() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Memoizer<String> memoizer = new Memoizer<>(10, FOREVER, false);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			Future<String> first = executor.submit(() -> memoizer.get("x", () -> {
+				count.incrementAndGet();
+				started.countDown();
+				release.await();
+				return "x";
+			}));
+			started.await();
+			Future<String> second = executor.submit(() -> memoizer.get("x", () -> "y" + count.incrementAndGet()));
+			release.countDown();
+			assertThat(first.get(10, TimeUnit.SECONDS)).is("x");
+			assertThat(second.get(10, TimeUnit.SECONDS)).is("x");
+			assertThat(count.get()).is(1);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testInvalidMaximumSize() {
+		assertWhen((x) -> new Memoizer<>(0, FOREVER, false)).throwException(instanceOf(IllegalArgumentException.class));
+	}
+
+	@Test
+	public void testInvalidExpireAfterWrite() {
+		assertWhen((x) -> new Memoizer<>(1, Duration.ZERO, false))
+				.throwException(instanceOf(IllegalArgumentException.class));
+		assertWhen((x) -> new Memoizer<>(1, null, false)).throwException(instanceOf(NullPointerException.class));
+	}
+
+	@Test
+	public void testGetRecursiveSameKeyFails() throws Exception {
+		Memoizer<String> memoizer = new Memoizer<>(10, FOREVER, false);
+		assertWhen((x) -> memoizer.get("x", () -> memoizer.get("x", () -> "y")))
+				.throwException(instanceOf(IllegalStateException.class));
+		assertThat(memoizer.get("x", () -> "z")).is("z");
+	}
+
+}
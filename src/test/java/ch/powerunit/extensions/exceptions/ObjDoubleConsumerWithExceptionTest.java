@@ -19,7 +19,11 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
@@ -105,4 +109,64 @@ public class ObjDoubleConsumerWithExceptionTest implements TestSuite {
 		}).apply("x", 1d).toCompletableFuture().join()).throwException(instanceOf(CompletionException.class));
 	}
 
+	@Test
+	public void testStagedAsyncNoException() {
+		ObjDoubleConsumerWithException.stagedAsync((x, y) -> {
+		}).apply("x", 1d).toCompletableFuture().join();
+	}
+
+	@Test
+	public void testStagedAsyncExecutorNoException() {
+		ObjDoubleConsumerWithException.stagedAsync((x, y) -> {
+		}, ForkJoinPool.commonPool()).apply("x", 1d).toCompletableFuture().join();
+	}
+
+	@Test
+	public void testStagedAsyncException() {
+		assertWhen((x) -> ObjDoubleConsumerWithException.stagedAsync((y, z) -> {
+			throw new Exception();
+		}).apply("x", 1d).toCompletableFuture().join()).throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testStagedAsyncExecutorException() {
+		assertWhen((x) -> ObjDoubleConsumerWithException.stagedAsync((y, z) -> {
+			throw new Exception();
+		}, ForkJoinPool.commonPool()).apply("x", 1d).toCompletableFuture().join())
+				.throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testStagedUnboxedBoxedApply() {
+		StagedObjDoubleConsumer<String> unboxed = ObjDoubleConsumerWithException.stagedUnboxed((x, y) -> {
+			throw new Exception();
+		});
+		BiFunction<String, Double, CompletionStage<Void>> staged = unboxed;
+		assertWhen((x) -> staged.apply("x", Double.valueOf(1.0)).toCompletableFuture().join())
+				.throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testStagedUnboxedNoException() {
+		StagedObjDoubleConsumer<String> staged = ObjDoubleConsumerWithException.stagedUnboxed((x, y) -> {
+		});
+		assertThat(staged.apply("x", 1.0)).is(instanceOf(CompletableFuture.class));
+	}
+
+	@Test
+	public void testStagedUnboxedAsyncException() {
+		StagedObjDoubleConsumer<String> staged = ObjDoubleConsumerWithException.stagedUnboxedAsync((x, y) -> {
+			throw new Exception();
+		}, ForkJoinPool.commonPool());
+		assertWhen((x) -> staged.apply("x", 1.0).toCompletableFuture().join())
+				.throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testStagedUnboxedSharesCompletedStage() {
+		StagedObjDoubleConsumer<String> staged = ObjDoubleConsumerWithException.stagedUnboxed((x, y) -> {
+		});
+		assertThat(staged.apply("x", 1.0)).is(sameInstance(staged.apply("y", 1.0)));
+	}
+
 }
@@ -19,7 +19,12 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
@@ -105,4 +110,81 @@ public class ObjIntConsumerWithExceptionTest implements TestSuite {
 		}).apply("x", 1).toCompletableFuture().join()).throwException(instanceOf(CompletionException.class));
 	}
 
+	@Test
+	public void testStagedAsyncNoException() {
+		ObjIntConsumerWithException.stagedAsync((x, y) -> {
+		}).apply("x", 1).toCompletableFuture().join();
+	}
+
+	@Test
+	public void testStagedAsyncExecutorNoException() {
+		ObjIntConsumerWithException.stagedAsync((x, y) -> {
+		}, ForkJoinPool.commonPool()).apply("x", 1).toCompletableFuture().join();
+	}
+
+	@Test
+	public void testStagedAsyncException() {
+		assertWhen((x) -> ObjIntConsumerWithException.stagedAsync((y, z) -> {
+			throw new Exception();
+		}).apply("x", 1).toCompletableFuture().join()).throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testStagedAsyncExecutorException() {
+		assertWhen((x) -> ObjIntConsumerWithException.stagedAsync((y, z) -> {
+			throw new Exception();
+		}, ForkJoinPool.commonPool()).apply("x", 1).toCompletableFuture().join())
+				.throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testStagedUnboxedBoxedApply() {
+		StagedObjIntConsumer<String> unboxed = ObjIntConsumerWithException.stagedUnboxed((x, y) -> {
+			throw new Exception();
+		});
+		BiFunction<String, Integer, CompletionStage<Void>> staged = unboxed;
+		assertWhen((x) -> staged.apply("x", Integer.valueOf(1)).toCompletableFuture().join())
+				.throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testStagedUnboxedNoException() {
+		StagedObjIntConsumer<String> staged = ObjIntConsumerWithException.stagedUnboxed((x, y) -> {
+		});
+		assertThat(staged.apply("x", 1)).is(instanceOf(CompletableFuture.class));
+	}
+
+	@Test
+	public void testStagedUnboxedAsyncException() {
+		StagedObjIntConsumer<String> staged = ObjIntConsumerWithException.stagedUnboxedAsync((x, y) -> {
+			throw new Exception();
+		}, ForkJoinPool.commonPool());
+		assertWhen((x) -> staged.apply("x", 1).toCompletableFuture().join())
+				.throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testStagedUnboxedSharesCompletedStage() {
+		StagedObjIntConsumer<String> staged = ObjIntConsumerWithException.stagedUnboxed((x, y) -> {
+		});
+		assertThat(staged.apply("x", 1)).is(sameInstance(staged.apply("y", 1)));
+	}
+
+	@Test
+	public void testStagedUnboxedDoesntAllocate() {
+		StagedObjIntConsumer<String> staged = ObjIntConsumerWithException.stagedUnboxed((x, y) -> {
+		});
+		var bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		var id = Thread.currentThread().getId();
+		Runnable calls = () -> {
+			for (int i = 0; i < 100_000; i++) {
+				staged.apply("x", i);
+			}
+		};
+		calls.run();
+		var before = bean.getThreadAllocatedBytes(id);
+		calls.run();
+		assertThat(bean.getThreadAllocatedBytes(id) - before).is(lessThan(100_000L));
+	}
+
 }
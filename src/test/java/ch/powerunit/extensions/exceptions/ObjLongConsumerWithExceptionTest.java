@@ -19,7 +19,11 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
@@ -105,4 +109,64 @@ public class ObjLongConsumerWithExceptionTest implements TestSuite {
 		}).apply("x", 1L).toCompletableFuture().join()).throwException(instanceOf(CompletionException.class));
 	}
 
+	@Test
+	public void testStagedAsyncNoException() {
+		ObjLongConsumerWithException.stagedAsync((x, y) -> {
+		}).apply("x", 1L).toCompletableFuture().join();
+	}
+
+	@Test
+	public void testStagedAsyncExecutorNoException() {
+		ObjLongConsumerWithException.stagedAsync((x, y) -> {
+		}, ForkJoinPool.commonPool()).apply("x", 1L).toCompletableFuture().join();
+	}
+
+	@Test
+	public void testStagedAsyncException() {
+		assertWhen((x) -> ObjLongConsumerWithException.stagedAsync((y, z) -> {
+			throw new Exception();
+		}).apply("x", 1L).toCompletableFuture().join()).throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testStagedAsyncExecutorException() {
+		assertWhen((x) -> ObjLongConsumerWithException.stagedAsync((y, z) -> {
+			throw new Exception();
+		}, ForkJoinPool.commonPool()).apply("x", 1L).toCompletableFuture().join())
+				.throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testStagedUnboxedBoxedApply() {
+		StagedObjLongConsumer<String> unboxed = ObjLongConsumerWithException.stagedUnboxed((x, y) -> {
+			throw new Exception();
+		});
+		BiFunction<String, Long, CompletionStage<Void>> staged = unboxed;
+		assertWhen((x) -> staged.apply("x", Long.valueOf(1L)).toCompletableFuture().join())
+				.throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testStagedUnboxedNoException() {
+		StagedObjLongConsumer<String> staged = ObjLongConsumerWithException.stagedUnboxed((x, y) -> {
+		});
+		assertThat(staged.apply("x", 1L)).is(instanceOf(CompletableFuture.class));
+	}
+
+	@Test
+	public void testStagedUnboxedAsyncException() {
+		StagedObjLongConsumer<String> staged = ObjLongConsumerWithException.stagedUnboxedAsync((x, y) -> {
+			throw new Exception();
+		}, ForkJoinPool.commonPool());
+		assertWhen((x) -> staged.apply("x", 1L).toCompletableFuture().join())
+				.throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testStagedUnboxedSharesCompletedStage() {
+		StagedObjLongConsumer<String> staged = ObjLongConsumerWithException.stagedUnboxed((x, y) -> {
+		});
+		assertThat(staged.apply("x", 1L)).is(sameInstance(staged.apply("y", 1L)));
+	}
+
 }
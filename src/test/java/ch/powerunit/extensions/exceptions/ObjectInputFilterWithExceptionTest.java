@@ -21,6 +21,7 @@ package ch.powerunit.extensions.exceptions;
 
 import java.io.ObjectInputFilter.Status;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
@@ -110,4 +111,32 @@ public class ObjectInputFilterWithExceptionTest implements TestSuite {
 			throw new Exception();
 		}, Status.REJECTED).checkInput(null)).is(Status.REJECTED);
 	}
+
+	@Test
+	public void testStagedAsyncNoException() {
+		assertThat(ObjectInputFilterWithException.stagedAsync(x -> Status.ALLOWED).apply(null).toCompletableFuture().join())
+				.is(Status.ALLOWED);
+	}
+
+	@Test
+	public void testStagedAsyncExecutorNoException() {
+		assertThat(ObjectInputFilterWithException.stagedAsync(x -> Status.ALLOWED, ForkJoinPool.commonPool()).apply(null).toCompletableFuture().join())
+				.is(Status.ALLOWED);
+	}
+
+	@Test
+	public void testStagedAsyncException() {
+		assertWhen((x) -> ObjectInputFilterWithException.stagedAsync(y -> {
+			throw new Exception();
+		}).apply(null).toCompletableFuture().join()).throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testStagedAsyncExecutorException() {
+		assertWhen((x) -> ObjectInputFilterWithException.stagedAsync(y -> {
+			throw new Exception();
+		}, ForkJoinPool.commonPool()).apply(null).toCompletableFuture().join())
+				.throwException(instanceOf(CompletionException.class));
+	}
+
 }
@@ -0,0 +1,168 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import ch.powerunit.Test;
+import ch.powerunit.TestSuite;
+
+@SuppressWarnings("squid:S2187") // Sonar doesn't under that it is really a test
+public class ObjectReturnExceptionHandlerSupportTest implements TestSuite {
+
+	private static final int CALLS = 100_000;
+
+	private static final Exception EXCEPTION = new Exception("preallocated");
+
+	private static long allocatedBytes(Runnable action) {
+		var bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		var id = Thread.currentThread().getId();
+		action.run();
+		var before = bean.getThreadAllocatedBytes(id);
+		action.run();
+		return bean.getThreadAllocatedBytes(id) - before;
+	}
+
+	@Test
+	public void testFunctionUncheckDoesntAllocate() {
+		Function<String, String> function = FunctionWithException.<String, Exception>identity().uncheck();
+		assertThat(allocatedBytes(() -> {
+			for (int i = 0; i < CALLS; i++) {
+				function.apply("x");
+			}
+		})).is(lessThan((long) CALLS));
+	}
+
+	@Test
+	public void testBiFunctionUncheckDoesntAllocate() {
+		BiFunction<String, String, String> function = BiFunctionWithException
+				.<String, String, String, Exception>unchecked((t, u) -> t);
+		assertThat(allocatedBytes(() -> {
+			for (int i = 0; i < CALLS; i++) {
+				function.apply("x", "y");
+			}
+		})).is(lessThan((long) CALLS));
+	}
+
+	@Test
+	public void testIntFunctionUncheckDoesntAllocate() {
+		IntFunction<String> function = IntFunctionWithException.<String, Exception>unchecked(t -> "x");
+		assertThat(allocatedBytes(() -> {
+			for (int i = 0; i < CALLS; i++) {
+				function.apply(i);
+			}
+		})).is(lessThan((long) CALLS));
+	}
+
+	@Test
+	public void testSupplierUncheckDoesntAllocate() {
+		Supplier<String> supplier = SupplierWithException.<String, Exception>unchecked(() -> "x");
+		assertThat(allocatedBytes(() -> {
+			for (int i = 0; i < CALLS; i++) {
+				supplier.get();
+			}
+		})).is(lessThan((long) CALLS));
+	}
+
+	@Test
+	public void testFunctionIgnoreDoesntAllocate() {
+		Function<String, String> function = FunctionWithException.<String, Exception>identity().ignore();
+		assertThat(allocatedBytes(() -> {
+			for (int i = 0; i < CALLS; i++) {
+				function.apply("x");
+			}
+		})).is(lessThan((long) CALLS));
+	}
+
+	@Test
+	public void testFunctionIgnoreFailureDoesntAllocate() {
+		Function<String, String> function = FunctionWithException.<String, String, Exception>ignored(x -> {
+			throw EXCEPTION;
+		}, "y");
+		assertThat(allocatedBytes(() -> {
+			for (int i = 0; i < CALLS; i++) {
+				function.apply("x");
+			}
+		})).is(lessThan((long) CALLS));
+		assertThat(function.apply("x")).is("y");
+	}
+
+	@Test
+	public void testSupplierIgnoreDoesntAllocate() {
+		Supplier<String> supplier = SupplierWithException.<String, Exception>ignored(() -> "x");
+		assertThat(allocatedBytes(() -> {
+			for (int i = 0; i < CALLS; i++) {
+				supplier.get();
+			}
+		})).is(lessThan((long) CALLS));
+	}
+
+	@Test
+	public void testIntFunctionIgnoreDoesntAllocate() {
+		IntFunction<String> function = IntFunctionWithException.<String, Exception>ignored(t -> "x");
+		assertThat(allocatedBytes(() -> {
+			for (int i = 0; i < CALLS; i++) {
+				function.apply(i);
+			}
+		})).is(lessThan((long) CALLS));
+	}
+
+	@Test
+	public void testUnaryOperatorIgnoreUseDefaultValue() {
+		assertThat(new UnaryOperatorWithException<String, Exception>() {
+
+			@Override
+			public String apply(String t) throws Exception {
+				throw new Exception();
+			}
+
+			@Override
+			public String defaultValue() {
+				return "z";
+			}
+		}.ignore().apply("x")).is("z");
+	}
+
+	@Test
+	public void testUncheckResolveMapperOnce() {
+		var counter = new int[1];
+		Function<String, String> function = new FunctionWithException<String, String, Exception>() {
+
+			@Override
+			public String apply(String t) throws Exception {
+				throw new Exception(t);
+			}
+
+			@Override
+			public Function<Exception, RuntimeException> exceptionMapper() {
+				counter[0]++;
+				return IllegalArgumentException::new;
+			}
+		}.uncheck();
+		assertWhen(function::apply, "x").throwException(instanceOf(IllegalArgumentException.class));
+		assertWhen(function::apply, "y").throwException(instanceOf(IllegalArgumentException.class));
+		assertThat(counter[0]).is(1);
+	}
+
+}
@@ -0,0 +1,88 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import ch.powerunit.Test;
+import ch.powerunit.TestSuite;
+
+@SuppressWarnings("squid:S2187") // Sonar doesn't under that it is really a test
+public class OperationMetricsTest implements TestSuite {
+
+	@Test
+	public void testOfNull() {
+		assertWhen((x) -> OperationMetrics.of(null)).throwException(instanceOf(NullPointerException.class));
+		assertWhen((x) -> OperationMetrics.withLatency(null)).throwException(instanceOf(NullPointerException.class));
+	}
+
+	@Test
+	public void testRecordSuccessAndFailures() throws Exception {
+		OperationMetrics metrics = OperationMetrics.of("test");
+		assertThat(metrics.record(() -> "x", false)).is("x");
+		assertWhen((x) -> metrics.record(() -> {
+			throw new IOException();
+		}, false)).throwException(instanceOf(IOException.class));
+		assertWhen((x) -> metrics.record(() -> {
+			throw new IllegalStateException();
+		}, true)).throwException(instanceOf(IllegalStateException.class));
+		assertThat(metrics.getName()).is("test");
+		assertThat(metrics.isEnabled()).is(true);
+		assertThat(metrics.getInvocations()).is(3L);
+		assertThat(metrics.getFailures()).is(2L);
+		assertThat(metrics.getSwallowed()).is(1L);
+		assertThat(metrics.getFailuresByClass().get(IOException.class)).is(1L);
+		assertThat(metrics.getFailuresByClass().get(IllegalStateException.class)).is(1L);
+		assertThat(metrics.isLatencyRecorded()).is(false);
+		assertThat(metrics.getLatencyPercentile(0.5)).is(0L);
+	}
+
+	@Test
+	public void testLatency() throws Exception {
+		OperationMetrics metrics = OperationMetrics.withLatency("test");
+		assertThat(metrics.getLatencyPercentile(0.99)).is(0L);
+		metrics.record(() -> {
+			Thread.sleep(2);
+			return null;
+		}, false);
+		assertThat(metrics.isLatencyRecorded()).is(true);
+		assertThat(metrics.getLatencyPercentile(0.99) >= 2_000_000L).is(true);
+		assertWhen((x) -> metrics.getLatencyPercentile(1.5)).throwException(instanceOf(IllegalArgumentException.class));
+	}
+
+	@Test
+	public void testDisabled() {
+		assertThat(OperationMetrics.disabled().isEnabled()).is(false);
+		FunctionWithException<String, String, Exception> fn = x -> x;
+		assertThat(fn.instrument(OperationMetrics.disabled())).is(sameInstance(fn));
+	}
+
+	@Test
+	public void testPublishTo() {
+		OperationMetrics metrics = OperationMetrics.of("test");
+		List<OperationMetrics> published = new ArrayList<>();
+		metrics.publishTo(published::add);
+		assertThat(published).is(List.of(metrics));
+		assertWhen((x) -> metrics.publishTo(null)).throwException(instanceOf(NullPointerException.class));
+	}
+
+}
@@ -20,6 +20,7 @@
 package ch.powerunit.extensions.exceptions;
 
 import java.nio.file.Paths;
+import java.util.Optional;
 
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
@@ -136,6 +137,18 @@ public class PathMatcherWithExceptionTest implements TestSuite {
 		}).matches(Paths.get("."))).is(false);
 	}
 
+	@Test
+	public void matchesLiftedOptionalNoException() {
+		assertThat(PathMatcherWithException.liftedOptional(x -> true).apply(Paths.get("."))).is(Optional.of(true));
+	}
+
+	@Test
+	public void matchesLiftedOptionalException() {
+		assertThat(PathMatcherWithException.liftedOptional(y -> {
+			throw new Exception();
+		}).apply(Paths.get("."))).is(Optional.empty());
+	}
+
 	@Test
 	public void matchesIgnoredNoException() {
 		assertThat(PathMatcherWithException.ignored(x -> true).matches(Paths.get("."))).is(true);
@@ -19,6 +19,10 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
 
@@ -133,6 +137,25 @@ public class PredicateWithExceptionTest implements TestSuite {
 		}).test("x")).is(false);
 	}
 
+	@Test
+	public void testLiftedOptionalNoException() {
+		assertThat(PredicateWithException.liftedOptional(x -> true).apply("2")).is(Optional.of(true));
+	}
+
+	@Test
+	public void testLiftedOptionalException() {
+		assertThat(PredicateWithException.liftedOptional(y -> {
+			throw new Exception();
+		}).apply("x")).is(Optional.empty());
+	}
+
+	@Test
+	public void testLiftedOptionalSharesResults() {
+		Function<String, Optional<Boolean>> lifted = PredicateWithException.liftedOptional(x -> x.isEmpty());
+		assertThat(lifted.apply("")).is(sameInstance(lifted.apply("")));
+		assertThat(lifted.apply("x")).is(sameInstance(lifted.apply("y")));
+	}
+
 	@Test
 	public void testIgnoredNoException() {
 		assertThat(PredicateWithException.ignored(x -> true).test("2")).is(true);
@@ -157,4 +180,25 @@ public class PredicateWithExceptionTest implements TestSuite {
 		}, true).test("x")).is(true);
 	}
 
+	@Test
+	public void testControlFlowMapper() {
+		Predicate<String> fn = PredicateWithException.unchecked(s -> {
+			throw new Exception("not found " + s);
+		}, ExceptionMapper.controlFlowExceptionMapper());
+		assertWhen((x) -> fn.test("x")).throwException(instanceOf(ControlFlowException.class));
+		RuntimeException first = null;
+		RuntimeException second = null;
+		try {
+			fn.test("a");
+		} catch (ControlFlowException e) {
+			first = e;
+		}
+		try {
+			fn.test("b");
+		} catch (ControlFlowException e) {
+			second = e;
+		}
+		assertThat(first).is(sameInstance(second));
+	}
+
 }
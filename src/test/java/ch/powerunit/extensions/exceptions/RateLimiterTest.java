@@ -0,0 +1,119 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ch.powerunit.Test;
+import ch.powerunit.TestSuite;
+
+@SuppressWarnings("squid:S2187") // Sonar doesn't under that it is really a test
+public class RateLimiterTest implements TestSuite {
+
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+
+	@Test
+	public void testReserveAtRate() {
+		RateLimiter limiter = new RateLimiter(10, 1, clock::get);
+		assertThat(limiter.reserve()).is(0L);
+		assertThat(limiter.reserve()).is(SECOND / 10);
+		assertThat(limiter.reserve()).is(2 * SECOND / 10);
+		clock.addAndGet(SECOND);
+		assertThat(limiter.reserve()).is(0L);
+		assertThat(limiter.reserve()).is(0L);
+		assertThat(limiter.reserve()).is(SECOND / 10);
+	}
+
+	@Test
+	public void testBurst() {
+		RateLimiter limiter = new RateLimiter(10, 3, clock::get);
+		assertThat(limiter.reserve()).is(0L);
+		clock.addAndGet(10 * SECOND);
+		assertThat(limiter.reserve()).is(0L);
+		assertThat(limiter.reserve()).is(0L);
+		assertThat(limiter.reserve()).is(0L);
+		assertThat(limiter.reserve()).is(0L);
+		assertThat(limiter.reserve()).is(SECOND / 10);
+	}
+
+	@Test
+	public void testMaxWaitRejects() {
+		RateLimiter limiter = new RateLimiter(10, 1, clock::get).withMaxWait(Duration.ofMillis(50));
+		limiter.acquire();
+		assertThat(limiter.reserve()).is(-1L);
+		assertWhen((x) -> limiter.acquire()).throwException(instanceOf(RateLimiter.RejectedException.class));
+	}
+
+	@Test
+	public void testAdaptsToThrottling() {
+		RateLimiter limiter = new RateLimiter(10, 1, clock::get).withMaxWait(Duration.ofDays(1)).adaptOn(0.5, 1, 2,
+				IOException.class);
+		limiter.onThrottling();
+		assertThat(limiter.getRate()).is(5.0);
+		limiter.onThrottling();
+		limiter.onThrottling();
+		limiter.onThrottling();
+		assertThat(limiter.getRate()).is(1.0);
+		clock.addAndGet(2 * SECOND);
+		assertThat(limiter.getRate()).is(5.0);
+		clock.addAndGet(10 * SECOND);
+		assertThat(limiter.getRate()).is(10.0);
+		assertThat(limiter.getMaxRate()).is(10.0);
+	}
+
+	@Test
+	public void testExecuteLowersRateOnThrottlingException() throws Exception {
+		RateLimiter limiter = RateLimiter.of(1_000_000).adaptOn(0.5, 1, 0, IOException.class);
+		assertWhen((x) -> limiter.execute(() -> {
+			throw new IllegalStateException();
+		})).throwException(instanceOf(IllegalStateException.class));
+		assertThat(limiter.getRate()).is(1_000_000.0);
+		assertWhen((x) -> limiter.execute(() -> {
+			throw new IOException();
+		})).throwException(instanceOf(IOException.class));
+		assertThat(limiter.getRate()).is(500_000.0);
+		assertThat(limiter.execute(() -> "x")).is("x");
+	}
+
+	@Test
+	public void testInvalidArguments() {
+		assertWhen((x) -> RateLimiter.of(0)).throwException(instanceOf(IllegalArgumentException.class));
+		assertWhen((x) -> RateLimiter.of(1, 0)).throwException(instanceOf(IllegalArgumentException.class));
+		assertWhen((x) -> RateLimiter.of(1).withMaxWait(null)).throwException(instanceOf(NullPointerException.class));
+		assertWhen((x) -> RateLimiter.of(1).adaptOn(1.5, 1, 1, IOException.class))
+				.throwException(instanceOf(IllegalArgumentException.class));
+		assertWhen((x) -> RateLimiter.of(1).adaptOn(0.5, 2, 1, IOException.class))
+				.throwException(instanceOf(IllegalArgumentException.class));
+		assertWhen((x) -> RateLimiter.of(1).adaptOn(0.5, 1, 1))
+				.throwException(instanceOf(IllegalArgumentException.class));
+	}
+
+	@Test
+	public void testToString() {
+		assertThat(new RateLimiter(10, 2, clock::get).toString())
+				.is("RateLimiter[rate=10.0, maxRate=10.0, burst=2]");
+	}
+
+}
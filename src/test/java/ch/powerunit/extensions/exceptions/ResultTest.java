@@ -0,0 +1,97 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+
+import ch.powerunit.Test;
+import ch.powerunit.TestSuite;
+
+@SuppressWarnings("squid:S2187") // Sonar doesn't under that it is really a test
+public class ResultTest implements TestSuite {
+
+	@Test
+	public void testSuccess() {
+		Result<String> result = Result.success("x");
+		assertThat(result.isSuccess()).is(true);
+		assertThat(result.isFailure()).is(false);
+		assertThat(result.get()).is("x");
+		assertThat(result.getFailure()).is(optionalIsNotPresent());
+		assertThat(result.orElse("y")).is("x");
+		assertThat(result.toOptional()).is(optionalIs("x"));
+		assertThat(result.orElseThrow(IllegalStateException::new)).is("x");
+	}
+
+	@Test
+	public void testFailure() {
+		IOException e = new IOException("x");
+		Result<String> result = Result.failure(e);
+		assertThat(result.isSuccess()).is(false);
+		assertThat(result.isFailure()).is(true);
+		assertThat(result.getFailure().get()).is(sameInstance(e));
+		assertThat(result.orElse("y")).is("y");
+		assertThat(result.toOptional()).is(optionalIsNotPresent());
+		assertWhen((x) -> result.get()).throwException(instanceOf(NoSuchElementException.class));
+		assertWhen((x) -> result.orElseThrow(IllegalStateException::new))
+				.throwException(instanceOf(IllegalStateException.class));
+	}
+
+	@Test
+	public void testFailureNull() {
+		assertWhen((x) -> Result.failure(null)).throwException(instanceOf(NullPointerException.class));
+	}
+
+	@Test
+	public void testOf() {
+		assertThat(Result.of(() -> "x").get()).is("x");
+		assertThat(Result.of(() -> {
+			throw new IOException();
+		}).getFailure().get()).is(instanceOf(IOException.class));
+	}
+
+	@Test
+	public void testMap() {
+		assertThat(Result.success("x").map(v -> v + "1").get()).is("x1");
+		assertThat(Result.success("x").map(v -> {
+			throw new IOException();
+		}).getFailure().get()).is(instanceOf(IOException.class));
+		Result<String> failure = Result.failure(new IOException());
+		assertThat(failure.map(v -> v + "1")).is(sameInstance(failure));
+	}
+
+	@Test
+	public void testFlatMap() {
+		assertThat(Result.success("x").flatMap(v -> Result.success(v + "1")).get()).is("x1");
+		Result<String> failure = Result.failure(new IOException());
+		assertThat(failure.flatMap(v -> Result.success(v + "1"))).is(sameInstance(failure));
+	}
+
+	@Test
+	public void testRecover() {
+		Result<String> success = Result.success("x");
+		assertThat(success.recover(e -> "y")).is(sameInstance(success));
+		assertThat(Result.<String>failure(new IOException()).recover(e -> "y").get()).is("y");
+		assertThat(Result.<String>failure(new IOException()).recover(e -> {
+			throw new IllegalStateException();
+		}).getFailure().get()).is(instanceOf(IllegalStateException.class));
+	}
+
+}
@@ -0,0 +1,176 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ch.powerunit.Test;
+import ch.powerunit.TestSuite;
+
+@SuppressWarnings("squid:S2187") // Sonar doesn't under that it is really a test
+public class RetryPolicyTest implements TestSuite {
+
+	@Test
+	public void testMaxAttemptsInvalid() {
+		assertWhen((x) -> RetryPolicy.maxAttempts(0)).throwException(instanceOf(IllegalArgumentException.class));
+	}
+
+	@Test
+	public void testWithInvalidValues() {
+		RetryPolicy policy = RetryPolicy.maxAttempts(3);
+		assertWhen((x) -> policy.withBackoff(Duration.ofMillis(-1)))
+				.throwException(instanceOf(IllegalArgumentException.class));
+		assertWhen((x) -> policy.withBackoff(null)).throwException(instanceOf(NullPointerException.class));
+		assertWhen((x) -> policy.withMaxDelay(Duration.ofMillis(-1)))
+				.throwException(instanceOf(IllegalArgumentException.class));
+		assertWhen((x) -> policy.withMultiplier(0.5)).throwException(instanceOf(IllegalArgumentException.class));
+		assertWhen((x) -> policy.withJitter(1.5)).throwException(instanceOf(IllegalArgumentException.class));
+		assertWhen((x) -> policy.retryOn((Class<Exception>[]) null))
+				.throwException(instanceOf(NullPointerException.class));
+	}
+
+	@Test
+	public void testShouldRetryDefault() {
+		RetryPolicy policy = RetryPolicy.maxAttempts(3);
+		assertThat(policy.getMaxAttempts()).is(3);
+		assertThat(policy.shouldRetry(new IOException(), 1)).is(true);
+		assertThat(policy.shouldRetry(new IOException(), 2)).is(true);
+		assertThat(policy.shouldRetry(new IOException(), 3)).is(false);
+	}
+
+	@Test
+	public void testShouldRetryOn() {
+		RetryPolicy policy = RetryPolicy.maxAttempts(3).retryOn(IOException.class);
+		assertThat(policy.shouldRetry(new FileNotFoundException(), 1)).is(true);
+		assertThat(policy.shouldRetry(new SQLException(), 1)).is(false);
+	}
+
+	@Test
+	public void testDelayExponential() {
+		RetryPolicy policy = RetryPolicy.maxAttempts(10).withBackoff(Duration.ofMillis(100)).withMultiplier(2)
+				.withMaxDelay(Duration.ofMillis(500));
+		assertThat(policy.delay(1)).is(Duration.ofMillis(100));
+		assertThat(policy.delay(2)).is(Duration.ofMillis(200));
+		assertThat(policy.delay(3)).is(Duration.ofMillis(400));
+		assertThat(policy.delay(4)).is(Duration.ofMillis(500));
+	}
+
+	@Test
+	public void testDelayJitter() {
+		RetryPolicy policy = RetryPolicy.maxAttempts(10).withBackoff(Duration.ofMillis(100)).withJitter(0.5);
+		for (int i = 0; i < 100; i++) {
+			Duration delay = policy.delay(1);
+			assertThat(delay).is(both(greaterThanOrEqualTo(Duration.ofMillis(50)))
+					.and(lessThanOrEqualTo(Duration.ofMillis(100))));
+		}
+	}
+
+	@Test
+	public void testExecuteRetryUntilSuccess() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		assertThat(RetryPolicy.maxAttempts(3).execute(() -> {
+			if (count.incrementAndGet() < 3) {
+				throw new IOException();
+			}
+			return "ok";
+		})).is("ok");
+		assertThat(count.get()).is(3);
+	}
+
+	@Test
+	public void testExecuteThrowLastException() {
+		AtomicInteger count = new AtomicInteger();
+		assertWhen((x) -> RetryPolicy.maxAttempts(3).execute(() -> {
+			throw new IOException("" + count.incrementAndGet());
+		})).throwException(exceptionMessage("3"));
+		assertThat(count.get()).is(3);
+	}
+
+	@Test
+	public void testExecuteNotRetried() {
+		AtomicInteger count = new AtomicInteger();
+		assertWhen((x) -> RetryPolicy.maxAttempts(3).retryOn(IOException.class).execute(() -> {
+			count.incrementAndGet();
+			throw new SQLException();
+		})).throwException(instanceOf(SQLException.class));
+		assertThat(count.get()).is(1);
+	}
+
+	@Test
+	public void testExecuteInterrupted() {
+		AtomicInteger count = new AtomicInteger();
+		Thread.currentThread().interrupt();
+		try {
+			assertWhen((x) -> RetryPolicy.maxAttempts(3).withBackoff(Duration.ofSeconds(10)).execute(() -> {
+				count.incrementAndGet();
+				throw new IOException();
+			})).throwException(instanceOf(IOException.class));
+			assertThat(Thread.currentThread().isInterrupted()).is(true);
+			assertThat(count.get()).is(1);
+		} finally {
+			Thread.interrupted();
+		}
+	}
+
+	@Test
+	public void testExecuteAsyncRetryUntilSuccess() {
+		AtomicInteger count = new AtomicInteger();
+		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+		try {
+			assertThat(RetryPolicy.maxAttempts(3).withBackoff(Duration.ofMillis(1)).executeAsync(() -> {
+				if (count.incrementAndGet() < 3) {
+					throw new IOException();
+				}
+				return "ok";
+			}, scheduler).toCompletableFuture().join()).is("ok");
+			assertThat(count.get()).is(3);
+		} finally {
+			scheduler.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testExecuteAsyncFailure() {
+		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+		try {
+			assertWhen((x) -> RetryPolicy.maxAttempts(2).executeAsync(() -> {
+				throw new IOException();
+			}, scheduler).toCompletableFuture().join()).throwException(instanceOf(CompletionException.class));
+		} finally {
+			scheduler.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testExecuteAsyncRejected() {
+		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+		scheduler.shutdown();
+		assertWhen((x) -> RetryPolicy.maxAttempts(2).executeAsync(() -> "x", scheduler).toCompletableFuture().join())
+				.throwException(instanceOf(CompletionException.class));
+	}
+
+}
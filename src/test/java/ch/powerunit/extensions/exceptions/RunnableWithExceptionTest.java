@@ -20,6 +20,10 @@
 package ch.powerunit.extensions.exceptions;
 
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
@@ -123,4 +127,98 @@ public class RunnableWithExceptionTest implements TestSuite {
 			throw new Exception();
 		}).apply("2")).throwException(instanceOf(Exception.class));
 	}
+
+	@Test
+	public void testStagedAsyncNoException() {
+		RunnableWithException.stagedAsync(() -> {
+		}).get().toCompletableFuture().join();
+	}
+
+	@Test
+	public void testStagedAsyncExecutorNoException() {
+		RunnableWithException.stagedAsync(() -> {
+		}, ForkJoinPool.commonPool()).get().toCompletableFuture().join();
+	}
+
+	@Test
+	public void testStagedAsyncException() {
+		assertWhen((x) -> RunnableWithException.stagedAsync(() -> {
+			throw new Exception();
+		}).get().toCompletableFuture().join()).throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testStagedAsyncExecutorException() {
+		assertWhen((x) -> RunnableWithException.stagedAsync(() -> {
+			throw new Exception();
+		}, ForkJoinPool.commonPool()).get().toCompletableFuture().join())
+				.throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testRetryUntilSuccess() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		RunnableWithException<Exception> retried = RunnableWithException.retried(() -> {
+			if (count.incrementAndGet() < 3) {
+				throw new Exception();
+			}
+		}, RetryPolicy.maxAttempts(3));
+		retried.run();
+		assertThat(count.get()).is(3);
+	}
+
+	@Test
+	public void testRetryFailure() {
+		AtomicInteger count = new AtomicInteger();
+		RunnableWithException<Exception> fn = () -> {
+			count.incrementAndGet();
+			throw new Exception();
+		};
+		assertWhen((x) -> fn.retry(RetryPolicy.maxAttempts(2)).uncheck().run())
+				.throwException(instanceOf(WrappedException.class));
+		assertThat(count.get()).is(2);
+	}
+
+	@Test
+	public void testRetryAsyncUntilSuccess() {
+		AtomicInteger count = new AtomicInteger();
+		RunnableWithException<Exception> fn = () -> {
+			if (count.incrementAndGet() < 3) {
+				throw new Exception();
+			}
+		};
+		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+		try {
+			fn.retryAsync(RetryPolicy.maxAttempts(3), scheduler).get().toCompletableFuture().join();
+			assertThat(count.get()).is(3);
+		} finally {
+			scheduler.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testInstrumentCountsFailures() {
+		OperationMetrics metrics = OperationMetrics.of("runnable");
+		RunnableWithException<Exception> fn = RunnableWithException.instrumented(() -> {
+			throw new Exception();
+		}, metrics);
+		assertWhen((x) -> fn.uncheck().run()).throwException(instanceOf(WrappedException.class));
+		fn.ignore().run();
+		fn.lift().run();
+		assertThat(metrics.getInvocations()).is(3L);
+		assertThat(metrics.getFailures()).is(3L);
+		assertThat(metrics.getSwallowed()).is(2L);
+	}
+
+	@Test
+	public void testRateLimit() {
+		AtomicInteger count = new AtomicInteger();
+		RateLimiter limiter = RateLimiter.of(1_000_000);
+		RunnableWithException<Exception> fn = RunnableWithException.rateLimited(count::incrementAndGet, limiter);
+		fn.uncheck().run();
+		fn.uncheck().run();
+		assertThat(count.get()).is(2);
+		assertWhen((x) -> fn.rateLimit(null)).throwException(instanceOf(NullPointerException.class));
+	}
+
 }
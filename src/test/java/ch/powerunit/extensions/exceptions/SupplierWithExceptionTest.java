@@ -19,7 +19,12 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.time.Duration;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
@@ -112,4 +117,151 @@ public class SupplierWithExceptionTest implements TestSuite {
 		}, "x").get()).is("x");
 	}
 
+	@Test
+	public void testStagedAsyncNoException() {
+		assertThat(SupplierWithException.stagedAsync(() -> "1").get().toCompletableFuture().join()).is("1");
+	}
+
+	@Test
+	public void testStagedAsyncExecutorNoException() {
+		assertThat(SupplierWithException.stagedAsync(() -> "1", ForkJoinPool.commonPool()).get().toCompletableFuture().join()).is("1");
+	}
+
+	@Test
+	public void testStagedAsyncException() {
+		assertWhen((x) -> SupplierWithException.stagedAsync(() -> {
+			throw new Exception();
+		}).get().toCompletableFuture().join()).throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testStagedAsyncExecutorException() {
+		assertWhen((x) -> SupplierWithException.stagedAsync(() -> {
+			throw new Exception();
+		}, ForkJoinPool.commonPool()).get().toCompletableFuture().join())
+				.throwException(instanceOf(CompletionException.class));
+	}
+
+	@Test
+	public void testRetryUntilSuccess() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+		SupplierWithException<String, Exception> retried = SupplierWithException.retried(() -> {
+			if (count.incrementAndGet() < 3) {
+				throw new Exception();
+			}
+			return "ok";
+		}, RetryPolicy.maxAttempts(3));
+		assertThat(retried.get()).is("ok");
+		assertThat(count.get()).is(3);
+	}
+
+	@Test
+	public void testRetryFailure() {
+		AtomicInteger count = new AtomicInteger();
+		SupplierWithException<String, Exception> fn = () -> {
+			count.incrementAndGet();
+			throw new Exception();
+		};
+		assertWhen((x) -> fn.retry(RetryPolicy.maxAttempts(2)).uncheck().get())
+				.throwException(instanceOf(WrappedException.class));
+		assertThat(count.get()).is(2);
+	}
+
+	@Test
+	public void testRetryAsyncUntilSuccess() {
+		AtomicInteger count = new AtomicInteger();
+		SupplierWithException<String, Exception> fn = () -> {
+			if (count.incrementAndGet() < 3) {
+				throw new Exception();
+			}
+			return "ok";
+		};
+		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+		try {
+			assertThat(fn.retryAsync(RetryPolicy.maxAttempts(3), scheduler).get().toCompletableFuture().join()).is("ok");
+			assertThat(count.get()).is(3);
+		} finally {
+			scheduler.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testCircuitBreakerFailsFastWithDefaultValue() {
+		AtomicInteger count = new AtomicInteger();
+		SupplierWithException<String, Exception> fn = () -> {
+			count.incrementAndGet();
+			throw new Exception();
+		};
+		SupplierWithException<String, Exception> protectedFn = SupplierWithException.circuitBroken(fn,
+				CircuitBreaker.of(1, 1, Duration.ofMinutes(1)));
+		assertWhen((x) -> protectedFn.uncheck().get()).throwException(instanceOf(WrappedException.class));
+		assertWhen((x) -> protectedFn.uncheck().get())
+				.throwException(instanceOf(CircuitBreaker.OpenException.class));
+		assertThat(protectedFn.ignore().get()).isNull();
+		assertThat(count.get()).is(1);
+	}
+
+	@Test
+	public void testInstrumentCountsFailures() {
+		OperationMetrics metrics = OperationMetrics.of("supplier");
+		SupplierWithException<String, Exception> fn = SupplierWithException.instrumented(() -> {
+			throw new Exception();
+		}, metrics);
+		assertWhen((x) -> fn.uncheck().get()).throwException(instanceOf(WrappedException.class));
+		assertThat(fn.ignore().get()).isNull();
+		assertThat(fn.lift().get().isPresent()).is(false);
+		assertThat(metrics.getInvocations()).is(3L);
+		assertThat(metrics.getFailures()).is(3L);
+		assertThat(metrics.getSwallowed()).is(2L);
+	}
+
+	@Test
+	public void testTimeoutMapsOrIgnores() {
+		SupplierWithException<String, Exception> fn = SupplierWithException.timeLimited(() -> {
+			Thread.sleep(60_000);
+			return "x";
+		}, Duration.ofMillis(20));
+		assertWhen((x) -> fn.uncheck().get()).throwException(instanceOf(WrappedException.class));
+		assertWhen((x) -> fn.uncheck().get()).throwException(exceptionMessage("Operation not completed after PT0.02S"));
+		assertThat(fn.ignore().get()).isNull();
+		assertThat(SupplierWithException.timeLimited(() -> "x", Duration.ofSeconds(5)).uncheck().get()).is("x");
+		assertWhen((x) -> SupplierWithException.timeLimited(() -> "x", null))
+				.throwException(instanceOf(NullPointerException.class));
+	}
+
+	@Test
+	public void testHedgeMapsOrIgnores() {
+		SupplierWithException<String, Exception> fn = SupplierWithException.hedged(() -> {
+			throw new Exception();
+		}, HedgePolicy.fixed(Duration.ofSeconds(5)));
+		assertWhen((x) -> fn.uncheck().get()).throwException(instanceOf(WrappedException.class));
+		assertThat(fn.ignore().get()).isNull();
+		assertThat(SupplierWithException.hedged(() -> "x", HedgePolicy.fixed(Duration.ZERO)).uncheck().get()).is("x");
+		assertWhen((x) -> SupplierWithException.hedged(() -> "x", null))
+				.throwException(instanceOf(NullPointerException.class));
+	}
+
+	@Test
+	public void testBulkheadRejectionMappedOrIgnored() {
+		Bulkhead bulkhead = Bulkhead.of(1);
+		SupplierWithException<String, Exception> inner = SupplierWithException.bulkheaded(() -> "x", bulkhead);
+		SupplierWithException<String, Exception> outer = SupplierWithException.bulkheaded(() -> inner.uncheck().get(),
+				bulkhead);
+		assertWhen((x) -> outer.uncheck().get()).throwException(instanceOf(WrappedException.class));
+		assertThat(SupplierWithException.bulkheaded(() -> inner.ignore().get(), bulkhead).get()).isNull();
+		assertThat(inner.uncheck().get()).is("x");
+	}
+
+	@Test
+	public void testAttemptedNoException() {
+		assertThat(SupplierWithException.attempted(() -> "x").get().get()).is("x");
+	}
+
+	@Test
+	public void testAttemptedException() {
+		assertThat(SupplierWithException.attempted(() -> {
+			throw new Exception();
+		}).get().isFailure()).is(true);
+	}
+
 }
@@ -0,0 +1,85 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import ch.powerunit.Test;
+import ch.powerunit.TestSuite;
+
+@SuppressWarnings("squid:S2187") // Sonar doesn't under that it is really a test
+public class TimeoutsTest implements TestSuite {
+
+	@Test
+	public void testCallReturnsResult() throws Exception {
+		assertThat(Timeouts.call(() -> "x", Duration.ofSeconds(5), Constants.defaultExecutor())).is("x");
+	}
+
+	@Test
+	public void testCallHugeTimeout() throws Exception {
+		assertThat(Timeouts.call(() -> "x", Duration.ofSeconds(Long.MAX_VALUE), Constants.defaultExecutor()))
+				.is("x");
+	}
+
+	@Test
+	public void testCallRethrowsException() {
+		assertWhen((x) -> Timeouts.call(() -> {
+			throw new IOException("x");
+		}, Duration.ofSeconds(5), Constants.defaultExecutor())).throwException(instanceOf(IOException.class));
+		assertWhen((x) -> Timeouts.call(() -> {
+			throw new AssertionError("x");
+		}, Duration.ofSeconds(5), Constants.defaultExecutor())).throwException(instanceOf(AssertionError.class));
+	}
+
+	@Test
+	public void testCallInterruptsOnTimeout() throws Exception {
+		CountDownLatch interrupted = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			assertWhen((x) -> Timeouts.call(() -> {
+				try {
+					Thread.sleep(60_000);
+				} catch (InterruptedException e) {
+					interrupted.countDown();
+				}
+				return "x";
+			}, Duration.ofMillis(20), executor)).throwException(instanceOf(TimeoutException.class));
+			assertThat(interrupted.await(5, TimeUnit.SECONDS)).is(true);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testVerifyTimeout() {
+		assertWhen((x) -> Constants.verifyTimeout(null)).throwException(instanceOf(NullPointerException.class));
+		assertWhen((x) -> Constants.verifyTimeout(Duration.ZERO))
+				.throwException(instanceOf(IllegalArgumentException.class));
+		assertWhen((x) -> Constants.verifyTimeout(Duration.ofMillis(-1)))
+				.throwException(instanceOf(IllegalArgumentException.class));
+	}
+
+}
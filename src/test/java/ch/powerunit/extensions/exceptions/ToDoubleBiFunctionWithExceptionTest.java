@@ -19,6 +19,8 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.util.OptionalDouble;
+
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
 
@@ -68,6 +70,19 @@ public class ToDoubleBiFunctionWithExceptionTest implements TestSuite {
 		}).applyAsDouble("x", "x")).is(0d);
 	}
 
+	@Test
+	public void testLiftedOptionalNoException() {
+		assertThat(ToDoubleBiFunctionWithException.liftedOptional((x, y) -> 3).apply("2", "3"))
+				.is(OptionalDouble.of(3d));
+	}
+
+	@Test
+	public void testLiftedOptionalException() {
+		assertThat(ToDoubleBiFunctionWithException.liftedOptional((x, y) -> {
+			throw new Exception();
+		}).apply("x", "x")).is(OptionalDouble.empty());
+	}
+
 	@Test
 	public void testIgnoredNoException() {
 		assertThat(ToDoubleBiFunctionWithException.ignored((x, y) -> 1).applyAsDouble("2", "3")).is(1d);
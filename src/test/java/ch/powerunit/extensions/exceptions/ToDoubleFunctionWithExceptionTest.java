@@ -19,6 +19,8 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.util.OptionalDouble;
+
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
 
@@ -67,6 +69,18 @@ public class ToDoubleFunctionWithExceptionTest implements TestSuite {
 		}).applyAsDouble("x")).is(0d);
 	}
 
+	@Test
+	public void testLiftedOptionalNoException() {
+		assertThat(ToDoubleFunctionWithException.liftedOptional(x -> 12).apply("2")).is(OptionalDouble.of(12d));
+	}
+
+	@Test
+	public void testLiftedOptionalException() {
+		assertThat(ToDoubleFunctionWithException.liftedOptional(y -> {
+			throw new Exception();
+		}).apply("x")).is(OptionalDouble.empty());
+	}
+
 	@Test
 	public void testIgnoredNoException() {
 		assertThat(ToDoubleFunctionWithException.ignored(x -> 11).applyAsDouble("2")).is(11d);
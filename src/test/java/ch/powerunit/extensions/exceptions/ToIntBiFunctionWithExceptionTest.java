@@ -19,6 +19,8 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.util.OptionalInt;
+
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
 
@@ -68,6 +70,18 @@ public class ToIntBiFunctionWithExceptionTest implements TestSuite {
 		}).applyAsInt("x", "x")).is(0);
 	}
 
+	@Test
+	public void testLiftedOptionalNoException() {
+		assertThat(ToIntBiFunctionWithException.liftedOptional((x, y) -> 3).apply("2", "3")).is(OptionalInt.of(3));
+	}
+
+	@Test
+	public void testLiftedOptionalException() {
+		assertThat(ToIntBiFunctionWithException.liftedOptional((x, y) -> {
+			throw new Exception();
+		}).apply("x", "x")).is(OptionalInt.empty());
+	}
+
 	@Test
 	public void testIgnoredNoException() {
 		assertThat(ToIntBiFunctionWithException.ignored((x, y) -> 1).applyAsInt("2", "3")).is(1);
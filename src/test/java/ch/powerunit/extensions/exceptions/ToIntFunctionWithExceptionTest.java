@@ -19,6 +19,8 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.util.OptionalInt;
+
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
 
@@ -67,6 +69,18 @@ public class ToIntFunctionWithExceptionTest implements TestSuite {
 		}).applyAsInt("x")).is(0);
 	}
 
+	@Test
+	public void testLiftedOptionalNoException() {
+		assertThat(ToIntFunctionWithException.liftedOptional(x -> 12).apply("2")).is(OptionalInt.of(12));
+	}
+
+	@Test
+	public void testLiftedOptionalException() {
+		assertThat(ToIntFunctionWithException.liftedOptional(y -> {
+			throw new Exception();
+		}).apply("x")).is(OptionalInt.empty());
+	}
+
 	@Test
 	public void testIgnoredNoException() {
 		assertThat(ToIntFunctionWithException.ignored(x -> 11).applyAsInt("2")).is(11);
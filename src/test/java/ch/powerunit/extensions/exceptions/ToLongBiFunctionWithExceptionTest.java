@@ -19,6 +19,8 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.util.OptionalLong;
+
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
 
@@ -68,6 +70,18 @@ public class ToLongBiFunctionWithExceptionTest implements TestSuite {
 		}).applyAsLong("x", "x")).is(0L);
 	}
 
+	@Test
+	public void testLiftedOptionalNoException() {
+		assertThat(ToLongBiFunctionWithException.liftedOptional((x, y) -> 3).apply("2", "3")).is(OptionalLong.of(3L));
+	}
+
+	@Test
+	public void testLiftedOptionalException() {
+		assertThat(ToLongBiFunctionWithException.liftedOptional((x, y) -> {
+			throw new Exception();
+		}).apply("x", "x")).is(OptionalLong.empty());
+	}
+
 	@Test
 	public void testIgnoredNoException() {
 		assertThat(ToLongBiFunctionWithException.ignored((x, y) -> 1).applyAsLong("2", "3")).is(1L);
@@ -19,6 +19,8 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.util.OptionalLong;
+
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
 
@@ -67,6 +69,18 @@ public class ToLongFunctionWithExceptionTest implements TestSuite {
 		}).applyAsLong("x")).is(0L);
 	}
 
+	@Test
+	public void testLiftedOptionalNoException() {
+		assertThat(ToLongFunctionWithException.liftedOptional(x -> 12).apply("2")).is(OptionalLong.of(12L));
+	}
+
+	@Test
+	public void testLiftedOptionalException() {
+		assertThat(ToLongFunctionWithException.liftedOptional(y -> {
+			throw new Exception();
+		}).apply("x")).is(OptionalLong.empty());
+	}
+
 	@Test
 	public void testIgnoredNoException() {
 		assertThat(ToLongFunctionWithException.ignored(x -> 11).applyAsLong("2")).is(11L);
@@ -0,0 +1,81 @@
+/**
+ * Powerunit - A JDK1.8 test framework
+ * Copyright (C) 2014 Mathieu Boretti.
+ *
+ * This file is part of Powerunit
+ *
+ * Powerunit is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Powerunit is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Powerunit. If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.powerunit.extensions.exceptions;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import ch.powerunit.Test;
+import ch.powerunit.TestSuite;
+
+@SuppressWarnings("squid:S2187") // Sonar doesn't under that it is really a test
+public class TolerantCollectorsTest implements TestSuite {
+
+	private static String check(Integer value) throws IOException {
+		if (value % 10 == 0) {
+			throw new IOException("ko " + value);
+		}
+		return "v" + value;
+	}
+
+	@Test
+	public void testMappingNoException() {
+		TolerantResult<String> result = Stream.of(1, 2, 3).collect(TolerantCollectors.mapping(x -> "v" + x));
+		assertThat(result.getValues()).is(List.of("v1", "v2", "v3"));
+		assertThat(result.hasFailures()).is(false);
+		assertThat(result.getFailures().isEmpty()).is(true);
+	}
+
+	@Test
+	public void testMappingParallelKeepsGoing() {
+		TolerantResult<String> result = IntStream.range(1, 1001).boxed().parallel()
+				.collect(TolerantCollectors.mapping(TolerantCollectorsTest::check));
+		assertThat(result.getValues().size()).is(900);
+		assertThat(result.getFailures().size()).is(100);
+		assertThat(result.getValues()).is(IntStream.range(1, 1001).filter(x -> x % 10 != 0).mapToObj(x -> "v" + x)
+				.collect(Collectors.toList()));
+		assertThat(result.getFailures().get(0).getMessage()).is("ko 10");
+		assertThat(result.getFailures().get(99).getMessage()).is("ko 1000");
+	}
+
+	@Test
+	public void testMappingResultIsUnmodifiable() {
+		TolerantResult<String> result = Stream.of(1).collect(TolerantCollectors.mapping(x -> "v" + x));
+		assertWhen((x) -> result.getValues().add("x")).throwException(instanceOf(UnsupportedOperationException.class));
+	}
+
+	@Test
+	public void testConsumingKeepsAcceptedElements() {
+		TolerantResult<Integer> result = Stream.of(1, 10, 2).collect(TolerantCollectors.consuming(x -> check(x)));
+		assertThat(result.getValues()).is(List.of(1, 2));
+		assertThat(result.hasFailures()).is(true);
+		assertThat(result.getFailures().get(0)).is(instanceOf(IOException.class));
+	}
+
+	@Test
+	public void testNullOperation() {
+		assertWhen((x) -> TolerantCollectors.mapping(null)).throwException(instanceOf(NullPointerException.class));
+		assertWhen((x) -> TolerantCollectors.consuming(null)).throwException(instanceOf(NullPointerException.class));
+	}
+
+}
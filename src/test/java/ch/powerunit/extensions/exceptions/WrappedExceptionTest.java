@@ -19,6 +19,17 @@
  */
 package ch.powerunit.extensions.exceptions;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import ch.powerunit.Test;
 import ch.powerunit.TestSuite;
 
@@ -42,4 +53,92 @@ public class WrappedExceptionTest implements TestSuite {
 		assertThatBiFunction(WrappedException::new, "y", t).is(exceptionMessage("y"));
 	}
 
+	@Test
+	public void testConstructorStackless() {
+		Throwable t = new Throwable("z");
+		WrappedException e = new WrappedException(t, false);
+		assertThat(e.getMessage()).is("z");
+		assertThat(e.getCause()).is(t);
+		assertThat(e.getStackTrace().length).is(0);
+	}
+
+	@Test
+	public void testConstructorStringStackless() {
+		Throwable t = new Throwable("z");
+		WrappedException e = new WrappedException("y", t, false);
+		assertThat(e.getMessage()).is("y");
+		assertThat(e.getCause()).is(t);
+		assertThat(e.getStackTrace().length).is(0);
+	}
+
+	@Test
+	public void testConstructorWithStackTrace() {
+		assertThat(new WrappedException(new Throwable("z"), true).getStackTrace().length).is(greaterThan(0));
+	}
+
+	@Test
+	public void testLazyMessage() {
+		AtomicInteger calls = new AtomicInteger();
+		Throwable t = new Throwable("z");
+		WrappedException e = new WrappedException(() -> "lazy" + calls.incrementAndGet(), t, false);
+		assertThat(calls.get()).is(0);
+		assertThat(e.getCause()).is(t);
+		assertThat(e.getMessage()).is("lazy1");
+		assertThat(e.getMessage()).is("lazy1");
+		assertThat(e.toString()).is(WrappedException.class.getName() + ": lazy1");
+		assertThat(calls.get()).is(1);
+	}
+
+	@Test
+	public void testLazyMessageNull() {
+		assertThat(new WrappedException(() -> null, new IOException("z"), false).getMessage()).is("null");
+	}
+
+	@Test
+	public void testLazyMessageConcurrentReaders() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			for (int i = 0; i < 1_000; i++) {
+				WrappedException e = new WrappedException(() -> "lazy", new IOException("z"), false);
+				Future<String> other = executor.submit(e::getMessage);
+				Future<String> first = executor.submit(e::getMessage);
+				assertThat(first.get()).is("lazy");
+				assertThat(other.get()).is("lazy");
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testLazyMessageSerialized() throws Exception {
+		WrappedException e = new WrappedException(() -> "lazy", new IOException("z"), false);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(e);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			assertThat(((WrappedException) in.readObject()).getMessage()).is("lazy");
+		}
+	}
+
+	@Test
+	public void testSqlMapperFormatsLazily() {
+		AtomicInteger calls = new AtomicInteger();
+		SQLException sql = new SQLException("x", "state", 42) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public String getSQLState() {
+				calls.incrementAndGet();
+				return super.getSQLState();
+			}
+		};
+		RuntimeException e = Constants.sqlExceptionMapper().apply(sql);
+		assertThat(calls.get()).is(0);
+		assertThat(e.getMessage()).is("x - ErrorCode=42 ; SQLState=state");
+		assertThat(calls.get()).is(1);
+	}
+
 }